@@ -0,0 +1,62 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.apache.shardingsphere.agent.plugin.metrics.core.exporter.impl.proxy;
+
+import org.apache.shardingsphere.agent.plugin.metrics.core.collector.MetricsCollectorRegistry;
+import org.apache.shardingsphere.agent.plugin.metrics.core.collector.type.GaugeMetricFamilyMetricsCollector;
+import org.apache.shardingsphere.agent.plugin.metrics.core.config.MetricCollectorType;
+import org.apache.shardingsphere.agent.plugin.metrics.core.config.MetricConfiguration;
+import org.apache.shardingsphere.agent.plugin.metrics.core.exporter.MetricsExporter;
+import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
+import org.apache.shardingsphere.proxy.backend.handler.ProxyParameterizedSQLCacheStatistics;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Optional;
+
+/**
+ * Proxy parameterized SQL cache exporter.
+ */
+public final class ProxyParameterizedSQLCacheExporter implements MetricsExporter {
+    
+    private final MetricConfiguration config = new MetricConfiguration("proxy_parameterized_sql_cache",
+            MetricCollectorType.GAUGE_METRIC_FAMILY, "Parameterized SQL statement cache of ShardingSphere-Proxy. hit_count and miss_count are accumulated counts; hit_ratio is hit count divided by lookup count",
+            Arrays.asList("database", "name"), Collections.emptyMap());
+    
+    @Override
+    public Optional<GaugeMetricFamilyMetricsCollector> export(final String pluginType) {
+        if (null == ProxyContext.getInstance().getContextManager()) {
+            return Optional.empty();
+        }
+        GaugeMetricFamilyMetricsCollector result = MetricsCollectorRegistry.get(config, pluginType);
+        result.cleanMetrics();
+        for (String each : ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData().getDatabases().keySet()) {
+            addMetrics(result, each);
+        }
+        return Optional.of(result);
+    }
+    
+    private void addMetrics(final GaugeMetricFamilyMetricsCollector collector, final String databaseName) {
+        long hitCount = ProxyParameterizedSQLCacheStatistics.getHitCount(databaseName);
+        long missCount = ProxyParameterizedSQLCacheStatistics.getMissCount(databaseName);
+        collector.addMetric(Arrays.asList(databaseName, "hit_count"), hitCount);
+        collector.addMetric(Arrays.asList(databaseName, "miss_count"), missCount);
+        collector.addMetric(Arrays.asList(databaseName, "hit_ratio"), 0L == hitCount + missCount ? 0D : (double) hitCount / (hitCount + missCount));
+    }
+}
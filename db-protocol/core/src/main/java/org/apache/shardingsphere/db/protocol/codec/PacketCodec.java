@@ -24,6 +24,7 @@ import io.netty.handler.codec.ByteToMessageCodec;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.shardingsphere.db.protocol.packet.DatabasePacket;
+import org.apache.shardingsphere.db.protocol.packet.DatabasePacketChunk;
 
 import java.util.List;
 
@@ -50,9 +51,21 @@ public final class PacketCodec extends ByteToMessageCodec<DatabasePacket> {
     
     @Override
     protected void encode(final ChannelHandlerContext context, final DatabasePacket message, final ByteBuf out) {
-        databasePacketCodecEngine.encode(context, message, out);
+        if (message instanceof DatabasePacketChunk) {
+            encodeChunk(context, (DatabasePacketChunk) message, out);
+        } else {
+            databasePacketCodecEngine.encode(context, message, out);
+        }
         if (log.isDebugEnabled()) {
             log.debug("Write to client {} :\n{}", context.channel().id().asShortText(), ByteBufUtil.prettyHexDump(out));
         }
     }
+    
+    private void encodeChunk(final ChannelHandlerContext context, final DatabasePacketChunk chunk, final ByteBuf out) {
+        int startIndex = out.writerIndex();
+        for (DatabasePacket each : chunk.getPackets()) {
+            databasePacketCodecEngine.encode(context, each, out);
+        }
+        chunk.setEncodedBytes(out.writerIndex() - startIndex);
+    }
 }
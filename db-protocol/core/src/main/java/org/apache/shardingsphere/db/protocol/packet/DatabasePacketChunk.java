@@ -0,0 +1,47 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.db.protocol.packet;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.Setter;
+import org.apache.shardingsphere.db.protocol.payload.PacketPayload;
+
+import java.util.List;
+
+/**
+ * Database packet chunk, which encodes packets into one byte buffer.
+ * 
+ * <p>Packets are encoded by event loop instead of the thread which creates them, because packet framing such as MySQL sequence ID depends on packets written before.</p>
+ */
+@RequiredArgsConstructor
+@Getter
+public final class DatabasePacketChunk implements DatabasePacket {
+    
+    private final List<DatabasePacket> packets;
+    
+    @Setter
+    private volatile int encodedBytes;
+    
+    @Override
+    public void write(final PacketPayload payload) {
+        for (DatabasePacket each : packets) {
+            each.write(payload);
+        }
+    }
+}
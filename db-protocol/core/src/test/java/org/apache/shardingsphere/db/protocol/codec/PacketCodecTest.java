@@ -20,14 +20,18 @@ package org.apache.shardingsphere.db.protocol.codec;
 import io.netty.buffer.ByteBuf;
 import io.netty.channel.ChannelHandlerContext;
 import org.apache.shardingsphere.db.protocol.packet.DatabasePacket;
+import org.apache.shardingsphere.db.protocol.packet.DatabasePacketChunk;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.Arrays;
 import java.util.Collections;
 
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -74,4 +78,16 @@ class PacketCodecTest {
         packetCodec.encode(context, databasePacket, byteBuf);
         verify(databasePacketCodecEngine).encode(context, databasePacket, byteBuf);
     }
+    
+    @Test
+    void assertEncodeChunk() {
+        DatabasePacket packet0 = mock(DatabasePacket.class);
+        DatabasePacket packet1 = mock(DatabasePacket.class);
+        DatabasePacketChunk chunk = new DatabasePacketChunk(Arrays.asList(packet0, packet1));
+        when(byteBuf.writerIndex()).thenReturn(4, 20);
+        packetCodec.encode(context, chunk, byteBuf);
+        verify(databasePacketCodecEngine).encode(context, packet0, byteBuf);
+        verify(databasePacketCodecEngine).encode(context, packet1, byteBuf);
+        assertThat(chunk.getEncodedBytes(), is(16));
+    }
 }
@@ -49,6 +49,7 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
@@ -133,7 +134,7 @@ class MySQLPacketCodecEngineTest {
     void assertEncode() {
         when(byteBuf.writeInt(anyInt())).thenReturn(byteBuf);
         when(byteBuf.markWriterIndex()).thenReturn(byteBuf);
-        when(byteBuf.readableBytes()).thenReturn(8);
+        when(byteBuf.writerIndex()).thenReturn(0, 8);
         MySQLPacket actualMessage = mock(MySQLPacket.class);
         context.channel().attr(MySQLConstants.SEQUENCE_ID_ATTRIBUTE_KEY).get().set(1);
         new MySQLPacketCodecEngine().encode(context, actualMessage, byteBuf);
@@ -160,6 +161,19 @@ class MySQLPacketCodecEngineTest {
         assertThat(expected.component(4).getUnsignedByte(3), is((short) 2));
     }
     
+    @Test
+    void assertEncodeAfterWrittenPackets() {
+        ByteBuf out = Unpooled.buffer();
+        out.writeBytes(new byte[]{1, 2, 3, 4, 5});
+        context.channel().attr(MySQLConstants.SEQUENCE_ID_ATTRIBUTE_KEY).get().set(3);
+        MySQLPacket actualMessage = mock(MySQLPacket.class);
+        doAnswer(invocation -> ((MySQLPacketPayload) invocation.getArgument(0)).getByteBuf().writeShort(0)).when(actualMessage).write(any(MySQLPacketPayload.class));
+        new MySQLPacketCodecEngine().encode(context, actualMessage, out);
+        assertThat(out.readableBytes(), is(11));
+        assertThat(out.getUnsignedMediumLE(5), is(2));
+        assertThat(out.getUnsignedByte(8), is((short) 3));
+    }
+    
     private ByteBuf prepareByteBufAlmost32MB() {
         int max = 0xFFFFFF << 1;
         ByteBuf result = Unpooled.buffer(max + 4);
@@ -171,7 +185,7 @@ class MySQLPacketCodecEngineTest {
     void assertEncodeOccursException() {
         when(byteBuf.writeInt(anyInt())).thenReturn(byteBuf);
         when(byteBuf.markWriterIndex()).thenReturn(byteBuf);
-        when(byteBuf.readableBytes()).thenReturn(12);
+        when(byteBuf.writerIndex()).thenReturn(0, 12);
         RuntimeException ex = mock(RuntimeException.class);
         MySQLPacket actualMessage = mock(MySQLPacket.class);
         doThrow(ex).when(actualMessage).write(any(MySQLPacketPayload.class));
@@ -107,6 +107,7 @@ public final class OpenGaussPacketCodecEngine implements DatabasePacketCodecEngi
     
     @Override
     public void encode(final ChannelHandlerContext context, final DatabasePacket message, final ByteBuf out) {
+        int startIndex = out.writerIndex();
         boolean isIdentifierPacket = message instanceof PostgreSQLIdentifierPacket;
         if (isIdentifierPacket) {
             prepareMessageHeader(out, ((PostgreSQLIdentifierPacket) message).getIdentifier().getValue());
@@ -117,7 +118,7 @@ public final class OpenGaussPacketCodecEngine implements DatabasePacketCodecEngi
             // CHECKSTYLE:OFF
         } catch (final RuntimeException ex) {
             // CHECKSTYLE:ON
-            payload.getByteBuf().resetWriterIndex();
+            out.writerIndex(startIndex);
             // TODO consider what severity to use
             OpenGaussErrorResponsePacket errorResponsePacket = new OpenGaussErrorResponsePacket(
                     PostgreSQLMessageSeverityLevel.ERROR, PostgreSQLVendorError.SYSTEM_ERROR.getSqlState().getValue(), ex.getMessage());
@@ -126,7 +127,7 @@ public final class OpenGaussPacketCodecEngine implements DatabasePacketCodecEngi
             errorResponsePacket.write(payload);
         } finally {
             if (isIdentifierPacket) {
-                updateMessageLength(out);
+                updateMessageLength(out, startIndex);
             }
         }
     }
@@ -136,8 +137,8 @@ public final class OpenGaussPacketCodecEngine implements DatabasePacketCodecEngi
         out.writeInt(0);
     }
     
-    private void updateMessageLength(final ByteBuf out) {
-        out.setInt(1, out.readableBytes() - MESSAGE_TYPE_LENGTH);
+    private void updateMessageLength(final ByteBuf out, final int startIndex) {
+        out.setInt(startIndex + MESSAGE_TYPE_LENGTH, out.writerIndex() - startIndex - MESSAGE_TYPE_LENGTH);
     }
     
     @Override
@@ -98,7 +98,7 @@ class OpenGaussPacketCodecEngineTest {
     void assertEncodePostgreSQLIdentifierPacket() {
         PostgreSQLIdentifierPacket packet = mock(PostgreSQLIdentifierPacket.class);
         when(packet.getIdentifier()).thenReturn(PostgreSQLMessagePacketType.AUTHENTICATION_REQUEST);
-        when(byteBuf.readableBytes()).thenReturn(9);
+        when(byteBuf.writerIndex()).thenReturn(0, 9);
         new OpenGaussPacketCodecEngine().encode(context, packet, byteBuf);
         verify(byteBuf).writeByte(PostgreSQLMessagePacketType.AUTHENTICATION_REQUEST.getValue());
         verify(byteBuf).writeInt(0);
@@ -112,9 +112,9 @@ class OpenGaussPacketCodecEngineTest {
         RuntimeException ex = mock(RuntimeException.class);
         when(ex.getMessage()).thenReturn("Error");
         doThrow(ex).when(packet).write(any(PostgreSQLPacketPayload.class));
-        when(byteBuf.readableBytes()).thenReturn(9);
+        when(byteBuf.writerIndex()).thenReturn(0, 9);
         new OpenGaussPacketCodecEngine().encode(context, packet, byteBuf);
-        verify(byteBuf).resetWriterIndex();
+        verify(byteBuf).writerIndex(0);
         verify(byteBuf).writeByte(PostgreSQLMessagePacketType.ERROR_RESPONSE.getValue());
         verify(byteBuf).setInt(1, 8);
     }
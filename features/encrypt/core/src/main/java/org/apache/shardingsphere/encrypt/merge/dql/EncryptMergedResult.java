@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.encrypt.merge.dql;
 
+import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.encrypt.exception.data.DecryptFailedException;
 import org.apache.shardingsphere.encrypt.rule.EncryptRule;
@@ -33,6 +34,8 @@ import java.io.InputStream;
 import java.io.Reader;
 import java.sql.SQLException;
 import java.util.Calendar;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -49,6 +52,8 @@ public final class EncryptMergedResult implements MergedResult {
     
     private final MergedResult mergedResult;
     
+    private final Map<Integer, Optional<DecryptColumnContext>> decryptColumnContexts = new HashMap<>();
+    
     @Override
     public boolean next() throws SQLException {
         return mergedResult.next();
@@ -56,9 +61,25 @@ public final class EncryptMergedResult implements MergedResult {
     
     @Override
     public Object getValue(final int columnIndex, final Class<?> type) throws SQLException {
+        Optional<DecryptColumnContext> decryptColumnContext = decryptColumnContexts.computeIfAbsent(columnIndex, this::findDecryptColumnContext);
+        if (!decryptColumnContext.isPresent()) {
+            return mergedResult.getValue(columnIndex, type);
+        }
+        Object cipherValue = mergedResult.getValue(columnIndex, Object.class);
+        DecryptColumnContext context = decryptColumnContext.get();
+        try {
+            return context.getEncryptColumn().getCipher().decrypt(context.getDatabaseName(), context.getSchemaName(), context.getTableName(), context.getColumnName(), cipherValue);
+            // CHECKSTYLE:OFF
+        } catch (final Exception ex) {
+            // CHECKSTYLE:ON
+            throw new DecryptFailedException(String.valueOf(cipherValue), new SQLExceptionIdentifier(context.getDatabaseName(), context.getTableName(), context.getColumnName()), ex);
+        }
+    }
+    
+    private Optional<DecryptColumnContext> findDecryptColumnContext(final int columnIndex) {
         Optional<ColumnProjection> columnProjection = selectStatementContext.findColumnProjection(columnIndex);
         if (!columnProjection.isPresent()) {
-            return mergedResult.getValue(columnIndex, type);
+            return Optional.empty();
         }
         String originalTableName = columnProjection.get().getOriginalTable().getValue();
         String originalColumnName = columnProjection.get().getOriginalColumn().getValue();
@@ -67,19 +88,12 @@ public final class EncryptMergedResult implements MergedResult {
                 : this.database;
         EncryptRule encryptRule = database.getRuleMetaData().getSingleRule(EncryptRule.class);
         if (!encryptRule.findEncryptTable(originalTableName).map(optional -> optional.isEncryptColumn(originalColumnName)).orElse(false)) {
-            return mergedResult.getValue(columnIndex, type);
+            return Optional.empty();
         }
-        Object cipherValue = mergedResult.getValue(columnIndex, Object.class);
         EncryptColumn encryptColumn = encryptRule.getEncryptTable(originalTableName).getEncryptColumn(originalColumnName);
         String schemaName =
                 selectStatementContext.getTablesContext().getSchemaName().orElseGet(() -> new DatabaseTypeRegistry(selectStatementContext.getDatabaseType()).getDefaultSchemaName(database.getName()));
-        try {
-            return encryptColumn.getCipher().decrypt(database.getName(), schemaName, originalTableName, originalColumnName, cipherValue);
-            // CHECKSTYLE:OFF
-        } catch (final Exception ex) {
-            // CHECKSTYLE:ON
-            throw new DecryptFailedException(String.valueOf(cipherValue), new SQLExceptionIdentifier(database.getName(), originalTableName, originalColumnName), ex);
-        }
+        return Optional.of(new DecryptColumnContext(database.getName(), schemaName, originalTableName, originalColumnName, encryptColumn));
     }
     
     @Override
@@ -101,4 +115,24 @@ public final class EncryptMergedResult implements MergedResult {
     public boolean wasNull() throws SQLException {
         return mergedResult.wasNull();
     }
+    
+    @Override
+    public void close() throws SQLException {
+        mergedResult.close();
+    }
+    
+    @RequiredArgsConstructor
+    @Getter
+    private static final class DecryptColumnContext {
+        
+        private final String databaseName;
+        
+        private final String schemaName;
+        
+        private final String tableName;
+        
+        private final String columnName;
+        
+        private final EncryptColumn encryptColumn;
+    }
 }
@@ -17,10 +17,16 @@
 
 package org.apache.shardingsphere.encrypt.merge.dql;
 
+import org.apache.shardingsphere.encrypt.rule.EncryptRule;
+import org.apache.shardingsphere.encrypt.rule.column.EncryptColumn;
+import org.apache.shardingsphere.encrypt.rule.table.EncryptTable;
+import org.apache.shardingsphere.infra.binder.context.segment.select.projection.impl.ColumnProjection;
+import org.apache.shardingsphere.infra.binder.context.segment.table.TablesContext;
 import org.apache.shardingsphere.infra.binder.context.statement.dml.SelectStatementContext;
 import org.apache.shardingsphere.infra.merge.result.MergedResult;
 import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
 import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.metadata.database.rule.RuleMetaData;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
@@ -31,11 +37,15 @@ import java.io.Reader;
 import java.sql.SQLException;
 import java.util.Calendar;
 import java.util.Date;
+import java.util.Optional;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -58,6 +68,42 @@ class EncryptMergedResultTest {
         assertFalse(new EncryptMergedResult(database, metaData, selectStatementContext, mergedResult).next());
     }
     
+    @Test
+    void assertGetValueWithoutColumnProjection() throws SQLException {
+        when(mergedResult.getValue(1, String.class)).thenReturn("foo");
+        assertThat(new EncryptMergedResult(database, metaData, selectStatementContext, mergedResult).getValue(1, String.class), is("foo"));
+    }
+    
+    @Test
+    void assertGetValueWithEncryptColumn() throws SQLException {
+        ColumnProjection columnProjection = mock(ColumnProjection.class, RETURNS_DEEP_STUBS);
+        when(columnProjection.getOriginalTable().getValue()).thenReturn("t_user");
+        when(columnProjection.getOriginalColumn().getValue()).thenReturn("user_name");
+        when(columnProjection.getColumnBoundInfo().getOriginalDatabase().getValue()).thenReturn("foo_db");
+        when(selectStatementContext.findColumnProjection(1)).thenReturn(Optional.of(columnProjection));
+        TablesContext tablesContext = mock(TablesContext.class);
+        when(tablesContext.getSchemaName()).thenReturn(Optional.of("foo_schema"));
+        when(selectStatementContext.getTablesContext()).thenReturn(tablesContext);
+        EncryptColumn encryptColumn = mock(EncryptColumn.class, RETURNS_DEEP_STUBS);
+        when(encryptColumn.getCipher().decrypt("foo_db", "foo_schema", "t_user", "user_name", "cipher_0")).thenReturn("plain_0");
+        when(encryptColumn.getCipher().decrypt("foo_db", "foo_schema", "t_user", "user_name", "cipher_1")).thenReturn("plain_1");
+        EncryptTable encryptTable = mock(EncryptTable.class);
+        when(encryptTable.isEncryptColumn("user_name")).thenReturn(true);
+        when(encryptTable.getEncryptColumn("user_name")).thenReturn(encryptColumn);
+        EncryptRule encryptRule = mock(EncryptRule.class);
+        when(encryptRule.findEncryptTable("t_user")).thenReturn(Optional.of(encryptTable));
+        when(encryptRule.getEncryptTable("t_user")).thenReturn(encryptTable);
+        RuleMetaData ruleMetaData = mock(RuleMetaData.class);
+        when(ruleMetaData.getSingleRule(EncryptRule.class)).thenReturn(encryptRule);
+        when(database.getRuleMetaData()).thenReturn(ruleMetaData);
+        when(database.getName()).thenReturn("foo_db");
+        when(mergedResult.getValue(1, Object.class)).thenReturn("cipher_0", "cipher_1");
+        EncryptMergedResult actual = new EncryptMergedResult(database, metaData, selectStatementContext, mergedResult);
+        assertThat(actual.getValue(1, String.class), is("plain_0"));
+        assertThat(actual.getValue(1, String.class), is("plain_1"));
+        verify(selectStatementContext, times(1)).findColumnProjection(1);
+    }
+    
     @Test
     void assertGetCalendarValue() throws SQLException {
         Calendar calendar = Calendar.getInstance();
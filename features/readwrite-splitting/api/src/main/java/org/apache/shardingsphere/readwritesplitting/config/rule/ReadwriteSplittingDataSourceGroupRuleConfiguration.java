@@ -40,7 +40,14 @@ public final class ReadwriteSplittingDataSourceGroupRuleConfiguration {
     
     private final String loadBalancerName;
     
+    private final long maxReplicationLagMilliseconds;
+    
     public ReadwriteSplittingDataSourceGroupRuleConfiguration(final String name, final String writeDataSourceName, final List<String> readDataSourceNames, final String loadBalancerName) {
         this(name, writeDataSourceName, readDataSourceNames, TransactionalReadQueryStrategy.DYNAMIC, loadBalancerName);
     }
+    
+    public ReadwriteSplittingDataSourceGroupRuleConfiguration(final String name, final String writeDataSourceName, final List<String> readDataSourceNames,
+                                                              final TransactionalReadQueryStrategy transactionalReadQueryStrategy, final String loadBalancerName) {
+        this(name, writeDataSourceName, readDataSourceNames, transactionalReadQueryStrategy, loadBalancerName, 0L);
+    }
 }
@@ -38,6 +38,14 @@ public interface ReadwriteSplittingGroup {
      */
     List<String> getReadDataSources();
     
+    /**
+     * Get available read data sources.
+     *
+     * @param lastWriteMillis last write milliseconds of current session, read data sources should have caught up with it
+     * @return available read data sources
+     */
+    List<String> getAvailableReadDataSources(long lastWriteMillis);
+    
     /**
      * Get all data sources.
      *
@@ -0,0 +1,122 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.readwritesplitting.group.lag;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.readwritesplitting.group.lag.dialect.DialectReplicationLagProbe;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Replication lag sampler of read data source.
+ * 
+ * <p>Each sample takes current replication position of write data source first, and then checks whether read data source has replayed it.
+ * If replayed, read data source has caught up with write data source as of the time sample started.</p>
+ *
+ * <p>Probe queries time out after sample interval, and a timed out or failed sample marks replication lag as unknown.</p>
+ */
+@RequiredArgsConstructor
+@Slf4j
+public final class ReplicationLagSampler {
+    
+    private final String dataSourceName;
+    
+    private final DataSource writeDataSource;
+    
+    private final DataSource dataSource;
+    
+    private final DialectReplicationLagProbe probe;
+    
+    private final long sampleIntervalMillis;
+    
+    private final ExecutorService sampleExecutor;
+    
+    private final AtomicBoolean sampling = new AtomicBoolean();
+    
+    private volatile long lastSampleMillis;
+    
+    private volatile long caughtUpMillis = -1L;
+    
+    private volatile ReplicationLag replicationLag;
+    
+    /**
+     * Get latest sampled replication lag, and sample again asynchronously if latest sample is older than sample interval.
+     *
+     * @param currentMillis current milliseconds
+     * @return latest sampled replication lag, empty if not sampled yet or read data source is not replicating
+     */
+    public Optional<ReplicationLag> getReplicationLag(final long currentMillis) {
+        if (currentMillis - lastSampleMillis >= sampleIntervalMillis && sampling.compareAndSet(false, true)) {
+            lastSampleMillis = currentMillis;
+            try {
+                sampleExecutor.execute(this::sample);
+            } catch (final RejectedExecutionException ignored) {
+                sampling.set(false);
+            }
+        }
+        return Optional.ofNullable(replicationLag);
+    }
+    
+    private void sample() {
+        try {
+            long sampledMillis = System.currentTimeMillis();
+            Optional<String> writePosition = getWritePosition();
+            if (!writePosition.isPresent()) {
+                replicationLag = null;
+                return;
+            }
+            if (isReplayed(writePosition.get())) {
+                caughtUpMillis = sampledMillis;
+            }
+            replicationLag = caughtUpMillis < 0L ? null : new ReplicationLag(sampledMillis - caughtUpMillis, sampledMillis);
+        } catch (final SQLTimeoutException ex) {
+            log.warn("Sample replication lag of data source `{}` timed out.", dataSourceName);
+            replicationLag = null;
+        } catch (final SQLException ex) {
+            log.warn("Sample replication lag of data source `{}` failed.", dataSourceName, ex);
+            replicationLag = null;
+        } finally {
+            sampling.set(false);
+        }
+    }
+    
+    private Optional<String> getWritePosition() throws SQLException {
+        try (Connection connection = writeDataSource.getConnection()) {
+            return probe.getWritePosition(connection, getQueryTimeoutSeconds());
+        }
+    }
+    
+    private boolean isReplayed(final String writePosition) throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            return probe.isReplayed(connection, writePosition, getQueryTimeoutSeconds());
+        }
+    }
+    
+    private int getQueryTimeoutSeconds() {
+        return (int) Math.max(1L, TimeUnit.MILLISECONDS.toSeconds(sampleIntervalMillis));
+    }
+}
@@ -0,0 +1,56 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.readwritesplitting.group.lag.dialect;
+
+import org.apache.shardingsphere.infra.database.core.spi.DatabaseTypedSPI;
+import org.apache.shardingsphere.infra.spi.annotation.SingletonSPI;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Optional;
+
+/**
+ * Dialect replication lag probe.
+ * 
+ * <p>Replication lag is probed by replication position instead of lag reported by read data source,
+ * which may be coarse grained or only relative to the changes read data source has already received.</p>
+ */
+@SingletonSPI
+public interface DialectReplicationLagProbe extends DatabaseTypedSPI {
+    
+    /**
+     * Get current replication position of write data source.
+     *
+     * @param connection connection of write data source
+     * @param queryTimeoutSeconds query timeout seconds
+     * @return current replication position, empty if replication position is not available
+     * @throws SQLException SQL exception
+     */
+    Optional<String> getWritePosition(Connection connection, int queryTimeoutSeconds) throws SQLException;
+    
+    /**
+     * Judge whether read data source has replayed replication position.
+     *
+     * @param connection connection of read data source
+     * @param writePosition replication position of write data source
+     * @param queryTimeoutSeconds query timeout seconds
+     * @return read data source has replayed replication position or not
+     * @throws SQLException SQL exception
+     */
+    boolean isReplayed(Connection connection, String writePosition, int queryTimeoutSeconds) throws SQLException;
+}
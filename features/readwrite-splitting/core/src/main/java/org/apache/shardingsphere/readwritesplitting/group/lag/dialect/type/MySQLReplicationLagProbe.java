@@ -0,0 +1,66 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.readwritesplitting.group.lag.dialect.type;
+
+import com.google.common.base.Strings;
+import org.apache.shardingsphere.readwritesplitting.group.lag.dialect.DialectReplicationLagProbe;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Optional;
+
+/**
+ * Replication lag probe of MySQL.
+ * 
+ * <p>Replication position is GTID set, which is not available if GTID is disabled.</p>
+ */
+public final class MySQLReplicationLagProbe implements DialectReplicationLagProbe {
+    
+    private static final String WRITE_POSITION_SQL = "SELECT @@GLOBAL.gtid_executed";
+    
+    private static final String REPLAYED_SQL = "SELECT GTID_SUBSET(?, @@GLOBAL.gtid_executed)";
+    
+    @Override
+    public Optional<String> getWritePosition(final Connection connection, final int queryTimeoutSeconds) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.setQueryTimeout(queryTimeoutSeconds);
+            try (ResultSet resultSet = statement.executeQuery(WRITE_POSITION_SQL)) {
+                return resultSet.next() ? Optional.ofNullable(Strings.emptyToNull(resultSet.getString(1))) : Optional.empty();
+            }
+        }
+    }
+    
+    @Override
+    public boolean isReplayed(final Connection connection, final String writePosition, final int queryTimeoutSeconds) throws SQLException {
+        try (PreparedStatement preparedStatement = connection.prepareStatement(REPLAYED_SQL)) {
+            preparedStatement.setQueryTimeout(queryTimeoutSeconds);
+            preparedStatement.setString(1, writePosition);
+            try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                return resultSet.next() && 1 == resultSet.getInt(1);
+            }
+        }
+    }
+    
+    @Override
+    public String getDatabaseType() {
+        return "MySQL";
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.readwritesplitting.group.lag.dialect.type;
+
+import org.apache.shardingsphere.readwritesplitting.group.lag.dialect.DialectReplicationLagProbe;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Optional;
+
+/**
+ * Replication lag probe of PostgreSQL.
+ * 
+ * <p>Replication position is WAL LSN.</p>
+ */
+public final class PostgreSQLReplicationLagProbe implements DialectReplicationLagProbe {
+    
+    private static final String WRITE_POSITION_SQL = "SELECT CASE WHEN pg_is_in_recovery() THEN NULL ELSE CAST(pg_current_wal_lsn() AS TEXT) END";
+    
+    private static final String REPLAYED_SQL = "SELECT COALESCE(pg_wal_lsn_diff(pg_last_wal_replay_lsn(), CAST(? AS pg_lsn)) >= 0, FALSE)";
+    
+    @Override
+    public Optional<String> getWritePosition(final Connection connection, final int queryTimeoutSeconds) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.setQueryTimeout(queryTimeoutSeconds);
+            try (ResultSet resultSet = statement.executeQuery(WRITE_POSITION_SQL)) {
+                return resultSet.next() ? Optional.ofNullable(resultSet.getString(1)) : Optional.empty();
+            }
+        }
+    }
+    
+    @Override
+    public boolean isReplayed(final Connection connection, final String writePosition, final int queryTimeoutSeconds) throws SQLException {
+        try (PreparedStatement preparedStatement = connection.prepareStatement(REPLAYED_SQL)) {
+            preparedStatement.setQueryTimeout(queryTimeoutSeconds);
+            preparedStatement.setString(1, writePosition);
+            try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                return resultSet.next() && resultSet.getBoolean(1);
+            }
+        }
+    }
+    
+    @Override
+    public String getDatabaseType() {
+        return "PostgreSQL";
+    }
+}
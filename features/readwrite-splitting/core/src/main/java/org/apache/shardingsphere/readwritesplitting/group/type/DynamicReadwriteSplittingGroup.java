@@ -0,0 +1,98 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.readwritesplitting.group.type;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.readwritesplitting.group.ReadwriteSplittingGroup;
+import org.apache.shardingsphere.readwritesplitting.group.lag.ReplicationLag;
+import org.apache.shardingsphere.readwritesplitting.group.lag.ReplicationLagSampler;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * Dynamic readwrite-splitting group, which only reads from read data sources whose sampled replication lag is within threshold.
+ */
+@RequiredArgsConstructor
+public final class DynamicReadwriteSplittingGroup implements ReadwriteSplittingGroup, AutoCloseable {
+    
+    public static final long SAMPLE_INTERVAL_MILLIS = 1000L;
+    
+    private static final long SAMPLE_EXPIRED_MILLIS = SAMPLE_INTERVAL_MILLIS * 5L;
+    
+    private final String writeDataSourceName;
+    
+    private final List<String> readDataSourceNames;
+    
+    private final long maxReplicationLagMillis;
+    
+    private final Map<String, ReplicationLagSampler> samplers;
+    
+    private final ExecutorService sampleExecutor;
+    
+    @Override
+    public String getWriteDataSource() {
+        return writeDataSourceName;
+    }
+    
+    @Override
+    public List<String> getReadDataSources() {
+        return readDataSourceNames;
+    }
+    
+    @Override
+    public List<String> getAvailableReadDataSources(final long lastWriteMillis) {
+        long currentMillis = System.currentTimeMillis();
+        List<String> result = new ArrayList<>(readDataSourceNames.size());
+        for (String each : readDataSourceNames) {
+            if (isAvailable(each, currentMillis, lastWriteMillis)) {
+                result.add(each);
+            }
+        }
+        return result.isEmpty() ? Collections.singletonList(writeDataSourceName) : result;
+    }
+    
+    private boolean isAvailable(final String readDataSourceName, final long currentMillis, final long lastWriteMillis) {
+        ReplicationLagSampler sampler = samplers.get(readDataSourceName);
+        if (null == sampler) {
+            return false;
+        }
+        Optional<ReplicationLag> replicationLag = sampler.getReplicationLag(currentMillis);
+        return replicationLag.isPresent() && replicationLag.get().getLagMillis() <= maxReplicationLagMillis
+                && currentMillis - replicationLag.get().getSampledMillis() <= SAMPLE_EXPIRED_MILLIS && replicationLag.get().getCaughtUpMillis() >= lastWriteMillis;
+    }
+    
+    @Override
+    public Collection<String> getAllDataSources() {
+        Collection<String> result = new LinkedList<>();
+        result.add(writeDataSourceName);
+        result.addAll(readDataSourceNames);
+        return result;
+    }
+    
+    @Override
+    public void close() {
+        sampleExecutor.shutdownNow();
+    }
+}
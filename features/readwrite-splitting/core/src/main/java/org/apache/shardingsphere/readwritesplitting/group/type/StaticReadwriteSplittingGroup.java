@@ -44,6 +44,11 @@ public final class StaticReadwriteSplittingGroup implements ReadwriteSplittingGr
         return readDataSourceNames;
     }
     
+    @Override
+    public List<String> getAvailableReadDataSources(final long lastWriteMillis) {
+        return readDataSourceNames;
+    }
+    
     @Override
     public Collection<String> getAllDataSources() {
         Collection<String> result = new LinkedList<>();
@@ -25,6 +25,7 @@ import org.apache.shardingsphere.readwritesplitting.route.qualified.type.Qualifi
 import org.apache.shardingsphere.readwritesplitting.route.qualified.type.QualifiedReadwriteSplittingTransactionalDataSourceRouter;
 import org.apache.shardingsphere.readwritesplitting.route.standard.StandardReadwriteSplittingDataSourceRouter;
 import org.apache.shardingsphere.readwritesplitting.rule.ReadwriteSplittingDataSourceGroupRule;
+import org.apache.shardingsphere.sql.parser.statement.core.statement.dml.SelectStatement;
 
 import java.util.Arrays;
 import java.util.Collection;
@@ -36,10 +37,13 @@ public final class ReadwriteSplittingDataSourceRouter {
     
     private final ReadwriteSplittingDataSourceGroupRule rule;
     
+    private final ConnectionContext connectionContext;
+    
     private final Collection<QualifiedReadwriteSplittingDataSourceRouter> qualifiedRouters;
     
     public ReadwriteSplittingDataSourceRouter(final ReadwriteSplittingDataSourceGroupRule rule, final ConnectionContext connectionContext) {
         this.rule = rule;
+        this.connectionContext = connectionContext;
         qualifiedRouters = Arrays.asList(new QualifiedReadwriteSplittingPrimaryDataSourceRouter(), new QualifiedReadwriteSplittingTransactionalDataSourceRouter(connectionContext));
     }
     
@@ -53,9 +57,12 @@ public final class ReadwriteSplittingDataSourceRouter {
     public String route(final SQLStatementContext sqlStatementContext, final HintValueContext hintValueContext) {
         for (QualifiedReadwriteSplittingDataSourceRouter each : qualifiedRouters) {
             if (each.isQualified(sqlStatementContext, rule, hintValueContext)) {
+                if (!(sqlStatementContext.getSqlStatement() instanceof SelectStatement)) {
+                    connectionContext.startWrite();
+                }
                 return each.route(rule);
             }
         }
-        return new StandardReadwriteSplittingDataSourceRouter().route(rule);
+        return new StandardReadwriteSplittingDataSourceRouter().route(rule, connectionContext.getLastWriteMillis());
     }
 }
@@ -45,11 +45,11 @@ public final class QualifiedReadwriteSplittingTransactionalDataSourceRouter impl
         switch (rule.getTransactionalReadQueryStrategy()) {
             case FIXED:
                 if (!connectionContext.getTransactionContext().getReadWriteSplitReplicaRoute().isPresent()) {
-                    connectionContext.getTransactionContext().setReadWriteSplitReplicaRoute(standardRouter.route(rule));
+                    connectionContext.getTransactionContext().setReadWriteSplitReplicaRoute(standardRouter.route(rule, connectionContext.getLastWriteMillis()));
                 }
                 return connectionContext.getTransactionContext().getReadWriteSplitReplicaRoute().get();
             case DYNAMIC:
-                return standardRouter.route(rule);
+                return standardRouter.route(rule, connectionContext.getLastWriteMillis());
             case PRIMARY:
             default:
                 return rule.getWriteDataSource();
@@ -32,14 +32,15 @@ public final class StandardReadwriteSplittingDataSourceRouter {
      * Route to data source.
      *
      * @param rule Readwrite-splitting data source rule
+     * @param lastWriteMillis last write milliseconds of current session
      * @return routed data source name
      */
-    public String route(final ReadwriteSplittingDataSourceGroupRule rule) {
-        return rule.getLoadBalancer().getTargetName(rule.getName(), getFilteredReadDataSources(rule));
+    public String route(final ReadwriteSplittingDataSourceGroupRule rule, final long lastWriteMillis) {
+        return rule.getLoadBalancer().getTargetName(rule.getName(), getFilteredReadDataSources(rule, lastWriteMillis));
     }
     
-    private List<String> getFilteredReadDataSources(final ReadwriteSplittingDataSourceGroupRule rule) {
-        List<String> result = rule.getReadwriteSplittingGroup().getReadDataSources();
+    private List<String> getFilteredReadDataSources(final ReadwriteSplittingDataSourceGroupRule rule, final long lastWriteMillis) {
+        List<String> result = rule.getReadwriteSplittingGroup().getAvailableReadDataSources(lastWriteMillis);
         for (ReadDataSourcesFilter each : ShardingSphereServiceLoader.getServiceInstances(ReadDataSourcesFilter.class)) {
             result = each.filter(rule, result);
         }
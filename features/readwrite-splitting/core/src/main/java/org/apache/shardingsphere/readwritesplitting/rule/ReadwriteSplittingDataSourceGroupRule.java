@@ -19,19 +19,30 @@ package org.apache.shardingsphere.readwritesplitting.rule;
 
 import lombok.Getter;
 import org.apache.shardingsphere.infra.algorithm.loadbalancer.core.LoadBalanceAlgorithm;
+import org.apache.shardingsphere.infra.database.core.spi.DatabaseTypedSPILoader;
+import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorThreadFactoryBuilder;
+import org.apache.shardingsphere.infra.metadata.database.resource.unit.StorageUnit;
 import org.apache.shardingsphere.readwritesplitting.config.rule.ReadwriteSplittingDataSourceGroupRuleConfiguration;
+import org.apache.shardingsphere.readwritesplitting.group.lag.ReplicationLagSampler;
+import org.apache.shardingsphere.readwritesplitting.group.lag.dialect.DialectReplicationLagProbe;
+import org.apache.shardingsphere.readwritesplitting.group.type.DynamicReadwriteSplittingGroup;
 import org.apache.shardingsphere.readwritesplitting.transaction.TransactionalReadQueryStrategy;
 import org.apache.shardingsphere.readwritesplitting.group.ReadwriteSplittingGroup;
 import org.apache.shardingsphere.readwritesplitting.group.type.StaticReadwriteSplittingGroup;
 
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 /**
  * Readwrite-splitting data source group rule.
  */
 @Getter
-public final class ReadwriteSplittingDataSourceGroupRule {
+public final class ReadwriteSplittingDataSourceGroupRule implements AutoCloseable {
     
     private final String name;
     
@@ -45,16 +56,35 @@ public final class ReadwriteSplittingDataSourceGroupRule {
     
     public ReadwriteSplittingDataSourceGroupRule(final ReadwriteSplittingDataSourceGroupRuleConfiguration config,
                                                  final TransactionalReadQueryStrategy transactionalReadQueryStrategy, final LoadBalanceAlgorithm loadBalancer) {
+        this(config, transactionalReadQueryStrategy, loadBalancer, Collections.emptyMap());
+    }
+    
+    public ReadwriteSplittingDataSourceGroupRule(final ReadwriteSplittingDataSourceGroupRuleConfiguration config, final TransactionalReadQueryStrategy transactionalReadQueryStrategy,
+                                                 final LoadBalanceAlgorithm loadBalancer, final Map<String, StorageUnit> storageUnits) {
         name = config.getName();
         this.transactionalReadQueryStrategy = transactionalReadQueryStrategy;
         this.loadBalancer = loadBalancer;
-        readwriteSplittingGroup = createStaticReadwriteSplittingGroup(config);
+        readwriteSplittingGroup = config.getMaxReplicationLagMilliseconds() > 0L ? createDynamicReadwriteSplittingGroup(config, storageUnits) : createStaticReadwriteSplittingGroup(config);
     }
     
     private StaticReadwriteSplittingGroup createStaticReadwriteSplittingGroup(final ReadwriteSplittingDataSourceGroupRuleConfiguration config) {
         return new StaticReadwriteSplittingGroup(config.getWriteDataSourceName(), config.getReadDataSourceNames());
     }
     
+    private DynamicReadwriteSplittingGroup createDynamicReadwriteSplittingGroup(final ReadwriteSplittingDataSourceGroupRuleConfiguration config, final Map<String, StorageUnit> storageUnits) {
+        Map<String, ReplicationLagSampler> samplers = new HashMap<>(config.getReadDataSourceNames().size(), 1F);
+        ExecutorService sampleExecutor = Executors.newCachedThreadPool(ExecutorThreadFactoryBuilder.build("readwrite-splitting-lag-sample-%d"));
+        StorageUnit writeStorageUnit = storageUnits.get(config.getWriteDataSourceName());
+        for (String each : config.getReadDataSourceNames()) {
+            StorageUnit storageUnit = storageUnits.get(each);
+            if (null != writeStorageUnit && null != storageUnit) {
+                DatabaseTypedSPILoader.findService(DialectReplicationLagProbe.class, storageUnit.getStorageType()).ifPresent(optional -> samplers.put(each, new ReplicationLagSampler(
+                        each, writeStorageUnit.getDataSource(), storageUnit.getDataSource(), optional, DynamicReadwriteSplittingGroup.SAMPLE_INTERVAL_MILLIS, sampleExecutor)));
+            }
+        }
+        return new DynamicReadwriteSplittingGroup(config.getWriteDataSourceName(), config.getReadDataSourceNames(), config.getMaxReplicationLagMilliseconds(), samplers, sampleExecutor);
+    }
+    
     /**
      * Get write data source name.
      *
@@ -81,4 +111,11 @@ public final class ReadwriteSplittingDataSourceGroupRule {
     public void disableDataSource(final String dataSourceName) {
         disabledDataSourceNames.add(dataSourceName);
     }
+    
+    @Override
+    public void close() {
+        if (readwriteSplittingGroup instanceof DynamicReadwriteSplittingGroup) {
+            ((DynamicReadwriteSplittingGroup) readwriteSplittingGroup).close();
+        }
+    }
 }
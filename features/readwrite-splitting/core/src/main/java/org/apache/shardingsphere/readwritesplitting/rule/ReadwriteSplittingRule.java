@@ -19,10 +19,12 @@ package org.apache.shardingsphere.readwritesplitting.rule;
 
 import lombok.Getter;
 import org.apache.shardingsphere.infra.algorithm.core.config.AlgorithmConfiguration;
+import org.apache.shardingsphere.infra.algorithm.loadbalancer.core.DatabaseAwareLoadBalanceAlgorithm;
 import org.apache.shardingsphere.infra.algorithm.loadbalancer.core.LoadBalanceAlgorithm;
 import org.apache.shardingsphere.infra.exception.core.ShardingSpherePreconditions;
 import org.apache.shardingsphere.infra.expr.core.InlineExpressionParserFactory;
 import org.apache.shardingsphere.infra.instance.ComputeNodeInstanceContext;
+import org.apache.shardingsphere.infra.metadata.database.resource.unit.StorageUnit;
 import org.apache.shardingsphere.infra.rule.attribute.RuleAttributes;
 import org.apache.shardingsphere.infra.rule.scope.DatabaseRule;
 import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
@@ -36,6 +38,7 @@ import org.apache.shardingsphere.readwritesplitting.rule.attribute.ReadwriteSpli
 import org.apache.shardingsphere.readwritesplitting.rule.attribute.ReadwriteSplittingStaticDataSourceRuleAttribute;
 import org.apache.shardingsphere.readwritesplitting.rule.attribute.ReadwriteSplittingStorageConnectorReusableRuleAttribute;
 
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -45,7 +48,7 @@ import java.util.stream.Collectors;
 /**
  * Readwrite-splitting rule.
  */
-public final class ReadwriteSplittingRule implements DatabaseRule {
+public final class ReadwriteSplittingRule implements DatabaseRule, AutoCloseable {
     
     @Getter
     private final ReadwriteSplittingRuleConfiguration configuration;
@@ -59,9 +62,14 @@ public final class ReadwriteSplittingRule implements DatabaseRule {
     private final RuleAttributes attributes;
     
     public ReadwriteSplittingRule(final String databaseName, final ReadwriteSplittingRuleConfiguration ruleConfig, final ComputeNodeInstanceContext computeNodeInstanceContext) {
+        this(databaseName, ruleConfig, Collections.emptyMap(), computeNodeInstanceContext);
+    }
+    
+    public ReadwriteSplittingRule(final String databaseName, final ReadwriteSplittingRuleConfiguration ruleConfig, final Map<String, StorageUnit> storageUnits,
+                                  final ComputeNodeInstanceContext computeNodeInstanceContext) {
         configuration = ruleConfig;
-        loadBalancers = createLoadBalancers(ruleConfig);
-        dataSourceRuleGroups = createDataSourceGroupRules(databaseName, ruleConfig);
+        loadBalancers = createLoadBalancers(databaseName, ruleConfig);
+        dataSourceRuleGroups = createDataSourceGroupRules(databaseName, ruleConfig, storageUnits);
         attributes = new RuleAttributes(
                 new ReadwriteSplittingDataSourceMapperRuleAttribute(dataSourceRuleGroups.values()),
                 new ReadwriteSplittingStaticDataSourceRuleAttribute(databaseName, dataSourceRuleGroups, computeNodeInstanceContext),
@@ -69,32 +77,38 @@ public final class ReadwriteSplittingRule implements DatabaseRule {
                 new ReadwriteSplittingStorageConnectorReusableRuleAttribute());
     }
     
-    private Map<String, LoadBalanceAlgorithm> createLoadBalancers(final ReadwriteSplittingRuleConfiguration ruleConfig) {
+    private Map<String, LoadBalanceAlgorithm> createLoadBalancers(final String databaseName, final ReadwriteSplittingRuleConfiguration ruleConfig) {
         Map<String, LoadBalanceAlgorithm> result = new HashMap<>(ruleConfig.getDataSourceGroups().size(), 1F);
         for (ReadwriteSplittingDataSourceGroupRuleConfiguration each : ruleConfig.getDataSourceGroups()) {
             if (ruleConfig.getLoadBalancers().containsKey(each.getLoadBalancerName())) {
                 AlgorithmConfiguration algorithmConfig = ruleConfig.getLoadBalancers().get(each.getLoadBalancerName());
-                result.put(each.getName() + "." + each.getLoadBalancerName(), TypedSPILoader.getService(LoadBalanceAlgorithm.class, algorithmConfig.getType(), algorithmConfig.getProps()));
+                LoadBalanceAlgorithm loadBalancer = TypedSPILoader.getService(LoadBalanceAlgorithm.class, algorithmConfig.getType(), algorithmConfig.getProps());
+                if (loadBalancer instanceof DatabaseAwareLoadBalanceAlgorithm) {
+                    ((DatabaseAwareLoadBalanceAlgorithm) loadBalancer).setDatabaseName(databaseName);
+                }
+                result.put(each.getName() + "." + each.getLoadBalancerName(), loadBalancer);
             }
         }
         return result;
     }
     
-    private Map<String, ReadwriteSplittingDataSourceGroupRule> createDataSourceGroupRules(final String databaseName, final ReadwriteSplittingRuleConfiguration ruleConfig) {
+    private Map<String, ReadwriteSplittingDataSourceGroupRule> createDataSourceGroupRules(final String databaseName, final ReadwriteSplittingRuleConfiguration ruleConfig,
+                                                                                          final Map<String, StorageUnit> storageUnits) {
         Map<String, ReadwriteSplittingDataSourceGroupRule> result = new HashMap<>(ruleConfig.getDataSourceGroups().size(), 1F);
         for (ReadwriteSplittingDataSourceGroupRuleConfiguration each : ruleConfig.getDataSourceGroups()) {
-            result.putAll(createDataSourceGroupRules(databaseName, each));
+            result.putAll(createDataSourceGroupRules(databaseName, each, storageUnits));
         }
         return result;
     }
     
-    private Map<String, ReadwriteSplittingDataSourceGroupRule> createDataSourceGroupRules(final String databaseName, final ReadwriteSplittingDataSourceGroupRuleConfiguration config) {
+    private Map<String, ReadwriteSplittingDataSourceGroupRule> createDataSourceGroupRules(final String databaseName, final ReadwriteSplittingDataSourceGroupRuleConfiguration config,
+                                                                                          final Map<String, StorageUnit> storageUnits) {
         LoadBalanceAlgorithm loadBalanceAlgorithm = loadBalancers.getOrDefault(config.getName() + "." + config.getLoadBalancerName(), TypedSPILoader.getService(LoadBalanceAlgorithm.class, null));
-        return createStaticDataSourceGroupRules(databaseName, config, loadBalanceAlgorithm);
+        return createStaticDataSourceGroupRules(databaseName, config, loadBalanceAlgorithm, storageUnits);
     }
     
     private Map<String, ReadwriteSplittingDataSourceGroupRule> createStaticDataSourceGroupRules(final String databaseName, final ReadwriteSplittingDataSourceGroupRuleConfiguration config,
-                                                                                                final LoadBalanceAlgorithm loadBalanceAlgorithm) {
+                                                                                                final LoadBalanceAlgorithm loadBalanceAlgorithm, final Map<String, StorageUnit> storageUnits) {
         List<String> inlineLogicDataSourceNames = InlineExpressionParserFactory.newInstance(config.getName()).splitAndEvaluate();
         List<String> inlineWriteDataSourceNames = InlineExpressionParserFactory.newInstance(config.getWriteDataSourceName()).splitAndEvaluate();
         List<List<String>> inlineReadDataSourceNames = config.getReadDataSourceNames().stream()
@@ -109,7 +123,7 @@ public final class ReadwriteSplittingRule implements DatabaseRule {
         for (int i = 0; i < inlineLogicDataSourceNames.size(); i++) {
             ReadwriteSplittingDataSourceGroupRuleConfiguration staticConfig = createStaticDataSourceGroupRuleConfiguration(
                     config, i, inlineLogicDataSourceNames, inlineWriteDataSourceNames, inlineReadDataSourceNames);
-            result.put(inlineLogicDataSourceNames.get(i), new ReadwriteSplittingDataSourceGroupRule(staticConfig, config.getTransactionalReadQueryStrategy(), loadBalanceAlgorithm));
+            result.put(inlineLogicDataSourceNames.get(i), new ReadwriteSplittingDataSourceGroupRule(staticConfig, config.getTransactionalReadQueryStrategy(), loadBalanceAlgorithm, storageUnits));
         }
         return result;
     }
@@ -118,7 +132,8 @@ public final class ReadwriteSplittingRule implements DatabaseRule {
                                                                                                             final List<String> logicDataSourceNames, final List<String> writeDatasourceNames,
                                                                                                             final List<List<String>> readDatasourceNames) {
         List<String> readDataSourceNames = readDatasourceNames.stream().map(each -> each.get(index)).collect(Collectors.toList());
-        return new ReadwriteSplittingDataSourceGroupRuleConfiguration(logicDataSourceNames.get(index), writeDatasourceNames.get(index), readDataSourceNames, config.getLoadBalancerName());
+        return new ReadwriteSplittingDataSourceGroupRuleConfiguration(logicDataSourceNames.get(index), writeDatasourceNames.get(index), readDataSourceNames,
+                config.getTransactionalReadQueryStrategy(), config.getLoadBalancerName(), config.getMaxReplicationLagMilliseconds());
     }
     
     /**
@@ -139,4 +154,14 @@ public final class ReadwriteSplittingRule implements DatabaseRule {
     public Optional<ReadwriteSplittingDataSourceGroupRule> findDataSourceGroupRule(final String dataSourceName) {
         return Optional.ofNullable(dataSourceRuleGroups.get(dataSourceName));
     }
+    
+    @Override
+    public void close() {
+        dataSourceRuleGroups.values().forEach(ReadwriteSplittingDataSourceGroupRule::close);
+        for (LoadBalanceAlgorithm each : loadBalancers.values()) {
+            if (each instanceof DatabaseAwareLoadBalanceAlgorithm) {
+                ((DatabaseAwareLoadBalanceAlgorithm) each).close();
+            }
+        }
+    }
 }
@@ -21,7 +21,6 @@ import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.infra.rule.attribute.exportable.ExportableRuleAttribute;
 import org.apache.shardingsphere.infra.rule.attribute.exportable.constant.ExportableConstants;
 import org.apache.shardingsphere.infra.rule.attribute.exportable.constant.ExportableItemConstants;
-import org.apache.shardingsphere.readwritesplitting.group.type.StaticReadwriteSplittingGroup;
 import org.apache.shardingsphere.readwritesplitting.rule.ReadwriteSplittingDataSourceGroupRule;
 
 import java.util.HashMap;
@@ -46,12 +45,10 @@ public final class ReadwriteSplittingExportableRuleAttribute implements Exportab
     private Map<String, Map<String, String>> exportStaticDataSources() {
         Map<String, Map<String, String>> result = new LinkedHashMap<>(dataSourceGroupRules.size(), 1F);
         for (ReadwriteSplittingDataSourceGroupRule each : dataSourceGroupRules.values()) {
-            if (each.getReadwriteSplittingGroup() instanceof StaticReadwriteSplittingGroup) {
-                Map<String, String> exportedDataSources = new LinkedHashMap<>(2, 1F);
-                exportedDataSources.put(ExportableItemConstants.PRIMARY_DATA_SOURCE_NAME, each.getWriteDataSource());
-                exportedDataSources.put(ExportableItemConstants.REPLICA_DATA_SOURCE_NAMES, String.join(",", each.getReadwriteSplittingGroup().getReadDataSources()));
-                result.put(each.getName(), exportedDataSources);
-            }
+            Map<String, String> exportedDataSources = new LinkedHashMap<>(2, 1F);
+            exportedDataSources.put(ExportableItemConstants.PRIMARY_DATA_SOURCE_NAME, each.getWriteDataSource());
+            exportedDataSources.put(ExportableItemConstants.REPLICA_DATA_SOURCE_NAMES, String.join(",", each.getReadwriteSplittingGroup().getReadDataSources()));
+            result.put(each.getName(), exportedDataSources);
         }
         return result;
     }
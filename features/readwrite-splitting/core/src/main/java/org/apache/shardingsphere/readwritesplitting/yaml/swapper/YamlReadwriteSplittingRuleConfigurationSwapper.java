@@ -59,6 +59,9 @@ public final class YamlReadwriteSplittingRuleConfigurationSwapper implements Yam
         result.setReadDataSourceNames(dataSourceGroupRuleConfig.getReadDataSourceNames());
         result.setTransactionalReadQueryStrategy(dataSourceGroupRuleConfig.getTransactionalReadQueryStrategy().name());
         result.setLoadBalancerName(dataSourceGroupRuleConfig.getLoadBalancerName());
+        if (dataSourceGroupRuleConfig.getMaxReplicationLagMilliseconds() > 0L) {
+            result.setMaxReplicationLagMilliseconds(dataSourceGroupRuleConfig.getMaxReplicationLagMilliseconds());
+        }
         return result;
     }
     
@@ -74,7 +77,7 @@ public final class YamlReadwriteSplittingRuleConfigurationSwapper implements Yam
     
     private ReadwriteSplittingDataSourceGroupRuleConfiguration swapToObject(final String name, final YamlReadwriteSplittingDataSourceGroupRuleConfiguration yamlDataSourceGroupRuleConfig) {
         return new ReadwriteSplittingDataSourceGroupRuleConfiguration(name, yamlDataSourceGroupRuleConfig.getWriteDataSourceName(), yamlDataSourceGroupRuleConfig.getReadDataSourceNames(),
-                getTransactionalReadQueryStrategy(yamlDataSourceGroupRuleConfig), yamlDataSourceGroupRuleConfig.getLoadBalancerName());
+                getTransactionalReadQueryStrategy(yamlDataSourceGroupRuleConfig), yamlDataSourceGroupRuleConfig.getLoadBalancerName(), getMaxReplicationLagMilliseconds(yamlDataSourceGroupRuleConfig));
     }
     
     private TransactionalReadQueryStrategy getTransactionalReadQueryStrategy(final YamlReadwriteSplittingDataSourceGroupRuleConfiguration yamlDataSourceGroupRuleConfig) {
@@ -83,6 +86,10 @@ public final class YamlReadwriteSplittingRuleConfigurationSwapper implements Yam
                 : TransactionalReadQueryStrategy.valueOf(yamlDataSourceGroupRuleConfig.getTransactionalReadQueryStrategy());
     }
     
+    private long getMaxReplicationLagMilliseconds(final YamlReadwriteSplittingDataSourceGroupRuleConfiguration yamlDataSourceGroupRuleConfig) {
+        return null == yamlDataSourceGroupRuleConfig.getMaxReplicationLagMilliseconds() ? 0L : yamlDataSourceGroupRuleConfig.getMaxReplicationLagMilliseconds();
+    }
+    
     @Override
     public Class<ReadwriteSplittingRuleConfiguration> getTypeClass() {
         return ReadwriteSplittingRuleConfiguration.class;
@@ -0,0 +1,119 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.readwritesplitting.group.lag;
+
+import org.apache.shardingsphere.readwritesplitting.group.lag.dialect.DialectReplicationLagProbe;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.awaitility.Awaitility.await;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ReplicationLagSamplerTest {
+    
+    @Mock
+    private DataSource writeDataSource;
+    
+    @Mock
+    private DataSource readDataSource;
+    
+    @Mock
+    private DialectReplicationLagProbe probe;
+    
+    private final ExecutorService sampleExecutor = Executors.newSingleThreadExecutor();
+    
+    @AfterEach
+    void tearDown() {
+        sampleExecutor.shutdownNow();
+    }
+    
+    @Test
+    void assertGetReplicationLagWithReplayedPosition() throws SQLException {
+        Connection writeConnection = mock(Connection.class);
+        Connection readConnection = mock(Connection.class);
+        when(writeDataSource.getConnection()).thenReturn(writeConnection);
+        when(readDataSource.getConnection()).thenReturn(readConnection);
+        when(probe.getWritePosition(writeConnection, 1)).thenReturn(Optional.of("0/3000148"));
+        when(probe.isReplayed(readConnection, "0/3000148", 1)).thenReturn(true);
+        ReplicationLagSampler sampler = new ReplicationLagSampler("read_ds", writeDataSource, readDataSource, probe, 1000L, sampleExecutor);
+        long startMillis = System.currentTimeMillis();
+        sampler.getReplicationLag(startMillis);
+        await().atMost(5L, TimeUnit.SECONDS).until(() -> sampler.getReplicationLag(startMillis).isPresent());
+        ReplicationLag actual = sampler.getReplicationLag(startMillis).get();
+        assertThat(actual.getLagMillis(), is(0L));
+        assertThat(actual.getCaughtUpMillis(), greaterThanOrEqualTo(startMillis));
+    }
+    
+    @Test
+    void assertGetReplicationLagWithoutWritePosition() throws SQLException {
+        when(writeDataSource.getConnection()).thenReturn(mock(Connection.class));
+        when(probe.getWritePosition(any(), anyInt())).thenReturn(Optional.empty());
+        ReplicationLagSampler sampler = new ReplicationLagSampler("read_ds", writeDataSource, readDataSource, probe, 1000L, sampleExecutor);
+        long currentMillis = System.currentTimeMillis();
+        sampler.getReplicationLag(currentMillis);
+        verify(probe, timeout(5000L)).getWritePosition(any(), anyInt());
+        verify(probe, never()).isReplayed(any(), any(), anyInt());
+        assertFalse(sampler.getReplicationLag(currentMillis).isPresent());
+    }
+    
+    @Test
+    void assertGetReplicationLagWithTimedOutProbe() throws SQLException {
+        Connection writeConnection = mock(Connection.class);
+        Connection readConnection = mock(Connection.class);
+        when(writeDataSource.getConnection()).thenReturn(writeConnection);
+        when(readDataSource.getConnection()).thenReturn(readConnection);
+        when(probe.getWritePosition(writeConnection, 1)).thenReturn(Optional.of("0/3000148"));
+        when(probe.isReplayed(readConnection, "0/3000148", 1)).thenReturn(true).thenThrow(new SQLTimeoutException("timeout"));
+        ReplicationLagSampler sampler = new ReplicationLagSampler("read_ds", writeDataSource, readDataSource, probe, 1000L, sampleExecutor);
+        long startMillis = System.currentTimeMillis();
+        sampler.getReplicationLag(startMillis);
+        await().atMost(5L, TimeUnit.SECONDS).until(() -> sampler.getReplicationLag(startMillis).isPresent());
+        sampler.getReplicationLag(startMillis + 1000L);
+        await().atMost(5L, TimeUnit.SECONDS).until(() -> !sampler.getReplicationLag(startMillis + 1000L).isPresent());
+    }
+    
+    @Test
+    void assertGetReplicationLagWithClosedExecutor() {
+        sampleExecutor.shutdownNow();
+        ReplicationLagSampler sampler = new ReplicationLagSampler("read_ds", writeDataSource, readDataSource, probe, 1000L, sampleExecutor);
+        assertFalse(sampler.getReplicationLag(System.currentTimeMillis()).isPresent());
+    }
+}
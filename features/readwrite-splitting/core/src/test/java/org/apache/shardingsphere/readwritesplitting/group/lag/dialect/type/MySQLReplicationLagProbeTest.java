@@ -0,0 +1,88 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.readwritesplitting.group.lag.dialect.type;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Answers;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class MySQLReplicationLagProbeTest {
+    
+    @Mock(answer = Answers.RETURNS_DEEP_STUBS)
+    private Connection connection;
+    
+    @Test
+    void assertGetWritePosition() throws SQLException {
+        ResultSet resultSet = mock(ResultSet.class);
+        when(resultSet.next()).thenReturn(true);
+        when(resultSet.getString(1)).thenReturn("3E11FA47-71CA-11E1-9E33-C80AA9429562:1-5");
+        when(connection.createStatement().executeQuery("SELECT @@GLOBAL.gtid_executed")).thenReturn(resultSet);
+        assertThat(new MySQLReplicationLagProbe().getWritePosition(connection, 1), is(Optional.of("3E11FA47-71CA-11E1-9E33-C80AA9429562:1-5")));
+        verify(connection.createStatement()).setQueryTimeout(1);
+    }
+    
+    @Test
+    void assertGetWritePositionWithGTIDDisabled() throws SQLException {
+        ResultSet resultSet = mock(ResultSet.class);
+        when(resultSet.next()).thenReturn(true);
+        when(resultSet.getString(1)).thenReturn("");
+        when(connection.createStatement().executeQuery("SELECT @@GLOBAL.gtid_executed")).thenReturn(resultSet);
+        assertThat(new MySQLReplicationLagProbe().getWritePosition(connection, 1), is(Optional.empty()));
+    }
+    
+    @Test
+    void assertIsReplayed() throws SQLException {
+        PreparedStatement preparedStatement = mockReplayedStatement(1);
+        assertTrue(new MySQLReplicationLagProbe().isReplayed(connection, "3E11FA47-71CA-11E1-9E33-C80AA9429562:1-5", 1));
+        verify(preparedStatement).setQueryTimeout(1);
+        verify(preparedStatement).setString(1, "3E11FA47-71CA-11E1-9E33-C80AA9429562:1-5");
+    }
+    
+    @Test
+    void assertIsNotReplayed() throws SQLException {
+        mockReplayedStatement(0);
+        assertFalse(new MySQLReplicationLagProbe().isReplayed(connection, "3E11FA47-71CA-11E1-9E33-C80AA9429562:1-5", 1));
+    }
+    
+    private PreparedStatement mockReplayedStatement(final int replayed) throws SQLException {
+        PreparedStatement result = mock(PreparedStatement.class);
+        ResultSet resultSet = mock(ResultSet.class);
+        when(resultSet.next()).thenReturn(true);
+        when(resultSet.getInt(1)).thenReturn(replayed);
+        when(result.executeQuery()).thenReturn(resultSet);
+        when(connection.prepareStatement("SELECT GTID_SUBSET(?, @@GLOBAL.gtid_executed)")).thenReturn(result);
+        return result;
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.readwritesplitting.group.type;
+
+import org.apache.shardingsphere.readwritesplitting.group.lag.ReplicationLag;
+import org.apache.shardingsphere.readwritesplitting.group.lag.ReplicationLagSampler;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class DynamicReadwriteSplittingGroupTest {
+    
+    @Mock
+    private ReplicationLagSampler sampler0;
+    
+    @Mock
+    private ReplicationLagSampler sampler1;
+    
+    @Mock
+    private ExecutorService sampleExecutor;
+    
+    private DynamicReadwriteSplittingGroup group;
+    
+    @BeforeEach
+    void setUp() {
+        Map<String, ReplicationLagSampler> samplers = new HashMap<>(2, 1F);
+        samplers.put("read_ds_0", sampler0);
+        samplers.put("read_ds_1", sampler1);
+        group = new DynamicReadwriteSplittingGroup("write_ds", Arrays.asList("read_ds_0", "read_ds_1", "read_ds_2"), 1000L, samplers, sampleExecutor);
+    }
+    
+    @Test
+    void assertGetReadDataSources() {
+        assertThat(group.getReadDataSources(), is(Arrays.asList("read_ds_0", "read_ds_1", "read_ds_2")));
+    }
+    
+    @Test
+    void assertGetAllDataSources() {
+        assertThat(group.getAllDataSources(), is(Arrays.asList("write_ds", "read_ds_0", "read_ds_1", "read_ds_2")));
+    }
+    
+    @Test
+    void assertGetAvailableReadDataSourcesWithinLagThreshold() {
+        long currentMillis = System.currentTimeMillis();
+        when(sampler0.getReplicationLag(anyLong())).thenReturn(Optional.of(new ReplicationLag(100L, currentMillis)));
+        when(sampler1.getReplicationLag(anyLong())).thenReturn(Optional.of(new ReplicationLag(5000L, currentMillis)));
+        assertThat(group.getAvailableReadDataSources(0L), is(Collections.singletonList("read_ds_0")));
+    }
+    
+    @Test
+    void assertGetAvailableReadDataSourcesWithExpiredSample() {
+        long currentMillis = System.currentTimeMillis();
+        when(sampler0.getReplicationLag(anyLong())).thenReturn(Optional.of(new ReplicationLag(0L, currentMillis - 60000L)));
+        when(sampler1.getReplicationLag(anyLong())).thenReturn(Optional.of(new ReplicationLag(0L, currentMillis)));
+        assertThat(group.getAvailableReadDataSources(0L), is(Collections.singletonList("read_ds_1")));
+    }
+    
+    @Test
+    void assertGetAvailableReadDataSourcesCaughtUpWithLastWrite() {
+        long currentMillis = System.currentTimeMillis();
+        when(sampler0.getReplicationLag(anyLong())).thenReturn(Optional.of(new ReplicationLag(500L, currentMillis)));
+        when(sampler1.getReplicationLag(anyLong())).thenReturn(Optional.of(new ReplicationLag(0L, currentMillis)));
+        assertThat(group.getAvailableReadDataSources(currentMillis - 100L), is(Collections.singletonList("read_ds_1")));
+        assertThat(group.getAvailableReadDataSources(currentMillis - 1000L), is(Arrays.asList("read_ds_0", "read_ds_1")));
+    }
+    
+    @Test
+    void assertGetAvailableReadDataSourcesFallbackToWriteDataSource() {
+        when(sampler0.getReplicationLag(anyLong())).thenReturn(Optional.empty());
+        when(sampler1.getReplicationLag(anyLong())).thenReturn(Optional.empty());
+        assertThat(group.getAvailableReadDataSources(0L), is(Collections.singletonList("write_ds")));
+    }
+    
+    @Test
+    void assertClose() {
+        group.close();
+        verify(sampleExecutor).shutdownNow();
+    }
+}
@@ -25,6 +25,8 @@ import org.apache.shardingsphere.infra.spi.ShardingSphereServiceLoader;
 import org.apache.shardingsphere.readwritesplitting.route.qualified.QualifiedReadwriteSplittingDataSourceRouter;
 import org.apache.shardingsphere.readwritesplitting.route.standard.filter.ReadDataSourcesFilter;
 import org.apache.shardingsphere.readwritesplitting.rule.ReadwriteSplittingDataSourceGroupRule;
+import org.apache.shardingsphere.sql.parser.statement.core.statement.dml.SelectStatement;
+import org.apache.shardingsphere.sql.parser.statement.core.statement.dml.UpdateStatement;
 import org.apache.shardingsphere.test.mock.AutoMockExtension;
 import org.apache.shardingsphere.test.mock.StaticMockSettings;
 import org.junit.jupiter.api.Test;
@@ -39,6 +41,8 @@ import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(AutoMockExtension.class)
@@ -64,6 +68,25 @@ class ReadwriteSplittingDataSourceRouterTest {
         assertThat(router.route(sqlStatementContext, hintValueContext), is("qualified_ds"));
     }
     
+    @Test
+    void assertRouteWriteStatement() {
+        ConnectionContext connectionContext = mock(ConnectionContext.class);
+        when(sqlStatementContext.getSqlStatement()).thenReturn(mock(UpdateStatement.class));
+        when(rule.getWriteDataSource()).thenReturn("write_ds");
+        assertThat(new ReadwriteSplittingDataSourceRouter(rule, connectionContext).route(sqlStatementContext, hintValueContext), is("write_ds"));
+        verify(connectionContext).startWrite();
+    }
+    
+    @Test
+    void assertRouteSelectStatementWithWriteRouteOnlyHint() {
+        ConnectionContext connectionContext = mock(ConnectionContext.class);
+        when(sqlStatementContext.getSqlStatement()).thenReturn(mock(SelectStatement.class));
+        when(hintValueContext.isWriteRouteOnly()).thenReturn(true);
+        when(rule.getWriteDataSource()).thenReturn("write_ds");
+        assertThat(new ReadwriteSplittingDataSourceRouter(rule, connectionContext).route(sqlStatementContext, hintValueContext), is("write_ds"));
+        verify(connectionContext, never()).startWrite();
+    }
+    
     @Test
     void assertRouteWithStandardRouters() {
         when(rule.getLoadBalancer().getTargetName(any(), any())).thenReturn("standard_ds");
@@ -42,12 +42,12 @@ class StandardReadwriteSplittingDataSourceRouterTest {
     
     @Test
     void assertRoute() {
-        assertThat(new StandardReadwriteSplittingDataSourceRouter().route(rule), is("read_ds_0"));
+        assertThat(new StandardReadwriteSplittingDataSourceRouter().route(rule, 0L), is("read_ds_0"));
     }
     
     @Test
     void assertRouteWithFilter() {
         rule.disableDataSource("read_ds_0");
-        assertThat(new StandardReadwriteSplittingDataSourceRouter().route(rule), is("read_ds_1"));
+        assertThat(new StandardReadwriteSplittingDataSourceRouter().route(rule, 0L), is("read_ds_1"));
     }
 }
@@ -19,11 +19,15 @@ package org.apache.shardingsphere.readwritesplitting.rule;
 
 import org.apache.shardingsphere.infra.algorithm.loadbalancer.random.RandomLoadBalanceAlgorithm;
 import org.apache.shardingsphere.readwritesplitting.config.rule.ReadwriteSplittingDataSourceGroupRuleConfiguration;
+import org.apache.shardingsphere.readwritesplitting.group.type.DynamicReadwriteSplittingGroup;
+import org.apache.shardingsphere.readwritesplitting.group.type.StaticReadwriteSplittingGroup;
 import org.apache.shardingsphere.readwritesplitting.transaction.TransactionalReadQueryStrategy;
 import org.junit.jupiter.api.Test;
 
 import java.util.Arrays;
+import java.util.Collections;
 
+import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 
@@ -37,4 +41,23 @@ class ReadwriteSplittingDataSourceGroupRuleTest {
         String writeDataSourceName = dataSourceGroupRule.getWriteDataSource();
         assertThat(writeDataSourceName, is("write_ds"));
     }
+    
+    @Test
+    void assertCreateStaticReadwriteSplittingGroup() {
+        ReadwriteSplittingDataSourceGroupRule dataSourceGroupRule = new ReadwriteSplittingDataSourceGroupRule(
+                new ReadwriteSplittingDataSourceGroupRuleConfiguration("test_pr", "write_ds", Arrays.asList("read_ds_0", "read_ds_1"), TransactionalReadQueryStrategy.DYNAMIC, null),
+                TransactionalReadQueryStrategy.DYNAMIC, new RandomLoadBalanceAlgorithm());
+        assertThat(dataSourceGroupRule.getReadwriteSplittingGroup(), instanceOf(StaticReadwriteSplittingGroup.class));
+    }
+    
+    @Test
+    void assertCreateDynamicReadwriteSplittingGroup() {
+        ReadwriteSplittingDataSourceGroupRule dataSourceGroupRule = new ReadwriteSplittingDataSourceGroupRule(
+                new ReadwriteSplittingDataSourceGroupRuleConfiguration("test_pr", "write_ds", Arrays.asList("read_ds_0", "read_ds_1"), TransactionalReadQueryStrategy.DYNAMIC, null, 1000L),
+                TransactionalReadQueryStrategy.DYNAMIC, new RandomLoadBalanceAlgorithm());
+        assertThat(dataSourceGroupRule.getReadwriteSplittingGroup(), instanceOf(DynamicReadwriteSplittingGroup.class));
+        assertThat(dataSourceGroupRule.getReadwriteSplittingGroup().getReadDataSources(), is(Arrays.asList("read_ds_0", "read_ds_1")));
+        assertThat(dataSourceGroupRule.getReadwriteSplittingGroup().getAvailableReadDataSources(0L), is(Collections.singletonList("write_ds")));
+        dataSourceGroupRule.close();
+    }
 }
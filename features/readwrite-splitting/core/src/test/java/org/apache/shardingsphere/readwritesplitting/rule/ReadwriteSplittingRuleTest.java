@@ -18,6 +18,7 @@
 package org.apache.shardingsphere.readwritesplitting.rule;
 
 import org.apache.shardingsphere.infra.algorithm.core.config.AlgorithmConfiguration;
+import org.apache.shardingsphere.infra.algorithm.loadbalancer.peak.ewma.TargetLoadRegistry;
 import org.apache.shardingsphere.infra.instance.ComputeNodeInstanceContext;
 import org.apache.shardingsphere.infra.metadata.database.schema.QualifiedDataSource;
 import org.apache.shardingsphere.infra.rule.attribute.datasource.StaticDataSourceRuleAttribute;
@@ -33,6 +34,7 @@ import java.util.Properties;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
 
@@ -50,6 +52,19 @@ class ReadwriteSplittingRuleTest {
         assertDataSourceGroupRule(createReadwriteSplittingRule().getSingleDataSourceGroupRule());
     }
     
+    @Test
+    void assertClose() {
+        ReadwriteSplittingDataSourceGroupRuleConfiguration config =
+                new ReadwriteSplittingDataSourceGroupRuleConfiguration("readwrite", "write_ds", Arrays.asList("read_ds_0", "read_ds_1"), "peak_ewma");
+        ReadwriteSplittingRule rule = new ReadwriteSplittingRule("logic_db", new ReadwriteSplittingRuleConfiguration(
+                Collections.singleton(config), Collections.singletonMap("peak_ewma", new AlgorithmConfiguration("PEAK_EWMA", new Properties()))), mock(ComputeNodeInstanceContext.class));
+        rule.getSingleDataSourceGroupRule().getLoadBalancer().getTargetName("readwrite", Arrays.asList("read_ds_0", "read_ds_1"));
+        assertTrue(TargetLoadRegistry.find("logic_db", "read_ds_0").isPresent());
+        rule.close();
+        assertFalse(TargetLoadRegistry.find("logic_db", "read_ds_0").isPresent());
+        assertFalse(TargetLoadRegistry.find("logic_db", "read_ds_1").isPresent());
+    }
+    
     private ReadwriteSplittingRule createReadwriteSplittingRule() {
         ReadwriteSplittingDataSourceGroupRuleConfiguration config =
                 new ReadwriteSplittingDataSourceGroupRuleConfiguration("readwrite", "write_ds", Arrays.asList("read_ds_0", "read_ds_1"), "random");
@@ -18,15 +18,29 @@
 package org.apache.shardingsphere.sharding.cache;
 
 import lombok.Getter;
+import org.apache.shardingsphere.infra.algorithm.core.config.AlgorithmConfiguration;
 import org.apache.shardingsphere.sharding.api.config.cache.ShardingCacheConfiguration;
+import org.apache.shardingsphere.sharding.api.config.strategy.sharding.ComplexShardingStrategyConfiguration;
+import org.apache.shardingsphere.sharding.api.config.strategy.sharding.ShardingStrategyConfiguration;
+import org.apache.shardingsphere.sharding.api.config.strategy.sharding.StandardShardingStrategyConfiguration;
 import org.apache.shardingsphere.sharding.cache.checker.ShardingRouteCacheableChecker;
 import org.apache.shardingsphere.sharding.cache.route.cache.ShardingRouteCache;
+import org.apache.shardingsphere.sharding.rule.BindingTableRule;
 import org.apache.shardingsphere.sharding.rule.ShardingRule;
+import org.apache.shardingsphere.sharding.rule.ShardingTable;
 import org.apache.shardingsphere.timeservice.core.rule.TimestampServiceRule;
 import org.apache.shardingsphere.timeservice.core.rule.builder.DefaultTimestampServiceConfigurationBuilder;
 
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Objects;
+import java.util.TreeSet;
+
 /**
- * <strong>EXPERIMENTAL</strong> Sharding cache.
+ * Sharding cache.
  */
 @Getter
 public final class ShardingCache {
@@ -48,4 +62,46 @@ public final class ShardingCache {
         routeCacheableChecker = new ShardingRouteCacheableChecker(this);
         routeCache = new ShardingRouteCache(config.getRouteCache());
     }
+    
+    /**
+     * Inherit cached route results from previous sharding cache.
+     * 
+     * <p>Only route results of logic tables whose routing related rule changed are dropped, others are kept.</p>
+     *
+     * @param previousShardingCache previous sharding cache
+     */
+    public void inherit(final ShardingCache previousShardingCache) {
+        routeCache.inherit(previousShardingCache.getRouteCache(), getRouteChangedLogicTableNames(previousShardingCache.getShardingRule()));
+    }
+    
+    private Collection<String> getRouteChangedLogicTableNames(final ShardingRule previousShardingRule) {
+        Collection<String> result = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+        for (ShardingTable each : previousShardingRule.getShardingTables().values()) {
+            String logicTableName = each.getLogicTable();
+            if (!shardingRule.findShardingTable(logicTableName).map(optional -> getRouteFingerprint(shardingRule, optional))
+                    .filter(getRouteFingerprint(previousShardingRule, each)::equals).isPresent()) {
+                result.add(logicTableName);
+            }
+        }
+        return result;
+    }
+    
+    private List<Object> getRouteFingerprint(final ShardingRule rule, final ShardingTable shardingTable) {
+        Collection<String> bindingLogicTableNames = rule.findBindingTableRule(shardingTable.getLogicTable()).map(BindingTableRule::getAllLogicTables).orElse(Collections.emptyList());
+        List<Object> result = new LinkedList<>(Arrays.asList(shardingTable.getActualDataNodes(), new TreeSet<>(bindingLogicTableNames)));
+        result.addAll(getStrategyFingerprint(rule, rule.getDatabaseShardingStrategyConfiguration(shardingTable)));
+        result.addAll(getStrategyFingerprint(rule, rule.getTableShardingStrategyConfiguration(shardingTable)));
+        return result;
+    }
+    
+    private List<Object> getStrategyFingerprint(final ShardingRule rule, final ShardingStrategyConfiguration strategyConfig) {
+        String shardingColumns = null;
+        if (strategyConfig instanceof StandardShardingStrategyConfiguration) {
+            shardingColumns = ((StandardShardingStrategyConfiguration) strategyConfig).getShardingColumn();
+        } else if (strategyConfig instanceof ComplexShardingStrategyConfiguration) {
+            shardingColumns = ((ComplexShardingStrategyConfiguration) strategyConfig).getShardingColumns();
+        }
+        AlgorithmConfiguration algorithmConfig = null == strategyConfig.getShardingAlgorithmName() ? null : rule.getConfiguration().getShardingAlgorithms().get(strategyConfig.getShardingAlgorithmName());
+        return Arrays.asList(strategyConfig.getType(), Objects.toString(shardingColumns, ""), algorithmConfig);
+    }
 }
@@ -67,12 +67,19 @@ public final class CachedShardingSQLRouter {
         Optional<RouteContext> cachedResult = shardingCache.getRouteCache().get(new ShardingRouteCacheKey(queryContext.getSql(), shardingConditionParams))
                 .flatMap(ShardingRouteCacheValue::getCachedRouteContext);
         RouteContext result = cachedResult.orElseGet(() -> originSQLRouter.createRouteContext(queryContext, globalRuleMetaData, database, shardingCache.getShardingRule(), props));
-        if (!cachedResult.isPresent() && hitOneShardOnly(result)) {
+        if (!cachedResult.isPresent() && isCacheableRouteResult(result, shardingConditionParams)) {
             shardingCache.getRouteCache().put(new ShardingRouteCacheKey(queryContext.getSql(), shardingConditionParams), new ShardingRouteCacheValue(result));
         }
         return Optional.of(result);
     }
     
+    private boolean isCacheableRouteResult(final RouteContext routeContext, final List<Object> shardingConditionParams) {
+        if (routeContext.getRouteUnits().isEmpty() || !routeContext.getRouteStageContexts().isEmpty()) {
+            return false;
+        }
+        return !shardingConditionParams.isEmpty() || hitOneShardOnly(routeContext);
+    }
+    
     private boolean hitOneShardOnly(final RouteContext routeContext) {
         return 1 == routeContext.getRouteUnits().size() && 1 == routeContext.getRouteUnits().iterator().next().getTableMappers().size()
                 && 1 == routeContext.getOriginalDataNodes().size() && 1 == routeContext.getOriginalDataNodes().iterator().next().size();
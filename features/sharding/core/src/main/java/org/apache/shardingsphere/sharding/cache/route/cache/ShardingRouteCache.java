@@ -19,23 +19,32 @@ package org.apache.shardingsphere.sharding.cache.route.cache;
 
 import com.github.benmanes.caffeine.cache.Cache;
 import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import org.apache.shardingsphere.infra.rule.attribute.cache.CacheStatistics;
 import org.apache.shardingsphere.sharding.api.config.cache.ShardingCacheOptionsConfiguration;
 
+import java.util.Collection;
+import java.util.Map.Entry;
 import java.util.Optional;
 
 /**
  * Cache for sharding route.
+ * 
+ * <p>A route result is admitted into the cache only when the same key is routed for the second time, so one-shot keys do not evict hot entries.</p>
  */
 public final class ShardingRouteCache {
     
     private final Cache<ShardingRouteCacheKey, ShardingRouteCacheValue> cache;
     
+    private final Cache<ShardingRouteCacheKey, Boolean> admissionCandidates;
+    
     public ShardingRouteCache(final ShardingCacheOptionsConfiguration cacheOptions) {
         cache = buildRouteCache(cacheOptions);
+        admissionCandidates = Caffeine.newBuilder().initialCapacity(cacheOptions.getInitialCapacity()).maximumSize(cacheOptions.getMaximumSize()).build();
     }
     
     private Cache<ShardingRouteCacheKey, ShardingRouteCacheValue> buildRouteCache(final ShardingCacheOptionsConfiguration cacheOptions) {
-        Caffeine<Object, Object> result = Caffeine.newBuilder().initialCapacity(cacheOptions.getInitialCapacity()).maximumSize(cacheOptions.getMaximumSize());
+        Caffeine<Object, Object> result = Caffeine.newBuilder().initialCapacity(cacheOptions.getInitialCapacity()).maximumSize(cacheOptions.getMaximumSize()).recordStats();
         if (cacheOptions.isSoftValues()) {
             result.softValues();
         }
@@ -44,12 +53,18 @@ public final class ShardingRouteCache {
     
     /**
      * Cache route result.
+     * 
+     * <p>The first put of a key only registers it as admission candidate, the route result is cached from the second put on.</p>
      *
      * @param key cache key
      * @param value cache value
      */
     public void put(final ShardingRouteCacheKey key, final ShardingRouteCacheValue value) {
-        cache.put(key, value);
+        if (null != admissionCandidates.asMap().remove(key)) {
+            cache.put(key, value);
+        } else {
+            admissionCandidates.put(key, Boolean.TRUE);
+        }
     }
     
     /**
@@ -61,4 +76,49 @@ public final class ShardingRouteCache {
     public Optional<ShardingRouteCacheValue> get(final ShardingRouteCacheKey key) {
         return Optional.ofNullable(cache.getIfPresent(key));
     }
+    
+    /**
+     * Invalidate cached route results which are related to logic tables.
+     *
+     * @param logicTableNames logic table names
+     */
+    public void invalidate(final Collection<String> logicTableNames) {
+        if (logicTableNames.isEmpty()) {
+            return;
+        }
+        cache.asMap().values().removeIf(each -> each.containsAnyLogicTable(logicTableNames));
+        admissionCandidates.invalidateAll();
+    }
+    
+    /**
+     * Invalidate all cached route results.
+     */
+    public void invalidateAll() {
+        cache.invalidateAll();
+        admissionCandidates.invalidateAll();
+    }
+    
+    /**
+     * Inherit cached route results from previous route cache, except route results related to invalidated logic tables.
+     *
+     * @param previousRouteCache previous route cache
+     * @param invalidatedLogicTableNames invalidated logic table names
+     */
+    public void inherit(final ShardingRouteCache previousRouteCache, final Collection<String> invalidatedLogicTableNames) {
+        for (Entry<ShardingRouteCacheKey, ShardingRouteCacheValue> entry : previousRouteCache.cache.asMap().entrySet()) {
+            if (!entry.getValue().containsAnyLogicTable(invalidatedLogicTableNames)) {
+                cache.put(entry.getKey(), entry.getValue());
+            }
+        }
+    }
+    
+    /**
+     * Get statistics.
+     *
+     * @return statistics of sharding route cache
+     */
+    public CacheStatistics getStatistics() {
+        CacheStats stats = cache.stats();
+        return new CacheStatistics(stats.hitCount(), stats.missCount(), stats.evictionCount(), cache.estimatedSize());
+    }
 }
@@ -17,31 +17,64 @@
 
 package org.apache.shardingsphere.sharding.cache.route.cache;
 
-import lombok.AccessLevel;
-import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.infra.datanode.DataNode;
+import org.apache.shardingsphere.infra.exception.core.ShardingSpherePreconditions;
 import org.apache.shardingsphere.infra.route.context.RouteContext;
-import org.apache.shardingsphere.infra.route.context.RouteStageContext;
+import org.apache.shardingsphere.infra.route.context.RouteMapper;
 import org.apache.shardingsphere.infra.route.context.RouteUnit;
-import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
 
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Map;
+import java.util.Collections;
 import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
 
 /**
  * Value of sharding route cache.
+ *
+ * <p>Route context is deep copied when cached and when fetched, so route units and data nodes are never shared across executions.
+ * Route stage contexts are opaque to cache, route context with route stage contexts are not cacheable.</p>
  */
-@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
 public final class ShardingRouteCacheValue {
     
     private final boolean cacheable;
     
     private final RouteContext cachedRouteContext;
     
+    private final Set<String> logicTableNames;
+    
     public ShardingRouteCacheValue(final RouteContext routeContext) {
-        this(null != routeContext, routeContext);
+        cacheable = null != routeContext;
+        ShardingSpherePreconditions.checkState(!cacheable || routeContext.getRouteStageContexts().isEmpty(),
+                () -> new IllegalArgumentException("Route context with route stage contexts can not be cached."));
+        cachedRouteContext = cacheable ? deepCopyRouteContext(routeContext) : null;
+        logicTableNames = cacheable ? getLogicTableNames(routeContext) : Collections.emptySet();
+    }
+    
+    private Set<String> getLogicTableNames(final RouteContext routeContext) {
+        Set<String> result = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+        for (RouteUnit each : routeContext.getRouteUnits()) {
+            for (RouteMapper tableMapper : each.getTableMappers()) {
+                result.add(tableMapper.getLogicName());
+            }
+        }
+        return result;
+    }
+    
+    /**
+     * Judge whether cached route context is related to any of logic tables.
+     *
+     * @param logicTableNames logic table names
+     * @return contains any of logic tables or not
+     */
+    public boolean containsAnyLogicTable(final Collection<String> logicTableNames) {
+        for (String each : logicTableNames) {
+            if (this.logicTableNames.contains(each)) {
+                return true;
+            }
+        }
+        return false;
     }
     
     /**
@@ -50,20 +83,19 @@ public final class ShardingRouteCacheValue {
      * @return optional cached route context
      */
     public Optional<RouteContext> getCachedRouteContext() {
-        return cacheable ? Optional.of(deepCopyRouteContext()) : Optional.empty();
+        return cacheable ? Optional.of(deepCopyRouteContext(cachedRouteContext)) : Optional.empty();
     }
     
-    private RouteContext deepCopyRouteContext() {
+    private RouteContext deepCopyRouteContext(final RouteContext routeContext) {
         RouteContext result = new RouteContext();
-        result.getOriginalDataNodes().addAll(deepCopyOriginalDataNodes());
-        result.getRouteUnits().addAll(deepCopyRouteUnits());
-        result.getRouteStageContexts().putAll(deepCopyRouteStageContext());
+        result.getOriginalDataNodes().addAll(deepCopyOriginalDataNodes(routeContext));
+        result.getRouteUnits().addAll(deepCopyRouteUnits(routeContext));
         return result;
     }
     
-    private Collection<Collection<DataNode>> deepCopyOriginalDataNodes() {
-        Collection<Collection<DataNode>> result = new ArrayList<>(cachedRouteContext.getOriginalDataNodes().size());
-        for (Collection<DataNode> eachDataNodes : cachedRouteContext.getOriginalDataNodes()) {
+    private Collection<Collection<DataNode>> deepCopyOriginalDataNodes(final RouteContext routeContext) {
+        Collection<Collection<DataNode>> result = new ArrayList<>(routeContext.getOriginalDataNodes().size());
+        for (Collection<DataNode> eachDataNodes : routeContext.getOriginalDataNodes()) {
             Collection<DataNode> eachResult = new ArrayList<>(eachDataNodes.size());
             // TODO This could be simplified if all fields of DataNode were immutable
             for (DataNode each : eachDataNodes) {
@@ -76,16 +108,11 @@ public final class ShardingRouteCacheValue {
         return result;
     }
     
-    private Collection<RouteUnit> deepCopyRouteUnits() {
-        Collection<RouteUnit> result = new ArrayList<>(cachedRouteContext.getRouteUnits().size());
-        for (RouteUnit each : cachedRouteContext.getRouteUnits()) {
+    private Collection<RouteUnit> deepCopyRouteUnits(final RouteContext routeContext) {
+        Collection<RouteUnit> result = new ArrayList<>(routeContext.getRouteUnits().size());
+        for (RouteUnit each : routeContext.getRouteUnits()) {
             result.add(new RouteUnit(each.getDataSourceMapper(), new ArrayList<>(each.getTableMappers())));
         }
         return result;
     }
-    
-    private Map<Class<? extends ShardingSphereRule>, ? extends RouteStageContext> deepCopyRouteStageContext() {
-        // TODO Implements deep copy for route stage contexts
-        return cachedRouteContext.getRouteStageContexts();
-    }
 }
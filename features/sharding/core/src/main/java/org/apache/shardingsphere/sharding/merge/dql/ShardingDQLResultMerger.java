@@ -35,6 +35,7 @@ import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSp
 import org.apache.shardingsphere.infra.session.connection.ConnectionContext;
 import org.apache.shardingsphere.sharding.merge.common.IteratorStreamMergedResult;
 import org.apache.shardingsphere.sharding.merge.dql.groupby.GroupByMemoryMergedResult;
+import org.apache.shardingsphere.sharding.merge.dql.groupby.GroupByMemoryMergedRowsLoader;
 import org.apache.shardingsphere.sharding.merge.dql.groupby.GroupByStreamMergedResult;
 import org.apache.shardingsphere.sharding.merge.dql.orderby.OrderByStreamMergedResult;
 import org.apache.shardingsphere.sharding.merge.dql.pagination.builder.PaginationDecoratorMergedResultBuilder;
@@ -55,6 +56,12 @@ public final class ShardingDQLResultMerger implements ResultMerger {
     
     private final DatabaseType protocolType;
     
+    private final long memoryMergeBudgetBytes;
+    
+    public ShardingDQLResultMerger(final DatabaseType protocolType) {
+        this(protocolType, 0L);
+    }
+    
     @Override
     public MergedResult merge(final List<QueryResult> queryResults, final SQLStatementContext sqlStatementContext,
                               final ShardingSphereDatabase database, final ConnectionContext connectionContext) throws SQLException {
@@ -64,7 +71,7 @@ public final class ShardingDQLResultMerger implements ResultMerger {
         Map<String, Integer> columnLabelIndexMap = getColumnLabelIndexMap(queryResults.get(0));
         SelectStatementContext selectStatementContext = (SelectStatementContext) sqlStatementContext;
         selectStatementContext.setIndexes(columnLabelIndexMap);
-        MergedResult mergedResult = build(queryResults, selectStatementContext, columnLabelIndexMap, database);
+        MergedResult mergedResult = build(queryResults, selectStatementContext, columnLabelIndexMap, database, connectionContext);
         return decorate(queryResults, selectStatementContext, mergedResult);
     }
     
@@ -81,16 +88,16 @@ public final class ShardingDQLResultMerger implements ResultMerger {
     }
     
     private MergedResult build(final List<QueryResult> queryResults, final SelectStatementContext selectStatementContext,
-                               final Map<String, Integer> columnLabelIndexMap, final ShardingSphereDatabase database) throws SQLException {
+                               final Map<String, Integer> columnLabelIndexMap, final ShardingSphereDatabase database, final ConnectionContext connectionContext) throws SQLException {
         String defaultSchemaName = new DatabaseTypeRegistry(selectStatementContext.getDatabaseType()).getDefaultSchemaName(database.getName());
         ShardingSphereSchema schema = selectStatementContext.getTablesContext().getSchemaName()
                 .map(database::getSchema).orElseGet(() -> database.getSchema(defaultSchemaName));
         if (isNeedProcessGroupBy(selectStatementContext)) {
-            return getGroupByMergedResult(queryResults, selectStatementContext, columnLabelIndexMap, schema);
+            return getGroupByMergedResult(queryResults, selectStatementContext, columnLabelIndexMap, schema, connectionContext);
         }
         if (isNeedProcessDistinctRow(selectStatementContext)) {
             setGroupByForDistinctRow(selectStatementContext);
-            return getGroupByMergedResult(queryResults, selectStatementContext, columnLabelIndexMap, schema);
+            return getGroupByMergedResult(queryResults, selectStatementContext, columnLabelIndexMap, schema, connectionContext);
         }
         if (isNeedProcessOrderBy(selectStatementContext)) {
             return new OrderByStreamMergedResult(queryResults, selectStatementContext, schema);
@@ -116,10 +123,15 @@ public final class ShardingDQLResultMerger implements ResultMerger {
     }
     
     private MergedResult getGroupByMergedResult(final List<QueryResult> queryResults, final SelectStatementContext selectStatementContext,
-                                                final Map<String, Integer> columnLabelIndexMap, final ShardingSphereSchema schema) throws SQLException {
-        return selectStatementContext.isSameGroupByAndOrderByItems()
-                ? new GroupByStreamMergedResult(columnLabelIndexMap, queryResults, selectStatementContext, schema)
-                : new GroupByMemoryMergedResult(queryResults, selectStatementContext, schema);
+                                                final Map<String, Integer> columnLabelIndexMap, final ShardingSphereSchema schema, final ConnectionContext connectionContext) throws SQLException {
+        if (selectStatementContext.isSameGroupByAndOrderByItems()) {
+            return new GroupByStreamMergedResult(columnLabelIndexMap, queryResults, selectStatementContext, schema);
+        }
+        if (memoryMergeBudgetBytes > 0L && GroupByMemoryMergedRowsLoader.isSpillable(selectStatementContext)) {
+            String processId = null == connectionContext ? null : connectionContext.getProcessId();
+            return new GroupByMemoryMergedRowsLoader(selectStatementContext, schema, memoryMergeBudgetBytes, processId).loadSpillable(queryResults);
+        }
+        return new GroupByMemoryMergedResult(queryResults, selectStatementContext, schema);
     }
     
     private boolean isNeedProcessOrderBy(final SelectStatementContext selectStatementContext) {
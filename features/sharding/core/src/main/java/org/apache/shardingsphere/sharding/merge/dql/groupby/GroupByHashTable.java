@@ -0,0 +1,104 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby;
+
+/**
+ * Open addressing hash table which maps group by value to group ID.
+ * 
+ * <p>Group IDs are assigned in insertion order from {@code 0}, so aggregation state can be kept in lists indexed by group ID.</p>
+ */
+final class GroupByHashTable {
+    
+    private GroupByValue[] keys;
+    
+    private int[] hashes;
+    
+    private int[] groupIds;
+    
+    private int mask;
+    
+    private int size;
+    
+    GroupByHashTable(final int expectedSize) {
+        int capacity = Integer.highestOneBit(Math.max(expectedSize, 8) - 1) << 2;
+        keys = new GroupByValue[capacity];
+        hashes = new int[capacity];
+        groupIds = new int[capacity];
+        mask = capacity - 1;
+    }
+    
+    /**
+     * Get group ID, assign next group ID if group by value is absent.
+     *
+     * @param groupByValue group by value
+     * @return group ID, which equals to previous size if group by value is newly added
+     */
+    int getOrAssignGroupId(final GroupByValue groupByValue) {
+        int hash = spread(groupByValue.hashCode());
+        int index = hash & mask;
+        while (null != keys[index]) {
+            if (hash == hashes[index] && groupByValue.equals(keys[index])) {
+                return groupIds[index];
+            }
+            index = (index + 1) & mask;
+        }
+        int result = size++;
+        keys[index] = groupByValue;
+        hashes[index] = hash;
+        groupIds[index] = result;
+        if (size << 1 > keys.length) {
+            resize();
+        }
+        return result;
+    }
+    
+    private int spread(final int hashCode) {
+        return hashCode ^ hashCode >>> 16;
+    }
+    
+    private void resize() {
+        GroupByValue[] oldKeys = keys;
+        int[] oldHashes = hashes;
+        int[] oldGroupIds = groupIds;
+        keys = new GroupByValue[oldKeys.length << 1];
+        hashes = new int[keys.length];
+        groupIds = new int[keys.length];
+        mask = keys.length - 1;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (null == oldKeys[i]) {
+                continue;
+            }
+            int index = oldHashes[i] & mask;
+            while (null != keys[index]) {
+                index = (index + 1) & mask;
+            }
+            keys[index] = oldKeys[i];
+            hashes[index] = oldHashes[i];
+            groupIds[index] = oldGroupIds[i];
+        }
+    }
+    
+    /**
+     * Get size.
+     *
+     * @return count of group by values
+     */
+    int size() {
+        return size;
+    }
+}
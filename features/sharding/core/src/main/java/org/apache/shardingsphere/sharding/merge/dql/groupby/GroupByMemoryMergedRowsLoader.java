@@ -0,0 +1,349 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby;
+
+import com.google.common.base.Strings;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.binder.context.segment.select.orderby.OrderByItem;
+import org.apache.shardingsphere.infra.binder.context.segment.select.projection.Projection;
+import org.apache.shardingsphere.infra.binder.context.segment.select.projection.impl.AggregationDistinctProjection;
+import org.apache.shardingsphere.infra.binder.context.segment.select.projection.impl.AggregationProjection;
+import org.apache.shardingsphere.infra.binder.context.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.database.core.metadata.database.enums.NullsOrderType;
+import org.apache.shardingsphere.infra.exception.core.ShardingSpherePreconditions;
+import org.apache.shardingsphere.infra.exception.dialect.exception.syntax.table.NoSuchTableException;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.executor.sql.process.Process;
+import org.apache.shardingsphere.infra.executor.sql.process.ProcessRegistry;
+import org.apache.shardingsphere.infra.merge.result.impl.memory.MemoryQueryResultRow;
+import org.apache.shardingsphere.infra.merge.result.impl.memory.spill.ExternalSorter;
+import org.apache.shardingsphere.infra.merge.result.impl.memory.spill.SpillableMergedResult;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereTable;
+import org.apache.shardingsphere.sharding.exception.data.NotImplementComparableValueException;
+import org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation.AggregationUnit;
+import org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation.AggregationUnitFactory;
+import org.apache.shardingsphere.sharding.merge.dql.orderby.CompareUtils;
+import org.apache.shardingsphere.sql.parser.statement.core.enums.AggregationType;
+import org.apache.shardingsphere.sql.parser.statement.core.enums.OrderDirection;
+import org.apache.shardingsphere.sql.parser.statement.core.segment.generic.table.SimpleTableSegment;
+
+import java.io.IOException;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+
+/**
+ * Memory merged rows loader for group by.
+ *
+ * <p>Groups are aggregated in memory. When loading spillable and estimated size of groups reaches memory budget,
+ * aggregated groups are sorted by group values and spilled to disk as partial rows, then partial rows of the same group are merged again when loading completes.</p>
+ * <p>Derived COUNT and SUM columns of AVG are aggregated and written back to partial rows as well, so AVG of groups spanning spill files is merged from summed derived columns.</p>
+ */
+@RequiredArgsConstructor
+public final class GroupByMemoryMergedRowsLoader {
+    
+    private static final int INITIAL_CAPACITY = 1024;
+    
+    private static final long AGGREGATION_UNIT_SIZE = 32L;
+    
+    private final SelectStatementContext selectStatementContext;
+    
+    private final ShardingSphereSchema schema;
+    
+    private final long memoryBudget;
+    
+    private final String processId;
+    
+    private final List<Comparable<?>> aggregationValues = new ArrayList<>(2);
+    
+    /**
+     * Judge whether group by merge state of select statement can be spilled to disk.
+     *
+     * @param selectStatementContext select statement context
+     * @return can be spilled or not
+     */
+    public static boolean isSpillable(final SelectStatementContext selectStatementContext) {
+        for (AggregationProjection each : selectStatementContext.getProjectionsContext().getAggregationProjections()) {
+            if (each instanceof AggregationDistinctProjection) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    /**
+     * Load memory query result rows.
+     *
+     * @param queryResults query results
+     * @return memory query result rows
+     * @throws SQLException SQL exception
+     */
+    public List<MemoryQueryResultRow> load(final List<QueryResult> queryResults) throws SQLException {
+        List<AggregationProjection> aggregationProjections = new ArrayList<>(selectStatementContext.getProjectionsContext().getAggregationProjections());
+        GroupByHashTable groupByHashTable = new GroupByHashTable(INITIAL_CAPACITY);
+        List<MemoryQueryResultRow> rows = new ArrayList<>(INITIAL_CAPACITY);
+        List<AggregationUnit[]> aggregationUnits = new ArrayList<>(INITIAL_CAPACITY);
+        for (QueryResult each : queryResults) {
+            CellValueReader cellValueReader = columnIndex -> each.getValue(columnIndex, Object.class);
+            while (each.next()) {
+                int groupId = groupByHashTable.getOrAssignGroupId(new GroupByValue(each, selectStatementContext.getGroupByContext().getItems()));
+                if (groupId == rows.size()) {
+                    rows.add(new MemoryQueryResultRow(each));
+                    aggregationUnits.add(createAggregationUnits(aggregationProjections));
+                }
+                aggregate(aggregationProjections, cellValueReader, aggregationUnits.get(groupId));
+            }
+        }
+        setAggregationValueToMemoryRows(aggregationProjections, rows, aggregationUnits);
+        return getMemoryResultSetRows(rows, getValueCaseSensitive(queryResults));
+    }
+    
+    /**
+     * Load spillable merged result, spilled files are deleted when merged result is closed.
+     *
+     * @param queryResults query results
+     * @return spillable merged result
+     * @throws SQLException SQL exception
+     */
+    public SpillableMergedResult loadSpillable(final List<QueryResult> queryResults) throws SQLException {
+        List<AggregationProjection> aggregationProjections = new ArrayList<>(selectStatementContext.getProjectionsContext().getAggregationProjections());
+        ExternalSorter<MemoryQueryResultRow> result = null;
+        try (ExternalSorter<MemoryQueryResultRow> partialRows = new ExternalSorter<>(this::compareGroupValues, memoryBudget, MemoryQueryResultRow::estimateSize)) {
+            List<MemoryQueryResultRow> rows = new ArrayList<>(INITIAL_CAPACITY);
+            List<AggregationUnit[]> aggregationUnits = new ArrayList<>(INITIAL_CAPACITY);
+            loadGroupsWithSpill(queryResults, aggregationProjections, rows, aggregationUnits, partialRows);
+            result = new ExternalSorter<>(new GroupByRowComparator(selectStatementContext, getValueCaseSensitive(queryResults)), memoryBudget, MemoryQueryResultRow::estimateSize);
+            if (partialRows.isSpilled()) {
+                addPartialRows(aggregationProjections, rows, aggregationUnits, partialRows);
+                mergePartialRows(aggregationProjections, partialRows, result);
+            } else {
+                setAggregationValueToMemoryRows(aggregationProjections, rows, aggregationUnits);
+                (rows.isEmpty() ? getEmptyResultSetRows() : rows).forEach(result::add);
+            }
+            recordSpilledRows(partialRows.getSpilledSize() + result.getSpilledSize());
+            return new SpillableMergedResult(result);
+        } catch (final SQLException | RuntimeException ex) {
+            closeQuietly(result);
+            throw ex;
+        } catch (final IOException ex) {
+            closeQuietly(result);
+            throw new SQLException(ex);
+        }
+    }
+    
+    private void loadGroupsWithSpill(final List<QueryResult> queryResults, final List<AggregationProjection> aggregationProjections, final List<MemoryQueryResultRow> rows,
+                                     final List<AggregationUnit[]> aggregationUnits, final ExternalSorter<MemoryQueryResultRow> partialRows) throws SQLException {
+        GroupByHashTable groupByHashTable = new GroupByHashTable(INITIAL_CAPACITY);
+        long groupsSize = 0L;
+        for (QueryResult each : queryResults) {
+            CellValueReader cellValueReader = columnIndex -> each.getValue(columnIndex, Object.class);
+            while (each.next()) {
+                int groupId = groupByHashTable.getOrAssignGroupId(new GroupByValue(each, selectStatementContext.getGroupByContext().getItems()));
+                if (groupId == rows.size()) {
+                    MemoryQueryResultRow row = new MemoryQueryResultRow(each);
+                    rows.add(row);
+                    aggregationUnits.add(createAggregationUnits(aggregationProjections));
+                    groupsSize += row.estimateSize() + AGGREGATION_UNIT_SIZE * aggregationProjections.size();
+                }
+                aggregate(aggregationProjections, cellValueReader, aggregationUnits.get(groupId));
+                if (groupsSize >= memoryBudget) {
+                    addPartialRows(aggregationProjections, rows, aggregationUnits, partialRows);
+                    partialRows.spill();
+                    groupByHashTable = new GroupByHashTable(INITIAL_CAPACITY);
+                    groupsSize = 0L;
+                }
+            }
+        }
+    }
+    
+    private void closeQuietly(final ExternalSorter<MemoryQueryResultRow> externalSorter) {
+        if (null == externalSorter) {
+            return;
+        }
+        try {
+            externalSorter.close();
+        } catch (final IOException ignored) {
+        }
+    }
+    
+    private AggregationUnit[] createAggregationUnits(final List<AggregationProjection> aggregationProjections) {
+        AggregationUnit[] result = new AggregationUnit[aggregationProjections.size()];
+        for (int i = 0; i < result.length; i++) {
+            AggregationProjection projection = aggregationProjections.get(i);
+            result[i] = AggregationUnitFactory.create(projection.getType(), projection instanceof AggregationDistinctProjection);
+        }
+        return result;
+    }
+    
+    private void aggregate(final List<AggregationProjection> aggregationProjections, final CellValueReader cellValueReader, final AggregationUnit[] aggregationUnits) throws SQLException {
+        for (int i = 0; i < aggregationUnits.length; i++) {
+            AggregationProjection projection = aggregationProjections.get(i);
+            aggregationValues.clear();
+            if (projection.getDerivedAggregationProjections().isEmpty()) {
+                aggregationValues.add(getAggregationValue(cellValueReader, projection));
+            } else {
+                for (AggregationProjection derived : projection.getDerivedAggregationProjections()) {
+                    aggregationValues.add(getAggregationValue(cellValueReader, derived));
+                }
+            }
+            aggregationUnits[i].merge(aggregationValues);
+        }
+    }
+    
+    private Comparable<?> getAggregationValue(final CellValueReader cellValueReader, final AggregationProjection aggregationProjection) throws SQLException {
+        Object result = cellValueReader.read(aggregationProjection.getIndex());
+        ShardingSpherePreconditions.checkState(null == result || result instanceof Comparable, () -> new NotImplementComparableValueException("Aggregation", result));
+        return (Comparable<?>) result;
+    }
+    
+    private void setAggregationValueToMemoryRows(final List<AggregationProjection> aggregationProjections, final List<MemoryQueryResultRow> rows, final List<AggregationUnit[]> aggregationUnits) {
+        for (int groupId = 0; groupId < rows.size(); groupId++) {
+            setAggregationValueToMemoryRow(aggregationProjections, rows.get(groupId), aggregationUnits.get(groupId));
+        }
+    }
+    
+    private void setAggregationValueToMemoryRow(final List<AggregationProjection> aggregationProjections, final MemoryQueryResultRow row, final AggregationUnit[] aggregationUnits) {
+        for (int i = 0; i < aggregationUnits.length; i++) {
+            row.setCell(aggregationProjections.get(i).getIndex(), aggregationUnits[i].getResult());
+        }
+    }
+    
+    private void addPartialRows(final List<AggregationProjection> aggregationProjections, final List<MemoryQueryResultRow> rows,
+                                final List<AggregationUnit[]> aggregationUnits, final ExternalSorter<MemoryQueryResultRow> partialRows) {
+        setAggregationValueToMemoryRows(aggregationProjections, rows, aggregationUnits);
+        for (MemoryQueryResultRow each : rows) {
+            partialRows.add(each);
+        }
+        rows.clear();
+        aggregationUnits.clear();
+    }
+    
+    private void mergePartialRows(final List<AggregationProjection> aggregationProjections, final ExternalSorter<MemoryQueryResultRow> partialRows,
+                                  final ExternalSorter<MemoryQueryResultRow> result) throws SQLException, IOException {
+        Iterator<MemoryQueryResultRow> partialRowsIterator = partialRows.sortedIterator();
+        MemoryQueryResultRow currentRow = null;
+        AggregationUnit[] currentAggregationUnits = null;
+        while (partialRowsIterator.hasNext()) {
+            MemoryQueryResultRow each = partialRowsIterator.next();
+            if (null == currentRow || 0 != compareGroupValues(currentRow, each)) {
+                if (null != currentRow) {
+                    setAggregationValueToMemoryRow(aggregationProjections, currentRow, currentAggregationUnits);
+                    result.add(currentRow);
+                }
+                currentRow = each;
+                currentAggregationUnits = createAggregationUnits(aggregationProjections);
+            }
+            aggregate(aggregationProjections, each::getCell, currentAggregationUnits);
+        }
+        if (null != currentRow) {
+            setAggregationValueToMemoryRow(aggregationProjections, currentRow, currentAggregationUnits);
+            result.add(currentRow);
+        }
+    }
+    
+    @SuppressWarnings("rawtypes")
+    private int compareGroupValues(final MemoryQueryResultRow o1, final MemoryQueryResultRow o2) {
+        for (OrderByItem each : selectStatementContext.getGroupByContext().getItems()) {
+            Object groupValue1 = o1.getCell(each.getIndex());
+            ShardingSpherePreconditions.checkState(null == groupValue1 || groupValue1 instanceof Comparable, () -> new NotImplementComparableValueException("Group by", groupValue1));
+            Object groupValue2 = o2.getCell(each.getIndex());
+            ShardingSpherePreconditions.checkState(null == groupValue2 || groupValue2 instanceof Comparable, () -> new NotImplementComparableValueException("Group by", groupValue2));
+            int result = CompareUtils.compareTo((Comparable) groupValue1, (Comparable) groupValue2, OrderDirection.ASC, NullsOrderType.FIRST, true);
+            if (0 != result) {
+                return result;
+            }
+        }
+        return 0;
+    }
+    
+    private void recordSpilledRows(final long spilledRowCount) {
+        if (0L == spilledRowCount || Strings.isNullOrEmpty(processId)) {
+            return;
+        }
+        Process process = ProcessRegistry.getInstance().get(processId);
+        if (null != process) {
+            process.spillRows(spilledRowCount);
+        }
+    }
+    
+    private List<Boolean> getValueCaseSensitive(final List<QueryResult> queryResults) throws SQLException {
+        if (queryResults.isEmpty()) {
+            return Collections.emptyList();
+        }
+        QueryResult queryResult = queryResults.iterator().next();
+        int columnCount = queryResult.getMetaData().getColumnCount();
+        List<Boolean> result = new ArrayList<>(columnCount + 1);
+        result.add(false);
+        for (int columnIndex = 1; columnIndex <= columnCount; columnIndex++) {
+            result.add(getValueCaseSensitiveFromTables(queryResult, columnIndex));
+        }
+        return result;
+    }
+    
+    private boolean getValueCaseSensitiveFromTables(final QueryResult queryResult, final int columnIndex) throws SQLException {
+        for (SimpleTableSegment each : selectStatementContext.getTablesContext().getSimpleTables()) {
+            String tableName = each.getTableName().getIdentifier().getValue();
+            ShardingSpherePreconditions.checkState(schema.containsTable(tableName), () -> new NoSuchTableException(tableName));
+            ShardingSphereTable table = schema.getTable(tableName);
+            String columnName = queryResult.getMetaData().getColumnName(columnIndex);
+            if (table.containsColumn(columnName)) {
+                return table.getColumn(columnName).isCaseSensitive();
+            }
+        }
+        return false;
+    }
+    
+    private List<MemoryQueryResultRow> getMemoryResultSetRows(final List<MemoryQueryResultRow> rows, final List<Boolean> valueCaseSensitive) {
+        if (rows.isEmpty()) {
+            return getEmptyResultSetRows();
+        }
+        rows.sort(new GroupByRowComparator(selectStatementContext, valueCaseSensitive));
+        return rows;
+    }
+    
+    private List<MemoryQueryResultRow> getEmptyResultSetRows() {
+        boolean hasGroupBy = !selectStatementContext.getGroupByContext().getItems().isEmpty();
+        boolean hasAggregations = !selectStatementContext.getProjectionsContext().getAggregationProjections().isEmpty();
+        if (hasGroupBy || !hasAggregations) {
+            return Collections.emptyList();
+        }
+        Object[] data = generateReturnData();
+        return Collections.singletonList(new MemoryQueryResultRow(data));
+    }
+    
+    private Object[] generateReturnData() {
+        List<Projection> projections = new LinkedList<>(selectStatementContext.getProjectionsContext().getExpandProjections());
+        Object[] result = new Object[projections.size()];
+        for (int i = 0; i < projections.size(); i++) {
+            if (projections.get(i) instanceof AggregationProjection && AggregationType.COUNT == ((AggregationProjection) projections.get(i)).getType()) {
+                result[i] = 0;
+            }
+        }
+        return result;
+    }
+    
+    @FunctionalInterface
+    private interface CellValueReader {
+        
+        Object read(int columnIndex) throws SQLException;
+    }
+}
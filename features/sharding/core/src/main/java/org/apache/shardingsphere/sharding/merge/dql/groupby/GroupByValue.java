@@ -31,7 +31,7 @@ import java.util.List;
  * Group by value.
  */
 @Getter
-@EqualsAndHashCode
+@EqualsAndHashCode(cacheStrategy = EqualsAndHashCode.CacheStrategy.LAZY)
 public final class GroupByValue {
     
     private final List<?> groupValues;
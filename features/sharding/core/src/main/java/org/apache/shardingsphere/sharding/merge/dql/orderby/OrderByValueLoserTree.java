@@ -0,0 +1,116 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.orderby;
+
+import java.sql.SQLException;
+import java.util.List;
+
+/**
+ * Loser tree of order by values.
+ *
+ * <p>Each internal node keeps the loser of the match between its children, and node 0 keeps the overall winner.
+ * After the winner moves to its next row, only the matches on the path from its leaf to the root are replayed,
+ * so a row costs about log2(k) comparisons for k query results.</p>
+ */
+public final class OrderByValueLoserTree {
+    
+    private final OrderByValue[] leaves;
+    
+    private final int[] losers;
+    
+    public OrderByValueLoserTree(final List<OrderByValue> orderByValues) {
+        leaves = orderByValues.toArray(new OrderByValue[0]);
+        losers = new int[leaves.length];
+        build();
+    }
+    
+    private void build() {
+        int sentinel = leaves.length;
+        for (int i = 0; i < losers.length; i++) {
+            losers[i] = sentinel;
+        }
+        for (int i = leaves.length - 1; i >= 0; i--) {
+            replay(i);
+        }
+    }
+    
+    private void replay(final int leafIndex) {
+        int winner = leafIndex;
+        for (int parent = (winner + leaves.length) >> 1; parent > 0; parent >>= 1) {
+            if (isBefore(losers[parent], winner)) {
+                int loser = winner;
+                winner = losers[parent];
+                losers[parent] = loser;
+            }
+        }
+        losers[0] = winner;
+    }
+    
+    private boolean isBefore(final int leafIndex, final int otherLeafIndex) {
+        if (leafIndex == leaves.length) {
+            return true;
+        }
+        if (otherLeafIndex == leaves.length) {
+            return false;
+        }
+        OrderByValue leaf = leaves[leafIndex];
+        OrderByValue otherLeaf = leaves[otherLeafIndex];
+        if (null == leaf) {
+            return false;
+        }
+        if (null == otherLeaf) {
+            return true;
+        }
+        int result = leaf.compareTo(otherLeaf);
+        return 0 == result ? leafIndex < otherLeafIndex : result < 0;
+    }
+    
+    /**
+     * Judge whether all order by values are exhausted.
+     *
+     * @return all order by values are exhausted or not
+     */
+    public boolean isEmpty() {
+        return 0 == leaves.length || null == leaves[losers[0]];
+    }
+    
+    /**
+     * Get winner order by value.
+     *
+     * @return winner order by value, null if all order by values are exhausted
+     */
+    public OrderByValue peek() {
+        return isEmpty() ? null : leaves[losers[0]];
+    }
+    
+    /**
+     * Iterate winner order by value to next data and replay the matches on its path.
+     *
+     * @throws SQLException SQL exception
+     */
+    public void next() throws SQLException {
+        if (isEmpty()) {
+            return;
+        }
+        int winner = losers[0];
+        if (!leaves[winner].next()) {
+            leaves[winner] = null;
+        }
+        replay(winner);
+    }
+}
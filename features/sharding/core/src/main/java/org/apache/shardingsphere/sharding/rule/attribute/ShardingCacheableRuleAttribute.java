@@ -0,0 +1,53 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.rule.attribute;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
+import org.apache.shardingsphere.infra.rule.attribute.cache.CacheStatistics;
+import org.apache.shardingsphere.infra.rule.attribute.cache.CacheableRuleAttribute;
+import org.apache.shardingsphere.sharding.cache.ShardingCache;
+import org.apache.shardingsphere.sharding.rule.ShardingRule;
+
+import java.util.Collections;
+
+/**
+ * Sharding cacheable rule attribute.
+ */
+@RequiredArgsConstructor
+public final class ShardingCacheableRuleAttribute implements CacheableRuleAttribute {
+    
+    private final ShardingCache shardingCache;
+    
+    @Override
+    public void inherit(final ShardingSphereRule previousRule) {
+        if (previousRule instanceof ShardingRule && ((ShardingRule) previousRule).isShardingCacheEnabled()) {
+            shardingCache.inherit(((ShardingRule) previousRule).getShardingCache());
+        }
+    }
+    
+    @Override
+    public void invalidate(final String schemaName, final String tableName) {
+        shardingCache.getRouteCache().invalidate(Collections.singleton(tableName));
+    }
+    
+    @Override
+    public CacheStatistics getStatistics() {
+        return shardingCache.getRouteCache().getStatistics();
+    }
+}
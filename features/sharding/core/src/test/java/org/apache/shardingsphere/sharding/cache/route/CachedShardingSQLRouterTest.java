@@ -141,6 +141,25 @@ class CachedShardingSQLRouterTest {
         assertThat(actualRouteContext.getRouteUnits(), is(expected.getRouteUnits()));
     }
     
+    @Test
+    void assertCreateRouteContextWithInConditionRoutedToMultiDataNodes() {
+        QueryContext queryContext = new QueryContext(
+                sqlStatementContext, "select * from t where id in (?, ?)", Arrays.asList(0, 1), new HintValueContext(), mockConnectionContext(), mock(ShardingSphereMetaData.class));
+        when(shardingCache.getConfiguration()).thenReturn(new ShardingCacheConfiguration(100, null));
+        when(shardingCache.getRouteCacheableChecker()).thenReturn(mock(ShardingRouteCacheableChecker.class));
+        when(shardingCache.getRouteCacheableChecker().check(null, queryContext)).thenReturn(new ShardingRouteCacheableCheckResult(true, Arrays.asList(0, 1)));
+        when(shardingCache.getRouteCache()).thenReturn(mock(ShardingRouteCache.class));
+        RouteContext expected = new RouteContext();
+        expected.getRouteUnits().add(new RouteUnit(new RouteMapper("ds_0", "ds_0"), Arrays.asList(new RouteMapper("t", "t_0"), new RouteMapper("t", "t_1"))));
+        expected.getOriginalDataNodes().add(Arrays.asList(new DataNode("ds_0", "t_0"), new DataNode("ds_0", "t_1")));
+        when(shardingCache.getRouteCache().get(any(ShardingRouteCacheKey.class))).thenReturn(Optional.empty());
+        OriginSQLRouter router = (unused, globalRuleMetaData, database, rule, props) -> expected;
+        Optional<RouteContext> actual = new CachedShardingSQLRouter().loadRouteContext(router, queryContext, mock(RuleMetaData.class), null, shardingCache, null);
+        assertTrue(actual.isPresent());
+        assertThat(actual.get(), is(expected));
+        verify(shardingCache.getRouteCache()).put(any(ShardingRouteCacheKey.class), any(ShardingRouteCacheValue.class));
+    }
+    
     @Test
     void assertCreateRouteContextWithQueryRoutedToMultiDataNodes() {
         QueryContext queryContext =
@@ -18,11 +18,18 @@
 package org.apache.shardingsphere.sharding.cache.route.cache;
 
 import org.apache.shardingsphere.infra.route.context.RouteContext;
+import org.apache.shardingsphere.infra.route.context.RouteMapper;
+import org.apache.shardingsphere.infra.route.context.RouteUnit;
+import org.apache.shardingsphere.infra.rule.attribute.cache.CacheStatistics;
 import org.apache.shardingsphere.sharding.api.config.cache.ShardingCacheOptionsConfiguration;
 import org.junit.jupiter.api.Test;
 
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.Optional;
 
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -34,6 +41,75 @@ class ShardingRouteCacheTest {
         ShardingRouteCacheKey key = new ShardingRouteCacheKey("select name from t where id = ?", Collections.singletonList(1));
         assertFalse(cache.get(key).isPresent());
         cache.put(key, new ShardingRouteCacheValue(new RouteContext()));
+        assertFalse(cache.get(key).isPresent());
+        cache.put(key, new ShardingRouteCacheValue(new RouteContext()));
         assertTrue(cache.get(key).isPresent());
     }
+    
+    @Test
+    void assertGetWithRouteContextModifiedByCaller() {
+        ShardingRouteCache cache = new ShardingRouteCache(new ShardingCacheOptionsConfiguration(true, 8, 8));
+        ShardingRouteCacheKey key = new ShardingRouteCacheKey("select * from t_order where order_id in (?, ?)", Arrays.asList(1, 2));
+        RouteContext routeContext = createRouteContext("t_order");
+        putTwice(cache, key, routeContext);
+        routeContext.getRouteUnits().clear();
+        Optional<ShardingRouteCacheValue> cachedValue = cache.get(key);
+        assertTrue(cachedValue.isPresent());
+        RouteContext actual = cachedValue.get().getCachedRouteContext().orElseThrow(IllegalStateException::new);
+        assertThat(actual.getRouteUnits().size(), is(1));
+        actual.getRouteUnits().iterator().next().getTableMappers().clear();
+        actual.getRouteUnits().clear();
+        RouteContext actualAgain = cache.get(key).flatMap(ShardingRouteCacheValue::getCachedRouteContext).orElseThrow(IllegalStateException::new);
+        assertThat(actualAgain.getRouteUnits().size(), is(1));
+        assertThat(actualAgain.getRouteUnits().iterator().next().getTableMappers().size(), is(1));
+    }
+    
+    @Test
+    void assertInvalidate() {
+        ShardingRouteCache cache = new ShardingRouteCache(new ShardingCacheOptionsConfiguration(true, 8, 8));
+        ShardingRouteCacheKey orderKey = new ShardingRouteCacheKey("select * from t_order where order_id = ?", Collections.singletonList(1));
+        ShardingRouteCacheKey userKey = new ShardingRouteCacheKey("select * from t_user where user_id = ?", Collections.singletonList(1));
+        putTwice(cache, orderKey, createRouteContext("t_order"));
+        putTwice(cache, userKey, createRouteContext("t_user"));
+        cache.invalidate(Collections.singletonList("T_ORDER"));
+        assertFalse(cache.get(orderKey).isPresent());
+        assertTrue(cache.get(userKey).isPresent());
+    }
+    
+    @Test
+    void assertInherit() {
+        ShardingRouteCache previousCache = new ShardingRouteCache(new ShardingCacheOptionsConfiguration(true, 8, 8));
+        ShardingRouteCacheKey orderKey = new ShardingRouteCacheKey("select * from t_order where order_id = ?", Collections.singletonList(1));
+        ShardingRouteCacheKey userKey = new ShardingRouteCacheKey("select * from t_user where user_id = ?", Collections.singletonList(1));
+        putTwice(previousCache, orderKey, createRouteContext("t_order"));
+        putTwice(previousCache, userKey, createRouteContext("t_user"));
+        ShardingRouteCache cache = new ShardingRouteCache(new ShardingCacheOptionsConfiguration(true, 8, 8));
+        cache.inherit(previousCache, Collections.singletonList("t_user"));
+        assertTrue(cache.get(orderKey).isPresent());
+        assertFalse(cache.get(userKey).isPresent());
+    }
+    
+    @Test
+    void assertGetStatistics() {
+        ShardingRouteCache cache = new ShardingRouteCache(new ShardingCacheOptionsConfiguration(false, 8, 8));
+        ShardingRouteCacheKey key = new ShardingRouteCacheKey("select * from t_order where order_id = ?", Collections.singletonList(1));
+        cache.get(key);
+        putTwice(cache, key, createRouteContext("t_order"));
+        cache.get(key);
+        CacheStatistics actual = cache.getStatistics();
+        assertThat(actual.getHitCount(), is(1L));
+        assertThat(actual.getMissCount(), is(1L));
+        assertThat(actual.getSize(), is(1L));
+    }
+    
+    private void putTwice(final ShardingRouteCache cache, final ShardingRouteCacheKey key, final RouteContext routeContext) {
+        cache.put(key, new ShardingRouteCacheValue(routeContext));
+        cache.put(key, new ShardingRouteCacheValue(routeContext));
+    }
+    
+    private RouteContext createRouteContext(final String logicTableName) {
+        RouteContext result = new RouteContext();
+        result.getRouteUnits().add(new RouteUnit(new RouteMapper("ds_0", "ds_0"), Collections.singletonList(new RouteMapper(logicTableName, logicTableName + "_0"))));
+        return result;
+    }
 }
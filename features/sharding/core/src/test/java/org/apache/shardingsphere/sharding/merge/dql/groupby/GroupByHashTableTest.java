@@ -0,0 +1,67 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby;
+
+import org.apache.shardingsphere.infra.binder.context.segment.select.orderby.OrderByItem;
+import org.apache.shardingsphere.infra.database.core.metadata.database.enums.NullsOrderType;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.sql.parser.statement.core.enums.OrderDirection;
+import org.apache.shardingsphere.sql.parser.statement.core.segment.dml.order.item.IndexOrderByItemSegment;
+import org.junit.jupiter.api.Test;
+
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class GroupByHashTableTest {
+    
+    @Test
+    void assertGetOrAssignGroupId() throws SQLException {
+        GroupByHashTable hashTable = new GroupByHashTable(1);
+        assertThat(hashTable.getOrAssignGroupId(createGroupByValue(1)), is(0));
+        assertThat(hashTable.getOrAssignGroupId(createGroupByValue(2)), is(1));
+        assertThat(hashTable.getOrAssignGroupId(createGroupByValue(1)), is(0));
+        assertThat(hashTable.size(), is(2));
+    }
+    
+    @Test
+    void assertGetOrAssignGroupIdAfterResize() throws SQLException {
+        GroupByHashTable hashTable = new GroupByHashTable(1);
+        for (int i = 0; i < 100; i++) {
+            assertThat(hashTable.getOrAssignGroupId(createGroupByValue(i)), is(i));
+        }
+        for (int i = 0; i < 100; i++) {
+            assertThat(hashTable.getOrAssignGroupId(createGroupByValue(i)), is(i));
+        }
+        assertThat(hashTable.size(), is(100));
+    }
+    
+    private GroupByValue createGroupByValue(final int value) throws SQLException {
+        QueryResult queryResult = mock(QueryResult.class);
+        when(queryResult.getValue(1, Object.class)).thenReturn(value);
+        OrderByItem orderByItem = new OrderByItem(new IndexOrderByItemSegment(0, 0, 1, OrderDirection.ASC, NullsOrderType.FIRST));
+        orderByItem.setIndex(1);
+        Collection<OrderByItem> groupByItems = Collections.singletonList(orderByItem);
+        return new GroupByValue(queryResult, groupByItems);
+    }
+}
@@ -23,6 +23,8 @@ import org.apache.shardingsphere.infra.database.core.DefaultDatabase;
 import org.apache.shardingsphere.infra.database.core.metadata.database.enums.NullsOrderType;
 import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.executor.sql.process.Process;
+import org.apache.shardingsphere.infra.executor.sql.process.ProcessRegistry;
 import org.apache.shardingsphere.infra.merge.result.MergedResult;
 import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
 import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
@@ -58,11 +60,15 @@ import java.math.BigDecimal;
 import java.sql.SQLException;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
@@ -117,6 +123,72 @@ class GroupByMemoryMergedResultTest {
         assertFalse(actual.next());
     }
     
+    @Test
+    void assertNextWithSpilledGroups() throws SQLException {
+        when(database.getName()).thenReturn("db_schema");
+        QueryResult queryResult1 = createQueryResult(new Object[]{20, 0, 2, 2, 20});
+        QueryResult queryResult2 = createQueryResult();
+        QueryResult queryResult3 = createQueryResult(new Object[]{20, 0, 2, 2, 20}, new Object[]{30, 0, 3, 3, 30});
+        Process process = new Process("foo_process_id", System.currentTimeMillis(), "SELECT 1", "foo_db", "root", "localhost",
+                new AtomicInteger(), new AtomicInteger(), new AtomicBoolean(), new AtomicBoolean());
+        ProcessRegistry.getInstance().add(process);
+        ConnectionContext connectionContext = mock(ConnectionContext.class);
+        when(connectionContext.getProcessId()).thenReturn("foo_process_id");
+        try {
+            ShardingDQLResultMerger resultMerger = new ShardingDQLResultMerger(TypedSPILoader.getService(DatabaseType.class, "MySQL"), 1L);
+            MergedResult actual = resultMerger.merge(Arrays.asList(queryResult1, queryResult2, queryResult3), createSelectStatementContext(), database, connectionContext);
+            assertTrue(actual.next());
+            assertThat(actual.getValue(1, Object.class), is(new BigDecimal(30)));
+            assertThat(((BigDecimal) actual.getValue(2, Object.class)).intValue(), is(10));
+            assertThat(actual.getValue(3, Object.class), is(3));
+            assertThat(actual.getValue(4, Object.class), is(new BigDecimal(3)));
+            assertThat(actual.getValue(5, Object.class), is(new BigDecimal(30)));
+            assertTrue(actual.next());
+            assertThat(actual.getValue(1, Object.class), is(new BigDecimal(40)));
+            assertThat(((BigDecimal) actual.getValue(2, Object.class)).intValue(), is(10));
+            assertThat(actual.getValue(3, Object.class), is(2));
+            assertThat(actual.getValue(4, Object.class), is(new BigDecimal(4)));
+            assertThat(actual.getValue(5, Object.class), is(new BigDecimal(40)));
+            assertFalse(actual.next());
+            assertThat(process.getSpilledRowCount().get(), is(5L));
+        } finally {
+            ProcessRegistry.getInstance().remove("foo_process_id");
+        }
+    }
+    
+    @Test
+    void assertNextWithAverageGroupSpilledAcrossPartitions() throws SQLException {
+        when(database.getName()).thenReturn("db_schema");
+        QueryResult queryResult1 = createQueryResult(new Object[]{2, 10, 20, 2, 20}, new Object[]{4, 5, 20, 4, 20}, new Object[]{3, 10, 30, 3, 30});
+        QueryResult queryResult2 = createQueryResult(new Object[]{1, 40, 20, 1, 40}, new Object[]{5, 2, 20, 5, 10}, new Object[]{1, 30, 30, 1, 30});
+        QueryResult queryResult3 = createQueryResult(new Object[]{2, 50, 20, 2, 100});
+        Process process = new Process("foo_process_id", System.currentTimeMillis(), "SELECT 1", "foo_db", "root", "localhost",
+                new AtomicInteger(), new AtomicInteger(), new AtomicBoolean(), new AtomicBoolean());
+        ProcessRegistry.getInstance().add(process);
+        ConnectionContext connectionContext = mock(ConnectionContext.class);
+        when(connectionContext.getProcessId()).thenReturn("foo_process_id");
+        try {
+            ShardingDQLResultMerger resultMerger = new ShardingDQLResultMerger(TypedSPILoader.getService(DatabaseType.class, "MySQL"), 640L);
+            MergedResult actual = resultMerger.merge(Arrays.asList(queryResult1, queryResult2, queryResult3), createSelectStatementContext(), database, connectionContext);
+            assertTrue(actual.next());
+            assertThat(actual.getValue(1, Object.class), is(new BigDecimal(4)));
+            assertThat(actual.getValue(2, Object.class), is(new BigDecimal("15.0000")));
+            assertThat(actual.getValue(3, Object.class), is(30));
+            assertThat(actual.getValue(4, Object.class), is(new BigDecimal(4)));
+            assertThat(actual.getValue(5, Object.class), is(new BigDecimal(60)));
+            assertTrue(actual.next());
+            assertThat(actual.getValue(1, Object.class), is(new BigDecimal(14)));
+            assertThat(actual.getValue(2, Object.class), is(new BigDecimal("13.5714")));
+            assertThat(actual.getValue(3, Object.class), is(20));
+            assertThat(actual.getValue(4, Object.class), is(new BigDecimal(14)));
+            assertThat(actual.getValue(5, Object.class), is(new BigDecimal(190)));
+            assertFalse(actual.next());
+            assertThat(process.getSpilledRowCount().get(), is(4L));
+        } finally {
+            ProcessRegistry.getInstance().remove("foo_process_id");
+        }
+    }
+    
     private SelectStatementContext createSelectStatementContext() {
         SelectStatement selectStatement = new MySQLSelectStatement();
         ProjectionsSegment projectionsSegment = new ProjectionsSegment(0, 0);
@@ -183,6 +255,14 @@ class GroupByMemoryMergedResultTest {
         assertFalse(actual.next());
     }
     
+    private QueryResult createQueryResult(final Object[]... rows) throws SQLException {
+        QueryResult result = createQueryResult();
+        AtomicInteger rowIndex = new AtomicInteger(-1);
+        when(result.next()).thenAnswer(invocation -> rowIndex.incrementAndGet() < rows.length);
+        when(result.getValue(anyInt(), eq(Object.class))).thenAnswer(invocation -> rows[rowIndex.get()][invocation.<Integer>getArgument(0) - 1]);
+        return result;
+    }
+    
     private QueryResult createQueryResult() throws SQLException {
         QueryResult result = mock(QueryResult.class, RETURNS_DEEP_STUBS);
         when(result.getMetaData().getColumnCount()).thenReturn(5);
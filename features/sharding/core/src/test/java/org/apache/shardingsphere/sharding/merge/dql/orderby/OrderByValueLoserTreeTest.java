@@ -0,0 +1,140 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.orderby;
+
+import org.apache.shardingsphere.infra.binder.context.segment.select.orderby.OrderByItem;
+import org.apache.shardingsphere.infra.binder.context.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.database.core.metadata.database.enums.NullsOrderType;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
+import org.apache.shardingsphere.sql.parser.statement.core.enums.OrderDirection;
+import org.apache.shardingsphere.sql.parser.statement.core.segment.dml.order.item.IndexOrderByItemSegment;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Queue;
+import java.util.concurrent.atomic.LongAdder;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.lessThan;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.when;
+
+class OrderByValueLoserTreeTest {
+    
+    @Test
+    void assertEmpty() {
+        OrderByValueLoserTree actual = new OrderByValueLoserTree(Collections.emptyList());
+        assertTrue(actual.isEmpty());
+        assertNull(actual.peek());
+    }
+    
+    @Test
+    void assertNextWithManyOrderByValues() throws SQLException {
+        int orderByValueCount = 37;
+        int rowCount = 5;
+        Collection<OrderByItem> orderByItems = Collections.singleton(createOrderByItem());
+        SelectStatementContext selectStatementContext = mock(SelectStatementContext.class, RETURNS_DEEP_STUBS);
+        List<OrderByValue> orderByValues = new ArrayList<>(orderByValueCount);
+        for (int i = 0; i < orderByValueCount; i++) {
+            OrderByValue orderByValue = new OrderByValue(createQueryResult(i, orderByValueCount, rowCount), orderByItems, selectStatementContext, mock(ShardingSphereSchema.class));
+            assertTrue(orderByValue.next());
+            orderByValues.add(orderByValue);
+        }
+        OrderByValueLoserTree actual = new OrderByValueLoserTree(orderByValues);
+        for (int i = 0; i < orderByValueCount * rowCount; i++) {
+            assertThat(actual.peek().getQueryResult().getValue(1, Object.class), is(i));
+            actual.next();
+        }
+        assertTrue(actual.isEmpty());
+    }
+    
+    @ParameterizedTest(name = "{0} order by values")
+    @ValueSource(ints = {8, 64, 256})
+    void assertCompareCountAgainstPriorityQueue(final int orderByValueCount) throws SQLException {
+        int rowCount = 4;
+        LongAdder loserTreeCompareCount = new LongAdder();
+        OrderByValueLoserTree loserTree = new OrderByValueLoserTree(createCountingOrderByValues(orderByValueCount, rowCount, loserTreeCompareCount));
+        while (!loserTree.isEmpty()) {
+            loserTree.next();
+        }
+        LongAdder priorityQueueCompareCount = new LongAdder();
+        Queue<OrderByValue> priorityQueue = new PriorityQueue<>(createCountingOrderByValues(orderByValueCount, rowCount, priorityQueueCompareCount));
+        while (!priorityQueue.isEmpty()) {
+            OrderByValue firstOrderByValue = priorityQueue.poll();
+            if (firstOrderByValue.next()) {
+                priorityQueue.offer(firstOrderByValue);
+            }
+        }
+        int treeHeight = 32 - Integer.numberOfLeadingZeros(orderByValueCount - 1);
+        assertThat(loserTreeCompareCount.sum(), lessThanOrEqualTo((long) orderByValueCount * (rowCount + 1) * treeHeight));
+        assertThat(loserTreeCompareCount.sum(), lessThan(priorityQueueCompareCount.sum()));
+    }
+    
+    private List<OrderByValue> createCountingOrderByValues(final int orderByValueCount, final int rowCount, final LongAdder compareCount) throws SQLException {
+        Collection<OrderByItem> orderByItems = Collections.singleton(createOrderByItem());
+        SelectStatementContext selectStatementContext = mock(SelectStatementContext.class, RETURNS_DEEP_STUBS);
+        List<OrderByValue> result = new ArrayList<>(orderByValueCount);
+        for (int i = 0; i < orderByValueCount; i++) {
+            OrderByValue orderByValue = spy(new OrderByValue(createQueryResult(i, orderByValueCount, rowCount), orderByItems, selectStatementContext, mock(ShardingSphereSchema.class)));
+            doAnswer(invocation -> {
+                compareCount.increment();
+                return invocation.callRealMethod();
+            }).when(orderByValue).compareTo(any());
+            assertTrue(orderByValue.next());
+            result.add(orderByValue);
+        }
+        return result;
+    }
+    
+    private OrderByItem createOrderByItem() {
+        OrderByItem result = new OrderByItem(new IndexOrderByItemSegment(0, 0, 1, OrderDirection.ASC, NullsOrderType.FIRST));
+        result.setIndex(1);
+        return result;
+    }
+    
+    private QueryResult createQueryResult(final int offset, final int step, final int rowCount) throws SQLException {
+        QueryResult result = mock(QueryResult.class);
+        Boolean[] nextResults = new Boolean[rowCount];
+        Object[] values = new Object[rowCount * 2];
+        for (int i = 0; i < rowCount; i++) {
+            nextResults[i] = i < rowCount - 1;
+            values[i * 2] = offset + i * step;
+            values[i * 2 + 1] = offset + i * step;
+        }
+        when(result.next()).thenReturn(true, nextResults);
+        when(result.getValue(1, Object.class)).thenReturn(values[0], Arrays.copyOfRange(values, 1, values.length));
+        return result;
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.rule.attribute;
+
+import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
+import org.apache.shardingsphere.infra.rule.attribute.cache.CacheStatistics;
+import org.apache.shardingsphere.sharding.cache.ShardingCache;
+import org.apache.shardingsphere.sharding.rule.ShardingRule;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ShardingCacheableRuleAttributeTest {
+    
+    private final ShardingCache shardingCache = mock(ShardingCache.class, RETURNS_DEEP_STUBS);
+    
+    private final ShardingCacheableRuleAttribute ruleAttribute = new ShardingCacheableRuleAttribute(shardingCache);
+    
+    @Test
+    void assertInheritFromShardingRuleWithCache() {
+        ShardingRule previousRule = mock(ShardingRule.class);
+        ShardingCache previousShardingCache = mock(ShardingCache.class);
+        when(previousRule.isShardingCacheEnabled()).thenReturn(true);
+        when(previousRule.getShardingCache()).thenReturn(previousShardingCache);
+        ruleAttribute.inherit(previousRule);
+        verify(shardingCache).inherit(previousShardingCache);
+    }
+    
+    @Test
+    void assertInheritFromShardingRuleWithoutCache() {
+        ruleAttribute.inherit(mock(ShardingRule.class));
+        verify(shardingCache, never()).inherit(any());
+    }
+    
+    @Test
+    void assertInheritFromOtherRule() {
+        ruleAttribute.inherit(mock(ShardingSphereRule.class));
+        verify(shardingCache, never()).inherit(any());
+    }
+    
+    @Test
+    void assertInvalidate() {
+        ruleAttribute.invalidate("foo_schema", "t_order");
+        verify(shardingCache.getRouteCache()).invalidate(Collections.singleton("t_order"));
+    }
+    
+    @Test
+    void assertGetStatistics() {
+        CacheStatistics statistics = new CacheStatistics(3L, 1L, 0L, 2L);
+        when(shardingCache.getRouteCache().getStatistics()).thenReturn(statistics);
+        assertThat(ruleAttribute.getStatistics(), is(statistics));
+    }
+}
@@ -28,6 +28,14 @@ import org.junit.jupiter.api.Test;
 import org.mockito.Answers;
 import org.mockito.MockedStatic;
 
+import java.security.GeneralSecurityException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertNull;
@@ -86,6 +94,26 @@ class AESCryptographicAlgorithmTest {
         assertThat(actual.toString(), is("test"));
     }
     
+    @Test
+    void assertDecryptAfterDecryptFailed() {
+        assertThrows(GeneralSecurityException.class, () -> cryptographicAlgorithm.decrypt("dGVzdA=="));
+        assertThat(cryptographicAlgorithm.decrypt("dSpPiyENQGDUXMKFMJPGWA==").toString(), is("test"));
+    }
+    
+    @Test
+    void assertEncryptAndDecryptConcurrently() throws ExecutionException, InterruptedException {
+        ExecutorService executorService = Executors.newFixedThreadPool(8);
+        Collection<Future<Boolean>> futures = new ArrayList<>(64);
+        for (int i = 0; i < 64; i++) {
+            String plainValue = "test_" + i;
+            futures.add(executorService.submit(() -> plainValue.equals(cryptographicAlgorithm.decrypt(cryptographicAlgorithm.encrypt(plainValue)))));
+        }
+        for (Future<Boolean> each : futures) {
+            assertThat(each.get(), is(true));
+        }
+        executorService.shutdown();
+    }
+    
     @Test
     void assertDecryptNullValue() {
         assertNull(cryptographicAlgorithm.decrypt(null));
@@ -0,0 +1,65 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.apache.shardingsphere.infra.algorithm.keygen.segment;
+
+import java.util.Collection;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Key segment.
+ */
+public final class KeySegment {
+    
+    private final long end;
+    
+    private final AtomicLong cursor;
+    
+    public KeySegment(final long start, final long step) {
+        end = start + step;
+        cursor = new AtomicLong(start);
+    }
+    
+    /**
+     * Reserve keys from key segment.
+     *
+     * @param keys keys to be appended
+     * @param keyGenerateCount key generate count
+     * @return reserved count, less than key generate count if key segment is exhausted
+     */
+    public int reserve(final Collection<Long> keys, final int keyGenerateCount) {
+        long first = cursor.getAndAdd(keyGenerateCount);
+        if (first >= end) {
+            return 0;
+        }
+        long last = Math.min(first + keyGenerateCount, end);
+        for (long each = first; each < last; each++) {
+            keys.add(each);
+        }
+        return (int) (last - first);
+    }
+    
+    /**
+     * Get remaining key count.
+     *
+     * @return remaining key count
+     */
+    public long getRemaining() {
+        return Math.max(end - cursor.get(), 0L);
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.apache.shardingsphere.infra.algorithm.keygen.segment;
+
+import lombok.RequiredArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.LongSupplier;
+
+/**
+ * Key segment buffer.
+ * 
+ * <p>Keys are taken from current key segment by atomic increment, next key segment is allocated in background once half of current key segment is used.
+ * If background allocation fails or is rejected, next key segment is allocated synchronously when current key segment is exhausted.</p>
+ */
+@RequiredArgsConstructor
+public final class KeySegmentBuffer {
+    
+    private final LongSupplier allocator;
+    
+    private final long step;
+    
+    private final Executor allocateExecutor;
+    
+    private final AtomicReference<CompletableFuture<KeySegment>> nextSegment = new AtomicReference<>();
+    
+    private volatile KeySegment currentSegment;
+    
+    /**
+     * Generate keys.
+     *
+     * @param keyGenerateCount key generate count
+     * @return generated keys
+     */
+    public Collection<Long> generateKeys(final int keyGenerateCount) {
+        Collection<Long> result = new ArrayList<>(keyGenerateCount);
+        while (result.size() < keyGenerateCount) {
+            KeySegment segment = currentSegment;
+            int requiredCount = keyGenerateCount - result.size();
+            if (null == segment || segment.reserve(result, requiredCount) < requiredCount) {
+                switchSegment(segment);
+            } else if (segment.getRemaining() < step / 2L) {
+                allocateNextSegment();
+            }
+        }
+        return result;
+    }
+    
+    private synchronized void switchSegment(final KeySegment exhaustedSegment) {
+        if (currentSegment != exhaustedSegment) {
+            return;
+        }
+        CompletableFuture<KeySegment> allocatedSegment = nextSegment.getAndSet(null);
+        currentSegment = null == allocatedSegment ? allocate() : awaitAllocatedSegment(allocatedSegment);
+    }
+    
+    private KeySegment awaitAllocatedSegment(final CompletableFuture<KeySegment> allocatedSegment) {
+        try {
+            return allocatedSegment.join();
+        } catch (final CompletionException | CancellationException ignored) {
+            return allocate();
+        }
+    }
+    
+    private void allocateNextSegment() {
+        if (null != nextSegment.get()) {
+            return;
+        }
+        CompletableFuture<KeySegment> allocatingSegment = new CompletableFuture<>();
+        if (nextSegment.compareAndSet(null, allocatingSegment)) {
+            try {
+                allocateExecutor.execute(() -> allocateInBackground(allocatingSegment));
+            } catch (final RejectedExecutionException ex) {
+                allocatingSegment.completeExceptionally(ex);
+            }
+        }
+    }
+    
+    private void allocateInBackground(final CompletableFuture<KeySegment> allocatingSegment) {
+        try {
+            allocatingSegment.complete(allocate());
+            // CHECKSTYLE:OFF
+        } catch (final RuntimeException ex) {
+            // CHECKSTYLE:ON
+            allocatingSegment.completeExceptionally(ex);
+        }
+    }
+    
+    private KeySegment allocate() {
+        return new KeySegment(allocator.getAsLong(), step);
+    }
+}
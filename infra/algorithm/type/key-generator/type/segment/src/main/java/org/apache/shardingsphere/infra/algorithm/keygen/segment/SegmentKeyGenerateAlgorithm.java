@@ -0,0 +1,99 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.apache.shardingsphere.infra.algorithm.keygen.segment;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import org.apache.shardingsphere.infra.algorithm.core.context.AlgorithmSQLContext;
+import org.apache.shardingsphere.infra.algorithm.core.exception.AlgorithmExecuteException;
+import org.apache.shardingsphere.infra.algorithm.core.exception.AlgorithmInitializationException;
+import org.apache.shardingsphere.infra.algorithm.keygen.core.KeyGenerateAlgorithm;
+import org.apache.shardingsphere.infra.exception.core.ShardingSpherePreconditions;
+import org.apache.shardingsphere.infra.instance.ComputeNodeInstanceContext;
+import org.apache.shardingsphere.infra.instance.ComputeNodeInstanceContextAware;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Segment key generate algorithm.
+ * 
+ * <p>Keys of each logic table are leased from registry center (or repository of standalone mode) segment by segment, and increased monotonically.
+ * Next key segments are leased by threads owned by the algorithm, which are released when the rule holding the algorithm is closed.</p>
+ */
+public final class SegmentKeyGenerateAlgorithm implements KeyGenerateAlgorithm, ComputeNodeInstanceContextAware, AutoCloseable {
+    
+    private static final String STEP_KEY = "step";
+    
+    private static final long DEFAULT_STEP = 1000L;
+    
+    private final AtomicReference<ComputeNodeInstanceContext> computeNodeInstanceContext = new AtomicReference<>();
+    
+    private final Map<String, KeySegmentBuffer> keySegmentBuffers = new ConcurrentHashMap<>();
+    
+    private final ExecutorService allocateExecutor = Executors.newCachedThreadPool(new ThreadFactoryBuilder().setDaemon(true).setNameFormat("ShardingSphere-key-segment-%d").build());
+    
+    private long step;
+    
+    @Override
+    public void init(final Properties props) {
+        step = getStep(props);
+    }
+    
+    private long getStep(final Properties props) {
+        long result = Long.parseLong(props.getOrDefault(STEP_KEY, DEFAULT_STEP).toString());
+        ShardingSpherePreconditions.checkState(result > 0L, () -> new AlgorithmInitializationException(this, "Step must be positive."));
+        return result;
+    }
+    
+    @Override
+    public void setComputeNodeInstanceContext(final ComputeNodeInstanceContext computeNodeInstanceContext) {
+        ShardingSpherePreconditions.checkState(computeNodeInstanceContext.isKeySegmentAllocatorInitialized(),
+                () -> new AlgorithmInitializationException(this, "Key segment allocator of compute node is not initialized."));
+        this.computeNodeInstanceContext.set(computeNodeInstanceContext);
+    }
+    
+    @Override
+    public Collection<Long> generateKeys(final AlgorithmSQLContext context, final int keyGenerateCount) {
+        ShardingSpherePreconditions.checkNotNull(computeNodeInstanceContext.get(), () -> new AlgorithmExecuteException(this, "Compute node instance context is required."));
+        return keySegmentBuffers.computeIfAbsent(getSegmentName(context), this::createKeySegmentBuffer).generateKeys(keyGenerateCount);
+    }
+    
+    private String getSegmentName(final AlgorithmSQLContext context) {
+        return String.join(".", context.getDatabaseName(), context.getTableName());
+    }
+    
+    private KeySegmentBuffer createKeySegmentBuffer(final String segmentName) {
+        return new KeySegmentBuffer(() -> computeNodeInstanceContext.get().allocateKeySegment(segmentName, step), step, allocateExecutor);
+    }
+    
+    @Override
+    public void close() {
+        allocateExecutor.shutdown();
+    }
+    
+    @Override
+    public String getType() {
+        return "SEGMENT";
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.apache.shardingsphere.infra.algorithm.keygen.segment;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class KeySegmentBufferTest {
+    
+    @Test
+    void assertGenerateKeysAcrossSegments() {
+        AtomicLong reservedKey = new AtomicLong(1L);
+        KeySegmentBuffer buffer = new KeySegmentBuffer(() -> reservedKey.getAndAdd(4L), 4L, Runnable::run);
+        assertThat(new ArrayList<>(buffer.generateKeys(3)), is(Arrays.asList(1L, 2L, 3L)));
+        assertThat(new ArrayList<>(buffer.generateKeys(6)), is(Arrays.asList(4L, 5L, 6L, 7L, 8L, 9L)));
+    }
+    
+    @Test
+    void assertGenerateKeysWhenNextSegmentAllocationFailed() {
+        AtomicInteger allocatedCount = new AtomicInteger();
+        KeySegmentBuffer buffer = new KeySegmentBuffer(() -> {
+            if (2 == allocatedCount.incrementAndGet()) {
+                throw new IllegalStateException("Allocate key segment failed.");
+            }
+            return 1L + (allocatedCount.get() - 1) * 4L;
+        }, 4L, Runnable::run);
+        assertThat(new ArrayList<>(buffer.generateKeys(3)), is(Arrays.asList(1L, 2L, 3L)));
+        assertThat(new ArrayList<>(buffer.generateKeys(2)), is(Arrays.asList(4L, 9L)));
+    }
+    
+    @Test
+    void assertGenerateKeysWhenNextSegmentAllocationRejected() {
+        AtomicLong reservedKey = new AtomicLong(1L);
+        KeySegmentBuffer buffer = new KeySegmentBuffer(() -> reservedKey.getAndAdd(4L), 4L, command -> {
+            throw new RejectedExecutionException();
+        });
+        assertThat(new ArrayList<>(buffer.generateKeys(3)), is(Arrays.asList(1L, 2L, 3L)));
+        assertThat(new ArrayList<>(buffer.generateKeys(2)), is(Arrays.asList(4L, 5L)));
+    }
+    
+    @Test
+    void assertGenerateKeysWithMultipleThreads() throws ExecutionException, InterruptedException {
+        AtomicLong reservedKey = new AtomicLong(1L);
+        ExecutorService allocateExecutor = Executors.newCachedThreadPool();
+        KeySegmentBuffer buffer = new KeySegmentBuffer(() -> reservedKey.getAndAdd(100L), 100L, allocateExecutor);
+        int threadNumber = 16;
+        ExecutorService executor = Executors.newFixedThreadPool(threadNumber);
+        Collection<Future<Collection<Long>>> futures = new ArrayList<>(threadNumber);
+        for (int i = 0; i < threadNumber; i++) {
+            futures.add(executor.submit(() -> buffer.generateKeys(1000)));
+        }
+        Collection<Long> actual = new HashSet<>(threadNumber * 1000, 1F);
+        for (Future<Collection<Long>> each : futures) {
+            actual.addAll(each.get());
+        }
+        executor.shutdown();
+        allocateExecutor.shutdown();
+        assertThat(actual.size(), is(threadNumber * 1000));
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.apache.shardingsphere.infra.algorithm.keygen.segment;
+
+import org.apache.shardingsphere.infra.algorithm.core.context.AlgorithmSQLContext;
+import org.apache.shardingsphere.infra.algorithm.core.exception.AlgorithmExecuteException;
+import org.apache.shardingsphere.infra.algorithm.core.exception.AlgorithmInitializationException;
+import org.apache.shardingsphere.infra.algorithm.keygen.core.KeyGenerateAlgorithm;
+import org.apache.shardingsphere.infra.instance.ComputeNodeInstanceContext;
+import org.apache.shardingsphere.infra.instance.ComputeNodeInstanceContextAware;
+import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.apache.shardingsphere.test.util.PropertiesBuilder;
+import org.apache.shardingsphere.test.util.PropertiesBuilder.Property;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class SegmentKeyGenerateAlgorithmTest {
+    
+    @Test
+    void assertGenerateKeys() {
+        ComputeNodeInstanceContext computeNodeInstanceContext = mock(ComputeNodeInstanceContext.class);
+        when(computeNodeInstanceContext.isKeySegmentAllocatorInitialized()).thenReturn(true);
+        when(computeNodeInstanceContext.allocateKeySegment("foo_db.foo_tbl", 3L)).thenReturn(1L, 4L);
+        when(computeNodeInstanceContext.allocateKeySegment("foo_db.bar_tbl", 3L)).thenReturn(101L);
+        KeyGenerateAlgorithm algorithm = TypedSPILoader.getService(KeyGenerateAlgorithm.class, "SEGMENT", PropertiesBuilder.build(new Property("step", "3")));
+        ((ComputeNodeInstanceContextAware) algorithm).setComputeNodeInstanceContext(computeNodeInstanceContext);
+        AlgorithmSQLContext fooContext = new AlgorithmSQLContext("foo_db", "foo_schema", "foo_tbl", "id");
+        assertThat(new ArrayList<>(algorithm.generateKeys(fooContext, 2)), is(Arrays.asList(1L, 2L)));
+        assertThat(new ArrayList<>(algorithm.generateKeys(fooContext, 3)), is(Arrays.asList(3L, 4L, 5L)));
+        assertThat(new ArrayList<>(algorithm.generateKeys(new AlgorithmSQLContext("foo_db", "foo_schema", "bar_tbl", "id"), 1)), is(Arrays.asList(101L)));
+    }
+    
+    @Test
+    void assertGenerateKeysAfterClose() {
+        ComputeNodeInstanceContext computeNodeInstanceContext = mock(ComputeNodeInstanceContext.class);
+        when(computeNodeInstanceContext.isKeySegmentAllocatorInitialized()).thenReturn(true);
+        when(computeNodeInstanceContext.allocateKeySegment("foo_db.foo_tbl", 3L)).thenReturn(1L, 4L);
+        KeyGenerateAlgorithm algorithm = TypedSPILoader.getService(KeyGenerateAlgorithm.class, "SEGMENT", PropertiesBuilder.build(new Property("step", "3")));
+        ((ComputeNodeInstanceContextAware) algorithm).setComputeNodeInstanceContext(computeNodeInstanceContext);
+        ((SegmentKeyGenerateAlgorithm) algorithm).close();
+        assertThat(new ArrayList<>(algorithm.generateKeys(new AlgorithmSQLContext("foo_db", "foo_schema", "foo_tbl", "id"), 5)), is(Arrays.asList(1L, 2L, 3L, 4L, 5L)));
+    }
+    
+    @Test
+    void assertGenerateKeysWithoutComputeNodeInstanceContext() {
+        KeyGenerateAlgorithm algorithm = TypedSPILoader.getService(KeyGenerateAlgorithm.class, "SEGMENT");
+        assertThrows(AlgorithmExecuteException.class, () -> algorithm.generateKeys(new AlgorithmSQLContext("foo_db", "foo_schema", "foo_tbl", "id"), 1));
+    }
+    
+    @Test
+    void assertSetComputeNodeInstanceContextWithoutKeySegmentAllocator() {
+        KeyGenerateAlgorithm algorithm = TypedSPILoader.getService(KeyGenerateAlgorithm.class, "SEGMENT");
+        assertThrows(AlgorithmInitializationException.class, () -> ((ComputeNodeInstanceContextAware) algorithm).setComputeNodeInstanceContext(mock(ComputeNodeInstanceContext.class)));
+    }
+    
+    @Test
+    void assertInitWithInvalidStep() {
+        assertThrows(AlgorithmInitializationException.class, () -> TypedSPILoader.getService(KeyGenerateAlgorithm.class, "SEGMENT", PropertiesBuilder.build(new Property("step", "0"))));
+    }
+}
@@ -31,7 +31,6 @@ import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.util.Collection;
-import java.util.LinkedList;
 import java.util.Properties;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
@@ -47,6 +46,8 @@ import java.util.concurrent.atomic.AtomicReference;
  *     10 bits worker process id.
  *     12 bits auto increment offset in one mills
  * </pre>
+ * 
+ * <p>Last millis and last sequence are packed into one word, a batch of keys reserves a contiguous range of sequence with a single CAS.</p>
  */
 public final class SnowflakeKeyGenerateAlgorithm implements KeyGenerateAlgorithm, ComputeNodeInstanceContextAware {
     
@@ -79,9 +80,7 @@ public final class SnowflakeKeyGenerateAlgorithm implements KeyGenerateAlgorithm
     
     private final AtomicInteger sequenceOffset = new AtomicInteger(-1);
     
-    private final AtomicLong sequence = new AtomicLong();
-    
-    private final AtomicLong lastMillis = new AtomicLong();
+    private final AtomicLong state = new AtomicLong();
     
     private Properties props;
     
@@ -122,41 +121,51 @@ public final class SnowflakeKeyGenerateAlgorithm implements KeyGenerateAlgorithm
     
     @Override
     public Collection<Long> generateKeys(final AlgorithmSQLContext context, final int keyGenerateCount) {
-        Collection<Long> result = new LinkedList<>();
-        for (int index = 0; index < keyGenerateCount; index++) {
-            result.add(generateKey());
+        long[] result = new long[keyGenerateCount];
+        long workerIdBits = (long) getWorkerId() << WORKER_ID_LEFT_SHIFT_BITS;
+        int generatedCount = 0;
+        while (generatedCount < keyGenerateCount) {
+            generatedCount += reserveKeys(result, generatedCount, workerIdBits);
         }
-        return result;
+        return new SnowflakeKeyList(result);
     }
     
-    private synchronized Long generateKey() {
+    private int reserveKeys(final long[] keys, final int offset, final long workerIdBits) {
         long currentMillis = timeService.getCurrentMillis();
-        if (waitTolerateTimeDifferenceIfNeed(currentMillis)) {
-            currentMillis = timeService.getCurrentMillis();
+        long lastState = state.get();
+        long lastMillis = lastState >>> SEQUENCE_BITS;
+        if (lastMillis > currentMillis) {
+            waitTolerateTimeDifference(lastMillis, currentMillis);
+            return 0;
         }
-        if (lastMillis.get() == currentMillis) {
-            sequence.set(sequence.incrementAndGet() & SEQUENCE_MASK);
-            if (0L == sequence.get()) {
+        long firstSequence;
+        if (lastMillis == currentMillis) {
+            firstSequence = (lastState & SEQUENCE_MASK) + 1L;
+            if (firstSequence > SEQUENCE_MASK) {
                 currentMillis = waitUntilNextTime(currentMillis);
+                firstSequence = 0L;
             }
         } else {
-            vibrateSequenceOffset();
-            sequence.set(sequenceOffset.get());
+            firstSequence = vibrateSequenceOffset();
+        }
+        long lastSequence = Math.min(firstSequence + keys.length - offset, SEQUENCE_MASK + 1L) - 1L;
+        if (!state.compareAndSet(lastState, currentMillis << SEQUENCE_BITS | lastSequence)) {
+            return 0;
+        }
+        long timestampBits = (currentMillis - EPOCH) << TIMESTAMP_LEFT_SHIFT_BITS | workerIdBits;
+        int result = (int) (lastSequence - firstSequence + 1L);
+        for (int i = 0; i < result; i++) {
+            keys[offset + i] = timestampBits | (firstSequence + i);
         }
-        lastMillis.set(currentMillis);
-        return ((currentMillis - EPOCH) << TIMESTAMP_LEFT_SHIFT_BITS) | ((long) getWorkerId() << WORKER_ID_LEFT_SHIFT_BITS) | sequence.get();
+        return result;
     }
     
     @SneakyThrows(InterruptedException.class)
-    private boolean waitTolerateTimeDifferenceIfNeed(final long currentMillis) {
-        if (lastMillis.get() <= currentMillis) {
-            return false;
-        }
-        long timeDifferenceMillis = lastMillis.get() - currentMillis;
+    private void waitTolerateTimeDifference(final long lastMillis, final long currentMillis) {
+        long timeDifferenceMillis = lastMillis - currentMillis;
         ShardingSpherePreconditions.checkState(timeDifferenceMillis < maxTolerateTimeDifferenceMillis,
-                () -> new AlgorithmExecuteException(this, "Clock is moving backwards, last time is %d milliseconds, current time is %d milliseconds.", lastMillis.get(), currentMillis));
+                () -> new AlgorithmExecuteException(this, "Clock is moving backwards, last time is %d milliseconds, current time is %d milliseconds.", lastMillis, currentMillis));
         Thread.sleep(timeDifferenceMillis);
-        return true;
     }
     
     private long waitUntilNextTime(final long lastTime) {
@@ -167,10 +176,8 @@ public final class SnowflakeKeyGenerateAlgorithm implements KeyGenerateAlgorithm
         return result;
     }
     
-    private void vibrateSequenceOffset() {
-        if (!sequenceOffset.compareAndSet(maxVibrationOffset, 0)) {
-            sequenceOffset.incrementAndGet();
-        }
+    private long vibrateSequenceOffset() {
+        return sequenceOffset.updateAndGet(each -> each >= maxVibrationOffset ? 0 : each + 1);
     }
     
     private int getWorkerId() {
@@ -0,0 +1,53 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.apache.shardingsphere.infra.algorithm.keygen.snowflake;
+
+import lombok.RequiredArgsConstructor;
+
+import java.util.AbstractList;
+import java.util.RandomAccess;
+
+/**
+ * Snowflake key list, backed by primitive long array.
+ */
+@RequiredArgsConstructor
+public final class SnowflakeKeyList extends AbstractList<Long> implements RandomAccess {
+    
+    private final long[] keys;
+    
+    /**
+     * Get primitive key.
+     *
+     * @param index index of key
+     * @return primitive key
+     */
+    public long getKey(final int index) {
+        return keys[index];
+    }
+    
+    @Override
+    public Long get(final int index) {
+        return keys[index];
+    }
+    
+    @Override
+    public int size() {
+        return keys.length;
+    }
+}
@@ -43,6 +43,7 @@ import java.util.Set;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
 
@@ -89,7 +90,7 @@ class SnowflakeKeyGenerateAlgorithmTest {
         if (algorithm instanceof ComputeNodeInstanceContextAware) {
             ((ComputeNodeInstanceContextAware) algorithm).setComputeNodeInstanceContext(INSTANCE);
         }
-        List<Comparable<?>> expected = Arrays.asList(0L, 4194305L, 4194306L, 8388608L, 8388609L, 12582913L, 12582914L, 16777216L, 16777217L, 20971521L);
+        List<Comparable<?>> expected = Arrays.asList(0L, 1L, 2L, 3L, 4L, 5L, 6L, 7L, 8L, 9L);
         List<Comparable<?>> actual = new ArrayList<>(DEFAULT_KEY_AMOUNT);
         actual.addAll(algorithm.generateKeys(mock(AlgorithmSQLContext.class), DEFAULT_KEY_AMOUNT));
         assertThat(actual, is(expected));
@@ -143,8 +144,8 @@ class SnowflakeKeyGenerateAlgorithmTest {
         if (algorithm instanceof ComputeNodeInstanceContextAware) {
             ((ComputeNodeInstanceContextAware) algorithm).setComputeNodeInstanceContext(INSTANCE);
         }
-        setLastMillis(algorithm, timeService.getCurrentMillis() + 2L);
-        List<Comparable<?>> expected = Arrays.asList(4194304L, 8388609L, 8388610L, 12582912L, 12582913L, 16777217L, 16777218L, 20971520L, 20971521L, 25165825L);
+        setState(algorithm, timeService.getCurrentMillis() + 2L, 0L);
+        List<Comparable<?>> expected = Arrays.asList(8388609L, 8388610L, 8388611L, 8388612L, 8388613L, 8388614L, 8388615L, 8388616L, 8388617L, 8388618L);
         List<Comparable<?>> actual = new ArrayList<>(DEFAULT_KEY_AMOUNT);
         actual.addAll(algorithm.generateKeys(mock(AlgorithmSQLContext.class), DEFAULT_KEY_AMOUNT));
         assertThat(actual, is(expected));
@@ -158,7 +159,7 @@ class SnowflakeKeyGenerateAlgorithmTest {
         if (algorithm instanceof ComputeNodeInstanceContextAware) {
             ((ComputeNodeInstanceContextAware) algorithm).setComputeNodeInstanceContext(INSTANCE);
         }
-        setLastMillis(algorithm, timeService.getCurrentMillis() + 2L);
+        setState(algorithm, timeService.getCurrentMillis() + 2L, 0L);
         assertThrows(AlgorithmExecuteException.class, () -> batchGenerate(algorithm));
     }
     
@@ -174,22 +175,53 @@ class SnowflakeKeyGenerateAlgorithmTest {
         if (algorithm instanceof ComputeNodeInstanceContextAware) {
             ((ComputeNodeInstanceContextAware) algorithm).setComputeNodeInstanceContext(INSTANCE);
         }
-        setLastMillis(algorithm, timeService.getCurrentMillis());
-        setSequence(algorithm, (1L << DEFAULT_SEQUENCE_BITS) - 1L);
-        List<Comparable<?>> expected = Arrays.asList(4194304L, 4194305L, 4194306L, 8388608L, 8388609L, 8388610L, 12582913L, 12582914L, 12582915L, 16777216L);
+        setState(algorithm, timeService.getCurrentMillis(), (1L << DEFAULT_SEQUENCE_BITS) - 1L);
+        List<Comparable<?>> expected = Arrays.asList(4194304L, 4194305L, 4194306L, 4194307L, 4194308L, 4194309L, 4194310L, 4194311L, 4194312L, 4194313L);
         List<Comparable<?>> actual = new ArrayList<>(DEFAULT_KEY_AMOUNT);
         actual.addAll(algorithm.generateKeys(mock(AlgorithmSQLContext.class), DEFAULT_KEY_AMOUNT));
         assertThat(actual, is(expected));
     }
     
-    @SneakyThrows(ReflectiveOperationException.class)
-    private void setLastMillis(final KeyGenerateAlgorithm algorithm, final Number value) {
-        Plugins.getMemberAccessor().set(SnowflakeKeyGenerateAlgorithm.class.getDeclaredField("lastMillis"), algorithm, new AtomicLong(value.longValue()));
+    @Test
+    void assertGenerateKeysBeyondMaxSequencePerMilliSecondInOneBatch() {
+        TimeService timeService = new FixedTimeService(2);
+        SnowflakeKeyGenerateAlgorithm.setTimeService(timeService);
+        KeyGenerateAlgorithm algorithm = TypedSPILoader.getService(KeyGenerateAlgorithm.class, "SNOWFLAKE");
+        if (algorithm instanceof ComputeNodeInstanceContextAware) {
+            ((ComputeNodeInstanceContextAware) algorithm).setComputeNodeInstanceContext(INSTANCE);
+        }
+        setState(algorithm, timeService.getCurrentMillis(), (1L << DEFAULT_SEQUENCE_BITS) - 3L);
+        List<Comparable<?>> expected = Arrays.asList(4094L, 4095L, 4194304L, 4194305L, 4194306L);
+        List<Comparable<?>> actual = new ArrayList<>(5);
+        actual.addAll(algorithm.generateKeys(mock(AlgorithmSQLContext.class), 5));
+        assertThat(actual, is(expected));
+    }
+    
+    @Test
+    void assertGenerateKeysInBatchWithMultipleThreads() throws ExecutionException, InterruptedException {
+        SnowflakeKeyGenerateAlgorithm.setTimeService(new TimeService());
+        int threadNumber = 64;
+        int keyGenerateCount = 5000;
+        ExecutorService executor = Executors.newFixedThreadPool(threadNumber);
+        KeyGenerateAlgorithm algorithm = TypedSPILoader.getService(KeyGenerateAlgorithm.class, "SNOWFLAKE");
+        ((ComputeNodeInstanceContextAware) algorithm).setComputeNodeInstanceContext(INSTANCE);
+        Collection<Future<Collection<? extends Comparable<?>>>> futures = new ArrayList<>(threadNumber);
+        for (int i = 0; i < threadNumber; i++) {
+            futures.add(executor.submit(() -> algorithm.generateKeys(mock(AlgorithmSQLContext.class), keyGenerateCount)));
+        }
+        Set<Comparable<?>> actual = new HashSet<>(threadNumber * keyGenerateCount, 1F);
+        for (Future<Collection<? extends Comparable<?>>> each : futures) {
+            Collection<? extends Comparable<?>> keys = each.get();
+            assertThat(keys.size(), is(keyGenerateCount));
+            actual.addAll(keys);
+        }
+        executor.shutdown();
+        assertThat(actual.size(), is(threadNumber * keyGenerateCount));
     }
     
     @SneakyThrows(ReflectiveOperationException.class)
-    private void setSequence(final KeyGenerateAlgorithm algorithm, final Number value) {
-        Plugins.getMemberAccessor().set(SnowflakeKeyGenerateAlgorithm.class.getDeclaredField("sequence"), algorithm, new AtomicLong(value.longValue()));
+    private void setState(final KeyGenerateAlgorithm algorithm, final long lastMillis, final long lastSequence) {
+        Plugins.getMemberAccessor().set(SnowflakeKeyGenerateAlgorithm.class.getDeclaredField("state"), algorithm, new AtomicLong(lastMillis << DEFAULT_SEQUENCE_BITS | lastSequence));
     }
     
     @Test
@@ -0,0 +1,71 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.apache.shardingsphere.infra.algorithm.loadbalancer.peak.ewma;
+
+import lombok.Setter;
+import org.apache.shardingsphere.infra.algorithm.loadbalancer.core.DatabaseAwareLoadBalanceAlgorithm;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Peak EWMA load balance algorithm.
+ * 
+ * <p>Two targets are picked randomly, and the one with lower load is chosen (power of two choices).</p>
+ */
+public final class PeakEWMALoadBalanceAlgorithm implements DatabaseAwareLoadBalanceAlgorithm {
+    
+    private final Collection<String> registeredTargetNames = ConcurrentHashMap.newKeySet();
+    
+    @Setter
+    private String databaseName;
+    
+    @Override
+    public String getTargetName(final String groupName, final List<String> availableTargetNames) {
+        int size = availableTargetNames.size();
+        if (1 == size) {
+            return availableTargetNames.get(0);
+        }
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int firstIndex = random.nextInt(size);
+        int secondIndex = (firstIndex + 1 + random.nextInt(size - 1)) % size;
+        long currentNanos = System.nanoTime();
+        String firstTargetName = availableTargetNames.get(firstIndex);
+        String secondTargetName = availableTargetNames.get(secondIndex);
+        return register(firstTargetName).getCost(currentNanos) <= register(secondTargetName).getCost(currentNanos) ? firstTargetName : secondTargetName;
+    }
+    
+    private TargetLoad register(final String targetName) {
+        registeredTargetNames.add(targetName);
+        return TargetLoadRegistry.register(databaseName, targetName);
+    }
+    
+    @Override
+    public void close() {
+        TargetLoadRegistry.evict(databaseName, registeredTargetNames);
+        registeredTargetNames.clear();
+    }
+    
+    @Override
+    public String getType() {
+        return "PEAK_EWMA";
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.apache.shardingsphere.infra.algorithm.loadbalancer.peak.ewma;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Target load.
+ * 
+ * <p>Load of target is estimated by peak EWMA of response time multiplied by in-flight request count.
+ * Estimated response time jumps to slower response immediately, and decays smoothly when target becomes faster or idle.</p>
+ */
+public final class TargetLoad {
+    
+    private static final double DECAY_NANOS = TimeUnit.SECONDS.toNanos(10L);
+    
+    private final AtomicInteger inFlightCount = new AtomicInteger();
+    
+    private volatile double responseNanos;
+    
+    private volatile long lastUpdateNanos = System.nanoTime();
+    
+    /**
+     * Start request.
+     */
+    public void start() {
+        inFlightCount.incrementAndGet();
+    }
+    
+    /**
+     * Finish request.
+     *
+     * @param elapsedNanos elapsed nanos of request
+     * @param isSuccess whether request is success
+     */
+    public void finish(final long elapsedNanos, final boolean isSuccess) {
+        inFlightCount.decrementAndGet();
+        update(isSuccess ? elapsedNanos : Math.max(elapsedNanos, responseNanos * 2D), System.nanoTime());
+    }
+    
+    private synchronized void update(final double observedNanos, final long currentNanos) {
+        if (observedNanos > responseNanos) {
+            responseNanos = observedNanos;
+        } else {
+            double weight = Math.exp(-Math.max(currentNanos - lastUpdateNanos, 0L) / DECAY_NANOS);
+            responseNanos = responseNanos * weight + observedNanos * (1D - weight);
+        }
+        lastUpdateNanos = currentNanos;
+    }
+    
+    /**
+     * Get cost of sending one more request to target.
+     *
+     * @param currentNanos current nanos
+     * @return cost
+     */
+    public double getCost(final long currentNanos) {
+        double decayedResponseNanos = responseNanos * Math.exp(-Math.max(currentNanos - lastUpdateNanos, 0L) / DECAY_NANOS);
+        return (decayedResponseNanos + 1D) * (Math.max(inFlightCount.get(), 0) + 1);
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.algorithm.loadbalancer.peak.ewma;
+
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Target load registry.
+ * 
+ * <p>Target loads are registered per database and data source, and evicted when algorithms which registered them are closed.</p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class TargetLoadRegistry {
+    
+    private static final Map<TargetLoadKey, TargetLoad> TARGET_LOADS = new ConcurrentHashMap<>();
+    
+    /**
+     * Register target load.
+     *
+     * @param databaseName database name
+     * @param dataSourceName data source name
+     * @return registered target load
+     */
+    public static TargetLoad register(final String databaseName, final String dataSourceName) {
+        return TARGET_LOADS.computeIfAbsent(new TargetLoadKey(databaseName, dataSourceName), key -> new TargetLoad());
+    }
+    
+    /**
+     * Find target load.
+     *
+     * @param databaseName database name
+     * @param dataSourceName data source name
+     * @return found target load
+     */
+    public static Optional<TargetLoad> find(final String databaseName, final String dataSourceName) {
+        return null == databaseName ? Optional.empty() : Optional.ofNullable(TARGET_LOADS.get(new TargetLoadKey(databaseName, dataSourceName)));
+    }
+    
+    /**
+     * Evict target loads.
+     *
+     * @param databaseName database name
+     * @param dataSourceNames data source names
+     */
+    public static void evict(final String databaseName, final Collection<String> dataSourceNames) {
+        for (String each : dataSourceNames) {
+            TARGET_LOADS.remove(new TargetLoadKey(databaseName, each));
+        }
+    }
+    
+    @EqualsAndHashCode
+    private static final class TargetLoadKey {
+        
+        private final String databaseName;
+        
+        private final String dataSourceName;
+        
+        TargetLoadKey(final String databaseName, final String dataSourceName) {
+            this.databaseName = null == databaseName ? null : databaseName.toLowerCase();
+            this.dataSourceName = dataSourceName;
+        }
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.apache.shardingsphere.infra.algorithm.loadbalancer.peak.ewma;
+
+import org.apache.shardingsphere.infra.algorithm.loadbalancer.core.DatabaseAwareLoadBalanceAlgorithm;
+import org.apache.shardingsphere.infra.algorithm.loadbalancer.core.LoadBalanceAlgorithm;
+import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PeakEWMALoadBalanceAlgorithmTest {
+    
+    private final DatabaseAwareLoadBalanceAlgorithm loadBalanceAlgorithm = (DatabaseAwareLoadBalanceAlgorithm) TypedSPILoader.getService(LoadBalanceAlgorithm.class, "PEAK_EWMA");
+    
+    @BeforeEach
+    void setUp() {
+        loadBalanceAlgorithm.setDatabaseName("foo_db");
+    }
+    
+    @AfterEach
+    void tearDown() {
+        loadBalanceAlgorithm.close();
+    }
+    
+    @Test
+    void assertGetTargetNameWithOneAvailableTarget() {
+        assertThat(loadBalanceAlgorithm.getTargetName("ds", Collections.singletonList("single_read_ds")), is("single_read_ds"));
+    }
+    
+    @Test
+    void assertGetTargetNameWithSlowTarget() {
+        finishRequest("slow_read_ds", TimeUnit.SECONDS.toNanos(1L));
+        finishRequest("fast_read_ds", TimeUnit.MILLISECONDS.toNanos(1L));
+        List<String> availableTargetNames = Arrays.asList("slow_read_ds", "fast_read_ds");
+        for (int i = 0; i < 10; i++) {
+            assertThat(loadBalanceAlgorithm.getTargetName("ds", availableTargetNames), is("fast_read_ds"));
+        }
+    }
+    
+    @Test
+    void assertGetTargetNameWithBusyTarget() {
+        TargetLoadRegistry.register("foo_db", "busy_read_ds").start();
+        TargetLoadRegistry.register("foo_db", "busy_read_ds").start();
+        List<String> availableTargetNames = Arrays.asList("busy_read_ds", "idle_read_ds");
+        for (int i = 0; i < 10; i++) {
+            assertThat(loadBalanceAlgorithm.getTargetName("ds", availableTargetNames), is("idle_read_ds"));
+        }
+    }
+    
+    @Test
+    void assertGetTargetNameWithSlowTargetInOtherDatabase() {
+        finishRequest("bar_db", "other_read_ds", TimeUnit.SECONDS.toNanos(1L));
+        finishRequest("other_read_ds", TimeUnit.MILLISECONDS.toNanos(1L));
+        finishRequest("local_read_ds", TimeUnit.MILLISECONDS.toNanos(500L));
+        List<String> availableTargetNames = Arrays.asList("other_read_ds", "local_read_ds");
+        for (int i = 0; i < 10; i++) {
+            assertThat(loadBalanceAlgorithm.getTargetName("ds", availableTargetNames), is("other_read_ds"));
+        }
+        TargetLoadRegistry.evict("bar_db", Collections.singleton("other_read_ds"));
+    }
+    
+    @Test
+    void assertClose() {
+        loadBalanceAlgorithm.getTargetName("ds", Arrays.asList("closed_read_ds_0", "closed_read_ds_1"));
+        assertTrue(TargetLoadRegistry.find("foo_db", "closed_read_ds_0").isPresent());
+        loadBalanceAlgorithm.close();
+        assertFalse(TargetLoadRegistry.find("foo_db", "closed_read_ds_0").isPresent());
+        assertFalse(TargetLoadRegistry.find("foo_db", "closed_read_ds_1").isPresent());
+    }
+    
+    private void finishRequest(final String targetName, final long elapsedNanos) {
+        finishRequest("foo_db", targetName, elapsedNanos);
+    }
+    
+    private void finishRequest(final String databaseName, final String targetName, final long elapsedNanos) {
+        TargetLoad targetLoad = TargetLoadRegistry.register(databaseName, targetName);
+        targetLoad.start();
+        targetLoad.finish(elapsedNanos, true);
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.apache.shardingsphere.infra.algorithm.loadbalancer.peak.ewma;
+
+import org.apache.shardingsphere.infra.database.core.connector.ConnectionProperties;
+import org.junit.jupiter.api.Test;
+import org.mockito.internal.configuration.plugins.Plugins;
+
+import java.sql.SQLException;
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+class TargetLoadSQLExecutionHookTest {
+    
+    @Test
+    void assertExecuteWithRegisteredTarget() throws ReflectiveOperationException {
+        TargetLoad targetLoad = TargetLoadRegistry.register("foo_db", "hook_read_ds");
+        TargetLoadSQLExecutionHook hook = new TargetLoadSQLExecutionHook();
+        hook.start("foo_db", "hook_read_ds", "SELECT 1", Collections.emptyList(), mock(ConnectionProperties.class), true);
+        assertThat(getInFlightCount(targetLoad), is(1));
+        hook.finishFailure(new SQLException(""));
+        assertThat(getInFlightCount(targetLoad), is(0));
+        assertTrue((double) Plugins.getMemberAccessor().get(TargetLoad.class.getDeclaredField("responseNanos"), targetLoad) > 0D);
+    }
+    
+    @Test
+    void assertExecuteWithUnregisteredTarget() {
+        TargetLoadSQLExecutionHook hook = new TargetLoadSQLExecutionHook();
+        hook.start("foo_db", "unregistered_read_ds", "SELECT 1", Collections.emptyList(), mock(ConnectionProperties.class), true);
+        hook.finishSuccess();
+        assertFalse(TargetLoadRegistry.find("foo_db", "unregistered_read_ds").isPresent());
+    }
+    
+    @Test
+    void assertExecuteWithTargetRegisteredInOtherDatabase() throws ReflectiveOperationException {
+        TargetLoad targetLoad = TargetLoadRegistry.register("foo_db", "shared_read_ds");
+        TargetLoadSQLExecutionHook hook = new TargetLoadSQLExecutionHook();
+        hook.start("bar_db", "shared_read_ds", "SELECT 1", Collections.emptyList(), mock(ConnectionProperties.class), true);
+        assertThat(getInFlightCount(targetLoad), is(0));
+        hook.finishSuccess();
+        assertFalse(TargetLoadRegistry.find("bar_db", "shared_read_ds").isPresent());
+    }
+    
+    @Test
+    void assertExecuteWithoutDatabaseName() throws ReflectiveOperationException {
+        TargetLoad targetLoad = TargetLoadRegistry.register("foo_db", "unknown_database_read_ds");
+        TargetLoadSQLExecutionHook hook = new TargetLoadSQLExecutionHook();
+        hook.start("unknown_database_read_ds", "SELECT 1", Collections.emptyList(), mock(ConnectionProperties.class), true);
+        assertThat(getInFlightCount(targetLoad), is(0));
+        hook.finishSuccess();
+    }
+    
+    private int getInFlightCount(final TargetLoad targetLoad) throws ReflectiveOperationException {
+        return ((AtomicInteger) Plugins.getMemberAccessor().get(TargetLoad.class.getDeclaredField("inFlightCount"), targetLoad)).get();
+    }
+}
@@ -54,6 +54,16 @@ public enum ConfigurationPropertyKey implements TypedPropertyKey {
      */
     KERNEL_EXECUTOR_SIZE("kernel-executor-size", String.valueOf(0), int.class, true),
     
+    /**
+     * Whether use virtual threads for worker group to execute SQL, only take effect on JDK 21 or above.
+     */
+    KERNEL_EXECUTOR_VIRTUAL_THREAD_ENABLED("kernel-executor-virtual-thread-enabled", String.valueOf(Boolean.FALSE), boolean.class, true),
+    
+    /**
+     * Max concurrent executions for each data source, zero means unlimited.
+     */
+    KERNEL_EXECUTOR_MAX_CONCURRENCY_PER_DATA_SOURCE("kernel-executor-max-concurrency-per-data-source", String.valueOf(0), int.class, true),
+    
     /**
      * Max opened connection size for each query.
      */
@@ -64,6 +74,26 @@ public enum ConfigurationPropertyKey implements TypedPropertyKey {
      */
     CHECK_TABLE_METADATA_ENABLED("check-table-metadata-enabled", String.valueOf(Boolean.FALSE), boolean.class, false),
     
+    /**
+     * Whether load table meta data lazily, only table names are loaded when application startup and table meta data is loaded on first access.
+     */
+    LAZY_TABLE_METADATA_ENABLED("lazy-table-metadata-enabled", String.valueOf(Boolean.FALSE), boolean.class, true),
+    
+    /**
+     * Max loaded table meta data size kept by each schema in lazy mode, the least recently used ones are evicted when exceeded, 0 means never evict.
+     */
+    LAZY_TABLE_METADATA_MAX_SIZE("lazy-table-metadata-max-size", String.valueOf(0), int.class, true),
+    
+    /**
+     * Max concurrent meta data loading tasks for each data source, less than or equal to 0 means no limitation.
+     */
+    METADATA_LOAD_MAX_CONCURRENCY_PER_DATA_SOURCE("metadata-load-max-concurrency-per-data-source", String.valueOf(0), int.class, true),
+    
+    /**
+     * Max estimated bytes of memory merge state for each query before spilling to disk, 0 means never spill.
+     */
+    MEMORY_MERGE_BUDGET_BYTES("memory-merge-budget-bytes", String.valueOf(0), long.class, false),
+    
     /**
      * Frontend database protocol for ShardingSphere-Proxy.
      */
@@ -100,6 +130,16 @@ public enum ConfigurationPropertyKey implements TypedPropertyKey {
      */
     PROXY_NETTY_BACKLOG("proxy-netty-backlog", "1024", int.class, false),
     
+    /**
+     * Whether to replace literals of text protocol DML statements with parameters for ShardingSphere-Proxy, so that they can share cached SQL statements.
+     */
+    PROXY_FRONTEND_AUTO_PARAMETERIZATION_ENABLED("proxy-frontend-auto-parameterization-enabled", String.valueOf(Boolean.FALSE), boolean.class, false),
+    
+    /**
+     * File of SQL statements replayed through SQL parser when ShardingSphere-Proxy starts, empty means no warm up.
+     */
+    PROXY_SQL_PARSER_WARM_UP_FILE("proxy-sql-parser-warm-up-file", "", String.class, true),
+    
     /**
      * CDC server port.
      */
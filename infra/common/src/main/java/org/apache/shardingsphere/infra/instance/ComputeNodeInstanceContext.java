@@ -21,6 +21,7 @@ import lombok.AccessLevel;
 import lombok.Getter;
 import org.apache.shardingsphere.infra.config.mode.ModeConfiguration;
 import org.apache.shardingsphere.infra.exception.core.ShardingSpherePreconditions;
+import org.apache.shardingsphere.infra.instance.keygen.KeySegmentAllocator;
 import org.apache.shardingsphere.infra.instance.workerid.WorkerIdGenerator;
 import org.apache.shardingsphere.infra.lock.LockContext;
 import org.apache.shardingsphere.infra.state.instance.InstanceState;
@@ -45,6 +46,9 @@ public final class ComputeNodeInstanceContext {
     @Getter(AccessLevel.NONE)
     private final AtomicReference<WorkerIdGenerator> workerIdGenerator = new AtomicReference<>();
     
+    @Getter(AccessLevel.NONE)
+    private final AtomicReference<KeySegmentAllocator> keySegmentAllocator = new AtomicReference<>();
+    
     private final ModeConfiguration modeConfiguration;
     
     @Getter(AccessLevel.NONE)
@@ -148,6 +152,36 @@ public final class ComputeNodeInstanceContext {
         return result;
     }
     
+    /**
+     * Initialize key segment allocator.
+     *
+     * @param keySegmentAllocator key segment allocator
+     */
+    public void initKeySegmentAllocator(final KeySegmentAllocator keySegmentAllocator) {
+        this.keySegmentAllocator.set(keySegmentAllocator);
+    }
+    
+    /**
+     * Judge whether key segment allocator is initialized.
+     *
+     * @return is initialized or not
+     */
+    public boolean isKeySegmentAllocatorInitialized() {
+        return null != keySegmentAllocator.get();
+    }
+    
+    /**
+     * Allocate key segment.
+     *
+     * @param segmentName segment name
+     * @param step step of key segment
+     * @return first key of allocated key segment
+     */
+    public long allocateKeySegment(final String segmentName, final long step) {
+        ShardingSpherePreconditions.checkNotNull(keySegmentAllocator.get(), () -> new IllegalArgumentException("Key segment allocator is not initialized."));
+        return keySegmentAllocator.get().allocate(segmentName, step);
+    }
+    
     /**
      * Add compute node instance.
      *
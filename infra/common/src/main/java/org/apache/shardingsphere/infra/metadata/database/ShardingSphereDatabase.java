@@ -89,12 +89,13 @@ public final class ShardingSphereDatabase {
                                                 final DatabaseConfiguration databaseConfig, final ConfigurationProperties props,
                                                 final ComputeNodeInstanceContext computeNodeInstanceContext) throws SQLException {
         ResourceMetaData resourceMetaData = createResourceMetaData(databaseConfig.getDataSources(), databaseConfig.getStorageUnits());
-        Collection<ShardingSphereRule> databaseRules = DatabaseRulesBuilder.build(name, protocolType, databaseConfig, computeNodeInstanceContext, resourceMetaData);
-        Map<String, ShardingSphereSchema> schemas = new ConcurrentHashMap<>(GenericSchemaBuilder
-                .build(new GenericSchemaBuilderMaterial(protocolType, storageTypes, resourceMetaData.getDataSourceMap(), databaseRules,
-                        props, new DatabaseTypeRegistry(protocolType).getDefaultSchemaName(name))));
+        RuleMetaData ruleMetaData = new RuleMetaData(DatabaseRulesBuilder.build(name, protocolType, databaseConfig, computeNodeInstanceContext, resourceMetaData));
+        String defaultSchemaName = new DatabaseTypeRegistry(protocolType).getDefaultSchemaName(name);
+        Map<String, ShardingSphereSchema> schemas = new ConcurrentHashMap<>(GenericSchemaBuilder.build(
+                new GenericSchemaBuilderMaterial(protocolType, storageTypes, resourceMetaData.getDataSourceMap(), ruleMetaData.getRules(), props, defaultSchemaName),
+                () -> new GenericSchemaBuilderMaterial(protocolType, resourceMetaData.getStorageUnits(), ruleMetaData.getRules(), props, defaultSchemaName)));
         SystemSchemaBuilder.build(name, protocolType, props).forEach(schemas::putIfAbsent);
-        return create(name, protocolType, databaseRules, schemas, resourceMetaData);
+        return new ShardingSphereDatabase(name, protocolType, resourceMetaData, ruleMetaData, schemas);
     }
     
     /**
@@ -29,6 +29,8 @@ import org.apache.shardingsphere.infra.database.core.metadata.data.model.SchemaM
 import org.apache.shardingsphere.infra.database.core.metadata.data.model.TableMetaData;
 import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
 import org.apache.shardingsphere.infra.database.core.type.DatabaseTypeRegistry;
+import org.apache.shardingsphere.infra.exception.core.external.sql.type.wrapper.SQLWrapperException;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.LazyTableMetaDataMap;
 import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereColumn;
 import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereConstraint;
 import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereIndex;
@@ -49,6 +51,7 @@ import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 /**
@@ -60,12 +63,29 @@ public final class GenericSchemaBuilder {
     /**
      * Build generic schema.
      *
+     * <p>Tables are loaded on first access if lazy table meta data is enabled and protocol type does not support schema.</p>
+     *
      * @param material generic schema builder material
      * @return generic schema map
      * @throws SQLException SQL exception
      */
     public static Map<String, ShardingSphereSchema> build(final GenericSchemaBuilderMaterial material) throws SQLException {
-        return build(getAllTableNames(material.getRules()), material);
+        return build(material, () -> material);
+    }
+    
+    /**
+     * Build generic schema.
+     *
+     * <p>Tables are loaded on first access with the material supplied by current material if lazy table meta data is enabled and protocol type does not support schema.</p>
+     *
+     * @param material generic schema builder material
+     * @param currentMaterial current generic schema builder material supplier, which supplies the latest rules and storage units when loading tables lazily
+     * @return generic schema map
+     * @throws SQLException SQL exception
+     */
+    public static Map<String, ShardingSphereSchema> build(final GenericSchemaBuilderMaterial material, final Supplier<GenericSchemaBuilderMaterial> currentMaterial) throws SQLException {
+        Collection<String> tableNames = getAllTableNames(material.getRules());
+        return isLazyLoadTables(material) ? buildLazily(tableNames, material, currentMaterial) : build(tableNames, material);
     }
     
     /**
@@ -92,10 +112,31 @@ public final class GenericSchemaBuilder {
         return result;
     }
     
+    private static boolean isLazyLoadTables(final GenericSchemaBuilderMaterial material) {
+        return material.getProps().<Boolean>getValue(ConfigurationPropertyKey.LAZY_TABLE_METADATA_ENABLED)
+                && !new DatabaseTypeRegistry(material.getProtocolType()).getDialectDatabaseMetaData().isSchemaAvailable();
+    }
+    
+    private static Map<String, ShardingSphereSchema> buildLazily(final Collection<String> tableNames, final GenericSchemaBuilderMaterial material,
+                                                                 final Supplier<GenericSchemaBuilderMaterial> currentMaterial) {
+        int maxLoadedSize = material.getProps().getValue(ConfigurationPropertyKey.LAZY_TABLE_METADATA_MAX_SIZE);
+        LazyTableMetaDataMap tables = new LazyTableMetaDataMap(tableNames, each -> loadTable(each, currentMaterial.get()), maxLoadedSize);
+        return Collections.singletonMap(material.getDefaultSchemaName(), new ShardingSphereSchema(material.getDefaultSchemaName(), tables));
+    }
+    
+    private static ShardingSphereTable loadTable(final String tableName, final GenericSchemaBuilderMaterial material) {
+        try {
+            ShardingSphereSchema schema = build(Collections.singleton(tableName), material).get(material.getDefaultSchemaName().toLowerCase());
+            return null == schema ? null : schema.getTable(tableName);
+        } catch (final SQLException ex) {
+            throw new SQLWrapperException(ex);
+        }
+    }
+    
     private static Map<String, SchemaMetaData> loadSchemas(final Collection<String> tableNames, final GenericSchemaBuilderMaterial material) throws SQLException {
         boolean checkMetaDataEnable = material.getProps().getValue(ConfigurationPropertyKey.CHECK_TABLE_METADATA_ENABLED);
         Collection<MetaDataLoaderMaterial> materials = SchemaMetaDataUtils.getMetaDataLoaderMaterials(tableNames, material, checkMetaDataEnable);
-        return materials.isEmpty() ? Collections.emptyMap() : MetaDataLoader.load(materials);
+        return materials.isEmpty() ? Collections.emptyMap() : MetaDataLoader.load(materials, material.getProps().getValue(ConfigurationPropertyKey.METADATA_LOAD_MAX_CONCURRENCY_PER_DATA_SOURCE));
     }
     
     private static Map<String, SchemaMetaData> translate(final Map<String, SchemaMetaData> schemaMetaDataMap, final GenericSchemaBuilderMaterial material) {
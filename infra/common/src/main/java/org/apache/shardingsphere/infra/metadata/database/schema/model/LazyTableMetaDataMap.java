@@ -0,0 +1,200 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.metadata.database.schema.model;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Lazy table meta data map.
+ *
+ * <p>Table names are known as candidates when created, table meta data is loaded on first access, and the least recently used loaded ones are evicted when exceeding max loaded size.
+ * A candidate table name is dropped once loading finds no table for it, so existence of a table is judged by loading it.
+ * Table meta data put explicitly, such as refreshed by DDL or loaded from registry center, is kept until removed.</p>
+ */
+public final class LazyTableMetaDataMap extends AbstractMap<String, ShardingSphereTable> {
+    
+    private final Set<String> tableNames = ConcurrentHashMap.newKeySet();
+    
+    private final Map<String, ShardingSphereTable> pinnedTables = new ConcurrentHashMap<>();
+    
+    private final Function<String, ShardingSphereTable> tableLoader;
+    
+    private final int maxLoadedSize;
+    
+    private final LoadingCache<String, ShardingSphereTable> loadedTables;
+    
+    public LazyTableMetaDataMap(final Collection<String> tableNames, final Function<String, ShardingSphereTable> tableLoader, final int maxLoadedSize) {
+        tableNames.forEach(each -> this.tableNames.add(each.toLowerCase()));
+        this.tableLoader = tableLoader;
+        this.maxLoadedSize = maxLoadedSize;
+        Caffeine<Object, Object> cacheBuilder = Caffeine.newBuilder();
+        if (maxLoadedSize > 0) {
+            cacheBuilder.maximumSize(maxLoadedSize);
+        }
+        loadedTables = cacheBuilder.build(tableLoader::apply);
+    }
+    
+    @Override
+    public int size() {
+        return tableNames.size();
+    }
+    
+    @Override
+    public boolean isEmpty() {
+        return tableNames.isEmpty();
+    }
+    
+    @Override
+    public boolean containsKey(final Object key) {
+        return null != get(key);
+    }
+    
+    @Override
+    public ShardingSphereTable get(final Object key) {
+        return tableNames.contains(key) ? getOrLoad((String) key) : null;
+    }
+    
+    private ShardingSphereTable getOrLoad(final String tableName) {
+        ShardingSphereTable result = pinnedTables.get(tableName);
+        if (null != result) {
+            return result;
+        }
+        result = loadedTables.get(tableName);
+        if (null == result) {
+            tableNames.remove(tableName);
+            if (pinnedTables.containsKey(tableName)) {
+                tableNames.add(tableName);
+                return pinnedTables.get(tableName);
+            }
+        }
+        return result;
+    }
+    
+    @Override
+    public ShardingSphereTable put(final String key, final ShardingSphereTable value) {
+        tableNames.add(key);
+        loadedTables.invalidate(key);
+        return pinnedTables.put(key, value);
+    }
+    
+    @Override
+    public ShardingSphereTable remove(final Object key) {
+        tableNames.remove(key);
+        loadedTables.invalidate(key);
+        return pinnedTables.remove(key);
+    }
+    
+    @Override
+    public void clear() {
+        tableNames.clear();
+        pinnedTables.clear();
+        loadedTables.invalidateAll();
+    }
+    
+    @Override
+    public Set<String> keySet() {
+        return Collections.unmodifiableSet(tableNames);
+    }
+    
+    @Override
+    public Set<Entry<String, ShardingSphereTable>> entrySet() {
+        return new AbstractSet<Entry<String, ShardingSphereTable>>() {
+            
+            @Override
+            public Iterator<Entry<String, ShardingSphereTable>> iterator() {
+                Iterator<String> tableNameIterator = new ArrayList<>(tableNames).iterator();
+                return new Iterator<Entry<String, ShardingSphereTable>>() {
+                    
+                    private Entry<String, ShardingSphereTable> nextEntry;
+                    
+                    private String currentTableName;
+                    
+                    @Override
+                    public boolean hasNext() {
+                        while (null == nextEntry && tableNameIterator.hasNext()) {
+                            String tableName = tableNameIterator.next();
+                            ShardingSphereTable table = getOrLoad(tableName);
+                            if (null != table) {
+                                nextEntry = new SimpleImmutableEntry<>(tableName, table);
+                            }
+                        }
+                        return null != nextEntry;
+                    }
+                    
+                    @Override
+                    public Entry<String, ShardingSphereTable> next() {
+                        if (!hasNext()) {
+                            throw new NoSuchElementException();
+                        }
+                        Entry<String, ShardingSphereTable> result = nextEntry;
+                        currentTableName = result.getKey();
+                        nextEntry = null;
+                        return result;
+                    }
+                    
+                    @Override
+                    public void remove() {
+                        LazyTableMetaDataMap.this.remove(currentTableName);
+                    }
+                };
+            }
+            
+            @Override
+            public int size() {
+                return tableNames.size();
+            }
+        };
+    }
+    
+    /**
+     * Get loaded tables, which does not trigger loading of unloaded tables.
+     *
+     * @return loaded tables
+     */
+    public Map<String, ShardingSphereTable> getLoadedTables() {
+        Map<String, ShardingSphereTable> result = new LinkedHashMap<>(loadedTables.asMap());
+        result.putAll(pinnedTables);
+        return result;
+    }
+    
+    /**
+     * Copy lazy table meta data map, the copied one shares table loader and keeps loaded tables.
+     *
+     * @return copied lazy table meta data map
+     */
+    public LazyTableMetaDataMap copy() {
+        LazyTableMetaDataMap result = new LazyTableMetaDataMap(tableNames, tableLoader, maxLoadedSize);
+        result.loadedTables.putAll(loadedTables.asMap());
+        result.pinnedTables.putAll(pinnedTables);
+        return result;
+    }
+}
@@ -47,12 +47,20 @@ public final class ShardingSphereSchema {
     
     public ShardingSphereSchema(final String name, final Map<String, ShardingSphereTable> tables, final Map<String, ShardingSphereView> views) {
         this.name = name;
-        this.tables = new ConcurrentHashMap<>(tables.size(), 1F);
+        this.tables = tables instanceof LazyTableMetaDataMap ? ((LazyTableMetaDataMap) tables).copy() : new ConcurrentHashMap<>(tables.size(), 1F);
         this.views = new ConcurrentHashMap<>(views.size(), 1F);
-        tables.forEach((key, value) -> this.tables.put(key.toLowerCase(), value));
+        if (!(tables instanceof LazyTableMetaDataMap)) {
+            tables.forEach((key, value) -> this.tables.put(key.toLowerCase(), value));
+        }
         views.forEach((key, value) -> this.views.put(key.toLowerCase(), value));
     }
     
+    public ShardingSphereSchema(final String name, final LazyTableMetaDataMap tables) {
+        this.name = name;
+        this.tables = tables;
+        views = new ConcurrentHashMap<>();
+    }
+    
     /**
      * Get all table names.
      *
@@ -62,6 +70,17 @@ public final class ShardingSphereSchema {
         return tables.keySet();
     }
     
+    /**
+     * Get loaded tables.
+     *
+     * <p>Tables of lazy schema are loaded on first access, only the loaded ones are returned, and the unloaded ones are not triggered to load.</p>
+     *
+     * @return loaded tables
+     */
+    public Map<String, ShardingSphereTable> getLoadedTables() {
+        return tables instanceof LazyTableMetaDataMap ? ((LazyTableMetaDataMap) tables).getLoadedTables() : tables;
+    }
+    
     /**
      * Get all view names.
      *
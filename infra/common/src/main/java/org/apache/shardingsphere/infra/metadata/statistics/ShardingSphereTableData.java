@@ -17,13 +17,17 @@
 
 package org.apache.shardingsphere.infra.metadata.statistics;
 
+import lombok.AccessLevel;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 
 import java.util.Collection;
 import java.util.Comparator;
+import java.util.Iterator;
 import java.util.TreeSet;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
 
 /**
  * ShardingSphere table data.
@@ -35,5 +39,83 @@ public final class ShardingSphereTableData {
     
     private final String name;
     
-    private final Collection<ShardingSphereRowData> rows = new TreeSet<>(Comparator.comparing(ShardingSphereRowData::getUniqueKey));
+    @Getter(AccessLevel.NONE)
+    @EqualsAndHashCode.Exclude
+    private final AtomicLong rowsVersion = new AtomicLong();
+    
+    private final Collection<ShardingSphereRowData> rows = new VersionedRows();
+    
+    /**
+     * Get rows version, it changes whenever rows are added or removed.
+     *
+     * @return rows version
+     */
+    public long getRowsVersion() {
+        return rowsVersion.get();
+    }
+    
+    private final class VersionedRows extends TreeSet<ShardingSphereRowData> {
+        
+        private static final long serialVersionUID = -2460417451637018574L;
+        
+        VersionedRows() {
+            super(Comparator.comparing(ShardingSphereRowData::getUniqueKey));
+        }
+        
+        @Override
+        public boolean add(final ShardingSphereRowData rowData) {
+            return changed(super.add(rowData));
+        }
+        
+        @Override
+        public boolean addAll(final Collection<? extends ShardingSphereRowData> rowData) {
+            return changed(super.addAll(rowData));
+        }
+        
+        @Override
+        public boolean remove(final Object rowData) {
+            return changed(super.remove(rowData));
+        }
+        
+        @Override
+        public boolean removeIf(final Predicate<? super ShardingSphereRowData> filter) {
+            return changed(super.removeIf(filter));
+        }
+        
+        @Override
+        public void clear() {
+            super.clear();
+            rowsVersion.incrementAndGet();
+        }
+        
+        @Override
+        public Iterator<ShardingSphereRowData> iterator() {
+            Iterator<ShardingSphereRowData> delegate = super.iterator();
+            return new Iterator<ShardingSphereRowData>() {
+                
+                @Override
+                public boolean hasNext() {
+                    return delegate.hasNext();
+                }
+                
+                @Override
+                public ShardingSphereRowData next() {
+                    return delegate.next();
+                }
+                
+                @Override
+                public void remove() {
+                    delegate.remove();
+                    rowsVersion.incrementAndGet();
+                }
+            };
+        }
+        
+        private boolean changed(final boolean changed) {
+            if (changed) {
+                rowsVersion.incrementAndGet();
+            }
+            return changed;
+        }
+    }
 }
@@ -0,0 +1,49 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.rule.attribute.cache;
+
+import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
+import org.apache.shardingsphere.infra.rule.attribute.RuleAttribute;
+
+/**
+ * Cacheable rule attribute.
+ */
+public interface CacheableRuleAttribute extends RuleAttribute {
+    
+    /**
+     * Inherit still valid cached entries from previous rule which is replaced by current rule.
+     *
+     * @param previousRule previous rule
+     */
+    void inherit(ShardingSphereRule previousRule);
+    
+    /**
+     * Invalidate cached entries related to table.
+     *
+     * @param schemaName schema name
+     * @param tableName table name
+     */
+    void invalidate(String schemaName, String tableName);
+    
+    /**
+     * Get cache statistics.
+     *
+     * @return cache statistics
+     */
+    CacheStatistics getStatistics();
+}
@@ -41,8 +41,14 @@ class ConfigurationPropertiesTest {
         assertTrue((Boolean) actual.getValue(ConfigurationPropertyKey.SQL_SHOW));
         assertTrue((Boolean) actual.getValue(ConfigurationPropertyKey.SQL_SIMPLE));
         assertThat(actual.getValue(ConfigurationPropertyKey.KERNEL_EXECUTOR_SIZE), is(20));
+        assertTrue((Boolean) actual.getValue(ConfigurationPropertyKey.KERNEL_EXECUTOR_VIRTUAL_THREAD_ENABLED));
+        assertThat(actual.getValue(ConfigurationPropertyKey.KERNEL_EXECUTOR_MAX_CONCURRENCY_PER_DATA_SOURCE), is(20));
         assertThat(actual.getValue(ConfigurationPropertyKey.MAX_CONNECTIONS_SIZE_PER_QUERY), is(20));
         assertTrue((Boolean) actual.getValue(ConfigurationPropertyKey.CHECK_TABLE_METADATA_ENABLED));
+        assertTrue((Boolean) actual.getValue(ConfigurationPropertyKey.LAZY_TABLE_METADATA_ENABLED));
+        assertThat(actual.getValue(ConfigurationPropertyKey.LAZY_TABLE_METADATA_MAX_SIZE), is(1000));
+        assertThat(actual.getValue(ConfigurationPropertyKey.METADATA_LOAD_MAX_CONCURRENCY_PER_DATA_SOURCE), is(4));
+        assertThat(actual.getValue(ConfigurationPropertyKey.MEMORY_MERGE_BUDGET_BYTES), is(67108864L));
         assertThat(actual.getValue(ConfigurationPropertyKey.PROXY_FRONTEND_DATABASE_PROTOCOL_TYPE), is(TypedSPILoader.getService(DatabaseType.class, "PostgreSQL")));
         assertThat(actual.getValue(ConfigurationPropertyKey.PROXY_FRONTEND_FLUSH_THRESHOLD), is(20));
         assertThat(actual.getValue(ConfigurationPropertyKey.PROXY_BACKEND_QUERY_FETCH_SIZE), is(20));
@@ -50,6 +56,8 @@ class ConfigurationPropertiesTest {
         assertThat(actual.getValue(ConfigurationPropertyKey.PROXY_FRONTEND_MAX_CONNECTIONS), is(20));
         assertThat(actual.getValue(ConfigurationPropertyKey.PROXY_DEFAULT_PORT), is(3308));
         assertThat(actual.getValue(ConfigurationPropertyKey.PROXY_NETTY_BACKLOG), is(1024));
+        assertTrue((Boolean) actual.getValue(ConfigurationPropertyKey.PROXY_FRONTEND_AUTO_PARAMETERIZATION_ENABLED));
+        assertThat(actual.getValue(ConfigurationPropertyKey.PROXY_SQL_PARSER_WARM_UP_FILE), is("/opt/shardingsphere-proxy/conf/warm-up.sql"));
         assertThat(actual.getValue(ConfigurationPropertyKey.CDC_SERVER_PORT), is(33071));
     }
     
@@ -59,8 +67,14 @@ class ConfigurationPropertiesTest {
                 new Property(ConfigurationPropertyKey.SQL_SHOW.getKey(), Boolean.TRUE.toString()),
                 new Property(ConfigurationPropertyKey.SQL_SIMPLE.getKey(), Boolean.TRUE.toString()),
                 new Property(ConfigurationPropertyKey.KERNEL_EXECUTOR_SIZE.getKey(), "20"),
+                new Property(ConfigurationPropertyKey.KERNEL_EXECUTOR_VIRTUAL_THREAD_ENABLED.getKey(), Boolean.TRUE.toString()),
+                new Property(ConfigurationPropertyKey.KERNEL_EXECUTOR_MAX_CONCURRENCY_PER_DATA_SOURCE.getKey(), "20"),
                 new Property(ConfigurationPropertyKey.MAX_CONNECTIONS_SIZE_PER_QUERY.getKey(), "20"),
                 new Property(ConfigurationPropertyKey.CHECK_TABLE_METADATA_ENABLED.getKey(), Boolean.TRUE.toString()),
+                new Property(ConfigurationPropertyKey.LAZY_TABLE_METADATA_ENABLED.getKey(), Boolean.TRUE.toString()),
+                new Property(ConfigurationPropertyKey.LAZY_TABLE_METADATA_MAX_SIZE.getKey(), "1000"),
+                new Property(ConfigurationPropertyKey.METADATA_LOAD_MAX_CONCURRENCY_PER_DATA_SOURCE.getKey(), "4"),
+                new Property(ConfigurationPropertyKey.MEMORY_MERGE_BUDGET_BYTES.getKey(), "67108864"),
                 new Property(ConfigurationPropertyKey.PROXY_FRONTEND_DATABASE_PROTOCOL_TYPE.getKey(), "PostgreSQL"),
                 new Property(ConfigurationPropertyKey.PROXY_FRONTEND_FLUSH_THRESHOLD.getKey(), "20"),
                 new Property(ConfigurationPropertyKey.PROXY_BACKEND_QUERY_FETCH_SIZE.getKey(), "20"),
@@ -68,6 +82,8 @@ class ConfigurationPropertiesTest {
                 new Property(ConfigurationPropertyKey.PROXY_FRONTEND_MAX_CONNECTIONS.getKey(), "20"),
                 new Property(ConfigurationPropertyKey.PROXY_DEFAULT_PORT.getKey(), "3308"),
                 new Property(ConfigurationPropertyKey.PROXY_NETTY_BACKLOG.getKey(), "1024"),
+                new Property(ConfigurationPropertyKey.PROXY_FRONTEND_AUTO_PARAMETERIZATION_ENABLED.getKey(), Boolean.TRUE.toString()),
+                new Property(ConfigurationPropertyKey.PROXY_SQL_PARSER_WARM_UP_FILE.getKey(), "/opt/shardingsphere-proxy/conf/warm-up.sql"),
                 new Property(ConfigurationPropertyKey.CDC_SERVER_PORT.getKey(), "33071"));
     }
     
@@ -78,8 +94,14 @@ class ConfigurationPropertiesTest {
         assertFalse((Boolean) actual.getValue(ConfigurationPropertyKey.SQL_SHOW));
         assertFalse((Boolean) actual.getValue(ConfigurationPropertyKey.SQL_SIMPLE));
         assertThat(actual.getValue(ConfigurationPropertyKey.KERNEL_EXECUTOR_SIZE), is(0));
+        assertFalse((Boolean) actual.getValue(ConfigurationPropertyKey.KERNEL_EXECUTOR_VIRTUAL_THREAD_ENABLED));
+        assertThat(actual.getValue(ConfigurationPropertyKey.KERNEL_EXECUTOR_MAX_CONCURRENCY_PER_DATA_SOURCE), is(0));
         assertThat(actual.getValue(ConfigurationPropertyKey.MAX_CONNECTIONS_SIZE_PER_QUERY), is(1));
         assertFalse((Boolean) actual.getValue(ConfigurationPropertyKey.CHECK_TABLE_METADATA_ENABLED));
+        assertFalse((Boolean) actual.getValue(ConfigurationPropertyKey.LAZY_TABLE_METADATA_ENABLED));
+        assertThat(actual.getValue(ConfigurationPropertyKey.LAZY_TABLE_METADATA_MAX_SIZE), is(0));
+        assertThat(actual.getValue(ConfigurationPropertyKey.METADATA_LOAD_MAX_CONCURRENCY_PER_DATA_SOURCE), is(0));
+        assertThat(actual.getValue(ConfigurationPropertyKey.MEMORY_MERGE_BUDGET_BYTES), is(0L));
         assertNull(actual.getValue(ConfigurationPropertyKey.PROXY_FRONTEND_DATABASE_PROTOCOL_TYPE));
         assertThat(actual.getValue(ConfigurationPropertyKey.PROXY_FRONTEND_FLUSH_THRESHOLD), is(128));
         assertThat(actual.getValue(ConfigurationPropertyKey.PROXY_BACKEND_QUERY_FETCH_SIZE), is(-1));
@@ -87,6 +109,8 @@ class ConfigurationPropertiesTest {
         assertThat(actual.getValue(ConfigurationPropertyKey.PROXY_FRONTEND_MAX_CONNECTIONS), is(0));
         assertThat(actual.getValue(ConfigurationPropertyKey.PROXY_DEFAULT_PORT), is(3307));
         assertThat(actual.getValue(ConfigurationPropertyKey.PROXY_NETTY_BACKLOG), is(1024));
+        assertFalse((Boolean) actual.getValue(ConfigurationPropertyKey.PROXY_FRONTEND_AUTO_PARAMETERIZATION_ENABLED));
+        assertThat(actual.getValue(ConfigurationPropertyKey.PROXY_SQL_PARSER_WARM_UP_FILE), is(""));
         assertThat(actual.getValue(ConfigurationPropertyKey.CDC_SERVER_PORT), is(33071));
     }
 }
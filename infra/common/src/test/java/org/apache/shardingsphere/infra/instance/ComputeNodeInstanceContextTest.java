@@ -18,6 +18,7 @@
 package org.apache.shardingsphere.infra.instance;
 
 import org.apache.shardingsphere.infra.config.mode.ModeConfiguration;
+import org.apache.shardingsphere.infra.instance.keygen.KeySegmentAllocator;
 import org.apache.shardingsphere.infra.instance.metadata.InstanceMetaData;
 import org.apache.shardingsphere.infra.instance.metadata.proxy.ProxyInstanceMetaData;
 import org.apache.shardingsphere.infra.instance.workerid.WorkerIdGenerator;
@@ -33,10 +34,12 @@ import java.util.Properties;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 class ComputeNodeInstanceContextTest {
     
@@ -51,6 +54,23 @@ class ComputeNodeInstanceContextTest {
         assertThat(context.getLockContext(), is(lockContext));
     }
     
+    @Test
+    void assertAllocateKeySegment() {
+        ComputeNodeInstanceContext context = new ComputeNodeInstanceContext(new ComputeNodeInstance(mock(InstanceMetaData.class)), mock(ModeConfiguration.class), new EventBusContext());
+        KeySegmentAllocator keySegmentAllocator = mock(KeySegmentAllocator.class);
+        when(keySegmentAllocator.allocate("foo_segment", 1000L)).thenReturn(2001L);
+        assertFalse(context.isKeySegmentAllocatorInitialized());
+        context.initKeySegmentAllocator(keySegmentAllocator);
+        assertTrue(context.isKeySegmentAllocatorInitialized());
+        assertThat(context.allocateKeySegment("foo_segment", 1000L), is(2001L));
+    }
+    
+    @Test
+    void assertAllocateKeySegmentWithoutAllocator() {
+        ComputeNodeInstanceContext context = new ComputeNodeInstanceContext(new ComputeNodeInstance(mock(InstanceMetaData.class)), mock(ModeConfiguration.class), new EventBusContext());
+        assertThrows(IllegalArgumentException.class, () -> context.allocateKeySegment("foo_segment", 1000L));
+    }
+    
     @Test
     void assertUpdateStatusWithInvalidInstanceState() {
         InstanceMetaData instanceMetaData = mock(InstanceMetaData.class);
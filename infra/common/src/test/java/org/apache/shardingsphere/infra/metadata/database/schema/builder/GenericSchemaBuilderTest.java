@@ -18,6 +18,7 @@
 package org.apache.shardingsphere.infra.metadata.database.schema.builder;
 
 import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.database.core.DefaultDatabase;
 import org.apache.shardingsphere.infra.database.core.metadata.data.loader.MetaDataLoader;
 import org.apache.shardingsphere.infra.database.core.metadata.data.model.SchemaMetaData;
@@ -32,6 +33,8 @@ import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
 import org.apache.shardingsphere.test.fixture.jdbc.MockedDataSource;
 import org.apache.shardingsphere.test.mock.AutoMockExtension;
 import org.apache.shardingsphere.test.mock.StaticMockSettings;
+import org.apache.shardingsphere.test.util.PropertiesBuilder;
+import org.apache.shardingsphere.test.util.PropertiesBuilder.Property;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -44,13 +47,16 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.Map;
 import java.util.Properties;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -74,26 +80,53 @@ class GenericSchemaBuilderTest {
     @Test
     void assertLoadWithExistedTableName() throws SQLException {
         Collection<String> tableNames = Collections.singletonList("data_node_routed_table1");
-        when(MetaDataLoader.load(any())).thenReturn(createSchemaMetaDataMap(tableNames, material));
+        when(MetaDataLoader.load(any(), anyInt())).thenReturn(createSchemaMetaDataMap(tableNames, material));
         assertFalse(GenericSchemaBuilder.build(tableNames, material).get(DefaultDatabase.LOGIC_NAME).getTables().isEmpty());
     }
     
     @Test
     void assertLoadWithNotExistedTableName() throws SQLException {
         Collection<String> tableNames = Collections.singletonList("invalid_table");
-        when(MetaDataLoader.load(any())).thenReturn(createSchemaMetaDataMap(tableNames, material));
+        when(MetaDataLoader.load(any(), anyInt())).thenReturn(createSchemaMetaDataMap(tableNames, material));
         assertTrue(GenericSchemaBuilder.build(tableNames, material).get(DefaultDatabase.LOGIC_NAME).getTables().isEmpty());
     }
     
     @Test
     void assertLoadAllTables() throws SQLException {
         Collection<String> tableNames = Arrays.asList("data_node_routed_table1", "data_node_routed_table2");
-        when(MetaDataLoader.load(any())).thenReturn(createSchemaMetaDataMap(tableNames, material));
+        when(MetaDataLoader.load(any(), anyInt())).thenReturn(createSchemaMetaDataMap(tableNames, material));
         Map<String, ShardingSphereSchema> actual = GenericSchemaBuilder.build(tableNames, material);
         assertThat(actual.size(), is(1));
         assertTables(new ShardingSphereSchema(DefaultDatabase.LOGIC_NAME, actual.values().iterator().next().getTables(), Collections.emptyMap()).getTables());
     }
     
+    @Test
+    void assertBuildLazily() throws SQLException {
+        DatabaseType databaseType = TypedSPILoader.getService(DatabaseType.class, "FIXTURE");
+        TableMapperRuleAttribute ruleAttribute = mock(TableMapperRuleAttribute.class);
+        when(ruleAttribute.getLogicTableNames()).thenReturn(Arrays.asList("data_node_routed_table1", "data_node_routed_table2"));
+        ShardingSphereRule rule = mock(ShardingSphereRule.class);
+        when(rule.getAttributes()).thenReturn(new RuleAttributes(ruleAttribute));
+        ConfigurationProperties props = new ConfigurationProperties(PropertiesBuilder.build(new Property(ConfigurationPropertyKey.LAZY_TABLE_METADATA_ENABLED.getKey(), Boolean.TRUE.toString())));
+        GenericSchemaBuilderMaterial lazyMaterial = new GenericSchemaBuilderMaterial(databaseType, Collections.singletonMap(DefaultDatabase.LOGIC_NAME, databaseType),
+                Collections.singletonMap(DefaultDatabase.LOGIC_NAME, new MockedDataSource()), Collections.singleton(rule), props, DefaultDatabase.LOGIC_NAME);
+        when(MetaDataLoader.load(any(), anyInt())).thenReturn(createSchemaMetaDataMap(Collections.singletonList("data_node_routed_table1"), lazyMaterial));
+        AtomicInteger suppliedCount = new AtomicInteger();
+        ShardingSphereSchema actual = GenericSchemaBuilder.build(lazyMaterial, () -> {
+            suppliedCount.incrementAndGet();
+            return lazyMaterial;
+        }).get(DefaultDatabase.LOGIC_NAME);
+        assertThat(actual.getAllTableNames().size(), is(2));
+        assertTrue(actual.getLoadedTables().isEmpty());
+        assertThat(suppliedCount.get(), is(0));
+        assertThat(actual.getTable("data_node_routed_table1").getName(), is("data_node_routed_table1"));
+        assertThat(actual.getLoadedTables().keySet(), is(Collections.singleton("data_node_routed_table1")));
+        assertFalse(actual.containsTable("data_node_routed_table2"));
+        assertNull(actual.getTable("data_node_routed_table2"));
+        assertThat(actual.getAllTableNames(), is(Collections.singleton("data_node_routed_table1")));
+        assertThat(suppliedCount.get(), is(2));
+    }
+    
     private Map<String, SchemaMetaData> createSchemaMetaDataMap(final Collection<String> tableNames, final GenericSchemaBuilderMaterial material) {
         if (!tableNames.isEmpty() && (tableNames.contains("data_node_routed_table1") || tableNames.contains("data_node_routed_table2"))) {
             Collection<TableMetaData> tableMetaDataList = tableNames.stream()
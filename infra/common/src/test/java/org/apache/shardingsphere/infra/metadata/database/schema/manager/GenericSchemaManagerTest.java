@@ -18,12 +18,16 @@
 package org.apache.shardingsphere.infra.metadata.database.schema.manager;
 
 import org.apache.shardingsphere.infra.database.core.DefaultDatabase;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.LazyTableMetaDataMap;
 import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
 import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereTable;
 import org.junit.jupiter.api.Test;
 
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -55,6 +59,19 @@ class GenericSchemaManagerTest {
         assertTrue(actual.get("foo_schema").getTables().containsKey("foo_table"));
     }
     
+    @Test
+    void assertGetToBeAddedAndDroppedTablesBySchemasWithLazySchemas() {
+        AtomicInteger loadedCount = new AtomicInteger();
+        LazyTableMetaDataMap reloadTables = new LazyTableMetaDataMap(Arrays.asList("foo_table", "bar_table"), createTableLoader(loadedCount), 0);
+        reloadTables.get("foo_table");
+        LazyTableMetaDataMap currentTables = new LazyTableMetaDataMap(Arrays.asList("foo_table", "bar_table"), createTableLoader(loadedCount), 0);
+        Map<String, ShardingSphereSchema> reloadSchemas = Collections.singletonMap("foo_schema", new ShardingSphereSchema(DefaultDatabase.LOGIC_NAME, reloadTables));
+        Map<String, ShardingSphereSchema> currentSchemas = Collections.singletonMap("foo_schema", new ShardingSphereSchema(DefaultDatabase.LOGIC_NAME, currentTables));
+        assertTrue(GenericSchemaManager.getToBeAddedTablesBySchemas(reloadSchemas, currentSchemas).get("foo_schema").getTables().isEmpty());
+        assertTrue(GenericSchemaManager.getToBeDroppedTablesBySchemas(reloadSchemas, currentSchemas).get("foo_schema").getTables().isEmpty());
+        assertThat(loadedCount.get(), is(2));
+    }
+    
     @Test
     void assertGetToBeAddedTables() {
         Map<String, ShardingSphereTable> actual = GenericSchemaManager.getToBeAddedTables(Collections.singletonMap("foo_table", new ShardingSphereTable()), Collections.emptyMap());
@@ -77,4 +94,11 @@ class GenericSchemaManagerTest {
         assertTrue(actual.containsKey("foo_schema"));
         
     }
+    
+    private Function<String, ShardingSphereTable> createTableLoader(final AtomicInteger loadedCount) {
+        return tableName -> {
+            loadedCount.incrementAndGet();
+            return new ShardingSphereTable(tableName, Collections.emptyList(), Collections.emptyList(), Collections.emptyList());
+        };
+    }
 }
@@ -0,0 +1,138 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.metadata.database.schema.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+class LazyTableMetaDataMapTest {
+    
+    @Test
+    void assertContainsKeyWithLoading() {
+        AtomicInteger loadedCount = new AtomicInteger();
+        LazyTableMetaDataMap actual = new LazyTableMetaDataMap(Arrays.asList("Foo_Tbl", "bar_tbl"), createTableLoader(loadedCount), 0);
+        assertThat(actual.keySet(), is(new HashSet<>(Arrays.asList("foo_tbl", "bar_tbl"))));
+        assertThat(actual.size(), is(2));
+        assertThat(loadedCount.get(), is(0));
+        assertTrue(actual.containsKey("foo_tbl"));
+        assertFalse(actual.containsKey("baz_tbl"));
+        assertThat(loadedCount.get(), is(1));
+    }
+    
+    @Test
+    void assertContainsKeyWithNotExistedTable() {
+        LazyTableMetaDataMap actual = new LazyTableMetaDataMap(Arrays.asList("foo_tbl", "bar_tbl"), createTableLoader(new AtomicInteger(), "foo_tbl"), 0);
+        assertFalse(actual.containsKey("bar_tbl"));
+        assertNull(actual.get("bar_tbl"));
+        assertThat(actual.keySet(), is(Collections.singleton("foo_tbl")));
+    }
+    
+    @Test
+    void assertPutTableAfterNotExistedTableDropped() {
+        LazyTableMetaDataMap actual = new LazyTableMetaDataMap(Collections.singleton("foo_tbl"), createTableLoader(new AtomicInteger(), "bar_tbl"), 0);
+        assertNull(actual.get("foo_tbl"));
+        ShardingSphereTable table = mock(ShardingSphereTable.class);
+        actual.put("foo_tbl", table);
+        assertTrue(actual.containsKey("foo_tbl"));
+        assertThat(actual.get("foo_tbl"), is(table));
+    }
+    
+    @Test
+    void assertGetWithLoadingOnce() {
+        AtomicInteger loadedCount = new AtomicInteger();
+        LazyTableMetaDataMap actual = new LazyTableMetaDataMap(Collections.singleton("foo_tbl"), createTableLoader(loadedCount), 0);
+        assertThat(actual.get("foo_tbl").getName(), is("foo_tbl"));
+        assertThat(actual.get("foo_tbl").getName(), is("foo_tbl"));
+        assertNull(actual.get("bar_tbl"));
+        assertThat(loadedCount.get(), is(1));
+        assertThat(actual.getLoadedTables().keySet(), is(Collections.singleton("foo_tbl")));
+    }
+    
+    @Test
+    void assertPutTableWithoutLoading() {
+        AtomicInteger loadedCount = new AtomicInteger();
+        LazyTableMetaDataMap actual = new LazyTableMetaDataMap(Collections.emptyList(), createTableLoader(loadedCount), 0);
+        ShardingSphereTable table = mock(ShardingSphereTable.class);
+        actual.put("foo_tbl", table);
+        assertThat(actual.get("foo_tbl"), is(table));
+        assertThat(loadedCount.get(), is(0));
+    }
+    
+    @Test
+    void assertRemove() {
+        LazyTableMetaDataMap actual = new LazyTableMetaDataMap(Collections.singleton("foo_tbl"), createTableLoader(new AtomicInteger()), 0);
+        actual.get("foo_tbl");
+        actual.remove("foo_tbl");
+        assertFalse(actual.containsKey("foo_tbl"));
+        assertNull(actual.get("foo_tbl"));
+        assertTrue(actual.getLoadedTables().isEmpty());
+    }
+    
+    @Test
+    void assertIterateWithMaxLoadedSize() {
+        AtomicInteger loadedCount = new AtomicInteger();
+        LazyTableMetaDataMap actual = new LazyTableMetaDataMap(Arrays.asList("foo_tbl", "bar_tbl", "baz_tbl"), createTableLoader(loadedCount), 1);
+        actual.values().forEach(ShardingSphereTable::getName);
+        assertThat(loadedCount.get(), is(3));
+        assertThat(actual.size(), is(3));
+        assertThat(actual.get("foo_tbl").getName(), is("foo_tbl"));
+    }
+    
+    @Test
+    void assertIterateWithNotExistedTable() {
+        LazyTableMetaDataMap actual = new LazyTableMetaDataMap(Arrays.asList("foo_tbl", "bar_tbl", "baz_tbl"), createTableLoader(new AtomicInteger(), "foo_tbl", "baz_tbl"), 0);
+        assertThat(new HashSet<>(actual.values()).size(), is(2));
+        assertThat(actual.keySet(), is(new HashSet<>(Arrays.asList("foo_tbl", "baz_tbl"))));
+    }
+    
+    @Test
+    void assertCopy() {
+        AtomicInteger loadedCount = new AtomicInteger();
+        LazyTableMetaDataMap original = new LazyTableMetaDataMap(Arrays.asList("foo_tbl", "bar_tbl"), createTableLoader(loadedCount), 0);
+        original.get("foo_tbl");
+        LazyTableMetaDataMap actual = original.copy();
+        assertThat(actual.keySet(), is(new HashSet<>(Arrays.asList("foo_tbl", "bar_tbl"))));
+        assertThat(actual.getLoadedTables().keySet(), is(Collections.singleton("foo_tbl")));
+        assertThat(actual.get("bar_tbl").getName(), is("bar_tbl"));
+        assertThat(loadedCount.get(), is(2));
+    }
+    
+    private Function<String, ShardingSphereTable> createTableLoader(final AtomicInteger loadedCount) {
+        return tableName -> {
+            loadedCount.incrementAndGet();
+            return new ShardingSphereTable(tableName, Collections.emptyList(), Collections.emptyList(), Collections.emptyList());
+        };
+    }
+    
+    private Function<String, ShardingSphereTable> createTableLoader(final AtomicInteger loadedCount, final String... existedTableNames) {
+        Function<String, ShardingSphereTable> tableLoader = createTableLoader(loadedCount);
+        return tableName -> Arrays.asList(existedTableNames).contains(tableName) ? tableLoader.apply(tableName) : null;
+    }
+}
@@ -26,6 +26,7 @@ import org.apache.shardingsphere.infra.database.core.metadata.data.model.SchemaM
 import org.apache.shardingsphere.infra.database.core.metadata.data.model.TableMetaData;
 import org.apache.shardingsphere.infra.database.core.spi.DatabaseTypedSPILoader;
 
+import javax.sql.DataSource;
 import java.sql.SQLException;
 import java.util.Collection;
 import java.util.Collections;
@@ -33,10 +34,12 @@ import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.Map;
 import java.util.Optional;
+import java.util.WeakHashMap;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Future;
 import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 
@@ -50,6 +53,8 @@ public final class MetaDataLoader {
     private static final ExecutorService EXECUTOR_SERVICE = new ThreadPoolExecutor(Runtime.getRuntime().availableProcessors() * 2, Runtime.getRuntime().availableProcessors() * 2,
             0L, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(), new ThreadFactoryBuilder().setDaemon(true).setNameFormat("ShardingSphere-SchemaMetaDataLoaderEngine-%d").build());
     
+    private static final Map<DataSource, Semaphore> DATA_SOURCE_PERMITS = Collections.synchronizedMap(new WeakHashMap<>());
+    
     /**
      * Load meta data.
      *
@@ -58,10 +63,24 @@ public final class MetaDataLoader {
      * @throws SQLException SQL exception
      */
     public static Map<String, SchemaMetaData> load(final Collection<MetaDataLoaderMaterial> materials) throws SQLException {
+        return load(materials, 0);
+    }
+    
+    /**
+     * Load meta data with concurrency limit of each data source.
+     *
+     * <p>The limit is shared by all loadings of the same data source, and is fixed when the data source is loaded first time.</p>
+     *
+     * @param materials meta data loader materials
+     * @param maxConcurrencyPerDataSource max concurrent loading tasks of each data source, less than or equal to 0 means no limitation
+     * @return meta data map
+     * @throws SQLException SQL exception
+     */
+    public static Map<String, SchemaMetaData> load(final Collection<MetaDataLoaderMaterial> materials, final int maxConcurrencyPerDataSource) throws SQLException {
         Map<String, SchemaMetaData> result = new LinkedHashMap<>(materials.size(), 1F);
         Collection<Future<Collection<SchemaMetaData>>> futures = new LinkedList<>();
         for (MetaDataLoaderMaterial each : materials) {
-            futures.add(EXECUTOR_SERVICE.submit(() -> load(each)));
+            futures.add(EXECUTOR_SERVICE.submit(() -> maxConcurrencyPerDataSource > 0 ? loadWithPermit(each, maxConcurrencyPerDataSource) : load(each)));
         }
         try {
             for (Future<Collection<SchemaMetaData>> each : futures) {
@@ -78,6 +97,16 @@ public final class MetaDataLoader {
         return result;
     }
     
+    private static Collection<SchemaMetaData> loadWithPermit(final MetaDataLoaderMaterial material, final int maxConcurrencyPerDataSource) throws SQLException, InterruptedException {
+        Semaphore permits = DATA_SOURCE_PERMITS.computeIfAbsent(material.getDataSource(), key -> new Semaphore(maxConcurrencyPerDataSource));
+        permits.acquire();
+        try {
+            return load(material);
+        } finally {
+            permits.release();
+        }
+    }
+    
     private static Collection<SchemaMetaData> load(final MetaDataLoaderMaterial material) throws SQLException {
         Optional<DialectMetaDataLoader> dialectLoader = DatabaseTypedSPILoader.findService(DialectMetaDataLoader.class, material.getStorageType());
         if (dialectLoader.isPresent()) {
@@ -23,6 +23,7 @@ import org.apache.shardingsphere.infra.exception.generic.UnknownSQLException;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroup;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupContext;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutorCallback;
+import org.apache.shardingsphere.infra.executor.kernel.thread.DataSourceConcurrencyLimiter;
 import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorServiceManager;
 
 import java.sql.SQLException;
@@ -41,10 +42,15 @@ import java.util.concurrent.Future;
 @Getter
 public final class ExecutorEngine implements AutoCloseable {
     
+    private static final String DEFAULT_NAME_FORMAT = "%d";
+    
     private final ExecutorServiceManager executorServiceManager;
     
-    private ExecutorEngine(final int executorSize) {
-        executorServiceManager = new ExecutorServiceManager(executorSize);
+    private final DataSourceConcurrencyLimiter dataSourceConcurrencyLimiter;
+    
+    private ExecutorEngine(final int executorSize, final boolean virtualThreadEnabled, final int maxConcurrencyPerDataSource) {
+        executorServiceManager = new ExecutorServiceManager(executorSize, DEFAULT_NAME_FORMAT, virtualThreadEnabled);
+        dataSourceConcurrencyLimiter = new DataSourceConcurrencyLimiter(maxConcurrencyPerDataSource);
     }
     
     /**
@@ -54,7 +60,19 @@ public final class ExecutorEngine implements AutoCloseable {
      * @return created executor engine
      */
     public static ExecutorEngine createExecutorEngineWithSize(final int executorSize) {
-        return new ExecutorEngine(executorSize);
+        return new ExecutorEngine(executorSize, false, 0);
+    }
+    
+    /**
+     * Create executor engine with executor size, thread type and concurrency limit of data source.
+     *
+     * @param executorSize executor size, zero means unbounded, ignored if virtual threads are used
+     * @param virtualThreadEnabled whether use virtual threads, fall back to platform threads if current JVM does not support virtual threads
+     * @param maxConcurrencyPerDataSource max concurrent executions of each data source, zero means unbounded
+     * @return created executor engine
+     */
+    public static ExecutorEngine createExecutorEngine(final int executorSize, final boolean virtualThreadEnabled, final int maxConcurrencyPerDataSource) {
+        return new ExecutorEngine(executorSize, virtualThreadEnabled, maxConcurrencyPerDataSource);
     }
     
     /**
@@ -0,0 +1,82 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.kernel.thread;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.exception.kernel.connection.SQLExecutionInterruptedException;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Data source concurrency limiter.
+ *
+ * <p>Bounds the executions running on each data source at the same time, zero or negative max concurrency means no limit.</p>
+ */
+@RequiredArgsConstructor
+public final class DataSourceConcurrencyLimiter {
+    
+    private final int maxConcurrency;
+    
+    private final Map<String, Semaphore> semaphores = new ConcurrentHashMap<>();
+    
+    /**
+     * Judge whether concurrency is limited.
+     *
+     * @return concurrency is limited or not
+     */
+    public boolean isLimited() {
+        return maxConcurrency > 0;
+    }
+    
+    /**
+     * Acquire execution permit of data source, wait until permit is available.
+     *
+     * @param dataSourceName data source name
+     * @throws SQLExecutionInterruptedException SQL execution interrupted exception
+     */
+    public void acquire(final String dataSourceName) {
+        try {
+            semaphores.computeIfAbsent(dataSourceName, key -> new Semaphore(maxConcurrency, true)).acquire();
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new SQLExecutionInterruptedException();
+        }
+    }
+    
+    /**
+     * Release execution permit of data source.
+     *
+     * @param dataSourceName data source name
+     */
+    public void release(final String dataSourceName) {
+        semaphores.get(dataSourceName).release();
+    }
+    
+    /**
+     * Get available permits of data source.
+     *
+     * @param dataSourceName data source name
+     * @return available permits
+     */
+    public int getAvailablePermits(final String dataSourceName) {
+        Semaphore semaphore = semaphores.get(dataSourceName);
+        return null == semaphore ? maxConcurrency : semaphore.availablePermits();
+    }
+}
@@ -20,6 +20,8 @@ package org.apache.shardingsphere.infra.executor.kernel.thread;
 import com.alibaba.ttl.threadpool.TtlExecutors;
 import lombok.Getter;
 
+import java.lang.reflect.InvocationTargetException;
+import java.util.Optional;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ThreadFactory;
@@ -27,6 +29,8 @@ import java.util.concurrent.TimeUnit;
 
 /**
  * Executor service manager.
+ *
+ * <p>With virtual threads enabled, each task runs on a new virtual thread and executor size is ignored.</p>
  */
 @Getter
 public final class ExecutorServiceManager {
@@ -42,14 +46,32 @@ public final class ExecutorServiceManager {
     }
     
     public ExecutorServiceManager(final int executorSize, final String nameFormat) {
-        executorService = TtlExecutors.getTtlExecutorService(getExecutorService(executorSize, nameFormat));
+        this(executorSize, nameFormat, false);
+    }
+    
+    public ExecutorServiceManager(final int executorSize, final String nameFormat, final boolean virtualThreadEnabled) {
+        executorService = TtlExecutors.getTtlExecutorService(getExecutorService(executorSize, nameFormat, virtualThreadEnabled));
     }
     
-    private ExecutorService getExecutorService(final int executorSize, final String nameFormat) {
+    private ExecutorService getExecutorService(final int executorSize, final String nameFormat, final boolean virtualThreadEnabled) {
+        if (virtualThreadEnabled) {
+            Optional<ExecutorService> result = ExecutorThreadFactoryBuilder.buildVirtual(nameFormat).flatMap(this::newThreadPerTaskExecutor);
+            if (result.isPresent()) {
+                return result.get();
+            }
+        }
         ThreadFactory threadFactory = ExecutorThreadFactoryBuilder.build(nameFormat);
         return 0 == executorSize ? Executors.newCachedThreadPool(threadFactory) : Executors.newFixedThreadPool(executorSize, threadFactory);
     }
     
+    private Optional<ExecutorService> newThreadPerTaskExecutor(final ThreadFactory threadFactory) {
+        try {
+            return Optional.of((ExecutorService) Executors.class.getMethod("newThreadPerTaskExecutor", ThreadFactory.class).invoke(null, threadFactory));
+        } catch (final NoSuchMethodException | IllegalAccessException | InvocationTargetException ignored) {
+            return Optional.empty();
+        }
+    }
+    
     /**
      * Close executor service.
      */
@@ -21,6 +21,8 @@ import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.infra.session.connection.ConnectionContext;
 import org.apache.shardingsphere.infra.executor.kernel.ExecutorEngine;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupContext;
+import org.apache.shardingsphere.infra.executor.kernel.model.ExecutorCallback;
+import org.apache.shardingsphere.infra.executor.kernel.thread.DataSourceConcurrencyLimiter;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.SQLExecutorExceptionHandler;
 
 import java.sql.SQLException;
@@ -63,10 +65,26 @@ public final class JDBCExecutor {
     public <T> List<T> execute(final ExecutionGroupContext<JDBCExecutionUnit> executionGroupContext,
                                final JDBCExecutorCallback<T> firstCallback, final JDBCExecutorCallback<T> callback) throws SQLException {
         try {
-            return executorEngine.execute(executionGroupContext, firstCallback, callback, connectionContext.getTransactionContext().isInDistributedTransaction());
+            return executorEngine.execute(executionGroupContext, limit(firstCallback), limit(callback), connectionContext.getTransactionContext().isInDistributedTransaction());
         } catch (final SQLException ex) {
             SQLExecutorExceptionHandler.handleException(ex);
             return Collections.emptyList();
         }
     }
+    
+    private <T> ExecutorCallback<JDBCExecutionUnit, T> limit(final JDBCExecutorCallback<T> callback) {
+        DataSourceConcurrencyLimiter limiter = executorEngine.getDataSourceConcurrencyLimiter();
+        if (null == callback || !limiter.isLimited()) {
+            return callback;
+        }
+        return (inputs, isTrunkThread, processId) -> {
+            String dataSourceName = inputs.iterator().next().getExecutionUnit().getDataSourceName();
+            limiter.acquire(dataSourceName);
+            try {
+                return callback.execute(inputs, isTrunkThread, processId);
+            } finally {
+                limiter.release(dataSourceName);
+            }
+        };
+    }
 }
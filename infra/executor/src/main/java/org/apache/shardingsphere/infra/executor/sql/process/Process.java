@@ -34,6 +34,7 @@ import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Process.
@@ -65,6 +66,8 @@ public final class Process {
     
     private final AtomicBoolean interrupted;
     
+    private final AtomicLong spilledRowCount = new AtomicLong();
+    
     public Process(final ExecutionGroupContext<? extends SQLExecutionUnit> executionGroupContext) {
         this("", executionGroupContext, true);
     }
@@ -143,6 +146,15 @@ public final class Process {
         return idle.get();
     }
     
+    /**
+     * Record rows spilled to disk by memory merge.
+     *
+     * @param rowCount spilled row count
+     */
+    public void spillRows(final long rowCount) {
+        spilledRowCount.addAndGet(rowCount);
+    }
+    
     /**
      * Remove process statement.
      *
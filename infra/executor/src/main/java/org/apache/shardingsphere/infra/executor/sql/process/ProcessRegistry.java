@@ -72,6 +72,7 @@ public final class ProcessRegistry {
         oldProcess.getIdle().set(newProcess.getIdle().get());
         oldProcess.getInterrupted().compareAndSet(false, newProcess.getInterrupted().get());
         oldProcess.getProcessStatements().putAll(newProcess.getProcessStatements());
+        oldProcess.spillRows(newProcess.getSpilledRowCount().get());
     }
     
     /**
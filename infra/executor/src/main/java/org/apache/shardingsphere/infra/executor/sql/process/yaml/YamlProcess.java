@@ -47,4 +47,6 @@ public final class YamlProcess implements YamlConfiguration {
     private boolean idle;
     
     private boolean interrupted;
+    
+    private long spilledRowCount;
 }
@@ -42,13 +42,16 @@ public final class YamlProcessSwapper implements YamlConfigurationSwapper<YamlPr
         result.setCompletedUnitCount(data.getCompletedUnitCount().get());
         result.setIdle(data.isIdle());
         result.setInterrupted(data.isInterrupted());
+        result.setSpilledRowCount(data.getSpilledRowCount().get());
         return result;
     }
     
     @Override
     public Process swapToObject(final YamlProcess yamlConfig) {
-        return new Process(yamlConfig.getId(), yamlConfig.getStartMillis(), yamlConfig.getSql(), yamlConfig.getDatabaseName(), yamlConfig.getUsername(), yamlConfig.getHostname(),
+        Process result = new Process(yamlConfig.getId(), yamlConfig.getStartMillis(), yamlConfig.getSql(), yamlConfig.getDatabaseName(), yamlConfig.getUsername(), yamlConfig.getHostname(),
                 new AtomicInteger(yamlConfig.getTotalUnitCount()), new AtomicInteger(yamlConfig.getCompletedUnitCount()), new AtomicBoolean(yamlConfig.isIdle()),
                 new AtomicBoolean(yamlConfig.isInterrupted()));
+        result.spillRows(yamlConfig.getSpilledRowCount());
+        return result;
     }
 }
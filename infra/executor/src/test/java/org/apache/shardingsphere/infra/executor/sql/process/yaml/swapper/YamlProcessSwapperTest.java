@@ -44,6 +44,7 @@ class YamlProcessSwapperTest {
         ExecutionGroupReportContext reportContext = new ExecutionGroupReportContext(processId, "foo_db", new Grantee("root", "localhost"));
         ExecutionGroupContext<? extends SQLExecutionUnit> executionGroupContext = new ExecutionGroupContext<>(Collections.emptyList(), reportContext);
         Process process = new Process("SELECT 1", executionGroupContext);
+        process.spillRows(100L);
         YamlProcess actual = new YamlProcessSwapper().swapToYamlConfiguration(process);
         assertNotNull(actual.getId());
         assertThat(actual.getStartMillis(), lessThanOrEqualTo(System.currentTimeMillis()));
@@ -53,6 +54,7 @@ class YamlProcessSwapperTest {
         assertThat(actual.getHostname(), is("localhost"));
         assertThat(actual.getCompletedUnitCount(), is(0));
         assertThat(actual.getTotalUnitCount(), is(0));
+        assertThat(actual.getSpilledRowCount(), is(100L));
         assertFalse(actual.isIdle());
     }
     
@@ -67,6 +69,7 @@ class YamlProcessSwapperTest {
         assertThat(actual.getHostname(), is("localhost"));
         assertThat(actual.getTotalUnitCount().get(), is(10));
         assertThat(actual.getCompletedUnitCount().get(), is(5));
+        assertThat(actual.getSpilledRowCount().get(), is(20L));
         assertTrue(actual.isIdle());
     }
     
@@ -80,6 +83,7 @@ class YamlProcessSwapperTest {
         result.setHostname("localhost");
         result.setTotalUnitCount(10);
         result.setCompletedUnitCount(5);
+        result.setSpilledRowCount(20L);
         result.setIdle(true);
         return result;
     }
@@ -21,13 +21,24 @@ import com.google.common.base.Preconditions;
 import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
 
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.math.BigInteger;
 import java.sql.SQLException;
 
 /**
  * Memory query result row.
  */
 @RequiredArgsConstructor
-public final class MemoryQueryResultRow {
+public final class MemoryQueryResultRow implements Serializable {
+    
+    private static final long serialVersionUID = -6203741178373766592L;
+    
+    private static final long ROW_OVERHEAD_SIZE = 32L;
+    
+    private static final long REFERENCE_SIZE = 8L;
+    
+    private static final long BOXED_VALUE_SIZE = 24L;
     
     private final Object[] data;
     
@@ -65,4 +76,36 @@ public final class MemoryQueryResultRow {
         Preconditions.checkArgument(columnIndex > 0 && columnIndex < data.length + 1);
         data[columnIndex - 1] = value;
     }
+    
+    /**
+     * Estimate heap size of row.
+     *
+     * @return estimated heap size in bytes
+     */
+    public long estimateSize() {
+        long result = ROW_OVERHEAD_SIZE + REFERENCE_SIZE * data.length;
+        for (Object each : data) {
+            result += estimateCellSize(each);
+        }
+        return result;
+    }
+    
+    private long estimateCellSize(final Object cell) {
+        if (null == cell) {
+            return 0L;
+        }
+        if (cell instanceof String) {
+            return BOXED_VALUE_SIZE + 16L + 2L * ((String) cell).length();
+        }
+        if (cell instanceof byte[]) {
+            return 16L + ((byte[]) cell).length;
+        }
+        if (cell instanceof BigDecimal) {
+            return BOXED_VALUE_SIZE * 2L + ((BigDecimal) cell).unscaledValue().bitLength() / 8L;
+        }
+        if (cell instanceof BigInteger) {
+            return BOXED_VALUE_SIZE + 16L + ((BigInteger) cell).bitLength() / 8L;
+        }
+        return BOXED_VALUE_SIZE;
+    }
 }
@@ -0,0 +1,168 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.merge.result.impl.memory.spill;
+
+import com.google.common.collect.Iterators;
+import lombok.Getter;
+import lombok.SneakyThrows;
+
+import java.io.IOException;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.function.ToLongFunction;
+
+/**
+ * External sorter.
+ *
+ * <p>Elements are buffered in memory, and the buffer is sorted and spilled to a temporary file whenever its estimated size reaches the memory budget.
+ * The sorted iterator merges spilled files with the remaining buffer, at most max merge fan-in files are opened at the same time,
+ * so spilled files are merged in multiple passes when there are more of them.</p>
+ *
+ * @param <T> type of element
+ */
+public final class ExternalSorter<T extends Serializable> implements AutoCloseable {
+    
+    private static final int DEFAULT_MAX_MERGE_FAN_IN = 64;
+    
+    private final Comparator<? super T> comparator;
+    
+    private final long memoryBudget;
+    
+    private final ToLongFunction<? super T> sizeEstimator;
+    
+    private final int maxMergeFanIn;
+    
+    private final List<T> buffer = new ArrayList<>();
+    
+    private final LinkedList<SpillFile<T>> spillFiles = new LinkedList<>();
+    
+    private long bufferedSize;
+    
+    @Getter
+    private long spilledSize;
+    
+    public ExternalSorter(final Comparator<? super T> comparator, final long memoryBudget, final ToLongFunction<? super T> sizeEstimator) {
+        this(comparator, memoryBudget, sizeEstimator, DEFAULT_MAX_MERGE_FAN_IN);
+    }
+    
+    public ExternalSorter(final Comparator<? super T> comparator, final long memoryBudget, final ToLongFunction<? super T> sizeEstimator, final int maxMergeFanIn) {
+        this.comparator = comparator;
+        this.memoryBudget = Math.max(memoryBudget, 1L);
+        this.sizeEstimator = sizeEstimator;
+        this.maxMergeFanIn = Math.max(maxMergeFanIn, 2);
+    }
+    
+    /**
+     * Add element.
+     *
+     * @param element element to be added
+     */
+    public void add(final T element) {
+        buffer.add(element);
+        bufferedSize += sizeEstimator.applyAsLong(element);
+        if (bufferedSize >= memoryBudget) {
+            spill();
+        }
+    }
+    
+    /**
+     * Sort and spill buffered elements to disk.
+     */
+    @SneakyThrows(IOException.class)
+    public void spill() {
+        if (buffer.isEmpty()) {
+            return;
+        }
+        buffer.sort(comparator);
+        spillFiles.add(new SpillFile<>(buffer.iterator()));
+        spilledSize += buffer.size();
+        buffer.clear();
+        bufferedSize = 0L;
+        if (spillFiles.size() >= maxMergeFanIn) {
+            mergeSpillFiles(maxMergeFanIn);
+        }
+    }
+    
+    private void mergeSpillFiles(final int fanIn) throws IOException {
+        List<SpillFile<T>> toBeMergedFiles = new ArrayList<>(fanIn);
+        for (int i = 0; i < fanIn; i++) {
+            toBeMergedFiles.add(spillFiles.removeFirst());
+        }
+        try {
+            List<Iterator<T>> iterators = new ArrayList<>(fanIn);
+            for (SpillFile<T> each : toBeMergedFiles) {
+                iterators.add(each.iterator());
+            }
+            spillFiles.add(new SpillFile<>(Iterators.mergeSorted(iterators, comparator)));
+        } finally {
+            for (SpillFile<T> each : toBeMergedFiles) {
+                each.delete();
+            }
+        }
+    }
+    
+    /**
+     * Judge whether elements have been spilled to disk.
+     *
+     * @return elements have been spilled or not
+     */
+    public boolean isSpilled() {
+        return !spillFiles.isEmpty();
+    }
+    
+    /**
+     * Get sorted iterator of all added elements.
+     *
+     * @return sorted iterator
+     * @throws IOException IO exception
+     */
+    public Iterator<T> sortedIterator() throws IOException {
+        buffer.sort(comparator);
+        if (spillFiles.isEmpty()) {
+            return buffer.iterator();
+        }
+        List<Iterator<T>> iterators = new ArrayList<>(spillFiles.size() + 1);
+        for (SpillFile<T> each : spillFiles) {
+            iterators.add(each.iterator());
+        }
+        iterators.add(buffer.iterator());
+        return Iterators.mergeSorted(iterators, comparator);
+    }
+    
+    @Override
+    public void close() throws IOException {
+        IOException ex = null;
+        for (SpillFile<T> each : spillFiles) {
+            try {
+                each.delete();
+            } catch (final IOException cause) {
+                ex = cause;
+            }
+        }
+        spillFiles.clear();
+        buffer.clear();
+        bufferedSize = 0L;
+        if (null != ex) {
+            throw ex;
+        }
+    }
+}
@@ -0,0 +1,139 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.merge.result.impl.memory.spill;
+
+import lombok.Getter;
+import lombok.SneakyThrows;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Spill file, which holds serialized elements in a temporary file.
+ *
+ * <p>The file is deleted once all elements are read or it is deleted explicitly, it is never registered to be deleted on JVM exit.</p>
+ *
+ * @param <T> type of element
+ */
+final class SpillFile<T extends Serializable> {
+    
+    private static final int RESET_INTERVAL = 1024;
+    
+    private final Path path;
+    
+    @Getter
+    private final int size;
+    
+    private ObjectInputStream openedInputStream;
+    
+    SpillFile(final Iterator<T> elements) throws IOException {
+        path = Files.createTempFile("shardingsphere-spill-", ".tmp");
+        try {
+            size = write(elements);
+        } catch (final IOException | RuntimeException ex) {
+            Files.deleteIfExists(path);
+            throw ex;
+        }
+    }
+    
+    private int write(final Iterator<T> elements) throws IOException {
+        int result = 0;
+        try (ObjectOutputStream outputStream = new ObjectOutputStream(new BufferedOutputStream(Files.newOutputStream(path)))) {
+            while (elements.hasNext()) {
+                outputStream.writeUnshared(elements.next());
+                if (0 == ++result % RESET_INTERVAL) {
+                    outputStream.reset();
+                }
+            }
+        }
+        return result;
+    }
+    
+    /**
+     * Open iterator to read elements in written order, the file will be deleted after all elements are read.
+     *
+     * @return iterator of elements
+     * @throws IOException IO exception
+     */
+    Iterator<T> iterator() throws IOException {
+        openedInputStream = new ObjectInputStream(new BufferedInputStream(Files.newInputStream(path)));
+        return new SpillFileIterator(openedInputStream);
+    }
+    
+    /**
+     * Delete spill file, the opened iterator will be closed too.
+     *
+     * @throws IOException IO exception
+     */
+    void delete() throws IOException {
+        try {
+            if (null != openedInputStream) {
+                openedInputStream.close();
+                openedInputStream = null;
+            }
+        } finally {
+            Files.deleteIfExists(path);
+        }
+    }
+    
+    private final class SpillFileIterator implements Iterator<T> {
+        
+        private final ObjectInputStream inputStream;
+        
+        private int readCount;
+        
+        SpillFileIterator(final ObjectInputStream inputStream) {
+            this.inputStream = inputStream;
+            if (0 == size) {
+                close();
+            }
+        }
+        
+        @Override
+        public boolean hasNext() {
+            return readCount < size;
+        }
+        
+        @SuppressWarnings("unchecked")
+        @SneakyThrows({IOException.class, ClassNotFoundException.class})
+        @Override
+        public T next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            T result = (T) inputStream.readUnshared();
+            if (++readCount == size) {
+                close();
+            }
+            return result;
+        }
+        
+        @SneakyThrows(IOException.class)
+        private void close() {
+            delete();
+        }
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.merge.result.impl.memory.spill;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ExternalSorterTest {
+    
+    @Test
+    void assertSortedIteratorInMemory() throws IOException {
+        try (ExternalSorter<Integer> sorter = new ExternalSorter<>(Comparator.naturalOrder(), 10L, each -> 1L)) {
+            addAll(sorter, 3, 1, 2);
+            assertFalse(sorter.isSpilled());
+            assertThat(toList(sorter.sortedIterator()), is(Arrays.asList(1, 2, 3)));
+            assertThat(sorter.getSpilledSize(), is(0L));
+        }
+    }
+    
+    @Test
+    void assertSortedIteratorWithSpilledFiles() throws IOException {
+        try (ExternalSorter<Integer> sorter = new ExternalSorter<>(Comparator.naturalOrder(), 3L, each -> 1L)) {
+            addAll(sorter, 9, 4, 7, 1, 8, 2, 6, 3, 5, 0);
+            assertTrue(sorter.isSpilled());
+            assertThat(sorter.getSpilledSize(), is(9L));
+            assertThat(toList(sorter.sortedIterator()), is(Arrays.asList(0, 1, 2, 3, 4, 5, 6, 7, 8, 9)));
+        }
+    }
+    
+    @Test
+    void assertSortedIteratorWithReversedComparator() throws IOException {
+        try (ExternalSorter<String> sorter = new ExternalSorter<>(Comparator.reverseOrder(), 2L, each -> 1L)) {
+            sorter.add("a");
+            sorter.add("c");
+            sorter.add("b");
+            assertThat(toList(sorter.sortedIterator()), is(Arrays.asList("c", "b", "a")));
+        }
+    }
+    
+    @Test
+    void assertSortedIteratorWithMultiPassMerge() throws IOException {
+        long originalCount = countSpillFiles();
+        try (ExternalSorter<Integer> sorter = new ExternalSorter<>(Comparator.naturalOrder(), 1L, each -> 1L, 2)) {
+            addAll(sorter, 9, 4, 7, 1, 8, 2, 6, 3, 5, 0);
+            assertThat(countSpillFiles(), is(originalCount + 1L));
+            assertThat(sorter.getSpilledSize(), is(10L));
+            assertThat(toList(sorter.sortedIterator()), is(Arrays.asList(0, 1, 2, 3, 4, 5, 6, 7, 8, 9)));
+        }
+    }
+    
+    @Test
+    void assertSpill() throws IOException {
+        try (ExternalSorter<Integer> sorter = new ExternalSorter<>(Comparator.naturalOrder(), 10L, each -> 1L)) {
+            sorter.spill();
+            assertFalse(sorter.isSpilled());
+            addAll(sorter, 2, 1);
+            sorter.spill();
+            assertTrue(sorter.isSpilled());
+            assertThat(sorter.getSpilledSize(), is(2L));
+            assertThat(toList(sorter.sortedIterator()), is(Arrays.asList(1, 2)));
+        }
+    }
+    
+    @Test
+    void assertCloseDeletesSpillFiles() throws IOException {
+        long originalCount = countSpillFiles();
+        ExternalSorter<Integer> sorter = new ExternalSorter<>(Comparator.naturalOrder(), 2L, each -> 1L);
+        addAll(sorter, 5, 4, 3, 2, 1);
+        Iterator<Integer> iterator = sorter.sortedIterator();
+        assertThat(iterator.next(), is(1));
+        assertThat(countSpillFiles(), is(originalCount + 2L));
+        sorter.close();
+        assertThat(countSpillFiles(), is(originalCount));
+    }
+    
+    private long countSpillFiles() throws IOException {
+        try (Stream<Path> paths = Files.list(Paths.get(System.getProperty("java.io.tmpdir")))) {
+            return paths.filter(each -> each.getFileName().toString().startsWith("shardingsphere-spill-")).count();
+        }
+    }
+    
+    private void addAll(final ExternalSorter<Integer> sorter, final int... elements) {
+        for (int each : elements) {
+            sorter.add(each);
+        }
+    }
+    
+    private <T> List<T> toList(final Iterator<T> iterator) {
+        List<T> result = new ArrayList<>();
+        iterator.forEachRemaining(result::add);
+        return result;
+    }
+}
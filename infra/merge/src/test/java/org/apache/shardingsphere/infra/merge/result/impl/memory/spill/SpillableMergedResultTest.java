@@ -0,0 +1,74 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.merge.result.impl.memory.spill;
+
+import org.apache.shardingsphere.infra.merge.result.impl.memory.MemoryQueryResultRow;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.sql.SQLException;
+import java.util.stream.Stream;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SpillableMergedResultTest {
+    
+    @Test
+    void assertNext() throws SQLException {
+        SpillableMergedResult actual = new SpillableMergedResult(createExternalSorter(1L, 3, 1, 2));
+        assertThat(actual.getValue(1, Object.class), is(1));
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, Object.class), is(1));
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, Object.class), is(2));
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, Object.class), is(3));
+        assertFalse(actual.next());
+        actual.close();
+    }
+    
+    @Test
+    void assertCloseBeforeAllRowsRead() throws SQLException, IOException {
+        long originalCount = countSpillFiles();
+        SpillableMergedResult actual = new SpillableMergedResult(createExternalSorter(100L, 4, 3, 1, 2));
+        assertTrue(actual.next());
+        assertTrue(countSpillFiles() > originalCount);
+        actual.close();
+        assertThat(countSpillFiles(), is(originalCount));
+    }
+    
+    private ExternalSorter<MemoryQueryResultRow> createExternalSorter(final long memoryBudget, final int... values) {
+        ExternalSorter<MemoryQueryResultRow> result = new ExternalSorter<>((o1, o2) -> Integer.compare((int) o1.getCell(1), (int) o2.getCell(1)), memoryBudget, MemoryQueryResultRow::estimateSize);
+        for (int each : values) {
+            result.add(new MemoryQueryResultRow(new Object[]{each}));
+        }
+        return result;
+    }
+    
+    private long countSpillFiles() throws IOException {
+        try (Stream<Path> paths = Files.list(Paths.get(System.getProperty("java.io.tmpdir")))) {
+            return paths.filter(each -> each.getFileName().toString().startsWith("shardingsphere-spill-")).count();
+        }
+    }
+}
@@ -22,8 +22,12 @@ import lombok.Getter;
 import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
 import org.apache.shardingsphere.infra.parser.cache.SQLStatementCacheBuilder;
 import org.apache.shardingsphere.sql.parser.api.CacheOption;
+import org.apache.shardingsphere.sql.parser.api.SQLParameterizeEngine;
+import org.apache.shardingsphere.sql.parser.core.database.parameterize.ParameterizedSQL;
 import org.apache.shardingsphere.sql.parser.statement.core.statement.SQLStatement;
 
+import java.util.Optional;
+
 /**
  * SQL statement parser engine.
  */
@@ -33,6 +37,8 @@ public final class SQLStatementParserEngine {
     
     private final LoadingCache<String, SQLStatement> sqlStatementCache;
     
+    private final SQLParameterizeEngine sqlParameterizeEngine;
+    
     @Getter
     private final CacheOption sqlStatementCacheOption;
     
@@ -42,6 +48,7 @@ public final class SQLStatementParserEngine {
     public SQLStatementParserEngine(final DatabaseType databaseType, final CacheOption sqlStatementCacheOption, final CacheOption parseTreeCacheOption) {
         sqlStatementParserExecutor = new SQLStatementParserExecutor(databaseType, parseTreeCacheOption);
         sqlStatementCache = SQLStatementCacheBuilder.build(databaseType, sqlStatementCacheOption, parseTreeCacheOption);
+        sqlParameterizeEngine = new SQLParameterizeEngine(databaseType);
         this.sqlStatementCacheOption = sqlStatementCacheOption;
         this.parseTreeCacheOption = parseTreeCacheOption;
     }
@@ -56,4 +63,24 @@ public final class SQLStatementParserEngine {
     public SQLStatement parse(final String sql, final boolean useCache) {
         return useCache ? sqlStatementCache.get(sql) : sqlStatementParserExecutor.parse(sql);
     }
+    
+    /**
+     * Parse to SQL statement with literals replaced by parameters.
+     *
+     * <p>Statements differing only in literals share the same cached SQL statement, the literals are returned as parameters.</p>
+     *
+     * @param sql SQL to be parsed
+     * @return parameterized SQL statement, empty if SQL can not be parameterized
+     */
+    public Optional<ParameterizedSQLStatement> parseParameterized(final String sql) {
+        Optional<ParameterizedSQL> parameterizedSQL = sqlParameterizeEngine.parameterize(sql);
+        if (!parameterizedSQL.isPresent()) {
+            return Optional.empty();
+        }
+        String cacheKey = parameterizedSQL.get().getSql();
+        SQLStatement cachedSQLStatement = sqlStatementCache.getIfPresent(cacheKey);
+        return Optional.of(null == cachedSQLStatement
+                ? new ParameterizedSQLStatement(sql, cacheKey, parameterizedSQL.get().getParameters(), sqlStatementCache.get(cacheKey), false)
+                : new ParameterizedSQLStatement(sql, cacheKey, parameterizedSQL.get().getParameters(), cachedSQLStatement, true));
+    }
 }
@@ -50,6 +50,16 @@ public final class ConnectionContext implements AutoCloseable {
     @Setter(AccessLevel.NONE)
     private String currentDatabaseName;
     
+    private volatile String processId;
+    
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private volatile boolean writePending;
+    
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private volatile long lastWriteMillis;
+    
     public ConnectionContext(final UsedDataSourceProvider usedDataSourceProvider) {
         this(usedDataSourceProvider, null);
     }
@@ -81,6 +91,37 @@ public final class ConnectionContext implements AutoCloseable {
         transactionContext.close();
     }
     
+    /**
+     * Start write, which is recorded as last write once it is finished.
+     */
+    public void startWrite() {
+        writePending = true;
+    }
+    
+    /**
+     * Finish pending write.
+     * 
+     * <p>Pending write in transaction is finished when transaction ends.</p>
+     */
+    public void finishWrite() {
+        if (writePending && !transactionContext.isInTransaction()) {
+            lastWriteMillis = System.currentTimeMillis();
+            writePending = false;
+        }
+    }
+    
+    /**
+     * Get last write milliseconds.
+     * 
+     * <p>Pending write which is not finished explicitly is regarded as finished now, which is not earlier than it is actually finished.</p>
+     *
+     * @return last write milliseconds
+     */
+    public long getLastWriteMillis() {
+        finishWrite();
+        return lastWriteMillis;
+    }
+    
     /**
      * Set current database name.
      *
@@ -105,5 +146,6 @@ public final class ConnectionContext implements AutoCloseable {
     public void close() {
         clearCursorContext();
         clearTransactionContext();
+        finishWrite();
     }
 }
@@ -0,0 +1,58 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.session.connection;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+
+class ConnectionContextTest {
+    
+    private final ConnectionContext connectionContext = new ConnectionContext(Collections::emptyList);
+    
+    @Test
+    void assertGetLastWriteMillisWithoutWrite() {
+        assertThat(connectionContext.getLastWriteMillis(), is(0L));
+    }
+    
+    @Test
+    void assertFinishWrite() {
+        long startMillis = System.currentTimeMillis();
+        connectionContext.startWrite();
+        connectionContext.finishWrite();
+        long lastWriteMillis = connectionContext.getLastWriteMillis();
+        assertThat(lastWriteMillis, greaterThanOrEqualTo(startMillis));
+        connectionContext.finishWrite();
+        assertThat(connectionContext.getLastWriteMillis(), is(lastWriteMillis));
+    }
+    
+    @Test
+    void assertFinishWriteInTransaction() {
+        connectionContext.getTransactionContext().beginTransaction("LOCAL");
+        connectionContext.startWrite();
+        connectionContext.finishWrite();
+        assertThat(connectionContext.getLastWriteMillis(), is(0L));
+        long commitMillis = System.currentTimeMillis();
+        connectionContext.close();
+        assertThat(connectionContext.getLastWriteMillis(), greaterThanOrEqualTo(commitMillis));
+    }
+}
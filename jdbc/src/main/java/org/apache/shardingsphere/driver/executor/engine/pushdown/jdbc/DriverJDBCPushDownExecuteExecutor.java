@@ -108,6 +108,7 @@ public final class DriverJDBCPushDownExecuteExecutor {
             return null != results && !results.isEmpty() && null != results.get(0) && results.get(0);
         } finally {
             processEngine.completeSQLExecution(executionGroupContext.getReportContext().getProcessId());
+            executionContext.getQueryContext().getConnectionContext().finishWrite();
         }
     }
     
@@ -112,6 +112,7 @@ public final class DriverJDBCPushDownExecuteUpdateExecutor {
             return isNeedAccumulate(database.getRuleMetaData().getRules(), executionContext.getQueryContext().getSqlStatementContext()) ? accumulate(updateCounts) : updateCounts.get(0);
         } finally {
             processEngine.completeSQLExecution(executionGroupContext.getReportContext().getProcessId());
+            executionContext.getQueryContext().getConnectionContext().finishWrite();
         }
     }
     
@@ -86,6 +86,7 @@ public final class ShardingSphereConnection extends AbstractConnectionAdapter {
         this.contextManager = contextManager;
         databaseConnectionManager = new DriverDatabaseConnectionManager(currentDatabaseName, contextManager);
         processId = processEngine.connect(currentDatabaseName);
+        databaseConnectionManager.getConnectionContext().setProcessId(processId);
         this.executorType = executorType;
     }
     
@@ -40,4 +40,17 @@ public final class IncrementalChannelCreator {
     public static PipelineChannel create(final AlgorithmConfiguration channelConfig, final IncrementalTaskProgress progress) {
         return TypedSPILoader.getService(PipelineChannelCreator.class, channelConfig.getType(), channelConfig.getProps()).newInstance(5, new IncrementalTaskAckCallback(progress));
     }
+    
+    /**
+     * Create multiplex pipeline channel for incremental task.
+     *
+     * @param channelConfig pipeline channel configuration
+     * @param progress incremental task progress
+     * @param channelCount sub channel count
+     * @return created multiplex pipeline channel
+     */
+    public static MultiplexPipelineChannel create(final AlgorithmConfiguration channelConfig, final IncrementalTaskProgress progress, final int channelCount) {
+        PipelineChannelCreator channelCreator = TypedSPILoader.getService(PipelineChannelCreator.class, channelConfig.getType(), channelConfig.getProps());
+        return new MultiplexPipelineChannel(channelCount, each -> channelCreator.newInstance(5, each), new IncrementalTaskAckCallback(progress));
+    }
 }
@@ -0,0 +1,237 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.channel;
+
+import lombok.Getter;
+import lombok.SneakyThrows;
+import org.apache.shardingsphere.data.pipeline.core.ingest.record.Column;
+import org.apache.shardingsphere.data.pipeline.core.ingest.record.DataRecord;
+import org.apache.shardingsphere.data.pipeline.core.ingest.record.FinishedRecord;
+import org.apache.shardingsphere.data.pipeline.core.ingest.record.Record;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.TreeMap;
+import java.util.function.Function;
+
+/**
+ * Multiplex pipeline channel.
+ *
+ * <p>Data records are partitioned to sub channels by hash of table name and unique key values, so changes of one row keep their order while different rows are consumed in parallel.
+ * Records without unique key are partitioned by table name only. Finished records are broadcast to all sub channels.
+ * Records which change unique key values are pushed as barrier: they wait for all previous records to be acknowledged, and later records wait for them.</p>
+ *
+ * <p>Sub channels are acknowledged independently. Acknowledged records are passed to delegated callback only after all records pushed before them are acknowledged,
+ * so ingest position never passes records which are not applied yet.</p>
+ */
+public final class MultiplexPipelineChannel implements PipelineChannel {
+    
+    @Getter
+    private final List<PipelineChannel> channels;
+    
+    private final AckTracker ackTracker;
+    
+    public MultiplexPipelineChannel(final int channelCount, final Function<PipelineChannelAckCallback, PipelineChannel> channelFactory, final PipelineChannelAckCallback ackCallback) {
+        if (channelCount <= 1) {
+            channels = Collections.singletonList(channelFactory.apply(ackCallback));
+            ackTracker = null;
+            return;
+        }
+        ackTracker = new AckTracker(channelCount, ackCallback);
+        List<PipelineChannel> subChannels = new ArrayList<>(channelCount);
+        for (int i = 0; i < channelCount; i++) {
+            int channelIndex = i;
+            subChannels.add(channelFactory.apply(records -> ackTracker.ack(channelIndex, records)));
+        }
+        channels = Collections.unmodifiableList(subChannels);
+    }
+    
+    @SneakyThrows(InterruptedException.class)
+    @Override
+    public synchronized void push(final List<Record> records) {
+        if (null == ackTracker) {
+            channels.get(0).push(records);
+            return;
+        }
+        if (records.isEmpty()) {
+            return;
+        }
+        boolean barrier = records.stream().anyMatch(this::isUniqueKeyChanged);
+        if (barrier) {
+            ackTracker.awaitAllAcked();
+        }
+        Map<Integer, List<Record>> partitionedRecords = partition(records, barrier);
+        ackTracker.register(records, partitionedRecords);
+        for (Entry<Integer, List<Record>> entry : partitionedRecords.entrySet()) {
+            channels.get(entry.getKey()).push(entry.getValue());
+        }
+        if (barrier) {
+            ackTracker.awaitAllAcked();
+        }
+    }
+    
+    private boolean isUniqueKeyChanged(final Record record) {
+        if (!(record instanceof DataRecord)) {
+            return false;
+        }
+        for (Column each : ((DataRecord) record).getColumns()) {
+            if (each.isUniqueKey() && each.isUpdated() && null != each.getOldValue() && !Objects.deepEquals(each.getOldValue(), each.getValue())) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    private Map<Integer, List<Record>> partition(final List<Record> records, final boolean barrier) {
+        Map<Integer, List<Record>> result = new TreeMap<>();
+        for (Record each : records) {
+            if (each instanceof FinishedRecord) {
+                for (int i = 0; i < channels.size(); i++) {
+                    result.computeIfAbsent(i, key -> new LinkedList<>()).add(each);
+                }
+            } else {
+                result.computeIfAbsent(barrier ? 0 : getChannelIndex(each), key -> new LinkedList<>()).add(each);
+            }
+        }
+        return result;
+    }
+    
+    private int getChannelIndex(final Record record) {
+        if (!(record instanceof DataRecord)) {
+            return 0;
+        }
+        DataRecord dataRecord = (DataRecord) record;
+        int hash = Objects.hashCode(dataRecord.getTableName());
+        for (Object each : dataRecord.getUniqueKeyValue()) {
+            hash = 31 * hash + (each instanceof byte[] ? Arrays.hashCode((byte[]) each) : Objects.hashCode(each));
+        }
+        return Math.floorMod(hash, channels.size());
+    }
+    
+    @Override
+    public List<Record> fetch(final int batchSize, final long timeoutMillis) {
+        return getSingleChannel().fetch(batchSize, timeoutMillis);
+    }
+    
+    @Override
+    public List<Record> peek() {
+        return getSingleChannel().peek();
+    }
+    
+    @Override
+    public List<Record> poll() {
+        return getSingleChannel().poll();
+    }
+    
+    @Override
+    public void ack(final List<Record> records) {
+        getSingleChannel().ack(records);
+    }
+    
+    private PipelineChannel getSingleChannel() {
+        if (null != ackTracker) {
+            throw new UnsupportedOperationException("Multiplex pipeline channel should be consumed by sub channels.");
+        }
+        return channels.get(0);
+    }
+    
+    private static final class AckTracker {
+        
+        private final PipelineChannelAckCallback ackCallback;
+        
+        private final List<Queue<PendingPart>> pendingParts;
+        
+        private final Queue<PendingRecords> pendingRecords = new LinkedList<>();
+        
+        AckTracker(final int channelCount, final PipelineChannelAckCallback ackCallback) {
+            this.ackCallback = ackCallback;
+            pendingParts = new ArrayList<>(channelCount);
+            for (int i = 0; i < channelCount; i++) {
+                pendingParts.add(new LinkedList<>());
+            }
+        }
+        
+        synchronized void register(final List<Record> records, final Map<Integer, List<Record>> partitionedRecords) {
+            PendingRecords pending = new PendingRecords(records, partitionedRecords.size());
+            pendingRecords.add(pending);
+            for (Entry<Integer, List<Record>> entry : partitionedRecords.entrySet()) {
+                pendingParts.get(entry.getKey()).add(new PendingPart(pending, entry.getValue().size()));
+            }
+        }
+        
+        synchronized void awaitAllAcked() throws InterruptedException {
+            while (!pendingRecords.isEmpty()) {
+                wait();
+            }
+        }
+        
+        synchronized void ack(final int channelIndex, final List<Record> records) {
+            Queue<PendingPart> parts = pendingParts.get(channelIndex);
+            int count = records.size();
+            while (count > 0 && !parts.isEmpty()) {
+                PendingPart part = parts.peek();
+                int ackedCount = Math.min(count, part.remaining);
+                part.remaining -= ackedCount;
+                count -= ackedCount;
+                if (0 == part.remaining) {
+                    parts.poll();
+                    part.pendingRecords.remainingParts--;
+                }
+            }
+            List<Record> ackedRecords = new LinkedList<>();
+            while (!pendingRecords.isEmpty() && 0 == pendingRecords.peek().remainingParts) {
+                ackedRecords.addAll(pendingRecords.poll().records);
+            }
+            if (!ackedRecords.isEmpty()) {
+                ackCallback.onAck(ackedRecords);
+                notifyAll();
+            }
+        }
+    }
+    
+    private static final class PendingRecords {
+        
+        private final List<Record> records;
+        
+        private int remainingParts;
+        
+        PendingRecords(final List<Record> records, final int remainingParts) {
+            this.records = records;
+            this.remainingParts = remainingParts;
+        }
+    }
+    
+    private static final class PendingPart {
+        
+        private final PendingRecords pendingRecords;
+        
+        private int remaining;
+        
+        PendingPart(final PendingRecords pendingRecords, final int remaining) {
+            this.pendingRecords = pendingRecords;
+            this.remaining = remaining;
+        }
+    }
+}
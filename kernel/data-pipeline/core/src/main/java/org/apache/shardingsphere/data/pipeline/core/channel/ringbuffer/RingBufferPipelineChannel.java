@@ -0,0 +1,131 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.channel.ringbuffer;
+
+import lombok.SneakyThrows;
+import org.apache.shardingsphere.data.pipeline.core.channel.PipelineChannel;
+import org.apache.shardingsphere.data.pipeline.core.channel.PipelineChannelAckCallback;
+import org.apache.shardingsphere.data.pipeline.core.ingest.record.Record;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Ring buffer pipeline channel.
+ * 
+ * <p>It is lock-free and only supports one push thread and one fetch thread, which is the case of every dumper and importer pair.
+ * Producer publishes one slot per push with one ordered write, consumer claims published slots in batch and releases them with one ordered write.</p>
+ */
+public final class RingBufferPipelineChannel implements PipelineChannel {
+    
+    private static final long PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(100L);
+    
+    private final List<Record>[] buffer;
+    
+    private final int mask;
+    
+    private final AtomicLong head = new AtomicLong();
+    
+    private final AtomicLong tail = new AtomicLong();
+    
+    private final PipelineChannelAckCallback ackCallback;
+    
+    @SuppressWarnings("unchecked")
+    public RingBufferPipelineChannel(final int bufferSize, final PipelineChannelAckCallback ackCallback) {
+        buffer = new List[bufferSize <= 1 ? 1 : Integer.highestOneBit(bufferSize - 1) << 1];
+        mask = buffer.length - 1;
+        this.ackCallback = ackCallback;
+    }
+    
+    @SneakyThrows(InterruptedException.class)
+    @Override
+    public void push(final List<Record> records) {
+        long currentTail = tail.get();
+        while (currentTail - head.get() >= buffer.length) {
+            LockSupport.parkNanos(PARK_NANOS);
+            if (Thread.interrupted()) {
+                throw new InterruptedException();
+            }
+        }
+        buffer[(int) currentTail & mask] = records;
+        tail.lazySet(currentTail + 1L);
+    }
+    
+    @Override
+    public List<Record> fetch(final int batchSize, final long timeoutMillis) {
+        List<Record> result = new ArrayList<>(batchSize);
+        long deadlineNanos = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+        while (true) {
+            drainTo(result, batchSize);
+            if (result.size() >= batchSize) {
+                return result;
+            }
+            long remainingNanos = deadlineNanos - System.nanoTime();
+            if (remainingNanos <= 0L || Thread.currentThread().isInterrupted()) {
+                return result;
+            }
+            if (head.get() == tail.get()) {
+                LockSupport.parkNanos(Math.min(PARK_NANOS, remainingNanos));
+            }
+        }
+    }
+    
+    private void drainTo(final List<Record> result, final int batchSize) {
+        long currentHead = head.get();
+        long currentTail = tail.get();
+        if (currentHead == currentTail) {
+            return;
+        }
+        long i = currentHead;
+        while (i < currentTail && result.size() < batchSize) {
+            int index = (int) i & mask;
+            result.addAll(buffer[index]);
+            buffer[index] = null;
+            i++;
+        }
+        head.lazySet(i);
+    }
+    
+    @Override
+    public List<Record> peek() {
+        long currentHead = head.get();
+        return currentHead == tail.get() ? Collections.emptyList() : buffer[(int) currentHead & mask];
+    }
+    
+    @Override
+    public List<Record> poll() {
+        long currentHead = head.get();
+        if (currentHead == tail.get()) {
+            return Collections.emptyList();
+        }
+        int index = (int) currentHead & mask;
+        List<Record> result = buffer[index];
+        buffer[index] = null;
+        head.lazySet(currentHead + 1L);
+        return result;
+    }
+    
+    @Override
+    public void ack(final List<Record> records) {
+        ackCallback.onAck(records);
+    }
+}
@@ -57,6 +57,8 @@ public final class ImporterConfiguration {
     
     private final int concurrency;
     
+    private final boolean upsert;
+    
     /**
      * Get sharding columns.
      *
@@ -40,8 +40,12 @@ import javax.sql.DataSource;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.atomic.AtomicReference;
@@ -54,6 +58,8 @@ import java.util.stream.Collectors;
 @Slf4j
 public final class PipelineDataSourceSink implements PipelineSink {
     
+    private static final int MAX_PARAMETER_COUNT_PER_STATEMENT = Short.MAX_VALUE;
+    
     private final ImporterConfiguration importerConfig;
     
     private final DataSource dataSource;
@@ -175,8 +181,16 @@ public final class PipelineDataSourceSink implements PipelineSink {
             if (transactionEnabled) {
                 connection.setAutoCommit(false);
             }
+            Map<List<String>, List<DataRecord>> upsertDataRecordsGroup = new LinkedHashMap<>();
             for (DataRecord each : dataRecords) {
-                executeUpdate(connection, each);
+                if (isUpsertable(each)) {
+                    upsertDataRecordsGroup.computeIfAbsent(getColumnNames(each), key -> new ArrayList<>(dataRecords.size())).add(each);
+                } else {
+                    executeUpdate(connection, each);
+                }
+            }
+            for (List<DataRecord> each : upsertDataRecordsGroup.values()) {
+                executeBatchUpsert(connection, each);
             }
             if (transactionEnabled) {
                 connection.commit();
@@ -184,6 +198,59 @@ public final class PipelineDataSourceSink implements PipelineSink {
         }
     }
     
+    private boolean isUpsertable(final DataRecord dataRecord) {
+        if (!importerConfig.isUpsert() || dataRecord.getUniqueKeyValue().isEmpty()) {
+            return false;
+        }
+        Set<String> shardingColumns = importerConfig.getShardingColumns(dataRecord.getTableName());
+        boolean hasNonUniqueKeyColumn = false;
+        for (Column each : dataRecord.getColumns()) {
+            // PostgreSQL WAL marks every column updated, so compare old value instead; sharding columns without old value are treated as changed.
+            if ((each.isUniqueKey() || shardingColumns.contains(each.getName())) && !Objects.deepEquals(each.getOldValue(), each.getValue())) {
+                return false;
+            }
+            hasNonUniqueKeyColumn = hasNonUniqueKeyColumn || !each.isUniqueKey();
+        }
+        return hasNonUniqueKeyColumn;
+    }
+    
+    private List<String> getColumnNames(final DataRecord dataRecord) {
+        return dataRecord.getColumns().stream().map(Column::getName).collect(Collectors.toList());
+    }
+    
+    private void executeBatchUpsert(final Connection connection, final List<DataRecord> dataRecords) throws SQLException {
+        DataRecord dataRecord = dataRecords.get(0);
+        String schemaName = importerConfig.findSchemaName(dataRecord.getTableName()).orElse(null);
+        int rowCountPerStatement = Math.max(1, Math.min(importerConfig.getBatchSize(), MAX_PARAMETER_COUNT_PER_STATEMENT / dataRecord.getColumnCount()));
+        for (int i = 0; i < dataRecords.size(); i += rowCountPerStatement) {
+            List<DataRecord> statementDataRecords = dataRecords.subList(i, Math.min(i + rowCountPerStatement, dataRecords.size()));
+            Optional<String> sql = importSQLBuilder.buildMultiRowUpsertSQL(schemaName, dataRecord, statementDataRecords.size());
+            if (!sql.isPresent()) {
+                for (DataRecord each : dataRecords.subList(i, dataRecords.size())) {
+                    executeUpdate(connection, each);
+                }
+                return;
+            }
+            executeUpsert(connection, sql.get(), statementDataRecords);
+        }
+    }
+    
+    private void executeUpsert(final Connection connection, final String sql, final List<DataRecord> dataRecords) throws SQLException {
+        try (PreparedStatement preparedStatement = connection.prepareStatement(sql)) {
+            runningStatement.set(preparedStatement);
+            preparedStatement.setQueryTimeout(30);
+            int parameterIndex = 1;
+            for (DataRecord each : dataRecords) {
+                for (int i = 0; i < each.getColumnCount(); i++) {
+                    preparedStatement.setObject(parameterIndex++, each.getColumn(i).getValue());
+                }
+            }
+            preparedStatement.executeUpdate();
+        } finally {
+            runningStatement.set(null);
+        }
+    }
+    
     private void executeUpdate(final Connection connection, final DataRecord dataRecord) throws SQLException {
         Set<String> shardingColumns = importerConfig.getShardingColumns(dataRecord.getTableName());
         List<Column> conditionColumns = RecordUtils.extractConditionColumns(dataRecord, shardingColumns);
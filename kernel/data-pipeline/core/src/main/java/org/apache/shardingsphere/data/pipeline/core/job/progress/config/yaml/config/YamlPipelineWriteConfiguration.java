@@ -33,5 +33,7 @@ public final class YamlPipelineWriteConfiguration implements YamlConfiguration {
     
     private int batchSize = 1000;
     
+    private boolean upsert;
+    
     private YamlAlgorithmConfiguration rateLimiter;
 }
@@ -30,6 +30,7 @@ import java.util.Collection;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 /**
  * Pipeline import SQL builder engine.
@@ -42,6 +43,8 @@ public final class PipelineImportSQLBuilder {
     
     private static final String DELETE_SQL_CACHE_KEY_PREFIX = "DELETE_";
     
+    private static final String UPSERT_SQL_CACHE_KEY_PREFIX = "UPSERT_";
+    
     private final DialectPipelineSQLBuilder dialectSQLBuilder;
     
     private final PipelineSQLSegmentBuilder sqlSegmentBuilder;
@@ -75,9 +78,34 @@ public final class PipelineImportSQLBuilder {
     }
     
     private String buildInsertMainClause(final String schemaName, final DataRecord dataRecord) {
+        return buildInsertMainClause(schemaName, dataRecord, 1);
+    }
+    
+    private String buildInsertMainClause(final String schemaName, final DataRecord dataRecord, final int rowCount) {
         String columnsLiteral = dataRecord.getColumns().stream().map(each -> sqlSegmentBuilder.getEscapedIdentifier(each.getName())).collect(Collectors.joining(","));
-        String valuesLiteral = dataRecord.getColumns().stream().map(each -> "?").collect(Collectors.joining(","));
-        return String.format("INSERT INTO %s(%s) VALUES(%s)", sqlSegmentBuilder.getQualifiedTableName(schemaName, dataRecord.getTableName()), columnsLiteral, valuesLiteral);
+        String valuesLiteral = dataRecord.getColumns().stream().map(each -> "?").collect(Collectors.joining(",", "(", ")"));
+        String rowsLiteral = IntStream.range(0, rowCount).mapToObj(each -> valuesLiteral).collect(Collectors.joining(","));
+        return String.format("INSERT INTO %s(%s) VALUES%s", sqlSegmentBuilder.getQualifiedTableName(schemaName, dataRecord.getTableName()), columnsLiteral, rowsLiteral);
+    }
+    
+    /**
+     * Build multi-row upsert SQL.
+     *
+     * @param schemaName schema name
+     * @param dataRecord data record
+     * @param rowCount row count
+     * @return multi-row upsert SQL, empty if dialect does not support upsert for the data record
+     */
+    public Optional<String> buildMultiRowUpsertSQL(final String schemaName, final DataRecord dataRecord, final int rowCount) {
+        String columnNames = dataRecord.getColumns().stream().map(Column::getName).collect(Collectors.joining(","));
+        String sqlCacheKey = UPSERT_SQL_CACHE_KEY_PREFIX + dataRecord.getTableName() + "_" + columnNames + "_" + rowCount;
+        String cachedSQL = sqlCache.getIfPresent(sqlCacheKey);
+        if (null != cachedSQL) {
+            return Optional.of(cachedSQL);
+        }
+        Optional<String> result = dialectSQLBuilder.buildInsertOnDuplicateClause(dataRecord).map(optional -> buildInsertMainClause(schemaName, dataRecord, rowCount) + " " + optional);
+        result.ifPresent(optional -> sqlCache.put(sqlCacheKey, optional));
+        return result;
     }
     
     /**
@@ -25,6 +25,7 @@ import org.junit.jupiter.api.Test;
 import java.util.Properties;
 
 import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.mockito.Mockito.mock;
 
@@ -34,4 +35,11 @@ class IncrementalChannelCreatorTest {
     void assertCreate() {
         assertThat(IncrementalChannelCreator.create(new AlgorithmConfiguration("MEMORY", new Properties()), mock(IncrementalTaskProgress.class)), instanceOf(MemoryPipelineChannel.class));
     }
+    
+    @Test
+    void assertCreateMultiplex() {
+        MultiplexPipelineChannel actual = IncrementalChannelCreator.create(new AlgorithmConfiguration("MEMORY", new Properties()), mock(IncrementalTaskProgress.class), 3);
+        assertThat(actual.getChannels().size(), is(3));
+        assertThat(actual.getChannels().get(0), instanceOf(MemoryPipelineChannel.class));
+    }
 }
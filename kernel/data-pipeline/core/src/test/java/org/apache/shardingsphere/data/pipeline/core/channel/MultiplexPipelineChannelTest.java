@@ -0,0 +1,137 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.channel;
+
+import org.apache.shardingsphere.data.pipeline.core.channel.memory.MemoryPipelineChannel;
+import org.apache.shardingsphere.data.pipeline.core.constant.PipelineSQLOperationType;
+import org.apache.shardingsphere.data.pipeline.core.ingest.position.type.placeholder.IngestPlaceholderPosition;
+import org.apache.shardingsphere.data.pipeline.core.ingest.record.Column;
+import org.apache.shardingsphere.data.pipeline.core.ingest.record.DataRecord;
+import org.apache.shardingsphere.data.pipeline.core.ingest.record.FinishedRecord;
+import org.apache.shardingsphere.data.pipeline.core.ingest.record.Record;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+class MultiplexPipelineChannelTest {
+    
+    @Test
+    void assertPushWithSingleChannel() {
+        PipelineChannelAckCallback callback = mock(PipelineChannelAckCallback.class);
+        MultiplexPipelineChannel channel = new MultiplexPipelineChannel(1, each -> new MemoryPipelineChannel(100, each), callback);
+        List<Record> records = Collections.singletonList(createDataRecord(1));
+        channel.push(records);
+        assertThat(channel.getChannels().size(), is(1));
+        assertThat(channel.fetch(1, 0L), is(records));
+        channel.ack(records);
+        verify(callback).onAck(records);
+    }
+    
+    @Test
+    void assertPushSameKeyToSameChannel() {
+        MultiplexPipelineChannel channel = new MultiplexPipelineChannel(4, each -> new MemoryPipelineChannel(100, each), mock(PipelineChannelAckCallback.class));
+        DataRecord insertRecord = createDataRecord(1);
+        DataRecord deleteRecord = new DataRecord(PipelineSQLOperationType.DELETE, "t_order", new IngestPlaceholderPosition(), 1);
+        deleteRecord.addColumn(new Column("order_id", 1, true, true));
+        channel.push(Collections.singletonList(insertRecord));
+        channel.push(Collections.singletonList(deleteRecord));
+        PipelineChannel subChannel = findSubChannel(channel, insertRecord);
+        assertThat(subChannel.fetch(2, 1000L), is(Arrays.asList(insertRecord, deleteRecord)));
+    }
+    
+    @Test
+    void assertAckInPushOrder() {
+        PipelineChannelAckCallback callback = mock(PipelineChannelAckCallback.class);
+        MultiplexPipelineChannel channel = new MultiplexPipelineChannel(2, each -> new MemoryPipelineChannel(100, each), callback);
+        DataRecord firstRecord = createDataRecord(1);
+        DataRecord secondRecord = createDataRecord(2);
+        channel.push(Collections.singletonList(firstRecord));
+        channel.push(Collections.singletonList(secondRecord));
+        PipelineChannel firstSubChannel = findSubChannel(channel, firstRecord);
+        PipelineChannel secondSubChannel = findSubChannel(channel, secondRecord);
+        assertThat(secondSubChannel, not(firstSubChannel));
+        secondSubChannel.ack(secondSubChannel.fetch(1, 0L));
+        verify(callback, never()).onAck(any());
+        firstSubChannel.ack(firstSubChannel.fetch(1, 0L));
+        verify(callback).onAck(Arrays.asList(firstRecord, secondRecord));
+    }
+    
+    @Test
+    void assertPushUniqueKeyChangedRecordAsBarrier() throws InterruptedException {
+        MultiplexPipelineChannel channel = new MultiplexPipelineChannel(2, each -> new MemoryPipelineChannel(100, each), mock(PipelineChannelAckCallback.class));
+        DataRecord updateRecord = new DataRecord(PipelineSQLOperationType.UPDATE, "t_order", new IngestPlaceholderPosition(), 1);
+        updateRecord.addColumn(new Column("order_id", 1, 2, true, true));
+        Thread thread = new Thread(() -> channel.push(Collections.singletonList(updateRecord)));
+        thread.start();
+        PipelineChannel subChannel = channel.getChannels().get(0);
+        List<Record> actual = subChannel.fetch(1, 1000L);
+        assertThat(actual, is(Collections.singletonList(updateRecord)));
+        assertTrue(thread.isAlive());
+        subChannel.ack(actual);
+        thread.join(1000L);
+        assertFalse(thread.isAlive());
+    }
+    
+    @Test
+    void assertPushFinishedRecordToAllChannels() {
+        PipelineChannelAckCallback callback = mock(PipelineChannelAckCallback.class);
+        MultiplexPipelineChannel channel = new MultiplexPipelineChannel(2, each -> new MemoryPipelineChannel(100, each), callback);
+        List<Record> records = Collections.singletonList(new FinishedRecord(new IngestPlaceholderPosition()));
+        channel.push(records);
+        for (PipelineChannel each : channel.getChannels()) {
+            List<Record> actual = each.fetch(1, 0L);
+            assertThat(actual, is(records));
+            each.ack(actual);
+        }
+        verify(callback).onAck(records);
+    }
+    
+    @Test
+    void assertFetchWithMultipleChannels() {
+        MultiplexPipelineChannel channel = new MultiplexPipelineChannel(2, each -> new MemoryPipelineChannel(100, each), mock(PipelineChannelAckCallback.class));
+        assertThrows(UnsupportedOperationException.class, () -> channel.fetch(1, 0L));
+    }
+    
+    private DataRecord createDataRecord(final int orderId) {
+        DataRecord result = new DataRecord(PipelineSQLOperationType.INSERT, "t_order", new IngestPlaceholderPosition(), 1);
+        result.addColumn(new Column("order_id", orderId, true, true));
+        return result;
+    }
+    
+    private PipelineChannel findSubChannel(final MultiplexPipelineChannel channel, final Record record) {
+        for (PipelineChannel each : channel.getChannels()) {
+            if (!each.peek().isEmpty() && each.peek().get(0) == record) {
+                return each;
+            }
+        }
+        throw new IllegalStateException("Record not found in sub channels.");
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.channel.ringbuffer;
+
+import org.apache.shardingsphere.data.pipeline.core.ingest.position.type.finished.IngestFinishedPosition;
+import org.apache.shardingsphere.data.pipeline.core.ingest.record.PlaceholderRecord;
+import org.apache.shardingsphere.data.pipeline.core.ingest.record.Record;
+import org.apache.shardingsphere.data.pipeline.core.task.InventoryTaskAckCallback;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+class RingBufferPipelineChannelTest {
+    
+    @Test
+    void assertFetchWithZeroTimeout() {
+        RingBufferPipelineChannel channel = new RingBufferPipelineChannel(100, new InventoryTaskAckCallback(new AtomicReference<>()));
+        List<Record> records = Collections.singletonList(new PlaceholderRecord(new IngestFinishedPosition()));
+        channel.push(records);
+        assertThat(channel.fetch(10, 0L), is(records));
+    }
+    
+    @Test
+    void assertFetchStopsAtBatchSize() {
+        RingBufferPipelineChannel channel = new RingBufferPipelineChannel(4, new InventoryTaskAckCallback(new AtomicReference<>()));
+        Record first = new PlaceholderRecord(new IngestFinishedPosition());
+        Record second = new PlaceholderRecord(new IngestFinishedPosition());
+        channel.push(Collections.singletonList(first));
+        channel.push(Collections.singletonList(second));
+        assertThat(channel.fetch(1, 0L), is(Collections.singletonList(first)));
+        assertThat(channel.fetch(1, 0L), is(Collections.singletonList(second)));
+    }
+    
+    @Test
+    void assertPushAndFetchConcurrently() throws InterruptedException {
+        RingBufferPipelineChannel channel = new RingBufferPipelineChannel(2, new InventoryTaskAckCallback(new AtomicReference<>()));
+        List<Record> expected = new ArrayList<>(100);
+        for (int i = 0; i < 100; i++) {
+            expected.add(new PlaceholderRecord(new IngestFinishedPosition()));
+        }
+        Thread producer = new Thread(() -> expected.forEach(each -> channel.push(Collections.singletonList(each))));
+        producer.start();
+        List<Record> actual = new ArrayList<>(expected.size());
+        while (actual.size() < expected.size()) {
+            actual.addAll(channel.fetch(10, 100L));
+        }
+        producer.join();
+        assertThat(actual, is(expected));
+    }
+    
+    @Test
+    void assertPeekAndPollWithRecords() {
+        RingBufferPipelineChannel channel = new RingBufferPipelineChannel(100, new InventoryTaskAckCallback(new AtomicReference<>()));
+        List<Record> records = Arrays.asList(new PlaceholderRecord(new IngestFinishedPosition()), new PlaceholderRecord(new IngestFinishedPosition()));
+        channel.push(records);
+        assertThat(channel.peek(), is(records));
+        assertThat(channel.poll(), is(records));
+        assertThat(channel.peek(), is(Collections.emptyList()));
+    }
+    
+    @Test
+    void assertPollWithoutRecords() {
+        assertThat(new RingBufferPipelineChannel(100, new InventoryTaskAckCallback(new AtomicReference<>())).poll(), is(Collections.emptyList()));
+    }
+    
+    @Test
+    void assertAck() {
+        InventoryTaskAckCallback callback = mock(InventoryTaskAckCallback.class);
+        List<Record> records = Collections.singletonList(new PlaceholderRecord(new IngestFinishedPosition()));
+        new RingBufferPipelineChannel(100, callback).ack(records);
+        verify(callback).onAck(records);
+    }
+}
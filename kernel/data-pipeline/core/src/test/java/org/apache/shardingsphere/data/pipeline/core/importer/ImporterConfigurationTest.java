@@ -40,7 +40,7 @@ class ImporterConfigurationTest {
     void assertGetShardingColumns() {
         ImporterConfiguration importerConfig = new ImporterConfiguration(
                 mock(PipelineDataSourceConfiguration.class), Collections.singletonMap(new CaseInsensitiveIdentifier("foo_tbl"), Collections.singleton("foo_col")),
-                mock(TableAndSchemaNameMapper.class), 1, mock(JobRateLimitAlgorithm.class), 1, 1);
+                mock(TableAndSchemaNameMapper.class), 1, mock(JobRateLimitAlgorithm.class), 1, 1, false);
         assertThat(importerConfig.getShardingColumns("foo_tbl"), is(Collections.singleton("foo_col")));
     }
     
@@ -48,7 +48,8 @@ class ImporterConfigurationTest {
     void assertFindSchemaName() {
         PipelineDataSourceConfiguration dataSourceConfig = mock(PipelineDataSourceConfiguration.class);
         when(dataSourceConfig.getDatabaseType()).thenReturn(TypedSPILoader.getService(DatabaseType.class, "FIXTURE"));
-        ImporterConfiguration importerConfig = new ImporterConfiguration(dataSourceConfig, Collections.emptyMap(), mock(TableAndSchemaNameMapper.class), 1, mock(JobRateLimitAlgorithm.class), 1, 1);
+        ImporterConfiguration importerConfig = new ImporterConfiguration(
+                dataSourceConfig, Collections.emptyMap(), mock(TableAndSchemaNameMapper.class), 1, mock(JobRateLimitAlgorithm.class), 1, 1, false);
         assertFalse(importerConfig.findSchemaName("foo_schema").isPresent());
     }
     
@@ -58,7 +59,7 @@ class ImporterConfigurationTest {
         when(tableAndSchemaNameMapper.getSchemaName("foo_tbl")).thenReturn("foo_schema");
         ImporterConfiguration importerConfig = new ImporterConfiguration(
                 mock(PipelineDataSourceConfiguration.class), Collections.singletonMap(new CaseInsensitiveIdentifier("foo_tbl"), Collections.singleton("foo_col")),
-                tableAndSchemaNameMapper, 1, mock(JobRateLimitAlgorithm.class), 1, 1);
+                tableAndSchemaNameMapper, 1, mock(JobRateLimitAlgorithm.class), 1, 1, false);
         assertThat(importerConfig.getQualifiedTables(), is(Collections.singletonList(new CaseInsensitiveQualifiedTable("foo_schema", "foo_tbl"))));
     }
 }
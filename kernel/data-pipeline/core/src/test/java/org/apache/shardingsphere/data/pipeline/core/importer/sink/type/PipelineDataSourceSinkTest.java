@@ -0,0 +1,169 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.importer.sink.type;
+
+import org.apache.shardingsphere.data.pipeline.api.PipelineDataSourceConfiguration;
+import org.apache.shardingsphere.data.pipeline.core.constant.PipelineSQLOperationType;
+import org.apache.shardingsphere.data.pipeline.core.datasource.PipelineDataSource;
+import org.apache.shardingsphere.data.pipeline.core.datasource.PipelineDataSourceManager;
+import org.apache.shardingsphere.data.pipeline.core.importer.ImporterConfiguration;
+import org.apache.shardingsphere.data.pipeline.core.ingest.dumper.mapper.TableAndSchemaNameMapper;
+import org.apache.shardingsphere.data.pipeline.core.ingest.position.type.placeholder.IngestPlaceholderPosition;
+import org.apache.shardingsphere.data.pipeline.core.ingest.record.Column;
+import org.apache.shardingsphere.data.pipeline.core.ingest.record.DataRecord;
+import org.apache.shardingsphere.data.pipeline.core.ingest.record.Record;
+import org.apache.shardingsphere.data.pipeline.core.sqlbuilder.sql.PipelineImportSQLBuilder;
+import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.metadata.caseinsensitive.CaseInsensitiveIdentifier;
+import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.internal.configuration.plugins.Plugins;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class PipelineDataSourceSinkTest {
+    
+    @Mock
+    private PipelineImportSQLBuilder importSQLBuilder;
+    
+    @Mock
+    private Connection connection;
+    
+    @Mock
+    private PreparedStatement preparedStatement;
+    
+    @BeforeEach
+    void setUp() throws SQLException {
+        when(connection.prepareStatement(anyString())).thenReturn(preparedStatement);
+        when(preparedStatement.executeUpdate()).thenReturn(1);
+        when(importSQLBuilder.buildUpdateSQL(any(), any(), any())).thenReturn("UPDATE");
+        when(importSQLBuilder.buildMultiRowUpsertSQL(any(), any(), anyInt())).thenReturn(Optional.of("UPSERT"));
+    }
+    
+    @Test
+    void assertWriteUpdateWithUpsert() throws SQLException, ReflectiveOperationException {
+        createSink(true, 1000).write("", Arrays.asList(createUpdateDataRecord(1, false), createUpdateDataRecord(2, false)));
+        verify(importSQLBuilder).buildMultiRowUpsertSQL(any(), any(), eq(2));
+        verify(importSQLBuilder, never()).buildUpdateSQL(any(), any(), any());
+        verify(preparedStatement, times(4)).setObject(anyInt(), any());
+        verify(preparedStatement).executeUpdate();
+        verify(connection).commit();
+    }
+    
+    @Test
+    void assertWriteUpdateWithUpsertInChunks() throws SQLException, ReflectiveOperationException {
+        createSink(true, 2).write("", Arrays.asList(createUpdateDataRecord(1, false), createUpdateDataRecord(2, false), createUpdateDataRecord(3, false)));
+        verify(importSQLBuilder).buildMultiRowUpsertSQL(any(), any(), eq(2));
+        verify(importSQLBuilder).buildMultiRowUpsertSQL(any(), any(), eq(1));
+        verify(preparedStatement, times(6)).setObject(anyInt(), any());
+        verify(preparedStatement, times(2)).executeUpdate();
+    }
+    
+    @Test
+    void assertWriteUpdateWithUpsertByColumnLayouts() throws SQLException, ReflectiveOperationException {
+        DataRecord dataRecord = new DataRecord(PipelineSQLOperationType.UPDATE, "foo_tbl", new IngestPlaceholderPosition(), 3);
+        dataRecord.addColumn(new Column("id", 3, 3, false, true));
+        dataRecord.addColumn(new Column("foo_col", "old_foo", "new_foo", true, false));
+        dataRecord.addColumn(new Column("bar_col", "old_bar", "new_bar", true, false));
+        createSink(true, 1000).write("", Arrays.asList(createUpdateDataRecord(1, false), createUpdateDataRecord(2, false), dataRecord));
+        verify(importSQLBuilder).buildMultiRowUpsertSQL(any(), any(), eq(2));
+        verify(importSQLBuilder).buildMultiRowUpsertSQL(any(), any(), eq(1));
+        verify(preparedStatement, times(7)).setObject(anyInt(), any());
+        verify(preparedStatement, times(2)).executeUpdate();
+    }
+    
+    @Test
+    void assertWriteUpdateWithoutUpsertEnabled() throws SQLException, ReflectiveOperationException {
+        createSink(false, 1000).write("", Arrays.asList(createUpdateDataRecord(1, false), createUpdateDataRecord(2, false)));
+        verify(importSQLBuilder, never()).buildMultiRowUpsertSQL(any(), any(), anyInt());
+        verify(importSQLBuilder, times(2)).buildUpdateSQL(any(), any(), any());
+        verify(preparedStatement, times(2)).executeUpdate();
+    }
+    
+    @Test
+    void assertWriteUpdateWithUpdatedUniqueKey() throws SQLException, ReflectiveOperationException {
+        createSink(true, 1000).write("", Arrays.asList(createUpdateDataRecord(1, true), createUpdateDataRecord(2, false)));
+        verify(importSQLBuilder).buildMultiRowUpsertSQL(any(), any(), eq(1));
+        verify(importSQLBuilder).buildUpdateSQL(any(), any(), any());
+        verify(preparedStatement, times(2)).executeUpdate();
+    }
+    
+    @Test
+    void assertWriteUpdateWithUnchangedUniqueKeyMarkedUpdated() throws SQLException, ReflectiveOperationException {
+        DataRecord dataRecord = new DataRecord(PipelineSQLOperationType.UPDATE, "foo_tbl", new IngestPlaceholderPosition(), 2);
+        dataRecord.addColumn(new Column("id", 2, 2, true, true));
+        dataRecord.addColumn(new Column("foo_col", null, "new_foo", true, false));
+        createSink(true, 1000).write("", Arrays.asList(createUpdateDataRecord(1, false), dataRecord));
+        verify(importSQLBuilder).buildMultiRowUpsertSQL(any(), any(), eq(2));
+        verify(importSQLBuilder, never()).buildUpdateSQL(any(), any(), any());
+        verify(preparedStatement).executeUpdate();
+    }
+    
+    @Test
+    void assertWriteUpdateWithoutDialectUpsertSupported() throws SQLException, ReflectiveOperationException {
+        when(importSQLBuilder.buildMultiRowUpsertSQL(any(), any(), anyInt())).thenReturn(Optional.empty());
+        createSink(true, 1000).write("", Arrays.asList(createUpdateDataRecord(1, false), createUpdateDataRecord(2, false)));
+        verify(importSQLBuilder, times(2)).buildUpdateSQL(any(), any(), any());
+        verify(preparedStatement, times(2)).executeUpdate();
+        verify(connection).commit();
+    }
+    
+    private PipelineDataSourceSink createSink(final boolean upsert, final int batchSize) throws SQLException, ReflectiveOperationException {
+        PipelineDataSourceConfiguration dataSourceConfig = mock(PipelineDataSourceConfiguration.class);
+        when(dataSourceConfig.getDatabaseType()).thenReturn(TypedSPILoader.getService(DatabaseType.class, "FIXTURE"));
+        ImporterConfiguration importerConfig = new ImporterConfiguration(dataSourceConfig, Collections.singletonMap(new CaseInsensitiveIdentifier("foo_tbl"), Collections.singleton("id")),
+                mock(TableAndSchemaNameMapper.class), batchSize, null, 0, 1, upsert);
+        PipelineDataSource dataSource = mock(PipelineDataSource.class);
+        when(dataSource.getConnection()).thenReturn(connection);
+        PipelineDataSourceManager dataSourceManager = mock(PipelineDataSourceManager.class);
+        when(dataSourceManager.getDataSource(dataSourceConfig)).thenReturn(dataSource);
+        PipelineDataSourceSink result = new PipelineDataSourceSink(importerConfig, dataSourceManager);
+        Plugins.getMemberAccessor().set(PipelineDataSourceSink.class.getDeclaredField("importSQLBuilder"), result, importSQLBuilder);
+        return result;
+    }
+    
+    private Record createUpdateDataRecord(final int id, final boolean uniqueKeyUpdated) {
+        DataRecord result = new DataRecord(PipelineSQLOperationType.UPDATE, "foo_tbl", new IngestPlaceholderPosition(), 2);
+        result.addColumn(new Column("id", uniqueKeyUpdated ? id + 1000 : id, id, uniqueKeyUpdated, true));
+        result.addColumn(new Column("foo_col", "old_foo", "new_foo", true, false));
+        return result;
+    }
+}
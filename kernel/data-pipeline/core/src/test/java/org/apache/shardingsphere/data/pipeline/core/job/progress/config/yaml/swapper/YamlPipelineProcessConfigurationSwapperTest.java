@@ -32,6 +32,7 @@ import org.junit.jupiter.api.Test;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class YamlPipelineProcessConfigurationSwapperTest {
     
@@ -46,6 +47,7 @@ class YamlPipelineProcessConfigurationSwapperTest {
         assertThat(actual.getRead().getRateLimiter().getProps().getProperty("qps"), is("500"));
         assertThat(actual.getWrite().getWorkerThread(), is(20));
         assertThat(actual.getWrite().getBatchSize(), is(1000));
+        assertTrue(actual.getWrite().getUpsert());
         assertThat(actual.getWrite().getRateLimiter().getType(), is("OUTPUT"));
         assertThat(actual.getWrite().getRateLimiter().getProps().getProperty("batch-size"), is("1000"));
         assertThat(actual.getWrite().getRateLimiter().getProps().getProperty("tps"), is("2000"));
@@ -65,6 +67,7 @@ class YamlPipelineProcessConfigurationSwapperTest {
         YamlAlgorithmConfiguration yamlWriteRateLimiterConfig = new YamlAlgorithmConfiguration();
         yamlWriteRateLimiterConfig.setType("OUTPUT");
         yamlWriteRateLimiterConfig.setProps(PropertiesBuilder.build(new Property("batch-size", "1000"), new Property("tps", "2000")));
+        yamlWriteConfig.setUpsert(true);
         yamlWriteConfig.setRateLimiter(yamlWriteRateLimiterConfig);
         result.setWrite(yamlWriteConfig);
         YamlAlgorithmConfiguration streamChannelConfig = new YamlAlgorithmConfiguration();
@@ -78,7 +81,7 @@ class YamlPipelineProcessConfigurationSwapperTest {
     void assertSwapToYamlConfiguration() {
         PipelineReadConfiguration readConfig = new PipelineReadConfiguration(40, 1000, 10000000,
                 new AlgorithmConfiguration("INPUT", PropertiesBuilder.build(new Property("batch-size", "1000"), new Property("qps", "50"))));
-        PipelineWriteConfiguration writeConfig = new PipelineWriteConfiguration(40, 1000,
+        PipelineWriteConfiguration writeConfig = new PipelineWriteConfiguration(40, 1000, true,
                 new AlgorithmConfiguration("OUTPUT", PropertiesBuilder.build(new Property("batch-size", "1000"), new Property("tps", "2000"))));
         PipelineProcessConfiguration config = new PipelineProcessConfiguration(readConfig, writeConfig,
                 new AlgorithmConfiguration("MEMORY", PropertiesBuilder.build(new Property("block-queue-size", "2000"))));
@@ -91,6 +94,7 @@ class YamlPipelineProcessConfigurationSwapperTest {
         assertThat(actual.getRead().getRateLimiter().getProps().getProperty("qps"), is("50"));
         assertThat(actual.getWrite().getWorkerThread(), is(40));
         assertThat(actual.getWrite().getBatchSize(), is(1000));
+        assertTrue(actual.getWrite().isUpsert());
         assertThat(actual.getWrite().getRateLimiter().getType(), is("OUTPUT"));
         assertThat(actual.getWrite().getRateLimiter().getProps().getProperty("batch-size"), is("1000"));
         assertThat(actual.getWrite().getRateLimiter().getProps().getProperty("tps"), is("2000"));
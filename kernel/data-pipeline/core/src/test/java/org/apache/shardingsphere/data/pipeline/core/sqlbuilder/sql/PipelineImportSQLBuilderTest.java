@@ -31,6 +31,7 @@ import java.util.Collections;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 
 class PipelineImportSQLBuilderTest {
     
@@ -81,6 +82,11 @@ class PipelineImportSQLBuilderTest {
         assertThat(actual, is("DELETE FROM foo_tbl"));
     }
     
+    @Test
+    void assertBuildMultiRowUpsertSQLWithoutDialectSupported() {
+        assertFalse(sqlBuilder.buildMultiRowUpsertSQL(null, createDataRecordWithUniqueKey(), 2).isPresent());
+    }
+    
     private Collection<Column> mockConditionColumns(final DataRecord dataRecord) {
         return RecordUtils.extractConditionColumns(dataRecord, Collections.singleton("foo_col"));
     }
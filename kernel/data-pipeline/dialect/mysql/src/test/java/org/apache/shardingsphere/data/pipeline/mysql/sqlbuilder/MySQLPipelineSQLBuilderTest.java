@@ -23,6 +23,7 @@ import org.apache.shardingsphere.data.pipeline.core.ingest.position.type.placeho
 import org.apache.shardingsphere.data.pipeline.core.ingest.record.Column;
 import org.apache.shardingsphere.data.pipeline.core.ingest.record.DataRecord;
 import org.apache.shardingsphere.data.pipeline.core.sqlbuilder.dialect.DialectPipelineSQLBuilder;
+import org.apache.shardingsphere.data.pipeline.core.sqlbuilder.sql.PipelineImportSQLBuilder;
 import org.apache.shardingsphere.infra.database.core.spi.DatabaseTypedSPILoader;
 import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
 import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
@@ -54,6 +55,13 @@ class MySQLPipelineSQLBuilderTest {
         assertThat(actual.get(), is("ON DUPLICATE KEY UPDATE id=VALUES(id),sc=VALUES(sc),c1=VALUES(c1),c2=VALUES(c2),c3=VALUES(c3)"));
     }
     
+    @Test
+    void assertBuildMultiRowUpsertSQL() {
+        Optional<String> actual = new PipelineImportSQLBuilder(TypedSPILoader.getService(DatabaseType.class, "MySQL")).buildMultiRowUpsertSQL(null, createDataRecord(), 2);
+        assertTrue(actual.isPresent());
+        assertThat(actual.get(), is("INSERT INTO foo_tbl(id,sc,c1,c2,c3) VALUES(?,?,?,?,?),(?,?,?,?,?) ON DUPLICATE KEY UPDATE id=VALUES(id),sc=VALUES(sc),c1=VALUES(c1),c2=VALUES(c2),c3=VALUES(c3)"));
+    }
+    
     private DataRecord createDataRecord() {
         DataRecord result = new DataRecord(PipelineSQLOperationType.INSERT, "foo_tbl", new IngestPlaceholderPosition(), 4);
         result.addColumn(new Column("id", "", false, true));
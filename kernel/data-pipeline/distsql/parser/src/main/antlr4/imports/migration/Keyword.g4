@@ -115,6 +115,10 @@ SHARDING_SIZE
     : S H A R D I N G UL_ S I Z E
     ;
 
+UPSERT
+    : U P S E R T
+    ;
+
 RATE_LIMITER
     : R A T E UL_ L I M I T E R
     ;
@@ -69,6 +69,7 @@ import org.apache.shardingsphere.distsql.parser.autogen.MigrationDistSQLStatemen
 import org.apache.shardingsphere.distsql.parser.autogen.MigrationDistSQLStatementParser.TargetTableNameContext;
 import org.apache.shardingsphere.distsql.parser.autogen.MigrationDistSQLStatementParser.TransmissionRuleContext;
 import org.apache.shardingsphere.distsql.parser.autogen.MigrationDistSQLStatementParser.UnregisterMigrationSourceStorageUnitContext;
+import org.apache.shardingsphere.distsql.parser.autogen.MigrationDistSQLStatementParser.UpsertContext;
 import org.apache.shardingsphere.distsql.parser.autogen.MigrationDistSQLStatementParser.WorkerThreadContext;
 import org.apache.shardingsphere.distsql.parser.autogen.MigrationDistSQLStatementParser.WriteDefinitionContext;
 import org.apache.shardingsphere.distsql.segment.AlgorithmSegment;
@@ -128,7 +129,7 @@ public final class MigrationDistSQLStatementVisitor extends MigrationDistSQLStat
     
     @Override
     public ASTNode visitWriteDefinition(final WriteDefinitionContext ctx) {
-        return new ReadOrWriteSegment(getWorkerThread(ctx.workerThread()), getBatchSize(ctx.batchSize()), getAlgorithmSegment(ctx.rateLimiter()));
+        return new ReadOrWriteSegment(getWorkerThread(ctx.workerThread()), getBatchSize(ctx.batchSize()), getUpsert(ctx.upsert()), getAlgorithmSegment(ctx.rateLimiter()));
     }
     
     private AlgorithmSegment getAlgorithmSegment(final RateLimiterContext ctx) {
@@ -157,6 +158,10 @@ public final class MigrationDistSQLStatementVisitor extends MigrationDistSQLStat
         return null == ctx ? null : Integer.parseInt(ctx.intValue().getText());
     }
     
+    private Boolean getUpsert(final UpsertContext ctx) {
+        return null == ctx ? null : null != ctx.TRUE();
+    }
+    
     @Override
     public ASTNode visitMigrateTable(final MigrateTableContext ctx) {
         SourceTargetEntry sourceTargetEntry = buildSourceTargetEntry(ctx.sourceTableName(), ctx.targetTableName());
@@ -21,12 +21,16 @@ import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 import org.apache.shardingsphere.infra.config.database.DatabaseConfiguration;
 import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.database.DatabaseTypeEngine;
 import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.exception.core.external.sql.type.wrapper.SQLWrapperException;
 import org.apache.shardingsphere.infra.instance.ComputeNodeInstanceContext;
 import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
 import org.apache.shardingsphere.metadata.persist.MetaDataPersistService;
 
+import java.sql.SQLException;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.concurrent.ConcurrentHashMap;
@@ -40,6 +44,8 @@ public final class InternalMetaDataFactory {
     /**
      * Create database meta data from governance center.
      *
+     * <p>If lazy table meta data is enabled, table names are loaded from storage units, and tables persisted in governance center are kept as loaded ones.</p>
+     *
      * @param databaseName database name
      * @param persistService meta data persist service
      * @param databaseConfig database configuration
@@ -50,8 +56,29 @@ public final class InternalMetaDataFactory {
     public static ShardingSphereDatabase create(final String databaseName, final MetaDataPersistService persistService, final DatabaseConfiguration databaseConfig,
                                                 final ConfigurationProperties props, final ComputeNodeInstanceContext computeNodeInstanceContext) {
         DatabaseType protocolType = DatabaseTypeEngine.getProtocolType(databaseConfig, props);
-        return ShardingSphereDatabase.create(databaseName,
-                protocolType, databaseConfig, computeNodeInstanceContext, persistService.getDatabaseMetaDataFacade().getSchema().load(databaseName));
+        Map<String, ShardingSphereSchema> schemas = persistService.getDatabaseMetaDataFacade().getSchema().load(databaseName);
+        return props.<Boolean>getValue(ConfigurationPropertyKey.LAZY_TABLE_METADATA_ENABLED)
+                ? createWithLazyTables(databaseName, databaseConfig, props, computeNodeInstanceContext, schemas)
+                : ShardingSphereDatabase.create(databaseName, protocolType, databaseConfig, computeNodeInstanceContext, schemas);
+    }
+    
+    private static ShardingSphereDatabase createWithLazyTables(final String databaseName, final DatabaseConfiguration databaseConfig, final ConfigurationProperties props,
+                                                               final ComputeNodeInstanceContext computeNodeInstanceContext, final Map<String, ShardingSphereSchema> persistedSchemas) {
+        ShardingSphereDatabase result;
+        try {
+            result = ExternalMetaDataFactory.create(databaseName, databaseConfig, props, computeNodeInstanceContext);
+        } catch (final SQLException ex) {
+            throw new SQLWrapperException(ex);
+        }
+        for (Entry<String, ShardingSphereSchema> entry : persistedSchemas.entrySet()) {
+            if (result.containsSchema(entry.getKey())) {
+                result.getSchema(entry.getKey()).putAll(entry.getValue().getTables());
+                result.getSchema(entry.getKey()).getViews().putAll(entry.getValue().getViews());
+            } else {
+                result.addSchema(entry.getKey(), entry.getValue());
+            }
+        }
+        return result;
     }
     
     /**
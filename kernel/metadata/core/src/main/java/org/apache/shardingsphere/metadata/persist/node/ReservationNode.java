@@ -30,6 +30,8 @@ public final class ReservationNode {
     
     private static final String WORKER_ID_NODE = "worker_id";
     
+    private static final String KEY_SEGMENT_NODE = "key_segment";
+    
     /**
      * Get worker id reservation path.
      *
@@ -39,4 +41,14 @@ public final class ReservationNode {
     public static String getWorkerIdReservationPath(final int workerId) {
         return String.join("/", "", ROOT_NODE, WORKER_ID_NODE, String.valueOf(workerId));
     }
+    
+    /**
+     * Get key segment reservation path.
+     *
+     * @param segmentName segment name
+     * @return key segment reservation path
+     */
+    public static String getKeySegmentReservationPath(final String segmentName) {
+        return String.join("/", "", ROOT_NODE, KEY_SEGMENT_NODE, segmentName);
+    }
 }
@@ -55,7 +55,16 @@ public final class TableMetaDataPersistService {
      */
     public Map<String, ShardingSphereTable> load(final String databaseName, final String schemaName) {
         List<String> tableNames = repository.getChildrenKeys(TableMetaDataNode.getMetaDataTablesNode(databaseName, schemaName));
-        return tableNames.stream().collect(Collectors.toMap(String::toLowerCase, each -> load(databaseName, schemaName, each), (a, b) -> b, () -> new LinkedHashMap<>(tableNames.size(), 1F)));
+        Map<String, String> activeVersions = getActiveVersions(databaseName, schemaName, tableNames);
+        Map<String, String> tableVersionNodes = tableNames.stream().collect(Collectors.toMap(each -> each, each -> TableMetaDataNode.getTableVersionNode(databaseName, schemaName, each,
+                activeVersions.get(TableMetaDataNode.getTableActiveVersionNode(databaseName, schemaName, each))), (a, b) -> b, () -> new LinkedHashMap<>(tableNames.size(), 1F)));
+        Map<String, String> tableContents = repository.batchQuery(tableVersionNodes.values());
+        return tableNames.stream().collect(Collectors.toMap(String::toLowerCase, each -> swapToTable(tableContents.get(tableVersionNodes.get(each))),
+                (a, b) -> b, () -> new LinkedHashMap<>(tableNames.size(), 1F)));
+    }
+    
+    private Map<String, String> getActiveVersions(final String databaseName, final String schemaName, final Collection<String> tableNames) {
+        return repository.batchQuery(tableNames.stream().map(each -> TableMetaDataNode.getTableActiveVersionNode(databaseName, schemaName, each)).collect(Collectors.toList()));
     }
     
     /**
@@ -69,38 +78,45 @@ public final class TableMetaDataPersistService {
     public ShardingSphereTable load(final String databaseName, final String schemaName, final String tableName) {
         String tableContent = repository.query(TableMetaDataNode.getTableVersionNode(databaseName, schemaName, tableName,
                 repository.query(TableMetaDataNode.getTableActiveVersionNode(databaseName, schemaName, tableName))));
+        return swapToTable(tableContent);
+    }
+    
+    private ShardingSphereTable swapToTable(final String tableContent) {
         return new YamlTableSwapper().swapToObject(YamlEngine.unmarshal(tableContent, YamlShardingSphereTable.class));
     }
     
     /**
      * Persist tables.
      *
+     * <p>Switching active version deletes the previous version, so next version is derived from active version without listing versions of each table.</p>
+     *
      * @param databaseName to be persisted database name
      * @param schemaName to be persisted schema name
      * @param tables to be persisted tables
      */
     public void persist(final String databaseName, final String schemaName, final Map<String, ShardingSphereTable> tables) {
+        Map<String, String> activeVersions = getActiveVersions(databaseName, schemaName, tables.keySet().stream().map(String::toLowerCase).collect(Collectors.toList()));
+        Map<String, String> persistedNodes = new LinkedHashMap<>(tables.size() * 2, 1F);
         Collection<MetaDataVersion> metaDataVersions = new LinkedList<>();
         for (Entry<String, ShardingSphereTable> entry : tables.entrySet()) {
             String tableName = entry.getKey().toLowerCase();
-            List<String> versions = repository.getChildrenKeys(TableMetaDataNode.getTableVersionsNode(databaseName, schemaName, tableName));
-            String nextActiveVersion = versions.isEmpty() ? MetaDataVersion.DEFAULT_VERSION : String.valueOf(Integer.parseInt(versions.get(0)) + 1);
+            String activeVersionNode = TableMetaDataNode.getTableActiveVersionNode(databaseName, schemaName, tableName);
+            String activeVersion = activeVersions.get(activeVersionNode);
+            String nextActiveVersion = Strings.isNullOrEmpty(activeVersion) ? MetaDataVersion.DEFAULT_VERSION : String.valueOf(Integer.parseInt(activeVersion) + 1);
             if (null != entry.getValue()) {
-                repository.persist(TableMetaDataNode.getTableVersionNode(databaseName, schemaName, tableName, nextActiveVersion),
+                persistedNodes.put(TableMetaDataNode.getTableVersionNode(databaseName, schemaName, tableName, nextActiveVersion),
                         YamlEngine.marshal(new YamlTableSwapper().swapToYamlConfiguration(entry.getValue())));
             }
-            if (Strings.isNullOrEmpty(getActiveVersion(databaseName, schemaName, tableName))) {
-                repository.persist(TableMetaDataNode.getTableActiveVersionNode(databaseName, schemaName, tableName), MetaDataVersion.DEFAULT_VERSION);
+            if (Strings.isNullOrEmpty(activeVersion)) {
+                activeVersion = MetaDataVersion.DEFAULT_VERSION;
+                persistedNodes.put(activeVersionNode, activeVersion);
             }
-            metaDataVersions.add(new MetaDataVersion(TableMetaDataNode.getTableNode(databaseName, schemaName, tableName), getActiveVersion(databaseName, schemaName, tableName), nextActiveVersion));
+            metaDataVersions.add(new MetaDataVersion(TableMetaDataNode.getTableNode(databaseName, schemaName, tableName), activeVersion, nextActiveVersion));
         }
+        repository.batchPersist(persistedNodes);
         metaDataVersionPersistService.switchActiveVersion(metaDataVersions);
     }
     
-    private String getActiveVersion(final String databaseName, final String schemaName, final String tableName) {
-        return repository.query(TableMetaDataNode.getTableActiveVersionNode(databaseName, schemaName, tableName));
-    }
-    
     /**
      * Drop table.
      *
@@ -28,4 +28,9 @@ class ReservationNodeTest {
     void assertGetWorkerIdReservationPath() {
         assertThat(ReservationNode.getWorkerIdReservationPath(1), is("/reservation/worker_id/1"));
     }
+    
+    @Test
+    void assertGetKeySegmentReservationPath() {
+        assertThat(ReservationNode.getKeySegmentReservationPath("foo_db.foo_tbl"), is("/reservation/key_segment/foo_db.foo_tbl"));
+    }
 }
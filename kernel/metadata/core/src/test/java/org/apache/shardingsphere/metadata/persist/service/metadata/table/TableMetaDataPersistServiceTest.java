@@ -28,15 +28,14 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.Map;
 
 import static org.apache.shardingsphere.test.matcher.ShardingSphereArgumentVerifyMatchers.deepEq;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
-import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.mock;
-import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -59,8 +58,10 @@ class TableMetaDataPersistServiceTest {
     @Test
     void assertLoad() {
         when(repository.getChildrenKeys("/metadata/foo_db/schemas/foo_schema/tables")).thenReturn(Collections.singletonList("foo_tbl"));
-        when(repository.query("/metadata/foo_db/schemas/foo_schema/tables/foo_tbl/active_version")).thenReturn("0");
-        when(repository.query("/metadata/foo_db/schemas/foo_schema/tables/foo_tbl/versions/0")).thenReturn("{name: foo_tbl}");
+        when(repository.batchQuery(Collections.singletonList("/metadata/foo_db/schemas/foo_schema/tables/foo_tbl/active_version")))
+                .thenReturn(Collections.singletonMap("/metadata/foo_db/schemas/foo_schema/tables/foo_tbl/active_version", "0"));
+        when(repository.batchQuery(argThat(keys -> keys.contains("/metadata/foo_db/schemas/foo_schema/tables/foo_tbl/versions/0"))))
+                .thenReturn(Collections.singletonMap("/metadata/foo_db/schemas/foo_schema/tables/foo_tbl/versions/0", "{name: foo_tbl}"));
         Map<String, ShardingSphereTable> actual = persistService.load("foo_db", "foo_schema");
         assertThat(actual.size(), is(1));
         assertThat(actual.get("foo_tbl").getName(), is("foo_tbl"));
@@ -69,19 +70,20 @@ class TableMetaDataPersistServiceTest {
     @Test
     void assertPersistWithoutVersion() {
         persistService.persist("foo_db", "foo_schema", Collections.singletonMap("foo_tbl", mock(ShardingSphereTable.class)));
-        verify(repository).persist("/metadata/foo_db/schemas/foo_schema/tables/foo_tbl/versions/0", "{}" + System.lineSeparator());
-        verify(repository).persist("/metadata/foo_db/schemas/foo_schema/tables/foo_tbl/active_version", "0");
+        Map<String, String> expectedPersistedNodes = new LinkedHashMap<>(2, 1F);
+        expectedPersistedNodes.put("/metadata/foo_db/schemas/foo_schema/tables/foo_tbl/versions/0", "{}" + System.lineSeparator());
+        expectedPersistedNodes.put("/metadata/foo_db/schemas/foo_schema/tables/foo_tbl/active_version", "0");
+        verify(repository).batchPersist(expectedPersistedNodes);
         verify(metaDataVersionPersistService).switchActiveVersion(
-                deepEq(Collections.singletonList(new MetaDataVersion("/metadata/foo_db/schemas/foo_schema/tables/foo_tbl", null, "0"))));
+                deepEq(Collections.singletonList(new MetaDataVersion("/metadata/foo_db/schemas/foo_schema/tables/foo_tbl", "0", "0"))));
     }
     
     @Test
     void assertPersistWithVersion() {
-        when(repository.getChildrenKeys("/metadata/foo_db/schemas/foo_schema/tables/foo_tbl/versions")).thenReturn(Collections.singletonList("10"));
-        when(repository.query("/metadata/foo_db/schemas/foo_schema/tables/foo_tbl/active_version")).thenReturn("10");
+        when(repository.batchQuery(Collections.singletonList("/metadata/foo_db/schemas/foo_schema/tables/foo_tbl/active_version")))
+                .thenReturn(Collections.singletonMap("/metadata/foo_db/schemas/foo_schema/tables/foo_tbl/active_version", "10"));
         persistService.persist("foo_db", "foo_schema", Collections.singletonMap("foo_tbl", mock(ShardingSphereTable.class)));
-        verify(repository).persist("/metadata/foo_db/schemas/foo_schema/tables/foo_tbl/versions/11", "{}" + System.lineSeparator());
-        verify(repository, times(0)).persist(eq("/metadata/foo_db/schemas/foo_schema/tables/foo_tbl/active_version"), any());
+        verify(repository).batchPersist(Collections.singletonMap("/metadata/foo_db/schemas/foo_schema/tables/foo_tbl/versions/11", "{}" + System.lineSeparator()));
         verify(metaDataVersionPersistService).switchActiveVersion(
                 deepEq(Collections.singletonList(new MetaDataVersion("/metadata/foo_db/schemas/foo_schema/tables/foo_tbl", "10", "11"))));
     }
@@ -21,6 +21,7 @@ import lombok.Getter;
 import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
 import org.apache.shardingsphere.infra.rule.scope.GlobalRule;
 import org.apache.shardingsphere.sqlfederation.config.SQLFederationRuleConfiguration;
+import org.apache.shardingsphere.sqlfederation.executor.enumerable.PushDownQueryCache;
 import org.apache.shardingsphere.sqlfederation.optimizer.context.OptimizerContext;
 import org.apache.shardingsphere.sqlfederation.optimizer.context.OptimizerContextFactory;
 
@@ -37,14 +38,18 @@ public final class SQLFederationRule implements GlobalRule {
     
     private final AtomicReference<OptimizerContext> optimizerContext;
     
+    private final AtomicReference<PushDownQueryCache> pushDownQueryCache;
+    
     public SQLFederationRule(final SQLFederationRuleConfiguration ruleConfig, final Map<String, ShardingSphereDatabase> databases) {
         configuration = ruleConfig;
         optimizerContext = new AtomicReference<>(OptimizerContextFactory.create(databases));
+        pushDownQueryCache = new AtomicReference<>(new PushDownQueryCache(ruleConfig.getExecutionPlanCache()));
     }
     
     @Override
     public void refresh(final Map<String, ShardingSphereDatabase> databases, final GlobalRuleChangedType changedType) {
         optimizerContext.set(OptimizerContextFactory.create(databases));
+        pushDownQueryCache.set(new PushDownQueryCache(configuration.getExecutionPlanCache()));
     }
     
     /**
@@ -55,4 +60,13 @@ public final class SQLFederationRule implements GlobalRule {
     public OptimizerContext getOptimizerContext() {
         return optimizerContext.get();
     }
+    
+    /**
+     * Get push down query cache.
+     *
+     * @return push down query cache
+     */
+    public PushDownQueryCache getPushDownQueryCache() {
+        return pushDownQueryCache.get();
+    }
 }
@@ -52,7 +52,6 @@ import org.apache.shardingsphere.infra.metadata.database.rule.RuleMetaData;
 import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereTable;
 import org.apache.shardingsphere.infra.metadata.statistics.ShardingSphereStatistics;
 import org.apache.shardingsphere.infra.metadata.statistics.ShardingSphereTableData;
-import org.apache.shardingsphere.infra.parser.sql.SQLStatementParserEngine;
 import org.apache.shardingsphere.infra.session.connection.ConnectionContext;
 import org.apache.shardingsphere.infra.session.query.QueryContext;
 import org.apache.shardingsphere.sql.parser.statement.core.statement.SQLStatement;
@@ -101,6 +100,8 @@ public final class EnumerableScanExecutor implements ScanExecutor {
     
     private final ShardingSphereStatistics statistics;
     
+    private final PushDownQueryCache pushDownQueryCache;
+    
     private final ProcessEngine processEngine = new ProcessEngine();
     
     @Override
@@ -111,13 +112,18 @@ public final class EnumerableScanExecutor implements ScanExecutor {
         if (new SystemDatabase(databaseType).getSystemSchemas().contains(schemaName)) {
             return createMemoryEnumerable(databaseName, schemaName, table, databaseType);
         }
-        QueryContext queryContext = createQueryContext(federationContext.getMetaData(), scanContext, databaseType, federationContext.getQueryContext().isUseCache());
-        ExecutionContext executionContext = new KernelProcessor().generateExecutionContext(queryContext, globalRuleMetaData, executorContext.getProps());
+        PushDownQueryCacheKey cacheKey = new PushDownQueryCacheKey(databaseName, scanContext.getSql().replace(System.lineSeparator(), " "), getParameters(scanContext.getParamIndexes()));
+        ExecutionContext executionContext = pushDownQueryCache.get(cacheKey, key -> createExecutionContext(key, databaseType));
         if (federationContext.isPreview()) {
             federationContext.getPreviewExecutionUnits().addAll(executionContext.getExecutionUnits());
             return createEmptyEnumerable();
         }
-        return createJDBCEnumerable(queryContext, federationContext.getMetaData().getDatabase(databaseName), executionContext);
+        return createJDBCEnumerable(executionContext.getQueryContext(), federationContext.getMetaData().getDatabase(databaseName), executionContext);
+    }
+    
+    private ExecutionContext createExecutionContext(final PushDownQueryCacheKey cacheKey, final DatabaseType databaseType) {
+        QueryContext queryContext = createQueryContext(federationContext.getMetaData(), cacheKey, databaseType, federationContext.getQueryContext().isUseCache());
+        return new KernelProcessor().generateExecutionContext(queryContext, globalRuleMetaData, executorContext.getProps());
     }
     
     private AbstractEnumerable<Object> createJDBCEnumerable(final QueryContext queryContext, final ShardingSphereDatabase database, final ExecutionContext context) {
@@ -201,11 +207,10 @@ public final class EnumerableScanExecutor implements ScanExecutor {
         }
     }
     
-    private QueryContext createQueryContext(final ShardingSphereMetaData metaData, final ScanExecutorContext sqlString, final DatabaseType databaseType, final boolean useCache) {
-        String sql = sqlString.getSql().replace(System.lineSeparator(), " ");
-        SQLStatement sqlStatement = new SQLStatementParserEngine(databaseType,
-                optimizerContext.getSqlParserRule().getSqlStatementCache(), optimizerContext.getSqlParserRule().getParseTreeCache()).parse(sql, useCache);
-        List<Object> params = getParameters(sqlString.getParamIndexes());
+    private QueryContext createQueryContext(final ShardingSphereMetaData metaData, final PushDownQueryCacheKey cacheKey, final DatabaseType databaseType, final boolean useCache) {
+        String sql = cacheKey.getSql();
+        SQLStatement sqlStatement = optimizerContext.getSQLStatementParserEngine(databaseType).parse(sql, useCache);
+        List<Object> params = cacheKey.getParams();
         HintValueContext hintValueContext = new HintValueContext();
         SQLStatementContext sqlStatementContext = new SQLBindEngine(metaData, executorContext.getDatabaseName(), hintValueContext).bind(sqlStatement, params);
         return new QueryContext(sqlStatementContext, sql, params, hintValueContext, new ConnectionContext(Collections::emptySet), metaData, useCache);
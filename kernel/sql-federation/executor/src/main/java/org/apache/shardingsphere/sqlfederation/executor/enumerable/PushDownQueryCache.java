@@ -0,0 +1,71 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.executor.enumerable;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionContext;
+import org.apache.shardingsphere.infra.route.context.RouteMapper;
+import org.apache.shardingsphere.infra.route.context.RouteUnit;
+import org.apache.shardingsphere.sql.parser.api.CacheOption;
+
+import java.util.function.Function;
+
+/**
+ * Push down query cache.
+ *
+ * <p>Execution contexts of pushed down queries are shared by all executions of federation plans, the cache is owned by SQL federation rule and replaced when meta data changes.
+ * Execution contexts routed to a data source other than the logic one (e.g. by readwrite-splitting load balancer) are not cached, so the data source is chosen again on next execution.</p>
+ */
+public final class PushDownQueryCache {
+    
+    private final Cache<PushDownQueryCacheKey, ExecutionContext> executionContexts;
+    
+    public PushDownQueryCache(final CacheOption cacheOption) {
+        executionContexts = Caffeine.newBuilder().softValues().initialCapacity(cacheOption.getInitialCapacity()).maximumSize(cacheOption.getMaximumSize()).build();
+    }
+    
+    /**
+     * Get execution context.
+     *
+     * @param cacheKey push down query cache key
+     * @param loader execution context loader
+     * @return execution context
+     */
+    public ExecutionContext get(final PushDownQueryCacheKey cacheKey, final Function<PushDownQueryCacheKey, ExecutionContext> loader) {
+        ExecutionContext result = executionContexts.getIfPresent(cacheKey);
+        if (null != result) {
+            return result;
+        }
+        result = loader.apply(cacheKey);
+        if (isCacheable(result)) {
+            executionContexts.put(cacheKey, result);
+        }
+        return result;
+    }
+    
+    private boolean isCacheable(final ExecutionContext executionContext) {
+        for (RouteUnit each : executionContext.getRouteContext().getRouteUnits()) {
+            RouteMapper dataSourceMapper = each.getDataSourceMapper();
+            if (!dataSourceMapper.getLogicName().equals(dataSourceMapper.getActualName())) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
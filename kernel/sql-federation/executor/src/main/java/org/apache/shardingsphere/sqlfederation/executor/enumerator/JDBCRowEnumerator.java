@@ -43,6 +43,8 @@ public final class JDBCRowEnumerator implements Enumerator<Object> {
     
     private final Collection<Statement> statements;
     
+    private int columnCount = -1;
+    
     private Object currentRow;
     
     @Override
@@ -58,18 +60,25 @@ public final class JDBCRowEnumerator implements Enumerator<Object> {
     
     private boolean moveNext0() throws SQLException {
         if (queryResult.next()) {
-            setCurrentRow();
+            currentRow = loadRow();
             return true;
         }
+        currentRow = null;
         return false;
     }
     
-    private void setCurrentRow() throws SQLException {
-        Object[] rowValues = new Object[metaData.getColumnCount()];
-        for (int i = 0; i < metaData.getColumnCount(); i++) {
-            rowValues[i] = getValue(i);
+    private Object loadRow() throws SQLException {
+        if (columnCount < 0) {
+            columnCount = metaData.getColumnCount();
+        }
+        if (1 == columnCount) {
+            return getValue(0);
+        }
+        Object[] result = new Object[columnCount];
+        for (int i = 0; i < columnCount; i++) {
+            result[i] = getValue(i);
         }
-        currentRow = 1 == metaData.getColumnCount() ? rowValues[0] : rowValues;
+        return result;
     }
     
     private Object getValue(final int index) throws SQLException {
@@ -0,0 +1,81 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.executor.enumerable;
+
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionContext;
+import org.apache.shardingsphere.infra.route.context.RouteContext;
+import org.apache.shardingsphere.infra.route.context.RouteMapper;
+import org.apache.shardingsphere.infra.route.context.RouteUnit;
+import org.apache.shardingsphere.infra.session.query.QueryContext;
+import org.apache.shardingsphere.sql.parser.api.CacheOption;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.mock;
+
+class PushDownQueryCacheTest {
+    
+    @Test
+    void assertGetWithCachedExecutionContext() {
+        PushDownQueryCache cache = new PushDownQueryCache(new CacheOption(8, 8L));
+        AtomicInteger loadCount = new AtomicInteger();
+        ExecutionContext expected = createExecutionContext("ds_0");
+        ExecutionContext actual = cache.get(new PushDownQueryCacheKey("foo_db", "SELECT * FROM t_order_0 WHERE order_id = ?", Collections.singletonList(1)), key -> {
+            loadCount.incrementAndGet();
+            return expected;
+        });
+        assertThat(actual, is(expected));
+        actual = cache.get(new PushDownQueryCacheKey("foo_db", "SELECT * FROM t_order_0 WHERE order_id = ?", Collections.singletonList(1)), key -> {
+            loadCount.incrementAndGet();
+            return createExecutionContext("ds_0");
+        });
+        assertThat(actual, is(expected));
+        assertThat(loadCount.get(), is(1));
+    }
+    
+    @Test
+    void assertGetWithAnotherDatabase() {
+        PushDownQueryCache cache = new PushDownQueryCache(new CacheOption(8, 8L));
+        ExecutionContext expected = createExecutionContext("ds_0");
+        cache.get(new PushDownQueryCacheKey("foo_db", "SELECT * FROM t_order_0", Collections.emptyList()), key -> createExecutionContext("ds_0"));
+        assertThat(cache.get(new PushDownQueryCacheKey("bar_db", "SELECT * FROM t_order_0", Collections.emptyList()), key -> expected), is(expected));
+    }
+    
+    @Test
+    void assertGetWithDataSourceRoutedByLoadBalancer() {
+        PushDownQueryCache cache = new PushDownQueryCache(new CacheOption(8, 8L));
+        AtomicInteger loadCount = new AtomicInteger();
+        for (int i = 0; i < 2; i++) {
+            cache.get(new PushDownQueryCacheKey("foo_db", "SELECT * FROM t_order", Collections.emptyList()), key -> {
+                loadCount.incrementAndGet();
+                return createExecutionContext("read_ds_0");
+            });
+        }
+        assertThat(loadCount.get(), is(2));
+    }
+    
+    private ExecutionContext createExecutionContext(final String actualDataSourceName) {
+        RouteContext routeContext = new RouteContext();
+        routeContext.getRouteUnits().add(new RouteUnit(new RouteMapper("ds_0", actualDataSourceName), Collections.singletonList(new RouteMapper("t_order", "t_order_0"))));
+        return new ExecutionContext(mock(QueryContext.class), Collections.emptyList(), routeContext);
+    }
+}
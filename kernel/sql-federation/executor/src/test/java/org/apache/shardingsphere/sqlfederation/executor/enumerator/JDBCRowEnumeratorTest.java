@@ -0,0 +1,93 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.executor.enumerator;
+
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResultMetaData;
+import org.apache.shardingsphere.infra.merge.result.MergedResult;
+import org.junit.jupiter.api.Test;
+
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class JDBCRowEnumeratorTest {
+    
+    @Test
+    void assertMoveNextWithMultipleColumns() throws SQLException {
+        MergedResult queryResult = mock(MergedResult.class);
+        when(queryResult.next()).thenReturn(true, true, false);
+        when(queryResult.getValue(1, Object.class)).thenReturn(1, 2);
+        when(queryResult.getValue(2, Object.class)).thenReturn("foo", "bar");
+        QueryResultMetaData metaData = mock(QueryResultMetaData.class);
+        when(metaData.getColumnCount()).thenReturn(2);
+        JDBCRowEnumerator enumerator = new JDBCRowEnumerator(queryResult, metaData, Collections.emptyList());
+        assertTrue(enumerator.moveNext());
+        assertThat(enumerator.current(), is(new Object[]{1, "foo"}));
+        assertTrue(enumerator.moveNext());
+        assertThat(enumerator.current(), is(new Object[]{2, "bar"}));
+        assertFalse(enumerator.moveNext());
+        assertNull(enumerator.current());
+        verify(metaData).getColumnCount();
+    }
+    
+    @Test
+    void assertMoveNextReadsOneRowAtATime() throws SQLException {
+        MergedResult queryResult = mock(MergedResult.class);
+        when(queryResult.next()).thenReturn(true);
+        when(queryResult.getValue(1, Object.class)).thenReturn(1);
+        QueryResultMetaData metaData = mock(QueryResultMetaData.class);
+        when(metaData.getColumnCount()).thenReturn(1);
+        JDBCRowEnumerator enumerator = new JDBCRowEnumerator(queryResult, metaData, Collections.emptyList());
+        assertTrue(enumerator.moveNext());
+        assertThat(enumerator.current(), is(1));
+        verify(queryResult, times(1)).next();
+        verify(queryResult, times(1)).getValue(1, Object.class);
+    }
+    
+    @Test
+    void assertMoveNextWithLocalDateTime() throws SQLException {
+        MergedResult queryResult = mock(MergedResult.class);
+        when(queryResult.next()).thenReturn(true);
+        LocalDateTime value = LocalDateTime.of(2024, 1, 1, 0, 0);
+        when(queryResult.getValue(1, Object.class)).thenReturn(value);
+        QueryResultMetaData metaData = mock(QueryResultMetaData.class);
+        when(metaData.getColumnCount()).thenReturn(1);
+        JDBCRowEnumerator enumerator = new JDBCRowEnumerator(queryResult, metaData, Collections.emptyList());
+        assertTrue(enumerator.moveNext());
+        assertThat(enumerator.current(), is(Timestamp.valueOf(value)));
+    }
+    
+    @Test
+    void assertClose() throws SQLException {
+        Statement statement = mock(Statement.class);
+        new JDBCRowEnumerator(mock(MergedResult.class), mock(QueryResultMetaData.class), Collections.singletonList(statement)).close();
+        verify(statement).close();
+    }
+}
@@ -19,11 +19,14 @@ package org.apache.shardingsphere.sqlfederation.optimizer.context;
 
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.parser.sql.SQLStatementParserEngine;
 import org.apache.shardingsphere.parser.rule.SQLParserRule;
 import org.apache.shardingsphere.sqlfederation.optimizer.context.parser.OptimizerParserContext;
 import org.apache.shardingsphere.sqlfederation.optimizer.context.planner.OptimizerMetaData;
 
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Optimizer context.
@@ -38,6 +41,8 @@ public final class OptimizerContext {
     
     private final Map<String, OptimizerMetaData> optimizerMetaData;
     
+    private final Map<DatabaseType, SQLStatementParserEngine> sqlStatementParserEngines = new ConcurrentHashMap<>();
+    
     /**
      * Get parser context.
      *
@@ -57,4 +62,14 @@ public final class OptimizerContext {
     public OptimizerMetaData getMetaData(final String databaseName) {
         return optimizerMetaData.get(databaseName);
     }
+    
+    /**
+     * Get SQL statement parser engine.
+     *
+     * @param databaseType database type
+     * @return SQL statement parser engine
+     */
+    public SQLStatementParserEngine getSQLStatementParserEngine(final DatabaseType databaseType) {
+        return sqlStatementParserEngines.computeIfAbsent(databaseType, key -> new SQLStatementParserEngine(key, sqlParserRule.getSqlStatementCache(), sqlParserRule.getParseTreeCache()));
+    }
 }
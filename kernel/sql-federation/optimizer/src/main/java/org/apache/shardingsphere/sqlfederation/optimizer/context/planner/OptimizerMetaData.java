@@ -17,8 +17,10 @@
 
 package org.apache.shardingsphere.sqlfederation.optimizer.context.planner;
 
+import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import org.apache.calcite.schema.Schema;
+import org.apache.shardingsphere.sqlfederation.optimizer.statistic.SQLFederationRowCountLoader;
 
 import java.util.Map;
 
@@ -30,6 +32,9 @@ public final class OptimizerMetaData {
     
     private final Map<String, Schema> schemas;
     
+    @Getter
+    private final SQLFederationRowCountLoader rowCountLoader = new SQLFederationRowCountLoader();
+    
     /**
      * Get schema.
      *
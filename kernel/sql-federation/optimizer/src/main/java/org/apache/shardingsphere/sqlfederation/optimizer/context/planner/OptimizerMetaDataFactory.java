@@ -61,7 +61,7 @@ public final class OptimizerMetaDataFactory {
     public static OptimizerMetaData create(final ShardingSphereDatabase database) {
         Map<String, Schema> schemas = new CaseInsensitiveMap<>();
         for (Entry<String, ShardingSphereSchema> entry : database.getSchemas().entrySet()) {
-            Schema sqlFederationSchema = new SQLFederationSchema(entry.getKey(), entry.getValue(), database.getProtocolType(), DEFAULT_DATA_TYPE_FACTORY);
+            Schema sqlFederationSchema = new SQLFederationSchema(entry.getKey(), entry.getValue(), database.getRuleMetaData(), database.getProtocolType(), DEFAULT_DATA_TYPE_FACTORY);
             schemas.put(entry.getKey(), sqlFederationSchema);
         }
         return new OptimizerMetaData(schemas);
@@ -47,7 +47,7 @@ public final class SQLFederationDatabase extends AbstractSchema {
     private Map<String, Schema> createSubSchemaMap(final ShardingSphereDatabase database, final DatabaseType protocolType, final JavaTypeFactory javaTypeFactory) {
         Map<String, Schema> result = new CaseInsensitiveMap<>(database.getSchemas().size(), 1F);
         for (Entry<String, ShardingSphereSchema> entry : database.getSchemas().entrySet()) {
-            result.put(entry.getKey(), new SQLFederationSchema(entry.getKey(), entry.getValue(), protocolType, javaTypeFactory));
+            result.put(entry.getKey(), new SQLFederationSchema(entry.getKey(), entry.getValue(), database.getRuleMetaData(), protocolType, javaTypeFactory));
         }
         return result;
     }
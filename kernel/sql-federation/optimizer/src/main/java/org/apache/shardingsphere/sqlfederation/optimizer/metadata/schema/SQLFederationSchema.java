@@ -26,12 +26,15 @@ import org.apache.calcite.schema.Table;
 import org.apache.calcite.schema.impl.AbstractSchema;
 import org.apache.calcite.schema.impl.ViewTable;
 import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.metadata.database.rule.RuleMetaData;
 import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
 import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereTable;
 import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereView;
+import org.apache.shardingsphere.infra.rule.attribute.datanode.DataNodeRuleAttribute;
 import org.apache.shardingsphere.sqlfederation.optimizer.metadata.util.SQLFederationDataTypeUtils;
 import org.apache.shardingsphere.sqlfederation.optimizer.statistic.SQLFederationStatistic;
 
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Map;
 
@@ -46,23 +49,36 @@ public final class SQLFederationSchema extends AbstractSchema {
     private final Map<String, Table> tableMap;
     
     public SQLFederationSchema(final String schemaName, final ShardingSphereSchema schema, final DatabaseType protocolType, final JavaTypeFactory javaTypeFactory) {
+        this(schemaName, schema, new RuleMetaData(Collections.emptyList()), protocolType, javaTypeFactory);
+    }
+    
+    public SQLFederationSchema(final String schemaName, final ShardingSphereSchema schema, final RuleMetaData ruleMetaData, final DatabaseType protocolType, final JavaTypeFactory javaTypeFactory) {
         name = schemaName;
-        tableMap = createTableMap(schema, protocolType, javaTypeFactory);
+        tableMap = createTableMap(schema, ruleMetaData.getAttributes(DataNodeRuleAttribute.class), protocolType, javaTypeFactory);
     }
     
-    private Map<String, Table> createTableMap(final ShardingSphereSchema schema, final DatabaseType protocolType, final JavaTypeFactory javaTypeFactory) {
+    private Map<String, Table> createTableMap(final ShardingSphereSchema schema, final Collection<DataNodeRuleAttribute> dataNodeRuleAttributes,
+                                              final DatabaseType protocolType, final JavaTypeFactory javaTypeFactory) {
         Map<String, Table> result = new CaseInsensitiveMap<>(schema.getTables().size(), 1F);
         for (ShardingSphereTable each : schema.getTables().values()) {
             if (schema.containsView(each.getName())) {
                 result.put(each.getName(), getViewTable(schema, each, protocolType, javaTypeFactory));
             } else {
-                // TODO implement table statistic logic after using custom operators
-                result.put(each.getName(), new SQLFederationTable(each, new SQLFederationStatistic(), protocolType));
+                result.put(each.getName(), new SQLFederationTable(each, new SQLFederationStatistic(each, isDistributed(dataNodeRuleAttributes, each.getName())), protocolType));
             }
         }
         return result;
     }
     
+    private boolean isDistributed(final Collection<DataNodeRuleAttribute> dataNodeRuleAttributes, final String tableName) {
+        for (DataNodeRuleAttribute each : dataNodeRuleAttributes) {
+            if (each.getDataNodesByTableName(tableName).size() > 1 && each.isNeedAccumulate(Collections.singleton(tableName))) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
     private ViewTable getViewTable(final ShardingSphereSchema schema, final ShardingSphereTable table, final DatabaseType protocolType, final JavaTypeFactory javaTypeFactory) {
         RelDataType relDataType = SQLFederationDataTypeUtils.createRelDataType(table, protocolType, javaTypeFactory);
         ShardingSphereView view = schema.getView(table.getName());
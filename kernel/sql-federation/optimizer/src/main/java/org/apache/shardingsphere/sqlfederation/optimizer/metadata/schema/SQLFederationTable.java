@@ -123,6 +123,15 @@ public final class SQLFederationTable extends AbstractTable implements Modifiabl
         };
     }
     
+    /**
+     * Set row count.
+     *
+     * @param rowCount row count, null means unknown
+     */
+    public void setRowCount(final Double rowCount) {
+        statistic.setRowCount(rowCount);
+    }
+    
     @Override
     public String toString() {
         return "SQLFederationTable";
@@ -0,0 +1,135 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.optimizer.statistic;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.metadata.caseinsensitive.CaseInsensitiveQualifiedTable;
+import org.apache.shardingsphere.infra.metadata.statistics.ShardingSphereDatabaseData;
+import org.apache.shardingsphere.infra.metadata.statistics.ShardingSphereRowData;
+import org.apache.shardingsphere.infra.metadata.statistics.ShardingSphereSchemaData;
+import org.apache.shardingsphere.infra.metadata.statistics.ShardingSphereStatistics;
+import org.apache.shardingsphere.infra.metadata.statistics.ShardingSphereTableData;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * SQL federation row count loader.
+ *
+ * <p>Loader is held by optimizer meta data of one logic database, so cached row counts are dropped together with optimizer meta data when meta data changes.
+ * Row counts are reloaded only after sharding table statistics are refreshed.
+ * Sharding table statistics have no schema column, logic tables of sharding rule are always in default schema of the logic database.</p>
+ */
+public final class SQLFederationRowCountLoader {
+    
+    private static final String SHARDING_SPHERE = "shardingsphere";
+    
+    private static final String SHARDING_TABLE_STATISTICS = "sharding_table_statistics";
+    
+    private static final int LOGIC_DATABASE_NAME_INDEX = 1;
+    
+    private static final int LOGIC_TABLE_NAME_INDEX = 2;
+    
+    private static final int ROW_COUNT_INDEX = 5;
+    
+    private volatile CachedRowCounts cachedRowCounts;
+    
+    /**
+     * Load row counts of logic tables, row count of each logic table is the sum of its actual tables.
+     *
+     * @param statistics ShardingSphere statistics
+     * @param databaseName database name
+     * @param defaultSchemaName default schema name of database
+     * @return row counts, key is qualified logic table, value is row count
+     */
+    public Map<CaseInsensitiveQualifiedTable, Double> load(final ShardingSphereStatistics statistics, final String databaseName, final String defaultSchemaName) {
+        if (null == statistics) {
+            return Collections.emptyMap();
+        }
+        List<ShardingSphereTableData> tableDataList = getStatisticsTableData(statistics);
+        long[] versions = tableDataList.stream().mapToLong(ShardingSphereTableData::getRowsVersion).toArray();
+        CachedRowCounts cached = cachedRowCounts;
+        if (null != cached && cached.isValid(databaseName, defaultSchemaName, tableDataList, versions)) {
+            return cached.rowCounts;
+        }
+        Map<CaseInsensitiveQualifiedTable, Double> result = new HashMap<>();
+        for (ShardingSphereTableData each : tableDataList) {
+            loadFromTable(each, databaseName, defaultSchemaName, result);
+        }
+        result.values().removeIf(value -> value <= 0D);
+        Map<CaseInsensitiveQualifiedTable, Double> unmodifiableResult = Collections.unmodifiableMap(result);
+        cachedRowCounts = new CachedRowCounts(databaseName, defaultSchemaName, tableDataList, versions, unmodifiableResult);
+        return unmodifiableResult;
+    }
+    
+    private List<ShardingSphereTableData> getStatisticsTableData(final ShardingSphereStatistics statistics) {
+        List<ShardingSphereTableData> result = new ArrayList<>();
+        for (ShardingSphereDatabaseData each : statistics.getDatabaseData().values()) {
+            ShardingSphereSchemaData schemaData = each.getSchema(SHARDING_SPHERE);
+            ShardingSphereTableData tableData = null == schemaData ? null : schemaData.getTable(SHARDING_TABLE_STATISTICS);
+            if (null != tableData) {
+                result.add(tableData);
+            }
+        }
+        return result;
+    }
+    
+    private void loadFromTable(final ShardingSphereTableData tableData, final String databaseName, final String defaultSchemaName,
+                               final Map<CaseInsensitiveQualifiedTable, Double> rowCounts) {
+        for (ShardingSphereRowData each : tableData.getRows()) {
+            List<Object> row = each.getRows();
+            if (row.size() <= ROW_COUNT_INDEX || null == row.get(LOGIC_TABLE_NAME_INDEX) || null == row.get(ROW_COUNT_INDEX)
+                    || !databaseName.equalsIgnoreCase(String.valueOf(row.get(LOGIC_DATABASE_NAME_INDEX)))) {
+                continue;
+            }
+            rowCounts.merge(new CaseInsensitiveQualifiedTable(defaultSchemaName, String.valueOf(row.get(LOGIC_TABLE_NAME_INDEX))),
+                    new BigDecimal(String.valueOf(row.get(ROW_COUNT_INDEX))).doubleValue(), Double::sum);
+        }
+    }
+    
+    @RequiredArgsConstructor
+    private static final class CachedRowCounts {
+        
+        private final String databaseName;
+        
+        private final String defaultSchemaName;
+        
+        private final List<ShardingSphereTableData> tableDataList;
+        
+        private final long[] versions;
+        
+        private final Map<CaseInsensitiveQualifiedTable, Double> rowCounts;
+        
+        private boolean isValid(final String currentDatabaseName, final String currentDefaultSchemaName, final List<ShardingSphereTableData> currentTableDataList, final long[] currentVersions) {
+            if (!databaseName.equalsIgnoreCase(currentDatabaseName) || !Objects.equals(defaultSchemaName, currentDefaultSchemaName) || tableDataList.size() != currentTableDataList.size()) {
+                return false;
+            }
+            for (int i = 0; i < tableDataList.size(); i++) {
+                if (tableDataList.get(i) != currentTableDataList.get(i) || versions[i] != currentVersions[i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
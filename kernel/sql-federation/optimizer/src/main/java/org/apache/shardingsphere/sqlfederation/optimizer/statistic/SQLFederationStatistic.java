@@ -17,20 +17,94 @@
 
 package org.apache.shardingsphere.sqlfederation.optimizer.statistic;
 
+import lombok.Setter;
 import org.apache.calcite.rel.RelCollation;
 import org.apache.calcite.rel.RelDistribution;
 import org.apache.calcite.rel.RelDistributionTraitDef;
 import org.apache.calcite.rel.RelReferentialConstraint;
 import org.apache.calcite.schema.Statistic;
+import org.apache.calcite.util.ImmutableBitSet;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereIndex;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereTable;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedList;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * SQL federation statistic.
+ *
+ * <p>Primary and unique keys are only unique inside one actual table, so keys of tables distributed to multiple data nodes are not reported.</p>
  */
 public final class SQLFederationStatistic implements Statistic {
     
+    private final List<ImmutableBitSet> keys;
+    
+    @Setter
+    private volatile Double rowCount;
+    
+    public SQLFederationStatistic(final ShardingSphereTable table, final boolean distributed) {
+        keys = distributed ? Collections.emptyList() : createKeys(table);
+    }
+    
+    private List<ImmutableBitSet> createKeys(final ShardingSphereTable table) {
+        List<ImmutableBitSet> result = new LinkedList<>();
+        createKey(table, table.getPrimaryKeyColumns()).ifPresent(result::add);
+        for (ShardingSphereIndex each : table.getIndexValues()) {
+            if (each.isUnique()) {
+                createKey(table, each.getColumns()).filter(optional -> !result.contains(optional)).ifPresent(result::add);
+            }
+        }
+        return new ArrayList<>(result);
+    }
+    
+    private Optional<ImmutableBitSet> createKey(final ShardingSphereTable table, final Collection<String> columnNames) {
+        if (columnNames.isEmpty()) {
+            return Optional.empty();
+        }
+        ImmutableBitSet.Builder result = ImmutableBitSet.builder();
+        for (String each : columnNames) {
+            int ordinal = indexOfIgnoreCase(table.getColumnNames(), each);
+            if (ordinal < 0) {
+                return Optional.empty();
+            }
+            result.set(ordinal);
+        }
+        return Optional.of(result.build());
+    }
+    
+    private int indexOfIgnoreCase(final List<String> columnNames, final String columnName) {
+        for (int i = 0; i < columnNames.size(); i++) {
+            if (columnNames.get(i).equalsIgnoreCase(columnName)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+    
+    @Override
+    public Double getRowCount() {
+        return rowCount;
+    }
+    
+    @Override
+    public boolean isKey(final ImmutableBitSet columns) {
+        for (ImmutableBitSet each : keys) {
+            if (columns.contains(each)) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    @Override
+    public List<ImmutableBitSet> getKeys() {
+        return keys;
+    }
+    
     @Override
     public List<RelReferentialConstraint> getReferentialConstraints() {
         return new ArrayList<>();
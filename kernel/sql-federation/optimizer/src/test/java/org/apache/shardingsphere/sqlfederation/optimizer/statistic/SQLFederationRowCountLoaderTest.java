@@ -0,0 +1,87 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.optimizer.statistic;
+
+import org.apache.shardingsphere.infra.metadata.caseinsensitive.CaseInsensitiveQualifiedTable;
+import org.apache.shardingsphere.infra.metadata.statistics.ShardingSphereDatabaseData;
+import org.apache.shardingsphere.infra.metadata.statistics.ShardingSphereRowData;
+import org.apache.shardingsphere.infra.metadata.statistics.ShardingSphereSchemaData;
+import org.apache.shardingsphere.infra.metadata.statistics.ShardingSphereStatistics;
+import org.apache.shardingsphere.infra.metadata.statistics.ShardingSphereTableData;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class SQLFederationRowCountLoaderTest {
+    
+    @Test
+    void assertLoad() {
+        Map<CaseInsensitiveQualifiedTable, Double> actual = new SQLFederationRowCountLoader().load(createStatistics(createTableData()), "foo_db", "foo_schema");
+        assertThat(actual.size(), is(1));
+        assertThat(actual.get(new CaseInsensitiveQualifiedTable("FOO_SCHEMA", "T_ORDER")), is(300D));
+        assertNull(actual.get(new CaseInsensitiveQualifiedTable("bar_schema", "t_order")));
+    }
+    
+    @Test
+    void assertLoadFromCacheUntilStatisticsRefreshed() {
+        ShardingSphereTableData tableData = createTableData();
+        ShardingSphereStatistics statistics = createStatistics(tableData);
+        SQLFederationRowCountLoader loader = new SQLFederationRowCountLoader();
+        Map<CaseInsensitiveQualifiedTable, Double> actual = loader.load(statistics, "bar_db", "bar_schema");
+        assertThat(loader.load(statistics, "bar_db", "bar_schema"), sameInstance(actual));
+        tableData.getRows().add(new ShardingSphereRowData(Arrays.asList(5, "bar_db", "t_order", "ds_1", "t_order_1", new BigDecimal("70"), BigDecimal.ZERO)));
+        Map<CaseInsensitiveQualifiedTable, Double> refreshed = loader.load(statistics, "bar_db", "bar_schema");
+        assertThat(refreshed, not(sameInstance(actual)));
+        assertThat(refreshed.get(new CaseInsensitiveQualifiedTable("bar_schema", "t_order")), is(120D));
+    }
+    
+    @Test
+    void assertLoadWithAnotherDatabase() {
+        ShardingSphereStatistics statistics = createStatistics(createTableData());
+        SQLFederationRowCountLoader loader = new SQLFederationRowCountLoader();
+        assertThat(loader.load(statistics, "foo_db", "foo_schema").get(new CaseInsensitiveQualifiedTable("foo_schema", "t_order")), is(300D));
+        assertThat(loader.load(statistics, "bar_db", "bar_schema").get(new CaseInsensitiveQualifiedTable("bar_schema", "t_order")), is(50D));
+    }
+    
+    private ShardingSphereTableData createTableData() {
+        ShardingSphereTableData result = new ShardingSphereTableData("sharding_table_statistics");
+        result.getRows().add(new ShardingSphereRowData(Arrays.asList(1, "foo_db", "t_order", "ds_0", "t_order_0", new BigDecimal("100"), BigDecimal.ZERO)));
+        result.getRows().add(new ShardingSphereRowData(Arrays.asList(2, "foo_db", "t_order", "ds_1", "t_order_1", new BigDecimal("200"), BigDecimal.ZERO)));
+        result.getRows().add(new ShardingSphereRowData(Arrays.asList(3, "foo_db", "t_order_item", "ds_0", "t_order_item_0", BigDecimal.ZERO, BigDecimal.ZERO)));
+        result.getRows().add(new ShardingSphereRowData(Arrays.asList(4, "bar_db", "t_order", "ds_0", "t_order_0", new BigDecimal("50"), BigDecimal.ZERO)));
+        return result;
+    }
+    
+    private ShardingSphereStatistics createStatistics(final ShardingSphereTableData tableData) {
+        ShardingSphereSchemaData schemaData = new ShardingSphereSchemaData();
+        schemaData.putTable("sharding_table_statistics", tableData);
+        ShardingSphereDatabaseData databaseData = new ShardingSphereDatabaseData();
+        databaseData.putSchema("shardingsphere", schemaData);
+        ShardingSphereStatistics result = new ShardingSphereStatistics();
+        result.putDatabase("shardingsphere", databaseData);
+        return result;
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.optimizer.statistic;
+
+import org.apache.calcite.util.ImmutableBitSet;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereColumn;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereIndex;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereTable;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Types;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SQLFederationStatisticTest {
+    
+    @Test
+    void assertIsKey() {
+        SQLFederationStatistic actual = new SQLFederationStatistic(createTable(), false);
+        assertThat(actual.getKeys().size(), is(2));
+        assertThat(actual.isKey(ImmutableBitSet.of(0)), is(true));
+        assertThat(actual.isKey(ImmutableBitSet.of(0, 2)), is(true));
+        assertThat(actual.isKey(ImmutableBitSet.of(1, 2)), is(true));
+        assertThat(actual.isKey(ImmutableBitSet.of(1)), is(false));
+    }
+    
+    @Test
+    void assertIsKeyWithDistributedTable() {
+        SQLFederationStatistic actual = new SQLFederationStatistic(createTable(), true);
+        assertTrue(actual.getKeys().isEmpty());
+        assertThat(actual.isKey(ImmutableBitSet.of(0)), is(false));
+    }
+    
+    @Test
+    void assertGetRowCount() {
+        SQLFederationStatistic actual = new SQLFederationStatistic(createTable(), false);
+        assertThat(actual.getRowCount(), is(nullValue()));
+        actual.setRowCount(100D);
+        assertThat(actual.getRowCount(), is(100D));
+    }
+    
+    private ShardingSphereTable createTable() {
+        ShardingSphereColumn orderId = new ShardingSphereColumn("order_id", Types.BIGINT, true, false, false, true, false, false);
+        ShardingSphereColumn userId = new ShardingSphereColumn("user_id", Types.INTEGER, false, false, false, true, false, false);
+        ShardingSphereColumn orderNo = new ShardingSphereColumn("order_no", Types.VARCHAR, false, false, false, true, false, false);
+        ShardingSphereIndex uniqueIndex = new ShardingSphereIndex("uk_user_order_no");
+        uniqueIndex.getColumns().addAll(Arrays.asList("USER_ID", "order_no"));
+        uniqueIndex.setUnique(true);
+        ShardingSphereIndex normalIndex = new ShardingSphereIndex("idx_user_id");
+        normalIndex.getColumns().add("user_id");
+        return new ShardingSphereTable("t_order", Arrays.asList(orderId, userId, orderNo), Arrays.asList(uniqueIndex, normalIndex), Collections.emptyList());
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.apache.shardingsphere.parser.warmup;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+
+/**
+ * SQL parser warm up corpus loader.
+ *
+ * <p>The corpus has one SQL statement per line. Blank lines and lines starting with {@code #} are skipped,
+ * and lines of SQL logger output are reduced to the logic SQL they contain.</p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+@Slf4j
+public final class SQLParserWarmUpCorpusLoader {
+    
+    private static final String LOGIC_SQL_PREFIX = "Logic SQL: ";
+    
+    private static final String COMMENT_PREFIX = "#";
+    
+    /**
+     * Load SQL statements of corpus.
+     *
+     * @param corpusFile corpus file
+     * @return loaded SQL statements, empty if corpus file can not be read
+     */
+    public static Collection<String> load(final Path corpusFile) {
+        List<String> lines;
+        try {
+            lines = Files.readAllLines(corpusFile, StandardCharsets.UTF_8);
+        } catch (final IOException ex) {
+            log.warn("Can not read SQL parser warm up file `{}`, SQL parser warm up is skipped.", corpusFile, ex);
+            return Collections.emptyList();
+        }
+        Collection<String> result = new LinkedList<>();
+        for (String each : lines) {
+            int logicSQLIndex = each.indexOf(LOGIC_SQL_PREFIX);
+            String sql = (-1 == logicSQLIndex ? each : each.substring(logicSQLIndex + LOGIC_SQL_PREFIX.length())).trim();
+            if (!sql.isEmpty() && !sql.startsWith(COMMENT_PREFIX)) {
+                result.add(sql);
+            }
+        }
+        return result;
+    }
+}
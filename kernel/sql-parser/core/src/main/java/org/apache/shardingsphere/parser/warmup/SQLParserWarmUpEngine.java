@@ -0,0 +1,71 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.apache.shardingsphere.parser.warmup;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.parser.SQLParserEngine;
+import org.apache.shardingsphere.parser.rule.SQLParserRule;
+
+import java.util.Collection;
+
+/**
+ * SQL parser warm up engine.
+ *
+ * <p>Parsing representative SQL once fills the prediction caches shared by all parsers of a database type, so that the first user queries do not pay for it.</p>
+ */
+@RequiredArgsConstructor
+@Slf4j
+public final class SQLParserWarmUpEngine {
+    
+    private final SQLParserRule rule;
+    
+    /**
+     * Warm up SQL parsers.
+     *
+     * @param databaseTypes database types to be warmed up
+     * @param sqls SQL statements to be parsed
+     * @return count of SQL statements parsed successfully
+     */
+    public int warmUp(final Collection<DatabaseType> databaseTypes, final Collection<String> sqls) {
+        int result = 0;
+        for (DatabaseType each : databaseTypes) {
+            long startTimeMillis = System.currentTimeMillis();
+            int parsedCount = warmUp(rule.getSQLParserEngine(each), sqls);
+            log.info("SQL parser of `{}` warmed up with {} of {} SQL statements in {} ms.", each.getType(), parsedCount, sqls.size(), System.currentTimeMillis() - startTimeMillis);
+            result += parsedCount;
+        }
+        return result;
+    }
+    
+    private int warmUp(final SQLParserEngine sqlParserEngine, final Collection<String> sqls) {
+        int result = 0;
+        for (String each : sqls) {
+            try {
+                sqlParserEngine.parse(each, false);
+                result++;
+                // CHECKSTYLE:OFF
+            } catch (final RuntimeException ignored) {
+                // CHECKSTYLE:ON
+            }
+        }
+        return result;
+    }
+}
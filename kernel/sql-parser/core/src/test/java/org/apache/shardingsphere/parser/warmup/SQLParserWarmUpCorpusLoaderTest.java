@@ -0,0 +1,53 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.apache.shardingsphere.parser.warmup;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collection;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SQLParserWarmUpCorpusLoaderTest {
+    
+    @TempDir
+    private Path tempDir;
+    
+    @Test
+    void assertLoad() throws IOException {
+        Path corpusFile = tempDir.resolve("warm-up.sql");
+        Files.write(corpusFile, Arrays.asList("# orders", "SELECT * FROM t_order WHERE order_id = 1", "",
+                "[INFO ] 2024-01-01 00:00:00.000 [ShardingSphere-Command-0] ShardingSphere-SQL - Logic SQL: UPDATE t_order SET status = 'PAID'"), StandardCharsets.UTF_8);
+        Collection<String> actual = SQLParserWarmUpCorpusLoader.load(corpusFile);
+        assertThat(actual, is(Arrays.asList("SELECT * FROM t_order WHERE order_id = 1", "UPDATE t_order SET status = 'PAID'")));
+    }
+    
+    @Test
+    void assertLoadWithNotExistedFile() {
+        assertTrue(SQLParserWarmUpCorpusLoader.load(tempDir.resolve("not-existed.sql")).isEmpty());
+    }
+}
@@ -0,0 +1,51 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.apache.shardingsphere.parser.warmup;
+
+import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.parser.SQLParserEngine;
+import org.apache.shardingsphere.parser.rule.SQLParserRule;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class SQLParserWarmUpEngineTest {
+    
+    @Test
+    void assertWarmUp() {
+        SQLParserEngine sqlParserEngine = mock(SQLParserEngine.class);
+        when(sqlParserEngine.parse("SELECT foo FROM bar WHERE", false)).thenThrow(IllegalArgumentException.class);
+        SQLParserRule rule = mock(SQLParserRule.class);
+        DatabaseType fooDatabaseType = mock(DatabaseType.class);
+        DatabaseType barDatabaseType = mock(DatabaseType.class);
+        when(rule.getSQLParserEngine(fooDatabaseType)).thenReturn(sqlParserEngine);
+        when(rule.getSQLParserEngine(barDatabaseType)).thenReturn(sqlParserEngine);
+        Collection<String> sqls = Arrays.asList("SELECT foo FROM bar", "SELECT foo FROM bar WHERE", "UPDATE bar SET foo = 1");
+        assertThat(new SQLParserWarmUpEngine(rule).warmUp(Arrays.asList(fooDatabaseType, barDatabaseType), sqls), is(4));
+        verify(sqlParserEngine, times(2)).parse("UPDATE bar SET foo = 1", false);
+    }
+}
@@ -19,7 +19,10 @@ package org.apache.shardingsphere.mode.spi;
 
 import org.apache.shardingsphere.infra.spi.type.typed.TypedSPI;
 
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Persist repository.
@@ -39,6 +42,23 @@ public interface PersistRepository extends TypedSPI, AutoCloseable {
      */
     String query(String key);
     
+    /**
+     * Query data of keys in batch.
+     *
+     * @param keys keys to be queried
+     * @return queried data map, key is key of data and value is data, keys without data are not included
+     */
+    default Map<String, String> batchQuery(final Collection<String> keys) {
+        Map<String, String> result = new LinkedHashMap<>(keys.size(), 1F);
+        for (String each : keys) {
+            String value = query(each);
+            if (null != value) {
+                result.put(each, value);
+            }
+        }
+        return result;
+    }
+    
     /**
      * Get names of sub-node.
      *
@@ -63,6 +83,15 @@ public interface PersistRepository extends TypedSPI, AutoCloseable {
      */
     void persist(String key, String value);
     
+    /**
+     * Persist data in batch.
+     *
+     * @param keyValues key and value map of data to be persisted
+     */
+    default void batchPersist(final Map<String, String> keyValues) {
+        keyValues.forEach(this::persist);
+    }
+    
     /**
      * Persist ephemeral data.
      *
@@ -45,6 +45,7 @@ import org.apache.shardingsphere.infra.metadata.statistics.ShardingSphereStatist
 import org.apache.shardingsphere.infra.metadata.statistics.ShardingSphereTableData;
 import org.apache.shardingsphere.infra.metadata.statistics.builder.ShardingSphereStatisticsBuilder;
 import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
+import org.apache.shardingsphere.infra.rule.attribute.cache.CacheableRuleAttribute;
 import org.apache.shardingsphere.infra.rule.builder.global.GlobalRulesBuilder;
 import org.apache.shardingsphere.infra.spi.ShardingSphereServiceLoader;
 import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
@@ -242,7 +243,7 @@ public final class MetaDataContextsFactory {
             if (schema.isEmpty()) {
                 persistService.getDatabaseMetaDataFacade().getSchema().add(each.getName(), schemaName);
             }
-            persistService.getDatabaseMetaDataFacade().getTable().persist(each.getName(), schemaName, schema.getTables());
+            persistService.getDatabaseMetaDataFacade().getTable().persist(each.getName(), schemaName, schema.getLoadedTables());
         }));
         for (Entry<String, ShardingSphereDatabaseData> databaseDataEntry : metaDataContexts.getStatistics().getDatabaseData().entrySet()) {
             for (Entry<String, ShardingSphereSchemaData> schemaDataEntry : databaseDataEntry.getValue().getSchemaData().entrySet()) {
@@ -323,11 +324,19 @@ public final class MetaDataContextsFactory {
         DatabaseConfiguration toBeCreatedDatabaseConfig = getDatabaseConfiguration(effectiveResourceMetaData, switchingResource, toBeCreatedRuleConfigs);
         ShardingSphereDatabase changedDatabase = createChangedDatabase(originalMetaDataContext.getMetaData().getDatabase(databaseName).getName(), internalLoadMetaData,
                 metaDataPersistService, toBeCreatedDatabaseConfig, originalMetaDataContext.getMetaData().getProps(), computeNodeInstanceContext);
+        inheritRuleCaches(originalMetaDataContext.getMetaData().getDatabase(databaseName), changedDatabase);
         Map<String, ShardingSphereDatabase> result = new LinkedHashMap<>(originalMetaDataContext.getMetaData().getDatabases());
         result.put(databaseName.toLowerCase(), changedDatabase);
         return result;
     }
     
+    private static void inheritRuleCaches(final ShardingSphereDatabase originalDatabase, final ShardingSphereDatabase changedDatabase) {
+        for (ShardingSphereRule each : changedDatabase.getRuleMetaData().getRules()) {
+            each.getAttributes().findAttribute(CacheableRuleAttribute.class).ifPresent(optional -> originalDatabase.getRuleMetaData().getRules().stream()
+                    .filter(rule -> rule.getClass() == each.getClass()).findFirst().ifPresent(optional::inherit));
+        }
+    }
+    
     private static ResourceMetaData getEffectiveResourceMetaData(final ShardingSphereDatabase database, final SwitchingResource resource) {
         Map<StorageNode, DataSource> storageNodes = getStorageNodes(database.getResourceMetaData().getDataSources(), resource);
         Map<String, StorageUnit> storageUnits = getStorageUnits(database.getResourceMetaData().getStorageUnits(), resource);
@@ -25,6 +25,7 @@ import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
 import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
 import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereTable;
 import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereView;
+import org.apache.shardingsphere.infra.rule.attribute.cache.CacheableRuleAttribute;
 import org.apache.shardingsphere.infra.rule.attribute.datanode.MutableDataNodeRuleAttribute;
 import org.apache.shardingsphere.infra.rule.scope.GlobalRule;
 import org.apache.shardingsphere.infra.rule.scope.GlobalRule.GlobalRuleChangedType;
@@ -156,6 +157,7 @@ public final class SchemaMetaDataManager {
             database.reloadRules();
         }
         database.getSchema(schemaName).putTable(beBoChangedTable.getName(), beBoChangedTable);
+        database.getRuleMetaData().getAttributes(CacheableRuleAttribute.class).forEach(each -> each.invalidate(schemaName, beBoChangedTable.getName()));
     }
     
     private void alterView(final String databaseName, final String schemaName, final ShardingSphereView beBoChangedView) {
@@ -164,17 +166,22 @@ public final class SchemaMetaDataManager {
             database.reloadRules();
         }
         database.getSchema(schemaName).putView(beBoChangedView.getName(), beBoChangedView);
+        database.getRuleMetaData().getAttributes(CacheableRuleAttribute.class).forEach(each -> each.invalidate(schemaName, beBoChangedView.getName()));
     }
     
     private void dropTable(final String databaseName, final String schemaName, final String toBeDeletedTableName) {
         metaDataContexts.get().getMetaData().getDatabase(databaseName).getSchema(schemaName).removeTable(toBeDeletedTableName);
         metaDataContexts.get().getMetaData().getDatabase(databaseName)
                 .getRuleMetaData().getAttributes(MutableDataNodeRuleAttribute.class).forEach(each -> each.remove(schemaName, toBeDeletedTableName));
+        metaDataContexts.get().getMetaData().getDatabase(databaseName)
+                .getRuleMetaData().getAttributes(CacheableRuleAttribute.class).forEach(each -> each.invalidate(schemaName, toBeDeletedTableName));
     }
     
     private void dropView(final String databaseName, final String schemaName, final String toBeDeletedViewName) {
         metaDataContexts.get().getMetaData().getDatabase(databaseName).getSchema(schemaName).removeView(toBeDeletedViewName);
         metaDataContexts.get().getMetaData().getDatabase(databaseName)
                 .getRuleMetaData().getAttributes(MutableDataNodeRuleAttribute.class).forEach(each -> each.remove(schemaName, toBeDeletedViewName));
+        metaDataContexts.get().getMetaData().getDatabase(databaseName)
+                .getRuleMetaData().getAttributes(CacheableRuleAttribute.class).forEach(each -> each.invalidate(schemaName, toBeDeletedViewName));
     }
 }
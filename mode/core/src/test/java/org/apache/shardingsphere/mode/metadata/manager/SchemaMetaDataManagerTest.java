@@ -25,6 +25,7 @@ import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSp
 import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
 import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereTable;
 import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereView;
+import org.apache.shardingsphere.infra.rule.attribute.cache.CacheableRuleAttribute;
 import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
 import org.apache.shardingsphere.mode.metadata.MetaDataContexts;
 import org.apache.shardingsphere.mode.spi.PersistRepository;
@@ -163,6 +164,17 @@ class SchemaMetaDataManagerTest {
         assertTrue(table.containsColumn("foo_col"));
     }
     
+    @Test
+    void assertAlterSchemaForTableAlteredWithCacheableRule() {
+        ShardingSphereSchema toBeAlteredSchema = createToBeAlteredSchema();
+        when(metaDataContexts.getMetaData().getDatabase("foo_db").getSchemas()).thenReturn(Collections.singletonMap("foo_schema", toBeAlteredSchema));
+        when(metaDataContexts.getMetaData().getDatabase("foo_db").getSchema("foo_schema")).thenReturn(toBeAlteredSchema);
+        CacheableRuleAttribute ruleAttribute = mock(CacheableRuleAttribute.class);
+        when(metaDataContexts.getMetaData().getDatabase("foo_db").getRuleMetaData().getAttributes(CacheableRuleAttribute.class)).thenReturn(Collections.singleton(ruleAttribute));
+        schemaMetaDataManager.alterSchema("foo_db", "foo_schema", new ShardingSphereTable("foo_tbl", Collections.emptyList(), Collections.emptyList(), Collections.emptyList()), null);
+        verify(ruleAttribute).invalidate("foo_schema", "foo_tbl");
+    }
+    
     @Test
     void assertAlterSchemaForViewAltered() {
         ShardingSphereSchema toBeAlteredSchema = createToBeAlteredSchema();
@@ -200,6 +212,15 @@ class SchemaMetaDataManagerTest {
         assertFalse(metaDataContexts.getMetaData().getDatabase("foo_db").getSchema("foo_schema").getTables().containsKey("foo_tbl"));
     }
     
+    @Test
+    void assertAlterSchemaForTableDroppedWithCacheableRule() {
+        when(metaDataContexts.getMetaData().getDatabase("foo_db").getSchemas()).thenReturn(Collections.singletonMap("foo_schema", createToBeAlteredSchema()));
+        CacheableRuleAttribute ruleAttribute = mock(CacheableRuleAttribute.class);
+        when(metaDataContexts.getMetaData().getDatabase("foo_db").getRuleMetaData().getAttributes(CacheableRuleAttribute.class)).thenReturn(Collections.singleton(ruleAttribute));
+        schemaMetaDataManager.alterSchema("foo_db", "foo_schema", "foo_tbl", null);
+        verify(ruleAttribute).invalidate("foo_schema", "foo_tbl");
+    }
+    
     @Test
     void assertAlterSchemaForViewDropped() {
         when(metaDataContexts.getMetaData().getDatabase("foo_db").getSchemas()).thenReturn(Collections.singletonMap("foo_schema", createToBeAlteredSchema()));
@@ -0,0 +1,59 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.apache.shardingsphere.mode.manager.cluster.keygen;
+
+import com.google.common.base.Strings;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.exception.core.ShardingSpherePreconditions;
+import org.apache.shardingsphere.infra.instance.keygen.KeySegmentAllocatedException;
+import org.apache.shardingsphere.infra.instance.keygen.KeySegmentAllocator;
+import org.apache.shardingsphere.metadata.persist.node.ReservationNode;
+import org.apache.shardingsphere.mode.lock.GlobalLockDefinition;
+import org.apache.shardingsphere.mode.repository.cluster.ClusterPersistRepository;
+import org.apache.shardingsphere.mode.repository.cluster.lock.DistributedLock;
+
+/**
+ * Key segment allocator for cluster mode.
+ */
+@RequiredArgsConstructor
+public final class ClusterKeySegmentAllocator implements KeySegmentAllocator {
+    
+    private static final String LOCK_NAME_PREFIX = "key_segment_";
+    
+    private static final long LOCK_TIMEOUT_MILLIS = 3000L;
+    
+    private static final long INITIAL_KEY = 1L;
+    
+    private final ClusterPersistRepository repository;
+    
+    @Override
+    public long allocate(final String segmentName, final long step) {
+        DistributedLock lock = repository.getDistributedLockHolder().getDistributedLock(new GlobalLockDefinition(LOCK_NAME_PREFIX + segmentName).getLockKey());
+        ShardingSpherePreconditions.checkState(lock.tryLock(LOCK_TIMEOUT_MILLIS), () -> new KeySegmentAllocatedException(segmentName));
+        try {
+            String reservationPath = ReservationNode.getKeySegmentReservationPath(segmentName);
+            String reservedKey = repository.query(reservationPath);
+            long result = Strings.isNullOrEmpty(reservedKey) ? INITIAL_KEY : Long.parseLong(reservedKey);
+            repository.persist(reservationPath, String.valueOf(result + step));
+            return result;
+        } finally {
+            lock.unlock();
+        }
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.apache.shardingsphere.mode.manager.cluster.keygen;
+
+import org.apache.shardingsphere.infra.instance.keygen.KeySegmentAllocatedException;
+import org.apache.shardingsphere.mode.repository.cluster.ClusterPersistRepository;
+import org.apache.shardingsphere.mode.repository.cluster.lock.DistributedLock;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Answers;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ClusterKeySegmentAllocatorTest {
+    
+    @Mock(answer = Answers.RETURNS_DEEP_STUBS)
+    private ClusterPersistRepository repository;
+    
+    @Mock
+    private DistributedLock lock;
+    
+    @BeforeEach
+    void setUp() {
+        when(repository.getDistributedLockHolder().getDistributedLock("/lock/exclusive/locks/key_segment_foo_segment")).thenReturn(lock);
+    }
+    
+    @Test
+    void assertAllocateFirstSegment() {
+        when(lock.tryLock(3000L)).thenReturn(true);
+        assertThat(new ClusterKeySegmentAllocator(repository).allocate("foo_segment", 1000L), is(1L));
+        verify(repository).persist("/reservation/key_segment/foo_segment", "1001");
+        verify(lock).unlock();
+    }
+    
+    @Test
+    void assertAllocateNextSegment() {
+        when(lock.tryLock(3000L)).thenReturn(true);
+        when(repository.query("/reservation/key_segment/foo_segment")).thenReturn("1001");
+        assertThat(new ClusterKeySegmentAllocator(repository).allocate("foo_segment", 1000L), is(1001L));
+        verify(repository).persist("/reservation/key_segment/foo_segment", "2001");
+        verify(lock).unlock();
+    }
+    
+    @Test
+    void assertAllocateWhenLockFailed() {
+        assertThrows(KeySegmentAllocatedException.class, () -> new ClusterKeySegmentAllocator(repository).allocate("foo_segment", 1000L));
+        verify(lock, never()).unlock();
+    }
+}
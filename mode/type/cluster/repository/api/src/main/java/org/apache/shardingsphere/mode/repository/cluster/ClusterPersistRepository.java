@@ -65,4 +65,10 @@ public interface ClusterPersistRepository extends PersistRepository {
      * @param key key to be removed
      */
     void removeDataListener(String key);
+    
+    /**
+     * Save local snapshot of data read from registry center.
+     */
+    default void saveSnapshot() {
+    }
 }
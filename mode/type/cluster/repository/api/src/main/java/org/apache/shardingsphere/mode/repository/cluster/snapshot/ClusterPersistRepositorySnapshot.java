@@ -0,0 +1,192 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.mode.repository.cluster.snapshot;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Local snapshot of cluster persist repository.
+ *
+ * <p>Each snapshot item holds data of a key together with the revision of the key in registry center when the data was read.
+ * An item is only hit when the current revision of key in registry center is equal to the revision of item, so only changed data need to be fetched.
+ * Items which are not read since snapshot loaded, such as superseded versions, are pruned when saving.</p>
+ */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+@Slf4j
+public final class ClusterPersistRepositorySnapshot {
+    
+    private static final int FORMAT_VERSION = 1;
+    
+    private final Path file;
+    
+    private final String identifier;
+    
+    private final Map<String, SnapshotItem> items = new ConcurrentHashMap<>();
+    
+    private final Collection<String> readKeys = ConcurrentHashMap.newKeySet();
+    
+    private volatile boolean changed;
+    
+    /**
+     * Load snapshot.
+     *
+     * @param file snapshot file
+     * @param identifier identifier of registry center, snapshot of other registry center will be ignored
+     * @return loaded snapshot
+     */
+    public static ClusterPersistRepositorySnapshot load(final Path file, final String identifier) {
+        ClusterPersistRepositorySnapshot result = new ClusterPersistRepositorySnapshot(file, identifier);
+        if (!Files.isRegularFile(file)) {
+            return result;
+        }
+        try (
+                InputStream inputStream = Files.newInputStream(file);
+                DataInputStream dataInputStream = new DataInputStream(new GZIPInputStream(inputStream))) {
+            if (FORMAT_VERSION != dataInputStream.readInt() || !identifier.equals(dataInputStream.readUTF())) {
+                return result;
+            }
+            int size = dataInputStream.readInt();
+            for (int i = 0; i < size; i++) {
+                String key = dataInputStream.readUTF();
+                long revision = dataInputStream.readLong();
+                result.items.put(key, new SnapshotItem(revision, readString(dataInputStream)));
+            }
+        } catch (final IOException ex) {
+            log.warn("Load snapshot from `{}` failed, snapshot will be rebuilt", file, ex);
+            result.items.clear();
+        }
+        return result;
+    }
+    
+    private static String readString(final DataInputStream dataInputStream) throws IOException {
+        byte[] bytes = new byte[dataInputStream.readInt()];
+        dataInputStream.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+    
+    /**
+     * Get data of key.
+     *
+     * @param key key of data
+     * @param revision current revision of key in registry center
+     * @return data of key, empty if key is not in snapshot or revision is changed
+     */
+    public Optional<String> get(final String key, final long revision) {
+        SnapshotItem item = items.get(key);
+        if (null == item || revision != item.getRevision()) {
+            return Optional.empty();
+        }
+        readKeys.add(key);
+        return Optional.of(item.getValue());
+    }
+    
+    /**
+     * Put data of key.
+     *
+     * @param key key of data
+     * @param revision revision of key in registry center when data was read
+     * @param value data
+     */
+    public void put(final String key, final long revision, final String value) {
+        items.put(key, new SnapshotItem(revision, value));
+        readKeys.add(key);
+        changed = true;
+    }
+    
+    /**
+     * Remove data of key.
+     *
+     * @param key key of data
+     */
+    public void remove(final String key) {
+        readKeys.remove(key);
+        if (null != items.remove(key)) {
+            changed = true;
+        }
+    }
+    
+    /**
+     * Save snapshot to file if changed, items which are not read since snapshot loaded are pruned.
+     */
+    public synchronized void save() {
+        if (items.keySet().retainAll(readKeys)) {
+            changed = true;
+        }
+        if (!changed) {
+            return;
+        }
+        changed = false;
+        try {
+            Path parent = file.toAbsolutePath().getParent();
+            Files.createDirectories(parent);
+            Path tempFile = Files.createTempFile(parent, file.getFileName().toString(), ".tmp");
+            try (
+                    OutputStream outputStream = Files.newOutputStream(tempFile);
+                    DataOutputStream dataOutputStream = new DataOutputStream(new GZIPOutputStream(outputStream))) {
+                write(dataOutputStream);
+            }
+            Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (final IOException ex) {
+            changed = true;
+            log.warn("Save snapshot to `{}` failed", file, ex);
+        }
+    }
+    
+    private void write(final DataOutputStream dataOutputStream) throws IOException {
+        Map<String, SnapshotItem> currentItems = new ConcurrentHashMap<>(items);
+        dataOutputStream.writeInt(FORMAT_VERSION);
+        dataOutputStream.writeUTF(identifier);
+        dataOutputStream.writeInt(currentItems.size());
+        for (Entry<String, SnapshotItem> entry : currentItems.entrySet()) {
+            dataOutputStream.writeUTF(entry.getKey());
+            dataOutputStream.writeLong(entry.getValue().getRevision());
+            byte[] bytes = entry.getValue().getValue().getBytes(StandardCharsets.UTF_8);
+            dataOutputStream.writeInt(bytes.length);
+            dataOutputStream.write(bytes);
+        }
+    }
+    
+    @RequiredArgsConstructor
+    @Getter
+    private static final class SnapshotItem {
+        
+        private final long revision;
+        
+        private final String value;
+    }
+}
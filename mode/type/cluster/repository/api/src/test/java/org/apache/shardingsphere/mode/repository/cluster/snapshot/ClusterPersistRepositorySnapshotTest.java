@@ -0,0 +1,92 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.mode.repository.cluster.snapshot;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+class ClusterPersistRepositorySnapshotTest {
+    
+    @TempDir
+    private Path tempDir;
+    
+    @Test
+    void assertGetWithSameRevision() {
+        ClusterPersistRepositorySnapshot snapshot = ClusterPersistRepositorySnapshot.load(tempDir.resolve("snapshot"), "foo_registry");
+        snapshot.put("/foo", 1L, "foo_value");
+        assertThat(snapshot.get("/foo", 1L), is(Optional.of("foo_value")));
+    }
+    
+    @Test
+    void assertGetWithChangedRevision() {
+        ClusterPersistRepositorySnapshot snapshot = ClusterPersistRepositorySnapshot.load(tempDir.resolve("snapshot"), "foo_registry");
+        snapshot.put("/foo", 1L, "foo_value");
+        assertFalse(snapshot.get("/foo", 2L).isPresent());
+    }
+    
+    @Test
+    void assertGetAfterRemove() {
+        ClusterPersistRepositorySnapshot snapshot = ClusterPersistRepositorySnapshot.load(tempDir.resolve("snapshot"), "foo_registry");
+        snapshot.put("/foo", 1L, "foo_value");
+        snapshot.remove("/foo");
+        assertFalse(snapshot.get("/foo", 1L).isPresent());
+    }
+    
+    @Test
+    void assertSaveAndLoad() {
+        Path file = tempDir.resolve("snapshot");
+        ClusterPersistRepositorySnapshot snapshot = ClusterPersistRepositorySnapshot.load(file, "foo_registry");
+        snapshot.put("/foo", 1L, "foo_value");
+        snapshot.put("/bar", 2L, "");
+        snapshot.save();
+        ClusterPersistRepositorySnapshot actual = ClusterPersistRepositorySnapshot.load(file, "foo_registry");
+        assertThat(actual.get("/foo", 1L), is(Optional.of("foo_value")));
+        assertThat(actual.get("/bar", 2L), is(Optional.of("")));
+    }
+    
+    @Test
+    void assertSaveWithUnreadItems() {
+        Path file = tempDir.resolve("snapshot");
+        ClusterPersistRepositorySnapshot snapshot = ClusterPersistRepositorySnapshot.load(file, "foo_registry");
+        snapshot.put("/foo/versions/0", 1L, "foo_value");
+        snapshot.put("/foo/versions/1", 2L, "bar_value");
+        snapshot.save();
+        ClusterPersistRepositorySnapshot reloaded = ClusterPersistRepositorySnapshot.load(file, "foo_registry");
+        assertThat(reloaded.get("/foo/versions/1", 2L), is(Optional.of("bar_value")));
+        reloaded.save();
+        ClusterPersistRepositorySnapshot actual = ClusterPersistRepositorySnapshot.load(file, "foo_registry");
+        assertFalse(actual.get("/foo/versions/0", 1L).isPresent());
+        assertThat(actual.get("/foo/versions/1", 2L), is(Optional.of("bar_value")));
+    }
+    
+    @Test
+    void assertLoadWithOtherIdentifier() {
+        Path file = tempDir.resolve("snapshot");
+        ClusterPersistRepositorySnapshot snapshot = ClusterPersistRepositorySnapshot.load(file, "foo_registry");
+        snapshot.put("/foo", 1L, "foo_value");
+        snapshot.save();
+        assertFalse(ClusterPersistRepositorySnapshot.load(file, "bar_registry").get("/foo", 1L).isPresent());
+    }
+}
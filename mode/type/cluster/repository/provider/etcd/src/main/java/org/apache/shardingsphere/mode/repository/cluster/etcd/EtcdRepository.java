@@ -19,11 +19,15 @@ package org.apache.shardingsphere.mode.repository.cluster.etcd;
 
 import com.google.common.base.Preconditions;
 import com.google.common.base.Splitter;
+import com.google.common.base.Strings;
+import com.google.common.collect.Lists;
 import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import io.etcd.jetcd.ByteSequence;
 import io.etcd.jetcd.Client;
 import io.etcd.jetcd.KeyValue;
 import io.etcd.jetcd.Watch;
+import io.etcd.jetcd.kv.GetResponse;
+import io.etcd.jetcd.op.Op;
 import io.etcd.jetcd.options.DeleteOption;
 import io.etcd.jetcd.options.GetOption;
 import io.etcd.jetcd.options.OptionsUtil;
@@ -44,9 +48,20 @@ import org.apache.shardingsphere.mode.repository.cluster.etcd.props.EtcdProperti
 import org.apache.shardingsphere.mode.repository.cluster.etcd.props.EtcdPropertyKey;
 import org.apache.shardingsphere.mode.repository.cluster.listener.DataChangedEventListener;
 import org.apache.shardingsphere.mode.repository.cluster.lock.holder.DistributedLockHolder;
+import org.apache.shardingsphere.mode.repository.cluster.snapshot.ClusterPersistRepositorySnapshot;
 
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
@@ -59,6 +74,8 @@ import java.util.stream.Collectors;
 @Slf4j
 public final class EtcdRepository implements ClusterPersistRepository {
     
+    private static final int MAX_TRANSACTION_OPERATIONS = 128;
+    
     private static final ExecutorService EVENT_LISTENER_EXECUTOR = Executors.newSingleThreadExecutor(new ThreadFactoryBuilder().setDaemon(true).setNameFormat("Etcd-EventListener-%d").build());
     
     private Client client;
@@ -68,6 +85,8 @@ public final class EtcdRepository implements ClusterPersistRepository {
     @Getter
     private DistributedLockHolder distributedLockHolder;
     
+    private ClusterPersistRepositorySnapshot snapshot;
+    
     @Override
     public void init(final ClusterPersistRepositoryConfiguration config, final ComputeNodeInstanceContext computeNodeInstanceContext) {
         etcdProps = new EtcdProperties(config.getProps());
@@ -76,6 +95,8 @@ public final class EtcdRepository implements ClusterPersistRepository {
                 .maxInboundMessageSize((int) 32e9)
                 .build();
         distributedLockHolder = new DistributedLockHolder(getType(), client, etcdProps);
+        String snapshotPath = etcdProps.getValue(EtcdPropertyKey.SNAPSHOT_PATH);
+        snapshot = Strings.isNullOrEmpty(snapshotPath) ? null : ClusterPersistRepositorySnapshot.load(Paths.get(snapshotPath), config.getServerLists() + PATH_SEPARATOR + config.getNamespace());
     }
     
     @SneakyThrows({InterruptedException.class, ExecutionException.class})
@@ -85,6 +106,60 @@ public final class EtcdRepository implements ClusterPersistRepository {
         return keyValues.isEmpty() ? null : keyValues.iterator().next().getValue().toString(StandardCharsets.UTF_8);
     }
     
+    @SneakyThrows({InterruptedException.class, ExecutionException.class})
+    @Override
+    public Map<String, String> batchQuery(final Collection<String> keys) {
+        Map<String, String> values = new HashMap<>(keys.size(), 1F);
+        Collection<String> missedKeys = null == snapshot ? keys : queryFromSnapshot(keys, values);
+        for (Entry<String, KeyValue> entry : getKeyValues(missedKeys, GetOption.DEFAULT).entrySet()) {
+            String value = entry.getValue().getValue().toString(StandardCharsets.UTF_8);
+            values.put(entry.getKey(), value);
+            if (null != snapshot) {
+                snapshot.put(entry.getKey(), entry.getValue().getModRevision(), value);
+            }
+        }
+        if (null != snapshot) {
+            missedKeys.stream().filter(each -> !values.containsKey(each)).forEach(snapshot::remove);
+        }
+        Map<String, String> result = new LinkedHashMap<>(values.size(), 1F);
+        keys.stream().filter(values::containsKey).forEach(each -> result.put(each, values.get(each)));
+        return result;
+    }
+    
+    private Collection<String> queryFromSnapshot(final Collection<String> keys, final Map<String, String> values) throws ExecutionException, InterruptedException {
+        Map<String, KeyValue> keyValues = getKeyValues(keys, GetOption.newBuilder().withKeysOnly(true).build());
+        Collection<String> result = new LinkedList<>();
+        for (String each : keys) {
+            KeyValue keyValue = keyValues.get(each);
+            if (null == keyValue) {
+                snapshot.remove(each);
+                continue;
+            }
+            Optional<String> value = snapshot.get(each, keyValue.getModRevision());
+            if (value.isPresent()) {
+                values.put(each, value.get());
+            } else {
+                result.add(each);
+            }
+        }
+        return result;
+    }
+    
+    private Map<String, KeyValue> getKeyValues(final Collection<String> keys, final GetOption getOption) throws ExecutionException, InterruptedException {
+        Map<String, KeyValue> result = new HashMap<>(keys.size(), 1F);
+        for (List<String> each : Lists.partition(new ArrayList<>(keys), MAX_TRANSACTION_OPERATIONS)) {
+            Op[] operations = each.stream().map(key -> Op.get(ByteSequence.from(key, StandardCharsets.UTF_8), getOption)).toArray(Op[]::new);
+            List<GetResponse> responses = client.getKVClient().txn().Then(operations).commit().get().getGetResponses();
+            for (int i = 0; i < each.size(); i++) {
+                List<KeyValue> keyValues = responses.get(i).getKvs();
+                if (!keyValues.isEmpty()) {
+                    result.put(each.get(i), keyValues.iterator().next());
+                }
+            }
+        }
+        return result;
+    }
+    
     @SneakyThrows({InterruptedException.class, ExecutionException.class})
     @Override
     public List<String> getChildrenKeys(final String key) {
@@ -112,6 +187,38 @@ public final class EtcdRepository implements ClusterPersistRepository {
         client.getKVClient().put(ByteSequence.from(key, StandardCharsets.UTF_8), ByteSequence.from(value, StandardCharsets.UTF_8)).get();
     }
     
+    @SneakyThrows({InterruptedException.class, ExecutionException.class})
+    @Override
+    public void batchPersist(final Map<String, String> keyValues) {
+        buildParentPaths(keyValues.keySet());
+        List<Op> operations = keyValues.entrySet().stream()
+                .map(each -> Op.put(ByteSequence.from(each.getKey(), StandardCharsets.UTF_8), ByteSequence.from(each.getValue(), StandardCharsets.UTF_8), PutOption.DEFAULT))
+                .collect(Collectors.toList());
+        for (List<Op> each : Lists.partition(operations, MAX_TRANSACTION_OPERATIONS)) {
+            client.getKVClient().txn().Then(each.toArray(new Op[0])).commit().get();
+        }
+    }
+    
+    private void buildParentPaths(final Collection<String> keys) throws ExecutionException, InterruptedException {
+        Collection<String> parentPaths = new LinkedHashSet<>();
+        for (String each : keys) {
+            StringBuilder parentPath = new StringBuilder();
+            String[] partPath = each.split(PATH_SEPARATOR);
+            for (int index = 1; index < partPath.length - 1; index++) {
+                parentPath.append(PATH_SEPARATOR);
+                parentPath.append(partPath[index]);
+                parentPaths.add(parentPath.toString());
+            }
+        }
+        parentPaths.removeAll(keys);
+        Collection<String> existedParentPaths = getKeyValues(parentPaths, GetOption.newBuilder().withKeysOnly(true).build()).keySet();
+        List<Op> operations = parentPaths.stream().filter(each -> !existedParentPaths.contains(each))
+                .map(each -> Op.put(ByteSequence.from(each, StandardCharsets.UTF_8), ByteSequence.from("", StandardCharsets.UTF_8), PutOption.DEFAULT)).collect(Collectors.toList());
+        for (List<Op> each : Lists.partition(operations, MAX_TRANSACTION_OPERATIONS)) {
+            client.getKVClient().txn().Then(each.toArray(new Op[0])).commit().get();
+        }
+    }
+    
     @Override
     public void update(final String key, final String value) {
         // TODO
@@ -196,8 +303,16 @@ public final class EtcdRepository implements ClusterPersistRepository {
                 });
     }
     
+    @Override
+    public void saveSnapshot() {
+        if (null != snapshot) {
+            snapshot.save();
+        }
+    }
+    
     @Override
     public void close() {
+        saveSnapshot();
         client.close();
         EVENT_LISTENER_EXECUTOR.shutdown();
     }
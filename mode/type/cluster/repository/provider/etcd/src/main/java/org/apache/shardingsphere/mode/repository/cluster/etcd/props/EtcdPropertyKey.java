@@ -36,7 +36,12 @@ public enum EtcdPropertyKey implements TypedPropertyKey {
     /**
      * Time out to connection.
      */
-    CONNECTION_TIMEOUT_SECONDS("connectionTimeout", "30", long.class);
+    CONNECTION_TIMEOUT_SECONDS("connectionTimeout", "30", long.class),
+    
+    /**
+     * Local snapshot file path of registry data, empty means snapshot is disabled.
+     */
+    SNAPSHOT_PATH("snapshotPath", "", String.class);
     
     private final String key;
     
@@ -23,8 +23,10 @@ import io.etcd.jetcd.Client;
 import io.etcd.jetcd.KV;
 import io.etcd.jetcd.KeyValue;
 import io.etcd.jetcd.Lease;
+import io.etcd.jetcd.Txn;
 import io.etcd.jetcd.Watch;
 import io.etcd.jetcd.kv.GetResponse;
+import io.etcd.jetcd.kv.TxnResponse;
 import io.etcd.jetcd.lease.LeaseGrantResponse;
 import io.etcd.jetcd.options.DeleteOption;
 import io.etcd.jetcd.options.GetOption;
@@ -46,9 +48,12 @@ import org.mockito.quality.Strictness;
 
 import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.Properties;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
@@ -60,6 +65,7 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.RETURNS_SELF;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -155,6 +161,35 @@ class EtcdRepositoryTest {
         assertThat(iterator.next(), is("key2"));
     }
     
+    @Test
+    void assertBatchQuery() {
+        Txn txn = mock(Txn.class, RETURNS_SELF);
+        when(kv.txn()).thenReturn(txn);
+        TxnResponse txnResponse = mock(TxnResponse.class);
+        when(txn.commit()).thenReturn(CompletableFuture.completedFuture(txnResponse));
+        GetResponse existedResponse = mock(GetResponse.class);
+        io.etcd.jetcd.api.KeyValue keyValue = io.etcd.jetcd.api.KeyValue.newBuilder().setKey(ByteString.copyFromUtf8("/key1")).setValue(ByteString.copyFromUtf8("value1")).build();
+        when(existedResponse.getKvs()).thenReturn(Collections.singletonList(new KeyValue(keyValue, ByteSequence.EMPTY)));
+        GetResponse notExistedResponse = mock(GetResponse.class);
+        when(notExistedResponse.getKvs()).thenReturn(Collections.emptyList());
+        when(txnResponse.getGetResponses()).thenReturn(Arrays.asList(existedResponse, notExistedResponse));
+        Map<String, String> actual = repository.batchQuery(Arrays.asList("/key1", "/key2"));
+        assertThat(actual, is(Collections.singletonMap("/key1", "value1")));
+        verify(txn).commit();
+    }
+    
+    @Test
+    void assertBatchPersist() {
+        Txn txn = mock(Txn.class, RETURNS_SELF);
+        when(kv.txn()).thenReturn(txn);
+        when(txn.commit()).thenReturn(CompletableFuture.completedFuture(mock(TxnResponse.class)));
+        Map<String, String> keyValues = new LinkedHashMap<>(2, 1F);
+        keyValues.put("/key1", "value1");
+        keyValues.put("/key2", "value2");
+        repository.batchPersist(keyValues);
+        verify(txn).commit();
+    }
+    
     @Test
     @SuppressWarnings("unchecked")
     void assertPersistEphemeral() {
@@ -19,14 +19,19 @@ package org.apache.shardingsphere.mode.repository.cluster.zookeeper;
 
 import com.google.common.base.Strings;
 import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
 import org.apache.curator.framework.CuratorFramework;
 import org.apache.curator.framework.CuratorFrameworkFactory;
 import org.apache.curator.framework.CuratorFrameworkFactory.Builder;
 import org.apache.curator.framework.api.ACLProvider;
+import org.apache.curator.framework.api.BackgroundPathable;
+import org.apache.curator.framework.api.CuratorEvent;
+import org.apache.curator.framework.api.transaction.CuratorOp;
 import org.apache.curator.framework.recipes.cache.CuratorCache;
 import org.apache.curator.framework.recipes.cache.CuratorCacheListener;
 import org.apache.curator.retry.ExponentialBackoffRetry;
 import org.apache.curator.utils.CloseableUtils;
+import org.apache.curator.utils.ZKPaths;
 import org.apache.shardingsphere.infra.instance.ComputeNodeInstanceContext;
 import org.apache.shardingsphere.mode.event.DataChangedEvent;
 import org.apache.shardingsphere.mode.event.DataChangedEvent.Type;
@@ -35,6 +40,7 @@ import org.apache.shardingsphere.mode.repository.cluster.ClusterPersistRepositor
 import org.apache.shardingsphere.mode.repository.cluster.exception.ClusterRepositoryPersistException;
 import org.apache.shardingsphere.mode.repository.cluster.listener.DataChangedEventListener;
 import org.apache.shardingsphere.mode.repository.cluster.lock.holder.DistributedLockHolder;
+import org.apache.shardingsphere.mode.repository.cluster.snapshot.ClusterPersistRepositorySnapshot;
 import org.apache.shardingsphere.mode.repository.cluster.zookeeper.handler.ZookeeperExceptionHandler;
 import org.apache.shardingsphere.mode.repository.cluster.zookeeper.listener.SessionConnectionReconnectListener;
 import org.apache.shardingsphere.mode.repository.cluster.zookeeper.props.ZookeeperProperties;
@@ -47,20 +53,34 @@ import org.apache.zookeeper.ZooDefs;
 import org.apache.zookeeper.data.ACL;
 
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 
 /**
  * Registry repository of ZooKeeper.
  */
+@Slf4j
 public final class ZookeeperRepository implements ClusterPersistRepository {
     
+    private static final int MAX_TRANSACTION_BYTES = 512 * 1024;
+    
+    private static final long DEFAULT_BACKGROUND_OPERATION_TIMEOUT_MILLISECONDS = 60000L;
+    
     private final Map<String, CuratorCache> caches = new ConcurrentHashMap<>();
     
     private final Map<String, CuratorCacheListener> dataListeners = new ConcurrentHashMap<>();
@@ -72,10 +92,18 @@ public final class ZookeeperRepository implements ClusterPersistRepository {
     @Getter
     private DistributedLockHolder distributedLockHolder;
     
+    private ClusterPersistRepositorySnapshot snapshot;
+    
+    private long backgroundOperationTimeoutMilliseconds;
+    
     @Override
     public void init(final ClusterPersistRepositoryConfiguration config, final ComputeNodeInstanceContext computeNodeInstanceContext) {
         ZookeeperProperties zookeeperProps = new ZookeeperProperties(config.getProps());
         client = buildCuratorClient(config, zookeeperProps);
+        int timeToLiveSeconds = zookeeperProps.getValue(ZookeeperPropertyKey.TIME_TO_LIVE_SECONDS);
+        backgroundOperationTimeoutMilliseconds = 0 == timeToLiveSeconds ? DEFAULT_BACKGROUND_OPERATION_TIMEOUT_MILLISECONDS : timeToLiveSeconds * 1000L;
+        String snapshotPath = zookeeperProps.getValue(ZookeeperPropertyKey.SNAPSHOT_PATH);
+        snapshot = Strings.isNullOrEmpty(snapshotPath) ? null : ClusterPersistRepositorySnapshot.load(Paths.get(snapshotPath), config.getServerLists() + PATH_SEPARATOR + config.getNamespace());
         distributedLockHolder = new DistributedLockHolder(getType(), client, zookeeperProps);
         client.getConnectionStateListenable().addListener(new SessionConnectionReconnectListener(computeNodeInstanceContext, this));
         initCuratorClient(zookeeperProps);
@@ -160,6 +188,87 @@ public final class ZookeeperRepository implements ClusterPersistRepository {
         }
     }
     
+    @Override
+    public void batchPersist(final Map<String, String> keyValues) {
+        try {
+            Map<String, Collection<String>> childrenKeys = new HashMap<>();
+            Map<String, String> transactionKeyValues = new LinkedHashMap<>();
+            List<CuratorOp> operations = new LinkedList<>();
+            int operationBytes = 0;
+            for (Entry<String, String> entry : keyValues.entrySet()) {
+                byte[] data = entry.getValue().getBytes(StandardCharsets.UTF_8);
+                int bytes = entry.getKey().getBytes(StandardCharsets.UTF_8).length + data.length;
+                if (!operations.isEmpty() && operationBytes + bytes > MAX_TRANSACTION_BYTES) {
+                    commitTransaction(operations, transactionKeyValues, childrenKeys);
+                    transactionKeyValues = new LinkedHashMap<>();
+                    operations = new LinkedList<>();
+                    operationBytes = 0;
+                }
+                operations.add(createPersistOperation(entry.getKey(), data, childrenKeys));
+                transactionKeyValues.put(entry.getKey(), entry.getValue());
+                operationBytes += bytes;
+            }
+            if (!operations.isEmpty()) {
+                commitTransaction(operations, transactionKeyValues, childrenKeys);
+            }
+            // CHECKSTYLE:OFF
+        } catch (final Exception ex) {
+            // CHECKSTYLE:ON
+            throw new ClusterRepositoryPersistException(ex);
+        }
+    }
+    
+    private void commitTransaction(final List<CuratorOp> operations, final Map<String, String> keyValues, final Map<String, Collection<String>> childrenKeys) throws Exception {
+        try {
+            client.transaction().forOperations(operations);
+        } catch (final KeeperException ex) {
+            log.warn("ZooKeeper transaction of {} nodes failed, persist nodes one by one.", keyValues.size(), ex);
+            childrenKeys.clear();
+            for (Entry<String, String> entry : keyValues.entrySet()) {
+                persistNode(entry.getKey(), entry.getValue().getBytes(StandardCharsets.UTF_8));
+            }
+        }
+    }
+    
+    private void persistNode(final String key, final byte[] data) throws Exception {
+        try {
+            client.create().creatingParentsIfNeeded().withMode(CreateMode.PERSISTENT).forPath(key, data);
+        } catch (final NodeExistsException ignored) {
+            client.setData().forPath(key, data);
+        }
+    }
+    
+    private CuratorOp createPersistOperation(final String key, final byte[] data, final Map<String, Collection<String>> childrenKeys) throws Exception {
+        String parentKey = ZKPaths.getPathAndNode(key).getPath();
+        Collection<String> siblingKeys = childrenKeys.get(parentKey);
+        if (null == siblingKeys) {
+            siblingKeys = loadChildrenKeys(parentKey, childrenKeys);
+            childrenKeys.put(parentKey, siblingKeys);
+        }
+        String nodeName = ZKPaths.getNodeFromPath(key);
+        if (siblingKeys.contains(nodeName)) {
+            return client.transactionOp().setData().forPath(key, data);
+        }
+        siblingKeys.add(nodeName);
+        childrenKeys.put(key, new HashSet<>());
+        return client.transactionOp().create().withMode(CreateMode.PERSISTENT).forPath(key, data);
+    }
+    
+    private Collection<String> loadChildrenKeys(final String key, final Map<String, Collection<String>> childrenKeys) throws Exception {
+        try {
+            return new HashSet<>(client.getChildren().forPath(key));
+        } catch (final KeeperException.NoNodeException ignored) {
+            client.create().creatingParentsIfNeeded().withMode(CreateMode.PERSISTENT).forPath(key, new byte[0]);
+            for (String each = key; !PATH_SEPARATOR.equals(each); each = ZKPaths.getPathAndNode(each).getPath()) {
+                Collection<String> siblingKeys = childrenKeys.get(ZKPaths.getPathAndNode(each).getPath());
+                if (null != siblingKeys) {
+                    siblingKeys.add(ZKPaths.getNodeFromPath(each));
+                }
+            }
+            return new HashSet<>();
+        }
+    }
+    
     @Override
     public void update(final String key, final String value) {
         try {
@@ -184,6 +293,75 @@ public final class ZookeeperRepository implements ClusterPersistRepository {
         }
     }
     
+    @Override
+    public Map<String, String> batchQuery(final Collection<String> keys) {
+        try {
+            Map<String, String> values = new HashMap<>(keys.size(), 1F);
+            Collection<String> missedKeys = null == snapshot ? keys : queryFromSnapshot(keys, values);
+            for (Entry<String, CuratorEvent> entry : executeInBackground(client::getData, missedKeys).entrySet()) {
+                if (isFound(entry.getValue())) {
+                    String value = new String(entry.getValue().getData(), StandardCharsets.UTF_8);
+                    values.put(entry.getKey(), value);
+                    if (null != snapshot) {
+                        snapshot.put(entry.getKey(), entry.getValue().getStat().getMzxid(), value);
+                    }
+                } else if (null != snapshot) {
+                    snapshot.remove(entry.getKey());
+                }
+            }
+            Map<String, String> result = new LinkedHashMap<>(values.size(), 1F);
+            keys.stream().filter(values::containsKey).forEach(each -> result.put(each, values.get(each)));
+            return result;
+            // CHECKSTYLE:OFF
+        } catch (final Exception ex) {
+            // CHECKSTYLE:ON
+            throw new ClusterRepositoryPersistException(ex);
+        }
+    }
+    
+    private Collection<String> queryFromSnapshot(final Collection<String> keys, final Map<String, String> values) throws Exception {
+        Collection<String> result = new LinkedList<>();
+        for (Entry<String, CuratorEvent> entry : executeInBackground(client::checkExists, keys).entrySet()) {
+            if (!isFound(entry.getValue())) {
+                snapshot.remove(entry.getKey());
+                continue;
+            }
+            Optional<String> value = snapshot.get(entry.getKey(), entry.getValue().getStat().getMzxid());
+            if (value.isPresent()) {
+                values.put(entry.getKey(), value.get());
+            } else {
+                result.add(entry.getKey());
+            }
+        }
+        return result;
+    }
+    
+    private Map<String, CuratorEvent> executeInBackground(final Supplier<? extends BackgroundPathable<?>> operationSupplier, final Collection<String> keys) throws Exception {
+        Map<String, CuratorEvent> result = new ConcurrentHashMap<>(keys.size(), 1F);
+        CountDownLatch latch = new CountDownLatch(keys.size());
+        for (String each : keys) {
+            operationSupplier.get().inBackground((curatorFramework, event) -> {
+                result.put(each, event);
+                latch.countDown();
+            }).forPath(each);
+        }
+        if (!latch.await(backgroundOperationTimeoutMilliseconds, TimeUnit.MILLISECONDS)) {
+            throw new OperationTimeoutException();
+        }
+        return result;
+    }
+    
+    private boolean isFound(final CuratorEvent event) throws KeeperException {
+        KeeperException.Code code = KeeperException.Code.get(event.getResultCode());
+        if (KeeperException.Code.OK == code) {
+            return true;
+        }
+        if (KeeperException.Code.NONODE == code) {
+            return false;
+        }
+        throw KeeperException.create(code, event.getPath());
+    }
+    
     @Override
     public boolean isExisted(final String key) {
         try {
@@ -262,6 +440,13 @@ public final class ZookeeperRepository implements ClusterPersistRepository {
         dataListeners.computeIfAbsent(key, curator -> curatorCacheListener);
     }
     
+    @Override
+    public void saveSnapshot() {
+        if (null != snapshot) {
+            snapshot.save();
+        }
+    }
+    
     @Override
     public void removeDataListener(final String key) {
         CuratorCacheListener cacheListener = dataListeners.remove(key);
@@ -273,6 +458,7 @@ public final class ZookeeperRepository implements ClusterPersistRepository {
     
     @Override
     public void close() {
+        saveSnapshot();
         caches.values().forEach(CuratorCache::close);
         waitForCacheClose();
         CloseableUtils.closeQuietly(client);
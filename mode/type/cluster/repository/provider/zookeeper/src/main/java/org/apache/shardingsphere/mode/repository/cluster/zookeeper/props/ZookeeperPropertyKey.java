@@ -51,7 +51,12 @@ public enum ZookeeperPropertyKey implements TypedPropertyKey {
     /**
      * ZooKeeper client connection authorization schema name.
      */
-    DIGEST("digest", "", String.class);
+    DIGEST("digest", "", String.class),
+    
+    /**
+     * Local snapshot file path of registry data, empty means snapshot is disabled.
+     */
+    SNAPSHOT_PATH("snapshotPath", "", String.class);
     
     private final String key;
     
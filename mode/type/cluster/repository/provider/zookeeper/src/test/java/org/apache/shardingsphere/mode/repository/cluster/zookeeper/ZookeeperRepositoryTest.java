@@ -17,21 +17,33 @@
 
 package org.apache.shardingsphere.mode.repository.cluster.zookeeper;
 
+import com.google.common.base.Strings;
 import lombok.SneakyThrows;
 import org.apache.curator.RetryPolicy;
 import org.apache.curator.framework.CuratorFramework;
 import org.apache.curator.framework.CuratorFrameworkFactory.Builder;
+import org.apache.curator.framework.api.ACLPathAndBytesable;
 import org.apache.curator.framework.api.ACLProvider;
+import org.apache.curator.framework.api.BackgroundCallback;
 import org.apache.curator.framework.api.BackgroundVersionable;
 import org.apache.curator.framework.api.CreateBuilder;
+import org.apache.curator.framework.api.CuratorEvent;
 import org.apache.curator.framework.api.DeleteBuilder;
+import org.apache.curator.framework.api.ErrorListenablePathable;
 import org.apache.curator.framework.api.ExistsBuilder;
 import org.apache.curator.framework.api.GetChildrenBuilder;
+import org.apache.curator.framework.api.GetDataBuilder;
 import org.apache.curator.framework.api.ProtectACLCreateModeStatPathAndBytesable;
 import org.apache.curator.framework.api.SetDataBuilder;
+import org.apache.curator.framework.api.transaction.CuratorMultiTransaction;
+import org.apache.curator.framework.api.transaction.CuratorOp;
+import org.apache.curator.framework.api.transaction.TransactionCreateBuilder;
+import org.apache.curator.framework.api.transaction.TransactionOp;
+import org.apache.curator.framework.api.transaction.TransactionSetDataBuilder;
 import org.apache.curator.framework.listen.Listenable;
 import org.apache.shardingsphere.infra.instance.ComputeNodeInstanceContext;
 import org.apache.shardingsphere.mode.repository.cluster.ClusterPersistRepositoryConfiguration;
+import org.apache.shardingsphere.mode.repository.cluster.exception.ClusterRepositoryPersistException;
 import org.apache.shardingsphere.mode.repository.cluster.lock.holder.DistributedLockHolder;
 import org.apache.shardingsphere.mode.repository.cluster.zookeeper.lock.ZookeeperDistributedLock;
 import org.apache.shardingsphere.mode.repository.cluster.zookeeper.props.ZookeeperProperties;
@@ -39,6 +51,7 @@ import org.apache.shardingsphere.mode.repository.cluster.zookeeper.props.Zookeep
 import org.apache.shardingsphere.test.util.PropertiesBuilder;
 import org.apache.shardingsphere.test.util.PropertiesBuilder.Property;
 import org.apache.zookeeper.CreateMode;
+import org.apache.zookeeper.KeeperException;
 import org.apache.zookeeper.data.Stat;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -52,16 +65,20 @@ import org.mockito.quality.Strictness;
 import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Properties;
 import java.util.concurrent.TimeUnit;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
@@ -104,6 +121,27 @@ class ZookeeperRepositoryTest {
     @Mock
     private Builder builder;
     
+    @Mock
+    private GetDataBuilder getDataBuilder;
+    
+    @Mock
+    private ErrorListenablePathable<byte[]> getDataPathable;
+    
+    @Mock
+    private TransactionOp transactionOp;
+    
+    @Mock
+    private TransactionCreateBuilder<CuratorOp> transactionCreateBuilder;
+    
+    @Mock
+    private ACLPathAndBytesable<CuratorOp> transactionCreatePathable;
+    
+    @Mock
+    private TransactionSetDataBuilder<CuratorOp> transactionSetDataBuilder;
+    
+    @Mock
+    private CuratorMultiTransaction multiTransaction;
+    
     @BeforeEach
     void init() {
         mockClient();
@@ -143,6 +181,12 @@ class ZookeeperRepositoryTest {
         when(client.delete()).thenReturn(deleteBuilder);
         when(deleteBuilder.deletingChildrenIfNeeded()).thenReturn(backgroundVersionable);
         when(client.getChildren()).thenReturn(getChildrenBuilder);
+        when(client.getData()).thenReturn(getDataBuilder);
+        when(client.transactionOp()).thenReturn(transactionOp);
+        when(transactionOp.create()).thenReturn(transactionCreateBuilder);
+        when(transactionCreateBuilder.withMode(CreateMode.PERSISTENT)).thenReturn(transactionCreatePathable);
+        when(transactionOp.setData()).thenReturn(transactionSetDataBuilder);
+        when(client.transaction()).thenReturn(multiTransaction);
         when(client.getConnectionStateListenable()).thenReturn(mock(Listenable.class));
     }
     
@@ -160,6 +204,93 @@ class ZookeeperRepositoryTest {
         verify(setDataBuilder).forPath("/test", "value2".getBytes(StandardCharsets.UTF_8));
     }
     
+    @Test
+    void assertBatchPersist() throws Exception {
+        when(getChildrenBuilder.forPath("/test")).thenReturn(Collections.singletonList("exist"));
+        CuratorOp setDataOperation = mock(CuratorOp.class);
+        when(transactionSetDataBuilder.forPath("/test/exist", "value1".getBytes(StandardCharsets.UTF_8))).thenReturn(setDataOperation);
+        CuratorOp createOperation = mock(CuratorOp.class);
+        when(transactionCreatePathable.forPath("/test/new", "value2".getBytes(StandardCharsets.UTF_8))).thenReturn(createOperation);
+        CuratorOp createChildOperation = mock(CuratorOp.class);
+        when(transactionCreatePathable.forPath("/test/new/child", "value3".getBytes(StandardCharsets.UTF_8))).thenReturn(createChildOperation);
+        Map<String, String> keyValues = new LinkedHashMap<>(3, 1F);
+        keyValues.put("/test/exist", "value1");
+        keyValues.put("/test/new", "value2");
+        keyValues.put("/test/new/child", "value3");
+        REPOSITORY.batchPersist(keyValues);
+        verify(getChildrenBuilder).forPath("/test");
+        verify(getChildrenBuilder, times(0)).forPath("/test/new");
+        verify(multiTransaction).forOperations(Arrays.asList(setDataOperation, createOperation, createChildOperation));
+    }
+    
+    @Test
+    void assertBatchPersistWithMultipleTransactions() throws Exception {
+        when(getChildrenBuilder.forPath("/test")).thenReturn(Arrays.asList("foo", "bar"));
+        String value = Strings.repeat("x", 300 * 1024);
+        CuratorOp fooOperation = mock(CuratorOp.class);
+        when(transactionSetDataBuilder.forPath("/test/foo", value.getBytes(StandardCharsets.UTF_8))).thenReturn(fooOperation);
+        CuratorOp barOperation = mock(CuratorOp.class);
+        when(transactionSetDataBuilder.forPath("/test/bar", value.getBytes(StandardCharsets.UTF_8))).thenReturn(barOperation);
+        Map<String, String> keyValues = new LinkedHashMap<>(2, 1F);
+        keyValues.put("/test/foo", value);
+        keyValues.put("/test/bar", value);
+        REPOSITORY.batchPersist(keyValues);
+        verify(multiTransaction).forOperations(Collections.singletonList(fooOperation));
+        verify(multiTransaction).forOperations(Collections.singletonList(barOperation));
+    }
+    
+    @Test
+    void assertBatchPersistOneByOneWhenTransactionFailed() throws Exception {
+        when(getChildrenBuilder.forPath("/test")).thenReturn(Collections.emptyList());
+        when(transactionCreatePathable.forPath(anyString(), any(byte[].class))).thenReturn(mock(CuratorOp.class));
+        when(multiTransaction.forOperations(anyList())).thenThrow(new KeeperException.NodeExistsException("/test/foo"));
+        when(protect.withMode(CreateMode.PERSISTENT)).thenReturn(protect);
+        when(protect.forPath("/test/foo", "foo_value".getBytes(StandardCharsets.UTF_8))).thenThrow(new KeeperException.NodeExistsException("/test/foo"));
+        Map<String, String> keyValues = new LinkedHashMap<>(2, 1F);
+        keyValues.put("/test/foo", "foo_value");
+        keyValues.put("/test/bar", "bar_value");
+        REPOSITORY.batchPersist(keyValues);
+        verify(setDataBuilder).forPath("/test/foo", "foo_value".getBytes(StandardCharsets.UTF_8));
+        verify(protect).forPath("/test/bar", "bar_value".getBytes(StandardCharsets.UTF_8));
+    }
+    
+    @Test
+    void assertBatchPersistWhenConnectionLost() throws Exception {
+        when(getChildrenBuilder.forPath("/test")).thenThrow(new KeeperException.ConnectionLossException());
+        assertThrows(ClusterRepositoryPersistException.class, () -> REPOSITORY.batchPersist(Collections.singletonMap("/test/foo", "foo_value")));
+    }
+    
+    @Test
+    void assertBatchQuery() throws Exception {
+        BackgroundCallback[] callback = new BackgroundCallback[1];
+        when(getDataBuilder.inBackground(any(BackgroundCallback.class))).thenAnswer(invocation -> {
+            callback[0] = invocation.getArgument(0);
+            return getDataPathable;
+        });
+        when(getDataPathable.forPath(anyString())).thenAnswer(invocation -> {
+            String path = invocation.getArgument(0);
+            CuratorEvent event = mock(CuratorEvent.class);
+            when(event.getPath()).thenReturn(path);
+            if ("/test/exist".equals(path)) {
+                when(event.getResultCode()).thenReturn(KeeperException.Code.OK.intValue());
+                when(event.getData()).thenReturn("value".getBytes(StandardCharsets.UTF_8));
+            } else {
+                when(event.getResultCode()).thenReturn(KeeperException.Code.NONODE.intValue());
+            }
+            callback[0].processResult(client, event);
+            return null;
+        });
+        Map<String, String> actual = REPOSITORY.batchQuery(Arrays.asList("/test/exist", "/test/not_exist"));
+        assertThat(actual, is(Collections.singletonMap("/test/exist", "value")));
+    }
+    
+    @Test
+    void assertBatchQueryTimeout() throws Exception {
+        Plugins.getMemberAccessor().set(ZookeeperRepository.class.getDeclaredField("backgroundOperationTimeoutMilliseconds"), REPOSITORY, 10L);
+        when(getDataBuilder.inBackground(any(BackgroundCallback.class))).thenReturn(getDataPathable);
+        assertThrows(ClusterRepositoryPersistException.class, () -> REPOSITORY.batchQuery(Collections.singletonList("/test/foo")));
+    }
+    
     @Test
     void assertPersistEphemeralNotExist() throws Exception {
         when(protect.withMode(CreateMode.EPHEMERAL)).thenReturn(protect);
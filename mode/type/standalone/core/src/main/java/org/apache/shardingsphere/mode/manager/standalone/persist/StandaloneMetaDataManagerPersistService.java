@@ -29,6 +29,7 @@ import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSp
 import org.apache.shardingsphere.infra.metadata.database.schema.pojo.AlterSchemaMetaDataPOJO;
 import org.apache.shardingsphere.infra.metadata.database.schema.pojo.AlterSchemaPOJO;
 import org.apache.shardingsphere.infra.metadata.version.MetaDataVersion;
+import org.apache.shardingsphere.infra.rule.attribute.cache.CacheableRuleAttribute;
 import org.apache.shardingsphere.infra.rule.attribute.datanode.MutableDataNodeRuleAttribute;
 import org.apache.shardingsphere.infra.rule.scope.GlobalRule;
 import org.apache.shardingsphere.infra.rule.scope.GlobalRule.GlobalRuleChangedType;
@@ -146,6 +147,7 @@ public final class StandaloneMetaDataManagerPersistService implements MetaDataMa
             }
             database.getSchema(schemaName).putTable(entry.getKey(), entry.getValue());
         }
+        invalidateRuleCaches(database, schemaName, toBeAddedTables.keySet());
     }
     
     private void addViewsToDataNode(final ShardingSphereDatabase database, final String schemaName, final String logicDataSourceName,
@@ -157,6 +159,7 @@ public final class StandaloneMetaDataManagerPersistService implements MetaDataMa
             Optional.ofNullable(toBeAddedTables.get(entry.getKey().toLowerCase())).ifPresent(optional -> database.getSchema(schemaName).putTable(entry.getKey(), optional));
             database.getSchema(schemaName).putView(entry.getKey(), entry.getValue());
         }
+        invalidateRuleCaches(database, schemaName, toBeAddedViews.keySet());
     }
     
     private void removeSchemaMetaData(final ShardingSphereDatabase database, final String schemaName) {
@@ -181,6 +184,7 @@ public final class StandaloneMetaDataManagerPersistService implements MetaDataMa
     private void removeTablesToDataNode(final ShardingSphereDatabase database, final String schemaName, final Collection<String> toBeDroppedTables) {
         removeDataNode(database.getRuleMetaData().getAttributes(MutableDataNodeRuleAttribute.class), schemaName, toBeDroppedTables);
         toBeDroppedTables.forEach(each -> database.getSchema(schemaName).removeTable(each));
+        invalidateRuleCaches(database, schemaName, toBeDroppedTables);
     }
     
     private void removeViewsToDataNode(final ShardingSphereDatabase database, final String schemaName, final Collection<String> toBeDroppedTables, final Collection<String> toBeDroppedViews) {
@@ -188,6 +192,13 @@ public final class StandaloneMetaDataManagerPersistService implements MetaDataMa
         ShardingSphereSchema schema = database.getSchema(schemaName);
         toBeDroppedTables.forEach(schema::removeTable);
         toBeDroppedViews.forEach(schema::removeView);
+        invalidateRuleCaches(database, schemaName, toBeDroppedTables);
+        invalidateRuleCaches(database, schemaName, toBeDroppedViews);
+    }
+    
+    private void invalidateRuleCaches(final ShardingSphereDatabase database, final String schemaName, final Collection<String> tableNames) {
+        Collection<CacheableRuleAttribute> ruleAttributes = database.getRuleMetaData().getAttributes(CacheableRuleAttribute.class);
+        tableNames.forEach(each -> ruleAttributes.forEach(rule -> rule.invalidate(schemaName, each)));
     }
     
     @Override
@@ -367,6 +378,7 @@ public final class StandaloneMetaDataManagerPersistService implements MetaDataMa
             database.getRuleMetaData().getAttributes(MutableDataNodeRuleAttribute.class).forEach(rule -> rule.put(logicDataSourceName, schemaName, table.getName()));
         }
         database.getSchema(schemaName).putTable(table.getName(), table);
+        invalidateRuleCaches(database, schemaName, Collections.singleton(table.getName()));
     }
     
     private void clearServiceCache() {
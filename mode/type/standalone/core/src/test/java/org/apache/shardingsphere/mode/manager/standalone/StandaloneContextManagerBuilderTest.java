@@ -35,6 +35,7 @@ import java.util.Properties;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -56,6 +57,7 @@ class StandaloneContextManagerBuilderTest {
         ContextManager actual = builder.build(new ContextManagerBuilderParameter(createModeConfiguration(),
                 Collections.emptyMap(), Collections.emptyMap(), Collections.emptyList(), new Properties(), Collections.emptyList(), instanceMetaData, false), mock(EventBusContext.class));
         assertThat(actual.getComputeNodeInstanceContext().getInstance().getMetaData(), is(instanceMetaData));
+        assertTrue(actual.getComputeNodeInstanceContext().isKeySegmentAllocatorInitialized());
     }
     
     private static ModeConfiguration createModeConfiguration() {
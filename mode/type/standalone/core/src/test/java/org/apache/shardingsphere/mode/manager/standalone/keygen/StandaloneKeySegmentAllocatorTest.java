@@ -0,0 +1,46 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.apache.shardingsphere.mode.manager.standalone.keygen;
+
+import org.apache.shardingsphere.mode.repository.standalone.StandalonePersistRepository;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class StandaloneKeySegmentAllocatorTest {
+    
+    @Test
+    void assertAllocateFirstSegment() {
+        StandalonePersistRepository repository = mock(StandalonePersistRepository.class);
+        assertThat(new StandaloneKeySegmentAllocator(repository).allocate("foo_segment", 1000L), is(1L));
+        verify(repository).persist("/reservation/key_segment/foo_segment", "1001");
+    }
+    
+    @Test
+    void assertAllocateNextSegment() {
+        StandalonePersistRepository repository = mock(StandalonePersistRepository.class);
+        when(repository.query("/reservation/key_segment/foo_segment")).thenReturn("1001");
+        assertThat(new StandaloneKeySegmentAllocator(repository).allocate("foo_segment", 1000L), is(1001L));
+        verify(repository).persist("/reservation/key_segment/foo_segment", "2001");
+    }
+}
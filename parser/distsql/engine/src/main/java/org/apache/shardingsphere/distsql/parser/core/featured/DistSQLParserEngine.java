@@ -43,7 +43,7 @@ public final class DistSQLParserEngine {
     public SQLStatement parse(final String sql) {
         for (DistSQLParserFacade each : ShardingSphereServiceLoader.getServiceInstances(DistSQLParserFacade.class)) {
             try {
-                ParseASTNode astNode = (ParseASTNode) SQLParserFactory.newInstance(sql, each.getLexerClass(), each.getParserClass()).parse();
+                ParseASTNode astNode = (ParseASTNode) SQLParserFactory.parse(sql, each.getLexerClass(), each.getParserClass());
                 return getSQLStatement(sql, each, astNode);
             } catch (final ParseCancellationException | SQLParsingException ignored) {
             }
@@ -36,7 +36,7 @@ public final class KernelDistSQLStatementParserEngine {
      * @return SQL statement
      */
     public SQLStatement parse(final String sql) {
-        ASTNode astNode = SQLParserFactory.newInstance(sql, KernelDistSQLLexer.class, KernelDistSQLParser.class).parse();
+        ASTNode astNode = SQLParserFactory.parse(sql, KernelDistSQLLexer.class, KernelDistSQLParser.class);
         return getSQLStatement(sql, (ParseASTNode) astNode);
     }
     
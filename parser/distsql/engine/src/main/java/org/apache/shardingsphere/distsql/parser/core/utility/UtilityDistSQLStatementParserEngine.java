@@ -43,7 +43,7 @@ public final class UtilityDistSQLStatementParserEngine {
     
     private ASTNode parseToASTNode(final String sql) {
         try {
-            return SQLParserFactory.newInstance(sql, UtilityDistSQLLexer.class, UtilityDistSQLParser.class).parse();
+            return SQLParserFactory.parse(sql, UtilityDistSQLLexer.class, UtilityDistSQLParser.class);
         } catch (final ParseCancellationException ignored) {
             throw new SQLParsingException(sql);
         }
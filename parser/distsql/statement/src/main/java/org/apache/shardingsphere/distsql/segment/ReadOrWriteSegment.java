@@ -33,12 +33,19 @@ public final class ReadOrWriteSegment implements DistSQLSegment {
     
     private final Integer shardingSize;
     
+    private final Boolean upsert;
+    
     private final AlgorithmSegment rateLimiter;
     
+    public ReadOrWriteSegment(final Integer workerThread, final Integer batchSize, final Integer shardingSize, final AlgorithmSegment rateLimiter) {
+        this(workerThread, batchSize, shardingSize, null, rateLimiter);
+    }
+    
     public ReadOrWriteSegment(final Integer workerThread, final Integer batchSize, final AlgorithmSegment rateLimiter) {
-        this.workerThread = workerThread;
-        this.batchSize = batchSize;
-        shardingSize = 10000000;
-        this.rateLimiter = rateLimiter;
+        this(workerThread, batchSize, 10000000, null, rateLimiter);
+    }
+    
+    public ReadOrWriteSegment(final Integer workerThread, final Integer batchSize, final Boolean upsert, final AlgorithmSegment rateLimiter) {
+        this(workerThread, batchSize, 10000000, upsert, rateLimiter);
     }
 }
@@ -0,0 +1,99 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.apache.shardingsphere.sql.parser.mysql.parameterize;
+
+import org.apache.shardingsphere.sql.parser.api.SQLParameterizeEngine;
+import org.apache.shardingsphere.sql.parser.core.database.parameterize.ParameterizedSQL;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.ArgumentsProvider;
+import org.junit.jupiter.params.provider.ArgumentsSource;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MySQLParameterizeIT {
+    
+    private final SQLParameterizeEngine engine = new SQLParameterizeEngine("MySQL");
+    
+    @ParameterizedTest(name = "{0}")
+    @ArgumentsSource(TestCaseArgumentsProvider.class)
+    void assertParameterize(final String caseId, final String inputSQL, final String expectedSQL, final List<Object> expectedParams) {
+        Optional<ParameterizedSQL> actual = engine.parameterize(inputSQL);
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().getSql(), is(expectedSQL));
+        assertThat(actual.get().getParameters(), is(expectedParams));
+    }
+    
+    @Test
+    void assertParameterizeWithMultiStatements() {
+        assertFalse(engine.parameterize("UPDATE t_order SET status = 'PAID' WHERE order_id = 1; UPDATE t_order SET status = 'PAID' WHERE order_id = 2").isPresent());
+    }
+    
+    @Test
+    void assertParameterizeWithParameterMarker() {
+        assertFalse(engine.parameterize("SELECT * FROM t_order WHERE order_id = ? AND user_id = 10").isPresent());
+    }
+    
+    @Test
+    void assertParameterizeWithDDL() {
+        assertFalse(engine.parameterize("CREATE TABLE t_order (order_id INT)").isPresent());
+    }
+    
+    private static class TestCaseArgumentsProvider implements ArgumentsProvider {
+        
+        @Override
+        public Stream<? extends Arguments> provideArguments(final ExtensionContext extensionContext) {
+            return Stream.of(Arguments.of("select_where_equals",
+                    "SELECT * FROM t_order WHERE order_id = 12345 AND status = 'PAID'",
+                    "SELECT * FROM t_order WHERE order_id = ? AND status = ?",
+                    Arrays.asList(12345, "PAID")),
+                    Arguments.of("select_where_in",
+                            "SELECT order_id FROM t_order WHERE user_id IN (10, 11, 9999999999) ORDER BY 1 LIMIT 10",
+                            "SELECT order_id FROM t_order WHERE user_id IN (?, ?, ?) ORDER BY 1 LIMIT 10",
+                            Arrays.asList(10, 11, 9999999999L)),
+                    Arguments.of("select_keep_projection_literal",
+                            "SELECT order_id = 1 AS flag, 'x' FROM t_order WHERE user_id > 10",
+                            "SELECT order_id = 1 AS flag, 'x' FROM t_order WHERE user_id > ?",
+                            Collections.singletonList(10)),
+                    Arguments.of("select_keep_expression_literal",
+                            "SELECT * FROM t_order WHERE user_id = -1 OR order_id = 1 + user_id OR status = 'it''s' OR user_id BETWEEN 1 AND 2",
+                            "SELECT * FROM t_order WHERE user_id = -1 OR order_id = 1 + user_id OR status = 'it''s' OR user_id BETWEEN 1 AND 2",
+                            Collections.emptyList()),
+                    Arguments.of("insert_values",
+                            "INSERT INTO t_order (order_id, user_id, status) VALUES (1, 10, 'INIT'), (2, 10, NOW())",
+                            "INSERT INTO t_order (order_id, user_id, status) VALUES (?, ?, ?), (?, ?, NOW())",
+                            Arrays.asList(1, 10, "INIT", 2, 10)),
+                    Arguments.of("update_set",
+                            "UPDATE t_order SET status = 'PAID', version = version + 1 WHERE order_id = 1;",
+                            "UPDATE t_order SET status = ?, version = version + 1 WHERE order_id = ?;",
+                            Arrays.asList("PAID", 1)));
+        }
+    }
+}
@@ -0,0 +1,50 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sql.parser.postgresql.parameterize;
+
+import org.apache.shardingsphere.sql.parser.api.SQLParameterizeEngine;
+import org.apache.shardingsphere.sql.parser.core.database.parameterize.ParameterizedSQL;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PostgreSQLParameterizeIT {
+    
+    private final SQLParameterizeEngine engine = new SQLParameterizeEngine("PostgreSQL");
+    
+    @Test
+    void assertParameterizeWithStringLiteralKeptInline() {
+        Optional<ParameterizedSQL> actual = engine.parameterize("SELECT * FROM t_order WHERE order_id = 12345 AND status = 'PAID' AND user_id IN (10, 11)");
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().getSql(), is("SELECT * FROM t_order WHERE order_id = ? AND status = 'PAID' AND user_id IN (?, ?)"));
+        assertThat(actual.get().getParameters(), is(Arrays.asList(12345, 10, 11)));
+    }
+    
+    @Test
+    void assertParameterizeInsertWithStringLiteralKeptInline() {
+        Optional<ParameterizedSQL> actual = engine.parameterize("INSERT INTO t_order (order_id, status) VALUES (1, 'INIT')");
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().getSql(), is("INSERT INTO t_order (order_id, status) VALUES (?, 'INIT')"));
+        assertThat(actual.get().getParameters(), is(Arrays.asList(1)));
+    }
+}
@@ -0,0 +1,61 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.apache.shardingsphere.sql.parser.api;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.database.core.spi.DatabaseTypedSPILoader;
+import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.apache.shardingsphere.sql.parser.core.database.parameterize.ParameterizedSQL;
+import org.apache.shardingsphere.sql.parser.core.database.parameterize.SQLLiteralParameterizer;
+import org.apache.shardingsphere.sql.parser.spi.DialectSQLParserFacade;
+
+import java.util.Optional;
+
+/**
+ * SQL parameterize engine.
+ *
+ * <p>String literals are only parameterized for MySQL family dialects, which convert a string parameter to the type of the compared column as they do for inline text.
+ * Other dialects such as PostgreSQL and openGauss would bind it as varchar instead of an untyped literal.</p>
+ */
+@RequiredArgsConstructor
+public final class SQLParameterizeEngine {
+    
+    private static final String STRING_LITERAL_PARAMETERIZABLE_DATABASE_TYPE = "MySQL";
+    
+    private final DatabaseType databaseType;
+    
+    public SQLParameterizeEngine(final String databaseType) {
+        this(TypedSPILoader.getService(DatabaseType.class, databaseType));
+    }
+    
+    /**
+     * Replace literals of SQL with parameter markers.
+     *
+     * @param sql SQL to be parameterized
+     * @return parameterized SQL, empty if SQL can not be parameterized
+     */
+    public Optional<ParameterizedSQL> parameterize(final String sql) {
+        return new SQLLiteralParameterizer(DatabaseTypedSPILoader.getService(DialectSQLParserFacade.class, databaseType).getLexerClass(), isStringLiteralParameterizable()).parameterize(sql);
+    }
+    
+    private boolean isStringLiteralParameterizable() {
+        return STRING_LITERAL_PARAMETERIZABLE_DATABASE_TYPE.equals(databaseType.getTrunkDatabaseType().orElse(databaseType).getType());
+    }
+}
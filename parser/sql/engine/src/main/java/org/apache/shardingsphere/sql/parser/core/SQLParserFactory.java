@@ -28,43 +28,141 @@ import org.antlr.v4.runtime.CommonTokenStream;
 import org.antlr.v4.runtime.ConsoleErrorListener;
 import org.antlr.v4.runtime.Lexer;
 import org.antlr.v4.runtime.Parser;
+import org.antlr.v4.runtime.Recognizer;
 import org.antlr.v4.runtime.TokenStream;
+import org.antlr.v4.runtime.atn.ParserATNSimulator;
+import org.apache.shardingsphere.sql.parser.api.ASTNode;
 import org.apache.shardingsphere.sql.parser.api.parser.SQLLexer;
 import org.apache.shardingsphere.sql.parser.api.parser.SQLParser;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.nio.CharBuffer;
+import java.util.Map;
+import java.util.concurrent.BlockingDeque;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingDeque;
 
 /**
  * SQL parser factory.
+ *
+ * <p>Lexers and parsers are borrowed from bounded pools per class and reset with new input for each SQL.
+ * They must be released after parsing, released recognizers drop their input, token stream and prediction state.</p>
  */
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public final class SQLParserFactory {
     
+    private static final int POOL_SIZE = Runtime.getRuntime().availableProcessors() * 2;
+    
+    private static final Map<Class<?>, MethodHandle> CONSTRUCTORS = new ConcurrentHashMap<>();
+    
+    private static final Map<Class<?>, BlockingDeque<Recognizer<?, ?>>> RECOGNIZER_POOLS = new ConcurrentHashMap<>();
+    
     /**
      * Create new instance of SQL parser.
      *
+     * <p>The returned parser should be released by {@link #release(SQLParser)} after parsing, the parse tree it produced stays valid.</p>
+     *
      * @param sql SQL
      * @param lexerClass lexer class
      * @param parserClass parser class
      * @return created instance
      */
     public static SQLParser newInstance(final String sql, final Class<? extends SQLLexer> lexerClass, final Class<? extends SQLParser> parserClass) {
-        return createSQLParser(createTokenStream(sql, lexerClass), parserClass);
+        CommonTokenStream tokenStream = new CommonTokenStream(getLexer(sql, lexerClass));
+        tokenStream.fill();
+        return getSQLParser(tokenStream, parserClass);
     }
     
-    @SneakyThrows(ReflectiveOperationException.class)
-    private static SQLParser createSQLParser(final TokenStream tokenStream, final Class<? extends SQLParser> parserClass) {
-        SQLParser result = parserClass.getConstructor(TokenStream.class).newInstance(tokenStream);
-        ((Parser) result).setErrorHandler(new BailErrorStrategy());
-        ((Parser) result).removeErrorListener(ConsoleErrorListener.INSTANCE);
+    /**
+     * Parse SQL with pooled lexer and parser.
+     *
+     * @param sql SQL
+     * @param lexerClass lexer class
+     * @param parserClass parser class
+     * @return AST node
+     */
+    public static ASTNode parse(final String sql, final Class<? extends SQLLexer> lexerClass, final Class<? extends SQLParser> parserClass) {
+        SQLParser sqlParser = newInstance(sql, lexerClass, parserClass);
+        try {
+            return sqlParser.parse();
+        } finally {
+            release(sqlParser);
+        }
+    }
+    
+    /**
+     * Get SQL lexer.
+     *
+     * <p>The returned lexer should be released by {@link #release(Lexer)} after its tokens are consumed.</p>
+     *
+     * @param sql SQL
+     * @param lexerClass lexer class
+     * @return SQL lexer
+     */
+    public static Lexer getLexer(final String sql, final Class<? extends SQLLexer> lexerClass) {
+        CharStream charStream = getSQLCharStream(sql);
+        Lexer result = (Lexer) getRecognizerPool(lexerClass).pollFirst();
+        if (null == result) {
+            result = newRecognizer(lexerClass, CharStream.class, charStream);
+            result.removeErrorListener(ConsoleErrorListener.INSTANCE);
+        } else {
+            result.setInputStream(charStream);
+        }
         return result;
     }
     
+    private static SQLParser getSQLParser(final TokenStream tokenStream, final Class<? extends SQLParser> parserClass) {
+        Parser result = (Parser) getRecognizerPool(parserClass).pollFirst();
+        if (null == result) {
+            result = newRecognizer(parserClass, TokenStream.class, tokenStream);
+        } else {
+            result.setTokenStream(tokenStream);
+        }
+        result.setErrorHandler(new BailErrorStrategy());
+        result.removeErrorListeners();
+        return (SQLParser) result;
+    }
+    
+    /**
+     * Release SQL parser and its lexer for reuse.
+     *
+     * @param sqlParser SQL parser to be released
+     */
+    public static void release(final SQLParser sqlParser) {
+        Parser parser = (Parser) sqlParser;
+        Lexer lexer = (Lexer) parser.getInputStream().getTokenSource();
+        parser.setTokenStream(null);
+        ParserATNSimulator interpreter = parser.getInterpreter();
+        parser.setInterpreter(new ParserATNSimulator(parser, parser.getATN(), interpreter.decisionToDFA, interpreter.getSharedContextCache()));
+        getRecognizerPool(parser.getClass()).offerFirst(parser);
+        release(lexer);
+    }
+    
+    /**
+     * Release SQL lexer for reuse.
+     *
+     * @param lexer SQL lexer to be released
+     */
+    public static void release(final Lexer lexer) {
+        lexer.setInputStream(null);
+        getRecognizerPool(lexer.getClass()).offerFirst(lexer);
+    }
+    
+    private static BlockingDeque<Recognizer<?, ?>> getRecognizerPool(final Class<?> recognizerClass) {
+        return RECOGNIZER_POOLS.computeIfAbsent(recognizerClass, key -> new LinkedBlockingDeque<>(POOL_SIZE));
+    }
+    
+    @SuppressWarnings("unchecked")
+    @SneakyThrows(Throwable.class)
+    private static <T> T newRecognizer(final Class<?> recognizerClass, final Class<?> inputType, final Object input) {
+        return (T) CONSTRUCTORS.computeIfAbsent(recognizerClass, key -> findConstructor(key, inputType)).invoke(input);
+    }
+    
     @SneakyThrows(ReflectiveOperationException.class)
-    private static TokenStream createTokenStream(final String sql, final Class<? extends SQLLexer> lexerClass) {
-        Lexer lexer = (Lexer) lexerClass.getConstructor(CharStream.class).newInstance(getSQLCharStream(sql));
-        lexer.removeErrorListener(ConsoleErrorListener.INSTANCE);
-        return new CommonTokenStream(lexer);
+    private static MethodHandle findConstructor(final Class<?> recognizerClass, final Class<?> inputType) {
+        return MethodHandles.publicLookup().findConstructor(recognizerClass, MethodType.methodType(void.class, inputType));
     }
     
     private static CharStream getSQLCharStream(final String sql) {
@@ -0,0 +1,176 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.apache.shardingsphere.sql.parser.core.database.parameterize;
+
+import lombok.AllArgsConstructor;
+import lombok.RequiredArgsConstructor;
+import org.antlr.v4.runtime.Lexer;
+import org.antlr.v4.runtime.Token;
+import org.antlr.v4.runtime.Vocabulary;
+import org.apache.shardingsphere.sql.parser.api.parser.SQLLexer;
+import org.apache.shardingsphere.sql.parser.core.SQLParserFactory;
+import org.apache.shardingsphere.sql.parser.statement.core.value.literal.impl.NumberLiteralValue;
+import org.apache.shardingsphere.sql.parser.statement.core.value.literal.impl.StringLiteralValue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * SQL literal parameterizer.
+ *
+ * <p>Only literals whose replacement with a parameter marker can not change the statement are parameterized: operands of comparison in
+ * WHERE, ON, HAVING and SET clauses, elements of IN lists and elements of VALUES rows. String literals are only parameterized if the caller
+ * declares that the dialect types a string parameter by the column it is compared with, and never if they contain quotes or escapes.</p>
+ */
+@RequiredArgsConstructor
+public final class SQLLiteralParameterizer {
+    
+    private static final Collection<String> STATEMENT_KEYWORDS = new HashSet<>(Arrays.asList("SELECT", "INSERT", "UPDATE", "DELETE"));
+    
+    private static final Collection<String> CLAUSE_KEYWORDS = new HashSet<>(Arrays.asList("SELECT", "FROM", "WHERE", "GROUP", "HAVING", "ORDER", "LIMIT", "SET", "VALUES", "VALUE", "ON", "USING"));
+    
+    private static final Collection<String> COMPARISON_CLAUSE_KEYWORDS = new HashSet<>(Arrays.asList("WHERE", "HAVING", "SET", "ON"));
+    
+    private static final Collection<String> COMPARISON_OPERATORS = new HashSet<>(Arrays.asList("EQ_", "NEQ_", "GT_", "GTE_", "LT_", "LTE_"));
+    
+    private static final Collection<String> VALUES_KEYWORDS = new HashSet<>(Arrays.asList("VALUES", "VALUE"));
+    
+    private static final String NUMBER_LITERAL = "NUMBER_";
+    
+    private static final String STRING_LITERAL = "SINGLE_QUOTED_TEXT";
+    
+    private static final String PARAMETER_MARKER = "?";
+    
+    private final Class<? extends SQLLexer> lexerClass;
+    
+    private final boolean stringLiteralParameterizable;
+    
+    /**
+     * Parameterize literals of SQL.
+     *
+     * @param sql SQL to be parameterized
+     * @return parameterized SQL, empty if SQL is not a single DML statement or contains parameter markers already
+     */
+    public Optional<ParameterizedSQL> parameterize(final String sql) {
+        Lexer lexer = SQLParserFactory.getLexer(sql, lexerClass);
+        Vocabulary vocabulary = lexer.getVocabulary();
+        List<Token> tokens;
+        try {
+            tokens = getDefaultChannelTokens(lexer);
+        } finally {
+            SQLParserFactory.release(lexer);
+        }
+        if (tokens.isEmpty() || !STATEMENT_KEYWORDS.contains(vocabulary.getSymbolicName(tokens.get(0).getType()))) {
+            return Optional.empty();
+        }
+        StringBuilder parameterizedSQL = new StringBuilder(sql.length());
+        List<Object> parameters = new ArrayList<>();
+        LinkedList<ParenthesisScope> scopes = new LinkedList<>();
+        scopes.push(new ParenthesisScope(null, false));
+        int copiedIndex = 0;
+        for (int i = 0; i < tokens.size(); i++) {
+            String symbolicName = vocabulary.getSymbolicName(tokens.get(i).getType());
+            if ("QUESTION_".equals(symbolicName) || ("SEMI_".equals(symbolicName) && i != tokens.size() - 1)) {
+                return Optional.empty();
+            }
+            String previousSymbolicName = 0 == i ? null : vocabulary.getSymbolicName(tokens.get(i - 1).getType());
+            if ("LP_".equals(symbolicName)) {
+                boolean literalList = "IN".equals(previousSymbolicName) || isValuesRowStart(scopes.peek(), previousSymbolicName);
+                scopes.push(new ParenthesisScope(scopes.peek().clause, literalList));
+            } else if ("RP_".equals(symbolicName)) {
+                if (scopes.size() > 1) {
+                    scopes.pop();
+                }
+            } else if (CLAUSE_KEYWORDS.contains(symbolicName)) {
+                scopes.peek().clause = symbolicName;
+                scopes.peek().literalList = false;
+            } else if (isParameterizable(tokens, i, vocabulary, scopes.peek())) {
+                Token token = tokens.get(i);
+                parameterizedSQL.append(sql, copiedIndex, token.getStartIndex()).append(PARAMETER_MARKER);
+                copiedIndex = token.getStopIndex() + 1;
+                parameters.add(NUMBER_LITERAL.equals(symbolicName) ? new NumberLiteralValue(token.getText()).getValue() : new StringLiteralValue(token.getText()).getValue());
+            }
+        }
+        if (parameters.isEmpty()) {
+            return Optional.of(new ParameterizedSQL(sql, parameters));
+        }
+        parameterizedSQL.append(sql, copiedIndex, sql.length());
+        return Optional.of(new ParameterizedSQL(parameterizedSQL.toString(), parameters));
+    }
+    
+    private List<Token> getDefaultChannelTokens(final Lexer lexer) {
+        List<Token> result = new ArrayList<>();
+        for (Token token = lexer.nextToken(); Token.EOF != token.getType(); token = lexer.nextToken()) {
+            if (Token.DEFAULT_CHANNEL == token.getChannel()) {
+                result.add(token);
+            }
+        }
+        return result;
+    }
+    
+    private boolean isValuesRowStart(final ParenthesisScope scope, final String previousSymbolicName) {
+        return VALUES_KEYWORDS.contains(scope.clause) && (VALUES_KEYWORDS.contains(previousSymbolicName) || "COMMA_".equals(previousSymbolicName));
+    }
+    
+    private boolean isParameterizable(final List<Token> tokens, final int index, final Vocabulary vocabulary, final ParenthesisScope scope) {
+        if (!isParameterizableLiteral(tokens.get(index), vocabulary)) {
+            return false;
+        }
+        String previousSymbolicName = vocabulary.getSymbolicName(tokens.get(index - 1).getType());
+        String nextSymbolicName = index + 1 < tokens.size() ? vocabulary.getSymbolicName(tokens.get(index + 1).getType()) : null;
+        if (scope.literalList) {
+            return (COMPARISON_CLAUSE_KEYWORDS.contains(scope.clause) || VALUES_KEYWORDS.contains(scope.clause)) && isListElement(previousSymbolicName, nextSymbolicName);
+        }
+        return COMPARISON_CLAUSE_KEYWORDS.contains(scope.clause) && COMPARISON_OPERATORS.contains(previousSymbolicName) && isExpressionEnd(tokens, index + 1, nextSymbolicName);
+    }
+    
+    private boolean isListElement(final String previousSymbolicName, final String nextSymbolicName) {
+        return ("LP_".equals(previousSymbolicName) || "COMMA_".equals(previousSymbolicName)) && ("RP_".equals(nextSymbolicName) || "COMMA_".equals(nextSymbolicName));
+    }
+    
+    private boolean isParameterizableLiteral(final Token token, final Vocabulary vocabulary) {
+        String symbolicName = vocabulary.getSymbolicName(token.getType());
+        if (NUMBER_LITERAL.equals(symbolicName)) {
+            return true;
+        }
+        if (!stringLiteralParameterizable || !STRING_LITERAL.equals(symbolicName)) {
+            return false;
+        }
+        String text = token.getText();
+        return text.startsWith("'") && text.indexOf('\'', 1) == text.length() - 1 && -1 == text.indexOf('\\');
+    }
+    
+    private boolean isExpressionEnd(final List<Token> tokens, final int nextIndex, final String nextSymbolicName) {
+        return null == nextSymbolicName || "RP_".equals(nextSymbolicName) || "COMMA_".equals(nextSymbolicName) || "SEMI_".equals(nextSymbolicName)
+                || nextSymbolicName.equalsIgnoreCase(tokens.get(nextIndex).getText());
+    }
+    
+    @AllArgsConstructor
+    private static final class ParenthesisScope {
+        
+        private String clause;
+        
+        private boolean literalList;
+    }
+}
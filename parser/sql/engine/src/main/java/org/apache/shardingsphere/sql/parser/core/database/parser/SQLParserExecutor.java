@@ -56,6 +56,14 @@ public final class SQLParserExecutor {
     private ParseASTNode twoPhaseParse(final String sql) {
         DialectSQLParserFacade sqlParserFacade = DatabaseTypedSPILoader.getService(DialectSQLParserFacade.class, databaseType);
         SQLParser sqlParser = SQLParserFactory.newInstance(sql, sqlParserFacade.getLexerClass(), sqlParserFacade.getParserClass());
+        try {
+            return twoPhaseParse(sql, sqlParser);
+        } finally {
+            SQLParserFactory.release(sqlParser);
+        }
+    }
+    
+    private ParseASTNode twoPhaseParse(final String sql, final SQLParser sqlParser) {
         try {
             ((Parser) sqlParser).getInterpreter().setPredictionMode(PredictionMode.SLL);
             return (ParseASTNode) sqlParser.parse();
@@ -17,12 +17,20 @@
 
 package org.apache.shardingsphere.sql.parser.core;
 
+import org.antlr.v4.runtime.Lexer;
+import org.antlr.v4.runtime.Parser;
+import org.antlr.v4.runtime.atn.ParserATNSimulator;
+import org.apache.shardingsphere.sql.parser.api.parser.SQLParser;
 import org.apache.shardingsphere.sql.parser.fixture.LexerFixture;
 import org.apache.shardingsphere.sql.parser.fixture.ParserFixture;
 import org.junit.jupiter.api.Test;
 
 import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.mockito.Mockito.mock;
 
 class SQLParserFactoryTest {
@@ -33,4 +41,50 @@ class SQLParserFactoryTest {
     void assertNewInstance() {
         assertThat(SQLParserFactory.newInstance(SQL, mock(LexerFixture.class).getClass(), mock(ParserFixture.class).getClass()), instanceOf(ParserFixture.class));
     }
+    
+    @Test
+    void assertNewInstanceReusedAfterRelease() {
+        SQLParser expected = SQLParserFactory.newInstance(SQL, LexerFixture.class, ParserFixture.class);
+        SQLParserFactory.release(expected);
+        SQLParser actual = SQLParserFactory.newInstance("SELECT 1", LexerFixture.class, ParserFixture.class);
+        assertThat(actual, is(sameInstance(expected)));
+        SQLParserFactory.release(actual);
+    }
+    
+    @Test
+    void assertNewInstanceNotSharedBeforeRelease() {
+        SQLParser expected = SQLParserFactory.newInstance(SQL, LexerFixture.class, ParserFixture.class);
+        SQLParser actual = SQLParserFactory.newInstance(SQL, LexerFixture.class, ParserFixture.class);
+        assertThat(actual, not(sameInstance(expected)));
+        SQLParserFactory.release(expected);
+        SQLParserFactory.release(actual);
+    }
+    
+    @Test
+    void assertRelease() {
+        SQLParser sqlParser = SQLParserFactory.newInstance(SQL, LexerFixture.class, ParserFixture.class);
+        Lexer lexer = (Lexer) ((Parser) sqlParser).getInputStream().getTokenSource();
+        ParserATNSimulator interpreter = ((Parser) sqlParser).getInterpreter();
+        SQLParserFactory.release(sqlParser);
+        assertNull(((Parser) sqlParser).getInputStream());
+        assertNull(lexer.getInputStream());
+        assertThat(((Parser) sqlParser).getInterpreter(), not(sameInstance(interpreter)));
+        assertThat(((Parser) sqlParser).getInterpreter().decisionToDFA, is(sameInstance(interpreter.decisionToDFA)));
+    }
+    
+    @Test
+    void assertParse() {
+        assertNull(SQLParserFactory.parse(SQL, LexerFixture.class, ParserFixture.class));
+    }
+    
+    @Test
+    void assertGetLexer() {
+        Lexer expected = SQLParserFactory.getLexer(SQL, LexerFixture.class);
+        assertThat(expected, instanceOf(LexerFixture.class));
+        SQLParserFactory.release(expected);
+        Lexer actual = SQLParserFactory.getLexer("SELECT 1", LexerFixture.class);
+        assertThat(actual, is(sameInstance(expected)));
+        assertThat(actual.getInputStream().toString(), is("SELECT 1"));
+        SQLParserFactory.release(actual);
+    }
 }
@@ -34,19 +34,23 @@ import org.apache.shardingsphere.infra.exception.dialect.SQLExceptionTransformEn
 import org.apache.shardingsphere.infra.exception.kernel.metadata.resource.storageunit.EmptyStorageUnitException;
 import org.apache.shardingsphere.infra.exception.kernel.metadata.rule.EmptyRuleException;
 import org.apache.shardingsphere.infra.executor.sql.context.ExecutionContext;
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.SQLExecutorExceptionHandler;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutionUnit;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.ExecuteResult;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.jdbc.metadata.JDBCQueryResultMetaData;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.jdbc.type.stream.JDBCStreamQueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.stream.AbstractStreamQueryResult;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.update.UpdateResult;
 import org.apache.shardingsphere.infra.executor.sql.prepare.driver.DriverExecutionPrepareEngine;
 import org.apache.shardingsphere.infra.executor.sql.prepare.driver.jdbc.StatementOption;
 import org.apache.shardingsphere.infra.merge.MergeEngine;
 import org.apache.shardingsphere.infra.merge.result.MergedResult;
+import org.apache.shardingsphere.infra.merge.result.impl.transparent.TransparentMergedResult;
 import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
 import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.metadata.database.resource.unit.StorageUnit;
 import org.apache.shardingsphere.infra.metadata.database.schema.util.SystemSchemaUtils;
 import org.apache.shardingsphere.infra.rule.attribute.datanode.DataNodeRuleAttribute;
 import org.apache.shardingsphere.infra.session.connection.cursor.CursorConnectionContext;
@@ -83,6 +87,7 @@ import java.sql.Connection;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.sql.Types;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
@@ -119,6 +124,8 @@ public final class DatabaseConnector implements DatabaseBackendHandler {
     
     private MergedResult mergedResult;
     
+    private QueryResult passthroughQueryResult;
+    
     public DatabaseConnector(final String driverType, final QueryContext queryContext, final ProxyDatabaseConnectionManager databaseConnectionManager) {
         this.driverType = driverType;
         this.queryContext = queryContext;
@@ -247,7 +254,8 @@ public final class DatabaseConnector implements DatabaseBackendHandler {
         }
         Object executeResultSample = executeResults.iterator().next();
         return executeResultSample instanceof QueryResult
-                ? processExecuteQuery(queryContext.getSqlStatementContext(), executeResults.stream().map(QueryResult.class::cast).collect(Collectors.toList()), (QueryResult) executeResultSample)
+                ? processExecuteQuery(queryContext.getSqlStatementContext(), executionContext.getExecutionUnits(),
+                        executeResults.stream().map(QueryResult.class::cast).collect(Collectors.toList()), (QueryResult) executeResultSample)
                 : processExecuteUpdate(executeResults.stream().map(UpdateResult.class::cast).collect(Collectors.toList()));
     }
     
@@ -284,12 +292,25 @@ public final class DatabaseConnector implements DatabaseBackendHandler {
         return new MetaDataRefreshEngine(contextManager.getPersistServiceFacade().getMetaDataManagerPersistService(), database, contextManager.getMetaDataContexts().getMetaData().getProps());
     }
     
-    private QueryResponseHeader processExecuteQuery(final SQLStatementContext sqlStatementContext, final List<QueryResult> queryResults, final QueryResult queryResultSample) throws SQLException {
+    private QueryResponseHeader processExecuteQuery(final SQLStatementContext sqlStatementContext, final Collection<ExecutionUnit> executionUnits,
+                                                    final List<QueryResult> queryResults, final QueryResult queryResultSample) throws SQLException {
         queryHeaders = createQueryHeaders(sqlStatementContext, queryResultSample);
         mergedResult = mergeQuery(sqlStatementContext, queryResults);
+        passthroughQueryResult = isPassthroughAvailable(executionUnits, queryResults) ? queryResults.get(0) : null;
         return new QueryResponseHeader(queryHeaders);
     }
     
+    private boolean isPassthroughAvailable(final Collection<ExecutionUnit> executionUnits, final List<QueryResult> queryResults) {
+        if (containsDerivedProjections || 1 != executionUnits.size() || 1 != queryResults.size() || !(queryResults.get(0) instanceof AbstractStreamQueryResult)) {
+            return false;
+        }
+        if (!(mergedResult instanceof TransparentMergedResult) && !(mergedResult instanceof IteratorStreamMergedResult)) {
+            return false;
+        }
+        StorageUnit storageUnit = database.getResourceMetaData().getStorageUnits().get(executionUnits.iterator().next().getDataSourceName());
+        return null != storageUnit && storageUnit.getStorageType().getType().equals(database.getProtocolType().getType());
+    }
+    
     private List<QueryHeader> createQueryHeaders(final SQLStatementContext sqlStatementContext, final QueryResult queryResultSample) throws SQLException {
         int columnCount = getColumnCount(sqlStatementContext, queryResultSample);
         List<QueryHeader> result = new ArrayList<>(columnCount);
@@ -371,9 +392,62 @@ public final class DatabaseConnector implements DatabaseBackendHandler {
         return new QueryResponseRow(cells);
     }
     
+    /**
+     * Get query response row for text protocol.
+     *
+     * <p>Rows of single stream query result without merger and decorator are read from query result directly, without merged result.
+     * Only character and binary columns are read as text or raw bytes, whose encoded form is identical to the one of merged values.
+     * Other columns (e.g. temporal, boolean, bit and decimal) are read as objects like merged result does, so protocol formatting of them is kept.</p>
+     *
+     * @return query response row
+     * @throws SQLException SQL exception
+     */
+    @Override
+    public QueryResponseRow getTextRowData() throws SQLException {
+        if (null == passthroughQueryResult) {
+            return getRowData();
+        }
+        List<QueryResponseCell> cells = new ArrayList<>(queryHeaders.size());
+        for (int columnIndex = 1; columnIndex <= queryHeaders.size(); columnIndex++) {
+            QueryHeader queryHeader = queryHeaders.get(columnIndex - 1);
+            Object data = passthroughQueryResult.getValue(columnIndex, getPassthroughValueType(queryHeader.getColumnType()));
+            cells.add(new QueryResponseCell(queryHeader.getColumnType(), data, queryHeader.getColumnTypeName()));
+        }
+        return new QueryResponseRow(cells);
+    }
+    
+    private Class<?> getPassthroughValueType(final int columnType) {
+        switch (columnType) {
+            case Types.CHAR:
+            case Types.VARCHAR:
+            case Types.LONGVARCHAR:
+            case Types.NCHAR:
+            case Types.NVARCHAR:
+            case Types.LONGNVARCHAR:
+                return String.class;
+            case Types.BINARY:
+            case Types.VARBINARY:
+            case Types.LONGVARBINARY:
+            case Types.BLOB:
+                return byte[].class;
+            default:
+                return Object.class;
+        }
+    }
+    
+    /**
+     * Judge whether rows of current query are passed through.
+     *
+     * @return is passthrough or not
+     */
+    public boolean isPassthrough() {
+        return null != passthroughQueryResult;
+    }
+    
     @Override
     public void close() throws SQLException {
         Collection<SQLException> result = new LinkedList<>();
+        closeMergedResult().ifPresent(result::add);
         result.addAll(closeResultSets());
         result.addAll(closeStatements());
         closeSQLFederationEngine().ifPresent(result::add);
@@ -385,6 +459,20 @@ public final class DatabaseConnector implements DatabaseBackendHandler {
         throw ex;
     }
     
+    private Optional<SQLException> closeMergedResult() {
+        if (null == mergedResult) {
+            return Optional.empty();
+        }
+        try {
+            mergedResult.close();
+        } catch (final SQLException ex) {
+            return Optional.of(ex);
+        } finally {
+            mergedResult = null;
+        }
+        return Optional.empty();
+    }
+    
     private Collection<SQLException> closeResultSets() {
         Collection<SQLException> result = new LinkedList<>();
         for (ResultSet each : cachedResultSets) {
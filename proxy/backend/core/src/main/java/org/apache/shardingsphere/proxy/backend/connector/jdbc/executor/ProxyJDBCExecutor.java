@@ -79,6 +79,7 @@ public final class ProxyJDBCExecutor {
                             false));
         } finally {
             processEngine.completeSQLExecution(executionGroupContext.getReportContext().getProcessId());
+            queryContext.getConnectionContext().finishWrite();
         }
     }
 }
@@ -56,6 +56,18 @@ public interface ProxyBackendHandler {
         return new QueryResponseRow(Collections.emptyList());
     }
     
+    /**
+     * Get row data for text protocol.
+     *
+     * <p>Cell values may be returned as text or raw bytes already in the form of text protocol.</p>
+     *
+     * @return row data
+     * @throws SQLException SQL exception
+     */
+    default QueryResponseRow getTextRowData() throws SQLException {
+        return getRowData();
+    }
+    
     /**
      * Close.
      *
@@ -35,6 +35,7 @@ import org.apache.shardingsphere.infra.hint.HintValueContext;
 import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
 import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
 import org.apache.shardingsphere.infra.metadata.user.Grantee;
+import org.apache.shardingsphere.infra.parser.sql.ParameterizedSQLStatement;
 import org.apache.shardingsphere.infra.session.query.QueryContext;
 import org.apache.shardingsphere.infra.spi.ShardingSphereServiceLoader;
 import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
@@ -57,12 +58,14 @@ import org.apache.shardingsphere.sql.parser.statement.core.statement.dcl.DCLStat
 import org.apache.shardingsphere.sql.parser.statement.core.statement.ddl.CreateDatabaseStatement;
 import org.apache.shardingsphere.sql.parser.statement.core.statement.ddl.DropDatabaseStatement;
 import org.apache.shardingsphere.sql.parser.statement.core.statement.ddl.RenameTableStatement;
+import org.apache.shardingsphere.sql.parser.statement.core.statement.dml.DMLStatement;
 import org.apache.shardingsphere.sql.parser.statement.core.statement.tcl.TCLStatement;
 import org.apache.shardingsphere.sql.parser.statement.mysql.dal.MySQLShowCreateUserStatement;
 import org.apache.shardingsphere.transaction.util.AutoCommitUtils;
 
 import java.sql.SQLException;
 import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -88,9 +91,48 @@ public final class ProxyBackendHandlerFactory {
             return new SkipBackendHandler(sqlStatement);
         }
         SQLStatementContext sqlStatementContext = sqlStatement instanceof DistSQLStatement ? new DistSQLStatementContext((DistSQLStatement) sqlStatement)
-                : new SQLBindEngine(ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData(), connectionSession.getCurrentDatabaseName(), hintValueContext).bind(sqlStatement,
-                        Collections.emptyList());
-        QueryContext queryContext = new QueryContext(sqlStatementContext, sql, Collections.emptyList(), hintValueContext, connectionSession.getConnectionContext(),
+                : bind(sqlStatement, Collections.emptyList(), connectionSession, hintValueContext);
+        return newInstance(databaseType, sqlStatementContext, sql, Collections.emptyList(), connectionSession, hintValueContext);
+    }
+    
+    /**
+     * Create new instance of backend handler.
+     *
+     * <p>Database admin executors read literals from SQL and SQL statement, so statements handled by them are created from original SQL.</p>
+     *
+     * @param databaseType database type
+     * @param parameterizedSQLStatement parameterized SQL statement
+     * @param connectionSession connection session
+     * @param hintValueContext hint query context
+     * @return created instance
+     * @throws SQLException SQL exception
+     */
+    public static ProxyBackendHandler newInstance(final DatabaseType databaseType, final ParameterizedSQLStatement parameterizedSQLStatement,
+                                                  final ConnectionSession connectionSession, final HintValueContext hintValueContext) throws SQLException {
+        if (parameterizedSQLStatement.getSqlStatement() instanceof DMLStatement) {
+            SQLStatementContext sqlStatementContext = bind(parameterizedSQLStatement.getSqlStatement(), parameterizedSQLStatement.getParameters(), connectionSession, hintValueContext);
+            if (!isDatabaseAdminStatement(databaseType, sqlStatementContext, parameterizedSQLStatement, connectionSession)) {
+                return newInstance(databaseType, sqlStatementContext, parameterizedSQLStatement.getSql(), parameterizedSQLStatement.getParameters(), connectionSession, hintValueContext);
+            }
+        }
+        String originalSQL = parameterizedSQLStatement.getOriginalSQL();
+        return newInstance(databaseType, originalSQL, ProxySQLComQueryParser.parse(originalSQL, databaseType, connectionSession), connectionSession, hintValueContext);
+    }
+    
+    private static SQLStatementContext bind(final SQLStatement sqlStatement, final List<Object> params, final ConnectionSession connectionSession, final HintValueContext hintValueContext) {
+        return new SQLBindEngine(ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData(), connectionSession.getCurrentDatabaseName(), hintValueContext).bind(sqlStatement,
+                params);
+    }
+    
+    private static boolean isDatabaseAdminStatement(final DatabaseType databaseType, final SQLStatementContext sqlStatementContext,
+                                                    final ParameterizedSQLStatement parameterizedSQLStatement, final ConnectionSession connectionSession) {
+        return DatabaseAdminBackendHandlerFactory.newInstance(databaseType, sqlStatementContext, connectionSession, parameterizedSQLStatement.getSql(), parameterizedSQLStatement.getParameters())
+                .isPresent() || DatabaseAdminBackendHandlerFactory.newInstance(databaseType, sqlStatementContext, connectionSession).isPresent();
+    }
+    
+    private static ProxyBackendHandler newInstance(final DatabaseType databaseType, final SQLStatementContext sqlStatementContext, final String sql, final List<Object> params,
+                                                   final ConnectionSession connectionSession, final HintValueContext hintValueContext) throws SQLException {
+        QueryContext queryContext = new QueryContext(sqlStatementContext, sql, params, hintValueContext, connectionSession.getConnectionContext(),
                 ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData());
         connectionSession.setQueryContext(queryContext);
         return newInstance(databaseType, queryContext, connectionSession, false);
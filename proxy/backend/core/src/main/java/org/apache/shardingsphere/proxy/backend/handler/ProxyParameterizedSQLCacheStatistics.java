@@ -0,0 +1,76 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.apache.shardingsphere.proxy.backend.handler;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Parameterized SQL statement cache statistics of ShardingSphere-Proxy.
+ *
+ * <p>Counts are kept for a bounded number of databases, counts of least recently used databases are evicted.</p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class ProxyParameterizedSQLCacheStatistics {
+    
+    private static final int MAX_DATABASE_SIZE = 1024;
+    
+    private static final Cache<String, LongAdder> HIT_COUNTS = Caffeine.newBuilder().maximumSize(MAX_DATABASE_SIZE).build();
+    
+    private static final Cache<String, LongAdder> MISS_COUNTS = Caffeine.newBuilder().maximumSize(MAX_DATABASE_SIZE).build();
+    
+    /**
+     * Record lookup of parameterized SQL statement cache.
+     *
+     * @param databaseName database name
+     * @param cacheHit whether SQL statement was found in cache
+     */
+    public static void record(final String databaseName, final boolean cacheHit) {
+        (cacheHit ? HIT_COUNTS : MISS_COUNTS).get(databaseName, key -> new LongAdder()).increment();
+    }
+    
+    /**
+     * Get hit count.
+     *
+     * @param databaseName database name
+     * @return hit count
+     */
+    public static long getHitCount(final String databaseName) {
+        return getCount(HIT_COUNTS, databaseName);
+    }
+    
+    /**
+     * Get miss count.
+     *
+     * @param databaseName database name
+     * @return miss count
+     */
+    public static long getMissCount(final String databaseName) {
+        return getCount(MISS_COUNTS, databaseName);
+    }
+    
+    private static long getCount(final Cache<String, LongAdder> counts, final String databaseName) {
+        LongAdder result = counts.getIfPresent(databaseName);
+        return null == result ? 0L : result.sum();
+    }
+}
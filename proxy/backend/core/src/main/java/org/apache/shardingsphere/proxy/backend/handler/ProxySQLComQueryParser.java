@@ -20,7 +20,9 @@ package org.apache.shardingsphere.proxy.backend.handler;
 import com.google.common.base.Strings;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.parser.sql.ParameterizedSQLStatement;
 import org.apache.shardingsphere.parser.rule.SQLParserRule;
 import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
 import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
@@ -28,6 +30,8 @@ import org.apache.shardingsphere.sql.parser.statement.core.statement.SQLStatemen
 import org.apache.shardingsphere.sql.parser.statement.core.statement.dal.EmptyStatement;
 import org.apache.shardingsphere.sql.parser.statement.core.util.SQLUtils;
 
+import java.util.Optional;
+
 /**
  * Proxy SQL com query parser.
  */
@@ -50,6 +54,26 @@ public final class ProxySQLComQueryParser {
         return rule.getSQLParserEngine(getProtocolType(databaseType, connectionSession)).parse(sql, false);
     }
     
+    /**
+     * Parse SQL with literals replaced by parameters.
+     *
+     * @param sql SQL to be parsed
+     * @param databaseType database type
+     * @param connectionSession connection session
+     * @return parameterized SQL statement, empty if auto parameterization is disabled, no database is used or SQL can not be parameterized
+     */
+    public static Optional<ParameterizedSQLStatement> parseParameterized(final String sql, final DatabaseType databaseType, final ConnectionSession connectionSession) {
+        String databaseName = connectionSession.getUsedDatabaseName();
+        if (Strings.isNullOrEmpty(databaseName) || !ProxyContext.getInstance().databaseExists(databaseName)
+                || !ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData().getProps().<Boolean>getValue(ConfigurationPropertyKey.PROXY_FRONTEND_AUTO_PARAMETERIZATION_ENABLED)) {
+            return Optional.empty();
+        }
+        SQLParserRule rule = ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData().getGlobalRuleMetaData().getSingleRule(SQLParserRule.class);
+        Optional<ParameterizedSQLStatement> result = rule.getSQLParserEngine(getProtocolType(databaseType, connectionSession)).parseParameterized(sql);
+        result.ifPresent(optional -> ProxyParameterizedSQLCacheStatistics.record(databaseName, optional.isCacheHit()));
+        return result;
+    }
+    
     private static DatabaseType getProtocolType(final DatabaseType defaultDatabaseType, final ConnectionSession connectionSession) {
         String databaseName = connectionSession.getUsedDatabaseName();
         return Strings.isNullOrEmpty(databaseName) || !ProxyContext.getInstance().databaseExists(databaseName)
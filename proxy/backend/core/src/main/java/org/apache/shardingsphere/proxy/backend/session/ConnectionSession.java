@@ -71,6 +71,7 @@ public final class ConnectionSession {
     
     private final RequiredSessionVariableRecorder requiredSessionVariableRecorder = new RequiredSessionVariableRecorder();
     
+    @Setter(AccessLevel.NONE)
     private volatile String processId;
     
     private QueryContext queryContext;
@@ -104,6 +105,18 @@ public final class ConnectionSession {
         }
     }
     
+    /**
+     * Set process ID.
+     *
+     * @param processId process ID
+     */
+    public void setProcessId(final String processId) {
+        this.processId = processId;
+        if (null != connectionContext.get()) {
+            connectionContext.get().setProcessId(processId);
+        }
+    }
+    
     /**
      * Get connection context.
      *
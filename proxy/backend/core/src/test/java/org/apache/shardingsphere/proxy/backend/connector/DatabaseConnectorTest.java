@@ -26,6 +26,7 @@ import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResultMetaData;
 import org.apache.shardingsphere.infra.hint.HintValueContext;
+import org.apache.shardingsphere.infra.merge.result.MergedResult;
 import org.apache.shardingsphere.infra.merge.result.impl.memory.MemoryMergedResult;
 import org.apache.shardingsphere.infra.merge.result.impl.memory.MemoryQueryResultRow;
 import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
@@ -50,6 +51,8 @@ import org.apache.shardingsphere.parser.config.SQLParserRuleConfiguration;
 import org.apache.shardingsphere.parser.rule.SQLParserRule;
 import org.apache.shardingsphere.proxy.backend.connector.jdbc.fixture.QueryHeaderBuilderFixture;
 import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
+import org.apache.shardingsphere.proxy.backend.response.data.QueryResponseRow;
+import org.apache.shardingsphere.proxy.backend.response.header.query.QueryHeader;
 import org.apache.shardingsphere.proxy.backend.response.header.query.QueryHeaderBuilder;
 import org.apache.shardingsphere.proxy.backend.response.header.query.QueryHeaderBuilderEngine;
 import org.apache.shardingsphere.sharding.rule.ShardingRule;
@@ -68,9 +71,12 @@ import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
 
 import java.lang.reflect.Field;
+import java.math.BigDecimal;
+import java.sql.Date;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.sql.Timestamp;
 import java.sql.Types;
 import java.util.Arrays;
 import java.util.Collection;
@@ -79,6 +85,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Properties;
+import java.util.stream.Collectors;
 
 import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
@@ -87,10 +94,13 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -201,6 +211,58 @@ class DatabaseConnectorTest {
         return result;
     }
     
+    @Test
+    void assertGetTextRowDataWithPassthroughQueryResult() throws SQLException {
+        SQLStatementContext sqlStatementContext = mock(SQLStatementContext.class, RETURNS_DEEP_STUBS);
+        when(sqlStatementContext.getDatabaseType()).thenReturn(TypedSPILoader.getService(DatabaseType.class, "FIXTURE"));
+        DatabaseConnector engine = DatabaseConnectorFactory.getInstance().newInstance(createQueryContext(sqlStatementContext), databaseConnectionManager, false);
+        setField(engine, "queryHeaders", Arrays.asList(createQueryHeader(Types.VARCHAR), createQueryHeader(Types.VARBINARY)));
+        QueryResult queryResult = mock(QueryResult.class);
+        when(queryResult.getValue(1, String.class)).thenReturn("foo");
+        when(queryResult.getValue(2, byte[].class)).thenReturn(new byte[]{1});
+        setField(engine, "passthroughQueryResult", queryResult);
+        MergedResult mergedResult = mock(MergedResult.class);
+        setField(engine, "mergedResult", mergedResult);
+        QueryResponseRow actual = engine.getTextRowData();
+        assertThat(actual.getData().get(0), is("foo"));
+        assertThat(actual.getData().get(1), is(new byte[]{1}));
+        verify(mergedResult, never()).getValue(anyInt(), any());
+    }
+    
+    @Test
+    void assertGetTextRowDataWithPassthroughQueryResultAndFormattedTypes() throws SQLException {
+        SQLStatementContext sqlStatementContext = mock(SQLStatementContext.class, RETURNS_DEEP_STUBS);
+        when(sqlStatementContext.getDatabaseType()).thenReturn(TypedSPILoader.getService(DatabaseType.class, "FIXTURE"));
+        DatabaseConnector engine = DatabaseConnectorFactory.getInstance().newInstance(createQueryContext(sqlStatementContext), databaseConnectionManager, false);
+        List<Integer> columnTypes = Arrays.asList(Types.INTEGER, Types.DECIMAL, Types.BIT, Types.BOOLEAN, Types.DATE, Types.TIMESTAMP);
+        List<Object> expected = Arrays.asList(1, new BigDecimal("1E+2"), true, false, Date.valueOf("2024-01-01"), Timestamp.valueOf("2024-01-01 00:00:00"));
+        setField(engine, "queryHeaders", columnTypes.stream().map(this::createQueryHeader).collect(Collectors.toList()));
+        QueryResult queryResult = mock(QueryResult.class);
+        for (int i = 0; i < expected.size(); i++) {
+            when(queryResult.getValue(i + 1, Object.class)).thenReturn(expected.get(i));
+        }
+        setField(engine, "passthroughQueryResult", queryResult);
+        assertThat(engine.getTextRowData().getData(), is(expected));
+        verify(queryResult, never()).getValue(anyInt(), eq(String.class));
+        verify(queryResult, never()).getValue(anyInt(), eq(byte[].class));
+    }
+    
+    @Test
+    void assertGetTextRowDataWithoutPassthroughQueryResult() throws SQLException {
+        SQLStatementContext sqlStatementContext = mock(SQLStatementContext.class, RETURNS_DEEP_STUBS);
+        when(sqlStatementContext.getDatabaseType()).thenReturn(TypedSPILoader.getService(DatabaseType.class, "FIXTURE"));
+        DatabaseConnector engine = DatabaseConnectorFactory.getInstance().newInstance(createQueryContext(sqlStatementContext), databaseConnectionManager, false);
+        setField(engine, "queryHeaders", Collections.singletonList(createQueryHeader(Types.INTEGER)));
+        MergedResult mergedResult = mock(MergedResult.class);
+        when(mergedResult.getValue(1, Object.class)).thenReturn(1);
+        setField(engine, "mergedResult", mergedResult);
+        assertThat(engine.getTextRowData().getData(), is(Collections.singletonList(1)));
+    }
+    
+    private QueryHeader createQueryHeader(final int columnType) {
+        return new QueryHeader("foo_schema", "foo_tbl", "foo_col", "foo_col", columnType, "foo_type", 10, 0, false, false, false, false);
+    }
+    
     @Test
     void assertAddStatementCorrectly() {
         SQLStatementContext sqlStatementContext = mock(SQLStatementContext.class, RETURNS_DEEP_STUBS);
@@ -268,6 +330,11 @@ class DatabaseConnectorTest {
         assertThat(actual.getNextException().getNextException(), is(sqlExceptionByStatement));
     }
     
+    @SneakyThrows(ReflectiveOperationException.class)
+    private void setField(final DatabaseConnector target, final String fieldName, final Object value) {
+        Plugins.getMemberAccessor().set(DatabaseConnector.class.getDeclaredField(fieldName), target, value);
+    }
+    
     @SuppressWarnings("unchecked")
     @SneakyThrows(ReflectiveOperationException.class)
     private <T> T getField(final DatabaseConnector target, final String fieldName) {
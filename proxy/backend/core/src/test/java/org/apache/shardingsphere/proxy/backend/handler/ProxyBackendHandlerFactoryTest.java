@@ -28,6 +28,7 @@ import org.apache.shardingsphere.infra.hint.HintValueContext;
 import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
 import org.apache.shardingsphere.infra.metadata.database.rule.RuleMetaData;
 import org.apache.shardingsphere.infra.metadata.user.Grantee;
+import org.apache.shardingsphere.infra.parser.sql.ParameterizedSQLStatement;
 import org.apache.shardingsphere.infra.session.connection.ConnectionContext;
 import org.apache.shardingsphere.infra.session.connection.transaction.TransactionConnectionContext;
 import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
@@ -77,8 +78,10 @@ import java.util.stream.Stream;
 import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(AutoMockExtension.class)
@@ -179,6 +182,17 @@ class ProxyBackendHandlerFactoryTest {
         assertThat(actual, instanceOf(UnicastDatabaseBackendHandler.class));
     }
     
+    @Test
+    void assertNewInstanceWithParameterizedNotDMLStatement() throws SQLException {
+        String sql = "SHOW VARIABLES WHERE Variable_name ='language'";
+        String parameterizedSQL = "SHOW VARIABLES WHERE Variable_name =?";
+        ParameterizedSQLStatement parameterizedSQLStatement = new ParameterizedSQLStatement(
+                sql, parameterizedSQL, Collections.singletonList("language"), ProxySQLComQueryParser.parse(parameterizedSQL, databaseType, connectionSession), false);
+        ProxyBackendHandler actual = ProxyBackendHandlerFactory.newInstance(databaseType, parameterizedSQLStatement, connectionSession, new HintValueContext());
+        assertThat(actual, instanceOf(UnicastDatabaseBackendHandler.class));
+        verify(connectionSession).setQueryContext(argThat(argument -> sql.equals(argument.getSql()) && argument.getParameters().isEmpty()));
+    }
+    
     // TODO
     @Disabled("FIXME")
     @Test
@@ -0,0 +1,104 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.handler;
+
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
+import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.metadata.database.rule.RuleMetaData;
+import org.apache.shardingsphere.infra.parser.sql.ParameterizedSQLStatement;
+import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.apache.shardingsphere.mode.manager.ContextManager;
+import org.apache.shardingsphere.parser.rule.SQLParserRule;
+import org.apache.shardingsphere.parser.rule.builder.DefaultSQLParserRuleConfigurationBuilder;
+import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
+import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
+import org.apache.shardingsphere.test.mock.AutoMockExtension;
+import org.apache.shardingsphere.test.mock.StaticMockSettings;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Answers;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import java.util.Collections;
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(AutoMockExtension.class)
+@StaticMockSettings(ProxyContext.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class ProxySQLComQueryParserTest {
+    
+    private final DatabaseType databaseType = TypedSPILoader.getService(DatabaseType.class, "MySQL");
+    
+    @Mock(answer = Answers.RETURNS_DEEP_STUBS)
+    private ConnectionSession connectionSession;
+    
+    @Test
+    void assertParseParameterizedWithoutUsedDatabase() {
+        assertFalse(ProxySQLComQueryParser.parseParameterized("SELECT * FROM t_order WHERE order_id = 1", databaseType, connectionSession).isPresent());
+    }
+    
+    @Test
+    void assertParseParameterizedWithAutoParameterizationDisabled() {
+        mockContextManager("foo_db", false);
+        assertFalse(ProxySQLComQueryParser.parseParameterized("SELECT * FROM t_order WHERE order_id = 1", databaseType, connectionSession).isPresent());
+    }
+    
+    @Test
+    void assertParseParameterizedWithNotParameterizableSQL() {
+        mockContextManager("bar_db", true);
+        assertFalse(ProxySQLComQueryParser.parseParameterized("CREATE TABLE t_order (order_id INT)", databaseType, connectionSession).isPresent());
+        assertThat(ProxyParameterizedSQLCacheStatistics.getMissCount("bar_db"), is(0L));
+    }
+    
+    @Test
+    void assertParseParameterized() {
+        mockContextManager("baz_db", true);
+        Optional<ParameterizedSQLStatement> actual = ProxySQLComQueryParser.parseParameterized("SELECT * FROM t_parameterized_order WHERE order_id = 1", databaseType, connectionSession);
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().getSql(), is("SELECT * FROM t_parameterized_order WHERE order_id = ?"));
+        assertThat(actual.get().getParameters(), is(Collections.singletonList(1)));
+        assertFalse(actual.get().isCacheHit());
+        Optional<ParameterizedSQLStatement> cached = ProxySQLComQueryParser.parseParameterized("SELECT * FROM t_parameterized_order WHERE order_id = 2", databaseType, connectionSession);
+        assertTrue(cached.isPresent());
+        assertTrue(cached.get().isCacheHit());
+        assertThat(ProxyParameterizedSQLCacheStatistics.getMissCount("baz_db"), is(1L));
+        assertThat(ProxyParameterizedSQLCacheStatistics.getHitCount("baz_db"), is(1L));
+    }
+    
+    private void mockContextManager(final String databaseName, final boolean autoParameterizationEnabled) {
+        when(connectionSession.getUsedDatabaseName()).thenReturn(databaseName);
+        when(ProxyContext.getInstance().databaseExists(databaseName)).thenReturn(true);
+        ContextManager contextManager = mock(ContextManager.class, RETURNS_DEEP_STUBS);
+        when(contextManager.getMetaDataContexts().getMetaData().getProps().<Boolean>getValue(ConfigurationPropertyKey.PROXY_FRONTEND_AUTO_PARAMETERIZATION_ENABLED))
+                .thenReturn(autoParameterizationEnabled);
+        when(contextManager.getMetaDataContexts().getMetaData().getGlobalRuleMetaData())
+                .thenReturn(new RuleMetaData(Collections.singleton(new SQLParserRule(new DefaultSQLParserRuleConfigurationBuilder().build()))));
+        when(contextManager.getDatabase(databaseName).getProtocolType()).thenReturn(databaseType);
+        when(ProxyContext.getInstance().getContextManager()).thenReturn(contextManager);
+    }
+}
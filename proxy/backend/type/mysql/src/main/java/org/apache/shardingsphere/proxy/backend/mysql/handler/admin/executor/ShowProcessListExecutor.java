@@ -79,11 +79,11 @@ public final class ShowProcessListExecutor implements DatabaseAdminQueryExecutor
         rowValues.add(TimeUnit.MILLISECONDS.toSeconds(System.currentTimeMillis() - process.getStartMillis()));
         String sql = null;
         if (process.isIdle()) {
-            rowValues.add("");
+            rowValues.add(appendSpilledState("", process));
         } else {
             int processDoneCount = process.getCompletedUnitCount().get();
             String statePrefix = "Executing ";
-            rowValues.add(statePrefix + processDoneCount + "/" + process.getTotalUnitCount().get());
+            rowValues.add(appendSpilledState(statePrefix + processDoneCount + "/" + process.getTotalUnitCount().get(), process));
             sql = process.getSql();
         }
         if (null != sql && sql.length() > 100 && !showFullProcesslist) {
@@ -93,6 +93,14 @@ public final class ShowProcessListExecutor implements DatabaseAdminQueryExecutor
         return new MemoryQueryResultDataRow(rowValues);
     }
     
+    private String appendSpilledState(final String state, final Process process) {
+        long spilledRowCount = process.getSpilledRowCount().get();
+        if (0L == spilledRowCount) {
+            return state;
+        }
+        return (state.isEmpty() ? "" : state + ", ") + "Spilled " + spilledRowCount + " rows";
+    }
+    
     private QueryResultMetaData createQueryResultMetaData() {
         List<RawQueryResultColumnMetaData> columns = new ArrayList<>(8);
         columns.add(new RawQueryResultColumnMetaData("", "Id", "Id", Types.VARCHAR, "VARCHAR", 20, 0));
@@ -49,7 +49,7 @@ class ShowProcessListExecutorTest {
     void assertExecute() throws SQLException {
         ContextManager contextManager = mock(ContextManager.class, RETURNS_DEEP_STUBS);
         when(ProxyContext.getInstance().getContextManager()).thenReturn(contextManager);
-        when(contextManager.getPersistServiceFacade().getProcessPersistService().getProcessList()).thenReturn(mockProcessList());
+        when(contextManager.getPersistServiceFacade().getProcessPersistService().getProcessList()).thenReturn(mockProcessList(0L));
         ShowProcessListExecutor showProcessListExecutor = new ShowProcessListExecutor(false);
         showProcessListExecutor.execute(new ConnectionSession(mock(MySQLDatabaseType.class), new DefaultAttributeMap()));
         assertThat(showProcessListExecutor.getQueryResultMetaData().getColumnCount(), is(8));
@@ -64,10 +64,24 @@ class ShowProcessListExecutorTest {
         }
     }
     
-    private Collection<Process> mockProcessList() {
+    @Test
+    void assertExecuteWithSpilledRows() throws SQLException {
+        ContextManager contextManager = mock(ContextManager.class, RETURNS_DEEP_STUBS);
+        when(ProxyContext.getInstance().getContextManager()).thenReturn(contextManager);
+        when(contextManager.getPersistServiceFacade().getProcessPersistService().getProcessList()).thenReturn(mockProcessList(100L));
+        ShowProcessListExecutor showProcessListExecutor = new ShowProcessListExecutor(false);
+        showProcessListExecutor.execute(new ConnectionSession(mock(MySQLDatabaseType.class), new DefaultAttributeMap()));
+        MergedResult mergedResult = showProcessListExecutor.getMergedResult();
+        while (mergedResult.next()) {
+            assertThat(mergedResult.getValue(7, String.class), is("Executing 1/2, Spilled 100 rows"));
+        }
+    }
+    
+    private Collection<Process> mockProcessList(final long spilledRowCount) {
         Process process = new Process("f6c2336a-63ba-41bf-941e-2e3504eb2c80", 1617939785160L,
                 "ALTER TABLE t_order ADD COLUMN a varchar(64) AFTER order_id", "foo_db", "root", "127.0.0.1", new AtomicInteger(2), new AtomicInteger(1), new AtomicBoolean(false),
                 new AtomicBoolean());
+        process.spillRows(spilledRowCount);
         return Collections.singleton(process);
     }
 }
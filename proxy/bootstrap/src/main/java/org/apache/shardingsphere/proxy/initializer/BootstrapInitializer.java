@@ -17,22 +17,33 @@
 
 package org.apache.shardingsphere.proxy.initializer;
 
+import com.google.common.base.Strings;
 import org.apache.shardingsphere.infra.config.mode.ModeConfiguration;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
+import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
 import org.apache.shardingsphere.infra.instance.metadata.InstanceMetaData;
 import org.apache.shardingsphere.infra.instance.metadata.InstanceMetaDataBuilder;
+import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
 import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
 import org.apache.shardingsphere.infra.util.eventbus.EventBusContext;
 import org.apache.shardingsphere.infra.yaml.config.swapper.mode.YamlModeConfigurationSwapper;
 import org.apache.shardingsphere.mode.manager.ContextManager;
 import org.apache.shardingsphere.mode.manager.ContextManagerBuilder;
 import org.apache.shardingsphere.mode.manager.ContextManagerBuilderParameter;
+import org.apache.shardingsphere.parser.rule.SQLParserRule;
+import org.apache.shardingsphere.parser.warmup.SQLParserWarmUpCorpusLoader;
+import org.apache.shardingsphere.parser.warmup.SQLParserWarmUpEngine;
 import org.apache.shardingsphere.proxy.backend.config.ProxyConfiguration;
 import org.apache.shardingsphere.proxy.backend.config.YamlProxyConfiguration;
 import org.apache.shardingsphere.proxy.backend.config.yaml.swapper.YamlProxyConfigurationSwapper;
 import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
 import org.apache.shardingsphere.proxy.version.ShardingSphereProxyVersion;
 
+import java.nio.file.Paths;
 import java.sql.SQLException;
+import java.util.Collection;
+import java.util.stream.Collectors;
 
 /**
  * Bootstrap initializer.
@@ -53,6 +64,7 @@ public final class BootstrapInitializer {
         ContextManager contextManager = createContextManager(proxyConfig, modeConfig, port, force);
         ProxyContext.init(contextManager);
         ShardingSphereProxyVersion.setVersion(contextManager);
+        warmUpSQLParser(contextManager.getMetaDataContexts().getMetaData());
     }
     
     private ContextManager createContextManager(final ProxyConfiguration proxyConfig, final ModeConfiguration modeConfig, final int port, final boolean force) throws SQLException {
@@ -61,4 +73,17 @@ public final class BootstrapInitializer {
                 proxyConfig.getGlobalConfiguration().getRules(), proxyConfig.getGlobalConfiguration().getProperties(), proxyConfig.getGlobalConfiguration().getLabels(), instanceMetaData, force);
         return TypedSPILoader.getService(ContextManagerBuilder.class, null == modeConfig ? null : modeConfig.getType()).build(param, new EventBusContext());
     }
+    
+    private void warmUpSQLParser(final ShardingSphereMetaData metaData) {
+        String corpusFile = metaData.getProps().getValue(ConfigurationPropertyKey.PROXY_SQL_PARSER_WARM_UP_FILE);
+        if (Strings.isNullOrEmpty(corpusFile)) {
+            return;
+        }
+        Collection<String> sqls = SQLParserWarmUpCorpusLoader.load(Paths.get(corpusFile));
+        if (sqls.isEmpty()) {
+            return;
+        }
+        Collection<DatabaseType> databaseTypes = metaData.getDatabases().values().stream().map(ShardingSphereDatabase::getProtocolType).collect(Collectors.toSet());
+        new SQLParserWarmUpEngine(metaData.getGlobalRuleMetaData().getSingleRule(SQLParserRule.class)).warmUp(databaseTypes, sqls);
+    }
 }
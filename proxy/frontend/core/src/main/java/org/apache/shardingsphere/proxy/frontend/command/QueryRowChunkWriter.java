@@ -0,0 +1,95 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.command;
+
+import io.netty.channel.ChannelHandlerContext;
+import org.apache.shardingsphere.db.protocol.packet.DatabasePacket;
+import org.apache.shardingsphere.db.protocol.packet.DatabasePacketChunk;
+import org.apache.shardingsphere.proxy.backend.connector.jdbc.connection.ResourceLock;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Query row chunk writer.
+ * 
+ * <p>Query row packets are written by chunks and each chunk is encoded into one byte buffer by event loop.
+ * Rows per chunk start from one and are doubled until an encoded chunk is measured, then rows per chunk are calculated by average encoded row bytes.
+ * Rows per chunk never exceed max rows per chunk.</p>
+ */
+public final class QueryRowChunkWriter {
+    
+    private static final int CHUNK_BYTES = 64 * 1024;
+    
+    private final ChannelHandlerContext context;
+    
+    private final ResourceLock resourceLock;
+    
+    private final int maxRowsPerChunk;
+    
+    private int rowsPerChunk;
+    
+    private List<DatabasePacket> rows;
+    
+    private DatabasePacketChunk measuringChunk;
+    
+    public QueryRowChunkWriter(final ChannelHandlerContext context, final ResourceLock resourceLock, final int maxRowsPerChunk) {
+        this.context = context;
+        this.resourceLock = resourceLock;
+        this.maxRowsPerChunk = Math.max(1, maxRowsPerChunk);
+        rowsPerChunk = 1;
+        rows = new ArrayList<>(rowsPerChunk);
+    }
+    
+    /**
+     * Write query row packet.
+     *
+     * @param rowPacket query row packet
+     */
+    public void write(final DatabasePacket rowPacket) {
+        rows.add(rowPacket);
+        if (rows.size() >= rowsPerChunk) {
+            flush();
+        }
+    }
+    
+    /**
+     * Write and flush query row packets which are not written yet.
+     */
+    public void flush() {
+        if (rows.isEmpty()) {
+            return;
+        }
+        resourceLock.doAwait(context);
+        DatabasePacketChunk chunk = new DatabasePacketChunk(rows);
+        context.writeAndFlush(chunk);
+        rowsPerChunk = calculateRowsPerChunk();
+        if (null == measuringChunk || 0 != measuringChunk.getEncodedBytes()) {
+            measuringChunk = chunk;
+        }
+        rows = new ArrayList<>(rowsPerChunk);
+    }
+    
+    private int calculateRowsPerChunk() {
+        if (null == measuringChunk || 0 == measuringChunk.getEncodedBytes()) {
+            return Math.min(maxRowsPerChunk, rowsPerChunk << 1);
+        }
+        int averageRowBytes = Math.max(1, measuringChunk.getEncodedBytes() / measuringChunk.getPackets().size());
+        return Math.max(1, Math.min(maxRowsPerChunk, CHUNK_BYTES / averageRowBytes));
+    }
+}
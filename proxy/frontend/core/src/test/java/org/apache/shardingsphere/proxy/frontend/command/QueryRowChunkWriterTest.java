@@ -0,0 +1,106 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.command;
+
+import io.netty.channel.ChannelHandlerContext;
+import org.apache.shardingsphere.db.protocol.packet.DatabasePacket;
+import org.apache.shardingsphere.db.protocol.packet.DatabasePacketChunk;
+import org.apache.shardingsphere.proxy.backend.connector.jdbc.connection.ResourceLock;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class QueryRowChunkWriterTest {
+    
+    @Mock
+    private ChannelHandlerContext context;
+    
+    @Mock
+    private ResourceLock resourceLock;
+    
+    @Test
+    void assertFlushWithoutRows() {
+        new QueryRowChunkWriter(context, resourceLock, 128).flush();
+        verify(resourceLock, never()).doAwait(context);
+        verify(context, never()).writeAndFlush(any());
+    }
+    
+    @Test
+    void assertWriteWithUnmeasuredChunks() {
+        QueryRowChunkWriter writer = new QueryRowChunkWriter(context, resourceLock, 128);
+        for (int i = 0; i < 7; i++) {
+            writer.write(mock(DatabasePacket.class));
+        }
+        assertThat(getWrittenChunkSizes(3), is(new int[]{1, 2, 4}));
+        verify(resourceLock, times(3)).doAwait(context);
+    }
+    
+    @Test
+    void assertWriteWithMeasuredChunks() {
+        doAnswer(invocation -> {
+            DatabasePacketChunk chunk = invocation.getArgument(0);
+            chunk.setEncodedBytes(chunk.getPackets().size() * 16 * 1024);
+            return null;
+        }).when(context).writeAndFlush(any());
+        QueryRowChunkWriter writer = new QueryRowChunkWriter(context, resourceLock, 128);
+        for (int i = 0; i < 9; i++) {
+            writer.write(mock(DatabasePacket.class));
+        }
+        writer.flush();
+        assertThat(getWrittenChunkSizes(4), is(new int[]{1, 2, 4, 2}));
+    }
+    
+    @Test
+    void assertWriteWithMaxRowsPerChunk() {
+        doAnswer(invocation -> {
+            DatabasePacketChunk chunk = invocation.getArgument(0);
+            chunk.setEncodedBytes(chunk.getPackets().size());
+            return null;
+        }).when(context).writeAndFlush(any());
+        QueryRowChunkWriter writer = new QueryRowChunkWriter(context, resourceLock, 2);
+        for (int i = 0; i < 5; i++) {
+            writer.write(mock(DatabasePacket.class));
+        }
+        assertThat(getWrittenChunkSizes(3), is(new int[]{1, 2, 2}));
+    }
+    
+    private int[] getWrittenChunkSizes(final int chunkCount) {
+        ArgumentCaptor<DatabasePacketChunk> captor = ArgumentCaptor.forClass(DatabasePacketChunk.class);
+        verify(context, times(chunkCount)).writeAndFlush(captor.capture());
+        List<DatabasePacketChunk> chunks = captor.getAllValues();
+        int[] result = new int[chunks.size()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = chunks.get(i).getPackets().size();
+        }
+        return result;
+    }
+}
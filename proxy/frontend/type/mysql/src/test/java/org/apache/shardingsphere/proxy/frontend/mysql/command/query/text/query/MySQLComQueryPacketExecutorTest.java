@@ -32,6 +32,7 @@ import org.apache.shardingsphere.infra.metadata.database.rule.RuleMetaData;
 import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereColumn;
 import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
 import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereTable;
+import org.apache.shardingsphere.infra.parser.sql.ParameterizedSQLStatement;
 import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
 import org.apache.shardingsphere.logging.rule.LoggingRule;
 import org.apache.shardingsphere.logging.rule.builder.DefaultLoggingRuleConfigurationBuilder;
@@ -41,6 +42,8 @@ import org.apache.shardingsphere.parser.rule.SQLParserRule;
 import org.apache.shardingsphere.parser.rule.builder.DefaultSQLParserRuleConfigurationBuilder;
 import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
 import org.apache.shardingsphere.proxy.backend.handler.ProxyBackendHandler;
+import org.apache.shardingsphere.proxy.backend.handler.ProxyBackendHandlerFactory;
+import org.apache.shardingsphere.proxy.backend.handler.ProxySQLComQueryParser;
 import org.apache.shardingsphere.proxy.backend.response.header.query.QueryHeader;
 import org.apache.shardingsphere.proxy.backend.response.header.query.QueryResponseHeader;
 import org.apache.shardingsphere.proxy.backend.response.header.update.UpdateResponseHeader;
@@ -56,6 +59,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Answers;
 import org.mockito.Mock;
+import org.mockito.MockedStatic;
 import org.mockito.internal.configuration.plugins.Plugins;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
@@ -65,14 +69,19 @@ import java.sql.Types;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Optional;
 
 import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -134,6 +143,23 @@ class MySQLComQueryPacketExecutorTest {
         assertThat(actualPackets.iterator().next(), instanceOf(MySQLOKPacket.class));
     }
     
+    @Test
+    void assertNewInstanceWithParameterizedSQL() throws SQLException, NoSuchFieldException, IllegalAccessException {
+        when(packet.getSQL()).thenReturn("update t set v=v+1 where id=1");
+        ParameterizedSQLStatement parameterizedSQLStatement = new ParameterizedSQLStatement(
+                "update t set v=v+1 where id=1", "update t set v=v+1 where id=?", Collections.singletonList(1), mock(SQLStatement.class), true);
+        try (
+                MockedStatic<ProxySQLComQueryParser> parser = mockStatic(ProxySQLComQueryParser.class);
+                MockedStatic<ProxyBackendHandlerFactory> handlerFactory = mockStatic(ProxyBackendHandlerFactory.class)) {
+            parser.when(() -> ProxySQLComQueryParser.parseParameterized(eq("update t set v=v+1 where id=1"), any(DatabaseType.class), eq(connectionSession)))
+                    .thenReturn(Optional.of(parameterizedSQLStatement));
+            handlerFactory.when(() -> ProxyBackendHandlerFactory.newInstance(any(DatabaseType.class), eq(parameterizedSQLStatement), eq(connectionSession), any())).thenReturn(proxyBackendHandler);
+            MySQLComQueryPacketExecutor actual = new MySQLComQueryPacketExecutor(packet, connectionSession);
+            assertThat(Plugins.getMemberAccessor().get(MySQLComQueryPacketExecutor.class.getDeclaredField("proxyBackendHandler"), actual), is(proxyBackendHandler));
+            parser.verify(() -> ProxySQLComQueryParser.parse(any(), any(), any()), never());
+        }
+    }
+    
     private MetaDataContexts mockMetaDataContexts() {
         DatabaseType databaseType = TypedSPILoader.getService(DatabaseType.class, "MySQL");
         MetaDataContexts result = mock(MetaDataContexts.class, RETURNS_DEEP_STUBS);